@@ -316,8 +316,10 @@ public static SnapshotMode parse(String value, String defaultValue) {
     public static Field.Set ALL_FIELDS = Field.setOf(USER, PASSWORD, HOSTS, LOGICAL_NAME,
             SSL_ENABLED, SSL_ALLOW_INVALID_HOSTNAMES,
             MAX_COPY_THREADS, CommonConnectorConfig.MAX_QUEUE_SIZE,
+            CommonConnectorConfig.MAX_QUEUE_SIZE_IN_BYTES,
             CommonConnectorConfig.MAX_BATCH_SIZE,
             CommonConnectorConfig.POLL_INTERVAL_MS,
+            CommonConnectorConfig.POLL_LINGER_MS,
             MAX_FAILED_CONNECTIONS,
             CONNECT_BACKOFF_INITIAL_DELAY_MS,
             CONNECT_BACKOFF_MAX_DELAY_MS,
@@ -354,7 +356,8 @@ protected static ConfigDef configDef() {
                 CommonConnectorConfig.TOMBSTONES_ON_DELETE,
                 CommonConnectorConfig.SOURCE_STRUCT_MAKER_VERSION, Heartbeat.HEARTBEAT_INTERVAL, Heartbeat.HEARTBEAT_TOPICS_PREFIX);
         Field.group(config, "Connector", MAX_COPY_THREADS, CommonConnectorConfig.MAX_QUEUE_SIZE,
-                CommonConnectorConfig.MAX_BATCH_SIZE, CommonConnectorConfig.POLL_INTERVAL_MS,
+                CommonConnectorConfig.MAX_QUEUE_SIZE_IN_BYTES, CommonConnectorConfig.MAX_BATCH_SIZE, CommonConnectorConfig.POLL_INTERVAL_MS,
+                CommonConnectorConfig.POLL_LINGER_MS,
                 CommonConnectorConfig.SNAPSHOT_DELAY_MS, CommonConnectorConfig.SNAPSHOT_FETCH_SIZE, SNAPSHOT_MODE);
         return config;
     }
@@ -92,8 +92,10 @@ public void start(Configuration config) {
             // Set up the task record queue ...
             this.queue = new ChangeEventQueue.Builder<SourceRecord>()
                     .pollInterval(connectorConfig.getPollInterval())
+                    .pollLinger(connectorConfig.getPollLinger())
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
+                    .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
                     .loggingContextSupplier(this::getLoggingContext)
                     .build();
 
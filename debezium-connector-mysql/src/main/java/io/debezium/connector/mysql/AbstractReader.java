@@ -10,7 +10,6 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -68,7 +67,7 @@ public AbstractReader(String name, MySqlTaskContext context, HaltingPredicate ac
         this.name = name;
         this.context = context;
         this.connectionContext = context.getConnectionContext();
-        this.records = new LinkedBlockingDeque<>(context.getConnectorConfig().getMaxQueueSize());
+        this.records = context.getConnectorConfig().getQueueImplementation().createQueue(context.getConnectorConfig().getMaxQueueSize());
         this.maxBatchSize = context.getConnectorConfig().getMaxBatchSize();
         this.pollInterval = context.getConnectorConfig().getPollInterval();
         this.metronome = Metronome.parker(pollInterval, Clock.SYSTEM);
@@ -84,6 +83,23 @@ public int totalCapacity() {
             public int remainingCapacity() {
                 return records.remainingCapacity();
             }
+
+            // the MySQL readers are bounded by the number of records only
+
+            @Override
+            public long maxQueueSizeInBytes() {
+                return 0;
+            }
+
+            @Override
+            public long currentQueueSizeInBytes() {
+                return 0;
+            }
+
+            @Override
+            public long peakQueueSizeInBytes() {
+                return 0;
+            }
         };
     }
 
@@ -0,0 +1,274 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient.EventListener;
+import com.github.shyiko.mysql.binlog.BinaryLogFileReader;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventHeader;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.RotateEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+
+import io.debezium.connector.mysql.BinlogReader.BinlogPosition;
+import io.debezium.connector.mysql.MySqlConnectorConfig.BinlogFileAccessMode;
+
+/**
+ * Reads the events of MySQL binlog files from local disk and passes them to the same {@link EventListener}s that are
+ * otherwise registered with the {@link com.github.shyiko.mysql.binlog.BinaryLogClient}, so that archived binlogs can be
+ * re-processed without connecting to the server.
+ * <p>
+ * The reader mimics the client: when starting or rewinding, it passes a fake {@link EventType#ROTATE} event with the
+ * binlog file name and position to the listeners before any other event, and it tracks the binlog position in the same
+ * way, i.e. only after the listeners have been notified and not for {@link EventType#TABLE_MAP} events.
+ *
+ * @see MySqlConnectorConfig#BINLOG_FILES
+ */
+public class BinlogFileReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinlogFileReader.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long FIRST_EVENT_POSITION = BinaryLogFileReader.MAGIC_HEADER.length;
+
+    private final List<Path> files;
+    private final BinlogFileAccessMode accessMode;
+    private final EventDeserializer eventDeserializer;
+    private final List<EventListener> eventListeners;
+
+    private volatile boolean stopped;
+    private volatile String binlogFilename;
+    private volatile long binlogPosition;
+    private volatile BinlogPosition rewindPosition;
+
+    /**
+     * @param files the binlog files in the order in which they are to be read; may not be null
+     * @param accessMode how the files are read; may not be null
+     * @param eventDeserializer the deserializer of the events; may not be null
+     * @param eventListeners the listeners to be notified of each event, in order; may not be null
+     */
+    public BinlogFileReader(List<Path> files, BinlogFileAccessMode accessMode, EventDeserializer eventDeserializer,
+                            List<EventListener> eventListeners) {
+        this.files = files;
+        this.accessMode = accessMode;
+        this.eventDeserializer = eventDeserializer;
+        this.eventListeners = eventListeners;
+    }
+
+    /**
+     * Reads the events of the files, blocking until the last file has been read completely or this reader is
+     * {@link #stop() stopped}. Once stopped, a reader doesn't read any more events.
+     *
+     * @param filename the name of the binlog file to start at; files with names sorting before it are skipped, and if
+     *            null, all files are read
+     * @param position the position within the file to start at, if it is one of the files
+     * @return the number of events read
+     * @throws IOException if a file can't be read
+     */
+    public long read(String filename, long position) throws IOException {
+        long events = 0;
+        int index = indexOf(filename);
+        long startPosition = index < files.size() && nameOf(index).equals(filename) ? position : FIRST_EVENT_POSITION;
+        boolean rotate = true;
+        while (!stopped && index < files.size()) {
+            final String name = nameOf(index);
+            if (rotate || !name.equals(binlogFilename)) {
+                notifyEventListeners(rotateEvent(name, Math.max(startPosition, FIRST_EVENT_POSITION)));
+            }
+            LOGGER.info("Reading binlog file {} starting at position {}", files.get(index), startPosition);
+            events += readFile(files.get(index), startPosition);
+
+            final BinlogPosition rewindTo = rewindPosition;
+            if (rewindTo != null) {
+                rewindPosition = null;
+                index = indexOf(rewindTo.getFilename());
+                startPosition = rewindTo.getPosition();
+                rotate = true;
+            }
+            else {
+                index++;
+                startPosition = FIRST_EVENT_POSITION;
+                rotate = false;
+            }
+        }
+        return events;
+    }
+
+    private long readFile(Path file, long startPosition) throws IOException {
+        long events = 0;
+        try (BinaryLogFileReader reader = new BinaryLogFileReader(open(file), eventDeserializer)) {
+            Event event;
+            while (!stopped && rewindPosition == null && (event = reader.readEvent()) != null) {
+                events++;
+                final EventHeader header = event.getHeader();
+                // like the server, always pass the format description but skip all other events before the start position
+                if (header.getEventType() != EventType.FORMAT_DESCRIPTION && header instanceof EventHeaderV4
+                        && ((EventHeaderV4) header).getPosition() < startPosition) {
+                    continue;
+                }
+                notifyEventListeners(event);
+            }
+        }
+        return events;
+    }
+
+    private InputStream open(Path file) throws IOException {
+        if (accessMode == BinlogFileAccessMode.MEMORY_MAPPED) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() <= Integer.MAX_VALUE) {
+                    return new ByteBufferInputStream(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+                }
+                LOGGER.info("Binlog file {} is too large to be mapped into memory, reading it as a stream", file);
+            }
+        }
+        return new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+    }
+
+    private int indexOf(String filename) {
+        if (filename == null) {
+            return 0;
+        }
+        for (int i = 0; i < files.size(); i++) {
+            if (nameOf(i).compareTo(filename) >= 0) {
+                return i;
+            }
+        }
+        LOGGER.warn("None of the binlog files {} is at or after binlog file {}", files, filename);
+        return files.size();
+    }
+
+    private String nameOf(int index) {
+        return files.get(index).getFileName().toString();
+    }
+
+    private static Event rotateEvent(String filename, long position) {
+        final EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(EventType.ROTATE);
+        final RotateEventData data = new RotateEventData();
+        data.setBinlogFilename(filename);
+        data.setBinlogPosition(position);
+        return new Event(header, data);
+    }
+
+    private void notifyEventListeners(Event event) {
+        for (EventListener listener : eventListeners) {
+            try {
+                listener.onEvent(event);
+            }
+            catch (Exception e) {
+                LOGGER.warn("{} failed to process {}", listener, event, e);
+            }
+        }
+        updateBinlogFilenameAndPosition(event);
+    }
+
+    private void updateBinlogFilenameAndPosition(Event event) {
+        final EventHeader header = event.getHeader();
+        if (header.getEventType() == EventType.ROTATE) {
+            EventData data = event.getData();
+            if (data instanceof EventDeserializer.EventDataWrapper) {
+                data = ((EventDeserializer.EventDataWrapper) data).getInternal();
+            }
+            binlogFilename = ((RotateEventData) data).getBinlogFilename();
+            binlogPosition = ((RotateEventData) data).getBinlogPosition();
+        }
+        else if (header.getEventType() != EventType.TABLE_MAP && header instanceof EventHeaderV4) {
+            final long nextPosition = ((EventHeaderV4) header).getNextPosition();
+            if (nextPosition > 0) {
+                binlogPosition = nextPosition;
+            }
+        }
+    }
+
+    /**
+     * Continues reading at the given position once the listeners have processed the current event.
+     *
+     * @param position the position to continue reading at; may not be null
+     */
+    public void rewind(BinlogPosition position) {
+        LOGGER.debug("Rewinding binlog files to position {}", position);
+        rewindPosition = position;
+    }
+
+    /**
+     * Stops reading once the listeners have processed the current event.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * @return the name of the binlog file currently being read; null if reading hasn't started yet
+     */
+    public String getBinlogFilename() {
+        return binlogFilename;
+    }
+
+    /**
+     * @return the position of the next event to be read in the current binlog file
+     */
+    public long getBinlogPosition() {
+        return binlogPosition;
+    }
+
+    /**
+     * An {@link InputStream} reading from a buffer, e.g. a memory-mapped file.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            final int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -10,6 +10,8 @@
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -18,12 +20,14 @@
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
@@ -40,6 +44,7 @@
 import org.slf4j.event.Level;
 
 import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.BinaryLogClient.EventListener;
 import com.github.shyiko.mysql.binlog.BinaryLogClient.LifecycleListener;
 import com.github.shyiko.mysql.binlog.event.DeleteRowsEventData;
 import com.github.shyiko.mysql.binlog.event.Event;
@@ -66,6 +71,7 @@
 import io.debezium.connector.mysql.MySqlConnectorConfig.EventProcessingFailureHandlingMode;
 import io.debezium.connector.mysql.MySqlConnectorConfig.SecureConnectionMode;
 import io.debezium.connector.mysql.RecordMakers.RecordsForTable;
+import io.debezium.connector.mysql.RecordMakers.RowConversion;
 import io.debezium.function.BlockingConsumer;
 import io.debezium.heartbeat.Heartbeat;
 import io.debezium.relational.TableId;
@@ -95,6 +101,10 @@ public class BinlogReader extends AbstractReader {
     private final ElapsedTimeStrategy pollOutputDelay;
     private final EventProcessingFailureHandlingMode eventDeserializationFailureHandlingMode;
     private final EventProcessingFailureHandlingMode inconsistentSchemaHandlingMode;
+    private final RowConversionPipeline conversionPipeline;
+    private final EventBuffer eventBuffer;
+    private final BinlogFileReader fileReader;
+    private ExecutorService fileReaderExecutor;
 
     private int startingRowNumber = 0;
     private long recordCounter = 0L;
@@ -105,7 +115,6 @@ public class BinlogReader extends AbstractReader {
     private final Predicate<String> gtidDmlSourceFilter;
     private final AtomicLong totalRecordCounter = new AtomicLong();
     private volatile Map<String, ?> lastOffset = null;
-    private com.github.shyiko.mysql.binlog.GtidSet gtidSet;
     private Heartbeat heartbeat;
     private MySqlJdbcContext connectionContext;
     private final float heartbeatIntervalFactor = 0.8f;
@@ -217,19 +226,53 @@ public BinlogReader(String name, MySqlTaskContext context, HaltingPredicate acce
         // multiply by keepAliveInterval and set the result value to heartbeatInterval.The default value of heartbeatIntervalFactor
         // is 0.8, and we believe the left time (0.2 * keepAliveInterval) is enough to process the packet received from the MySQL server.
         client.setHeartbeatInterval((long) (keepAliveInterval * heartbeatIntervalFactor));
-        client.registerEventListener(context.bufferSizeForBinlogReader() == 0
-                ? this::handleEvent
-                : (new EventBuffer(context.bufferSizeForBinlogReader(), this))::add);
-
-        client.registerLifecycleListener(new ReaderThreadLifecycleListener());
+        final List<EventListener> eventListeners = new ArrayList<>();
+        if (context.bufferSizeForBinlogReader() == 0) {
+            eventBuffer = null;
+            eventListeners.add(this::handleEvent);
+        }
+        else {
+            final long spillMaxBytes = context.bufferSpillMaxBytesForBinlogReader();
+            eventBuffer = new EventBuffer(context.bufferSizeForBinlogReader(),
+                    spillMaxBytes > 0 ? new EventSpillBuffer(Paths.get(context.bufferSpillDirectoryForBinlogReader()), spillMaxBytes) : null,
+                    this);
+            eventListeners.add(eventBuffer::add);
+        }
         if (logger.isDebugEnabled()) {
-            client.registerEventListener(this::logEvent);
+            eventListeners.add(this::logEvent);
         }
+        eventListeners.forEach(client::registerEventListener);
+        client.registerLifecycleListener(new ReaderThreadLifecycleListener());
 
         boolean filterDmlEventsByGtidSource = context.config().getBoolean(MySqlConnectorConfig.GTID_SOURCE_FILTER_DML_EVENTS);
         gtidDmlSourceFilter = filterDmlEventsByGtidSource ? context.gtidSourceFilter() : null;
 
         // Set up the event deserializer with additional type(s) ...
+        final EventDeserializer eventDeserializer = createEventDeserializer(context.dbSchema().filters().tableFilter());
+        client.setEventDeserializer(eventDeserializer);
+
+        // Read binlog files from local disk instead of connecting to the server, if configured ...
+        final List<Path> binlogFiles = context.binlogFiles();
+        fileReader = binlogFiles.isEmpty() ? null
+                : new BinlogFileReader(binlogFiles, context.binlogFileAccessMode(), eventDeserializer, eventListeners);
+
+        // Set up the conversion of rows on separate threads, if enabled ...
+        final int conversionThreads = context.binlogConversionThreads();
+        conversionPipeline = conversionThreads > 0
+                ? new RowConversionPipeline(context.getConnectorConfig().getLogicalName(), conversionThreads, context.binlogConversionQueueSize(),
+                        this::enqueueRecord, this::handleConversionFailure)
+                : null;
+
+        // Set up for JMX ...
+        metrics = new BinlogReaderMetrics(client, context, name, changeEventQueueMetrics, conversionPipeline);
+        heartbeat = Heartbeat.create(context.config(), context.topicSelector().getHeartbeatTopic(),
+                context.getConnectorConfig().getLogicalName());
+    }
+
+    /**
+     * Creates the deserializer of the binlog events, which skips the rows of tables not matching the given filter.
+     */
+    static EventDeserializer createEventDeserializer(Predicate<TableId> tableFilter) {
         final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<Long, TableMapEventData>();
         EventDeserializer eventDeserializer = new EventDeserializer() {
             @Override
@@ -238,8 +281,9 @@ public Event nextEvent(ByteArrayInputStream inputStream) throws IOException {
                     // Delegate to the superclass ...
                     Event event = super.nextEvent(inputStream);
 
-                    // We have to record the most recent TableMapEventData for each table number for our custom deserializers ...
-                    if (event.getHeader().getEventType() == EventType.TABLE_MAP) {
+                    // We have to record the most recent TableMapEventData for each table number for our custom deserializers;
+                    // there's no event at the end of a binlog file read from disk ...
+                    if (event != null && event.getHeader().getEventType() == EventType.TABLE_MAP) {
                         TableMapEventData tableMapEvent = event.getData();
                         tableMapEventByTableId.put(tableMapEvent.getTableId(), tableMapEvent);
                     }
@@ -264,30 +308,25 @@ public Event nextEvent(ByteArrayInputStream inputStream) throws IOException {
             }
         };
 
-        // Add our custom deserializers ...
+        // Add our custom deserializers, which skip the rows of tables that aren't captured ...
         eventDeserializer.setEventDataDeserializer(EventType.STOP, new StopEventDataDeserializer());
         eventDeserializer.setEventDataDeserializer(EventType.GTID, new GtidEventDataDeserializer());
         eventDeserializer.setEventDataDeserializer(EventType.WRITE_ROWS,
-                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId));
+                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId, tableFilter));
         eventDeserializer.setEventDataDeserializer(EventType.UPDATE_ROWS,
-                new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId));
+                new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId, tableFilter));
         eventDeserializer.setEventDataDeserializer(EventType.DELETE_ROWS,
-                new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId));
+                new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId, tableFilter));
         eventDeserializer.setEventDataDeserializer(EventType.EXT_WRITE_ROWS,
                 new RowDeserializers.WriteRowsDeserializer(
-                        tableMapEventByTableId).setMayContainExtraInformation(true));
+                        tableMapEventByTableId, tableFilter).setMayContainExtraInformation(true));
         eventDeserializer.setEventDataDeserializer(EventType.EXT_UPDATE_ROWS,
                 new RowDeserializers.UpdateRowsDeserializer(
-                        tableMapEventByTableId).setMayContainExtraInformation(true));
+                        tableMapEventByTableId, tableFilter).setMayContainExtraInformation(true));
         eventDeserializer.setEventDataDeserializer(EventType.EXT_DELETE_ROWS,
                 new RowDeserializers.DeleteRowsDeserializer(
-                        tableMapEventByTableId).setMayContainExtraInformation(true));
-        client.setEventDeserializer(eventDeserializer);
-
-        // Set up for JMX ...
-        metrics = new BinlogReaderMetrics(client, context, name, changeEventQueueMetrics);
-        heartbeat = Heartbeat.create(context.config(), context.topicSelector().getHeartbeatTopic(),
-                context.getConnectorConfig().getLogicalName());
+                        tableMapEventByTableId, tableFilter).setMayContainExtraInformation(true));
+        return eventDeserializer;
     }
 
     @Override
@@ -326,43 +365,47 @@ protected void doStart() {
             eventHandlers.put(EventType.ROWS_QUERY, this::handleRowsQuery);
         }
 
-        final boolean isGtidModeEnabled = connectionContext.isGtidModeEnabled();
-        metrics.setIsGtidModeEnabled(isGtidModeEnabled);
-
-        // Get the current GtidSet from MySQL so we can get a filtered/merged GtidSet based off of the last Debezium checkpoint.
-        String availableServerGtidStr = connectionContext.knownGtidSet();
-        if (isGtidModeEnabled) {
-            // The server is using GTIDs, so enable the handler ...
+        if (fileReader != null) {
+            // The binlog files may contain GTIDs regardless of the current mode of the server ...
             eventHandlers.put(EventType.GTID, this::handleGtidEvent);
-
-            // Now look at the GTID set from the server and what we've previously seen ...
-            GtidSet availableServerGtidSet = new GtidSet(availableServerGtidStr);
-
-            // also take into account purged GTID logs
-            GtidSet purgedServerGtidSet = connectionContext.purgedGtidSet();
-            logger.info("GTID set purged on server: {}", purgedServerGtidSet);
-
-            GtidSet filteredGtidSet = context.filterGtidSet(availableServerGtidSet, purgedServerGtidSet);
-            if (filteredGtidSet != null) {
-                // We've seen at least some GTIDs, so start reading from the filtered GTID set ...
-                logger.info("Registering binlog reader with GTID set: {}", filteredGtidSet);
-                String filteredGtidSetStr = filteredGtidSet.toString();
-                client.setGtidSet(filteredGtidSetStr);
-                source.setCompletedGtidSet(filteredGtidSetStr);
-                gtidSet = new com.github.shyiko.mysql.binlog.GtidSet(filteredGtidSetStr);
+        }
+        else {
+            final boolean isGtidModeEnabled = connectionContext.isGtidModeEnabled();
+            metrics.setIsGtidModeEnabled(isGtidModeEnabled);
+
+            // Get the current GtidSet from MySQL so we can get a filtered/merged GtidSet based off of the last Debezium checkpoint.
+            String availableServerGtidStr = connectionContext.knownGtidSet();
+            if (isGtidModeEnabled) {
+                // The server is using GTIDs, so enable the handler ...
+                eventHandlers.put(EventType.GTID, this::handleGtidEvent);
+
+                // Now look at the GTID set from the server and what we've previously seen ...
+                GtidSet availableServerGtidSet = new GtidSet(availableServerGtidStr);
+
+                // also take into account purged GTID logs
+                GtidSet purgedServerGtidSet = connectionContext.purgedGtidSet();
+                logger.info("GTID set purged on server: {}", purgedServerGtidSet);
+
+                GtidSet filteredGtidSet = context.filterGtidSet(availableServerGtidSet, purgedServerGtidSet);
+                if (filteredGtidSet != null) {
+                    // We've seen at least some GTIDs, so start reading from the filtered GTID set ...
+                    logger.info("Registering binlog reader with GTID set: {}", filteredGtidSet);
+                    String filteredGtidSetStr = filteredGtidSet.toString();
+                    client.setGtidSet(filteredGtidSetStr);
+                    source.setCompletedGtidSet(filteredGtidSetStr);
+                }
+                else {
+                    // We've not yet seen any GTIDs, so that means we have to start reading the binlog from the beginning ...
+                    client.setBinlogFilename(source.binlogFilename());
+                    client.setBinlogPosition(source.binlogPosition());
+                }
             }
             else {
-                // We've not yet seen any GTIDs, so that means we have to start reading the binlog from the beginning ...
+                // The server is not using GTIDs, so start reading the binlog based upon where we last left off ...
                 client.setBinlogFilename(source.binlogFilename());
                 client.setBinlogPosition(source.binlogPosition());
-                gtidSet = new com.github.shyiko.mysql.binlog.GtidSet("");
             }
         }
-        else {
-            // The server is not using GTIDs, so start reading the binlog based upon where we last left off ...
-            client.setBinlogFilename(source.binlogFilename());
-            client.setBinlogPosition(source.binlogPosition());
-        }
 
         // We may be restarting in the middle of a transaction, so see how far into the transaction we have already processed...
         initialEventsToSkip = source.eventsToSkipUponRestart();
@@ -377,8 +420,17 @@ protected void doStart() {
         pollOutputDelay.hasElapsed();
         previousOutputMillis = clock.currentTimeInMillis();
 
+        if (conversionPipeline != null) {
+            conversionPipeline.start();
+        }
+
         // Start the log reader, which starts background threads ...
-        if (isRunning()) {
+        if (isRunning() && fileReader != null) {
+            fileReaderExecutor = Threads.newSingleThreadExecutor(MySqlConnector.class, context.getConnectorConfig().getLogicalName(),
+                    "binlog-file-reader");
+            fileReaderExecutor.submit(this::readBinlogFiles);
+        }
+        else if (isRunning()) {
             long timeout = context.getConnectorConfig().getConnectionTimeout().toMillis();
             long started = context.getClock().currentTimeInMillis();
             try {
@@ -408,7 +460,36 @@ protected void doStart() {
         }
     }
 
+    /**
+     * Read the configured binlog files from local disk, completing this reader once all of them have been read.
+     */
+    private void readBinlogFiles() {
+        context.configureLoggingContext("binlog");
+        logger.info("Reading binlog files, starting at {}", source);
+        try {
+            final long events = fileReader.read(source.binlogFilename(), source.binlogPosition());
+            if (conversionPipeline != null) {
+                conversionPipeline.awaitEmitted();
+            }
+            if (isRunning()) {
+                logger.info("Completed reading {} events from binlog files", events);
+                completeSuccessfully();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (Exception e) {
+            logReaderState();
+            failed(e, "Error reading binlog files");
+        }
+    }
+
     protected void rewindBinaryLogClient(BinlogPosition position) {
+        if (fileReader != null) {
+            fileReader.rewind(position);
+            return;
+        }
         try {
             if (isRunning()) {
                 logger.debug("Rewinding binlog to position {}", position);
@@ -437,6 +518,18 @@ protected void doStop() {
                 logger.debug("Stopping binlog reader '{}', last recorded offset: {}", this.name(), lastOffset);
                 client.disconnect();
             }
+            if (fileReader != null) {
+                fileReader.stop();
+                if (fileReaderExecutor != null) {
+                    fileReaderExecutor.shutdownNow();
+                }
+            }
+            if (conversionPipeline != null) {
+                conversionPipeline.stop();
+            }
+            if (eventBuffer != null) {
+                eventBuffer.close();
+            }
             cleanupResources();
         }
         catch (IOException e) {
@@ -519,7 +612,7 @@ else if (eventHeader instanceof EventHeaderV4) {
             eventHandlers.getOrDefault(eventType, this::ignoreEvent).accept(event);
 
             // Generate heartbeat message if the time is right
-            heartbeat.heartbeat(source.partition(), source.offset(), (BlockingConsumer<SourceRecord>) this::enqueueRecord);
+            heartbeat.heartbeat(source.partition(), source.offset(), (BlockingConsumer<SourceRecord>) this::emitRecord);
 
             // Capture that we've completed another event ...
             source.completeEvent();
@@ -549,6 +642,47 @@ else if (eventHeader instanceof EventHeaderV4) {
         }
     }
 
+    /**
+     * Emit a record created by the binlog client thread itself. If the rows are converted by the
+     * {@link RowConversionPipeline}, the record is passed through it so that it is emitted in binlog order.
+     *
+     * @param record the record to be emitted; may not be null
+     * @throws InterruptedException if this thread is interrupted while blocking
+     */
+    protected void emitRecord(SourceRecord record) throws InterruptedException {
+        if (conversionPipeline != null) {
+            conversionPipeline.emit(record);
+        }
+        else {
+            enqueueRecord(record);
+        }
+    }
+
+    /**
+     * Convert the prepared rows of a single binlog event into records, either right away or, if enabled, by the
+     * {@link RowConversionPipeline}.
+     *
+     * @param conversions the conversions of the rows of the event; may not be null
+     * @return the number of records produced, or the number of rows submitted for conversion if the pipeline is enabled
+     * @throws InterruptedException if this thread is interrupted while blocking
+     */
+    private int convertRows(List<RowConversion> conversions) throws InterruptedException {
+        if (conversionPipeline != null) {
+            conversionPipeline.submit(conversions);
+            return conversions.size();
+        }
+        int count = 0;
+        for (RowConversion conversion : conversions) {
+            count += conversion.convert(this::enqueueRecord);
+        }
+        return count;
+    }
+
+    private void handleConversionFailure(Throwable error) {
+        logReaderState();
+        failed(error, "Error converting binlog event");
+    }
+
     @SuppressWarnings("unchecked")
     protected <T extends EventData> T unwrapData(Event event) {
         EventData eventData = event.getData();
@@ -653,8 +787,7 @@ protected void handleGtidEvent(Event event) {
         logger.debug("GTID transaction: {}", event);
         GtidEventData gtidEvent = unwrapData(event);
         String gtid = gtidEvent.getGtid();
-        gtidSet.add(gtid);
-        source.startGtid(gtid, gtidSet.toString()); // rather than use the client's GTID set
+        source.startGtid(gtid); // rather than use the client's GTID set
         ignoreDmlEventByGtidSource = false;
         if (gtidDmlSourceFilter != null && gtid != null) {
             String uuid = gtid.trim().substring(0, gtid.indexOf(":"));
@@ -727,7 +860,7 @@ protected void handleQueryEvent(Event event) throws InterruptedException {
                     MySqlConnectorConfig.BUFFER_SIZE_FOR_BINLOG_READER.name());
         }
         context.dbSchema().applyDdl(context.source(), command.getDatabase(), command.getSql(), (dbName, tables, statements) -> {
-            if (recordSchemaChangesInSourceRecords && recordMakers.schemaChanges(dbName, tables, statements, super::enqueueRecord) > 0) {
+            if (recordSchemaChangesInSourceRecords && recordMakers.schemaChanges(dbName, tables, statements, this::emitRecord) > 0) {
                 logger.debug("Recorded DDL statements for database '{}': {}", dbName, statements);
             }
         });
@@ -853,12 +986,13 @@ protected void handleInsert(Event event) throws InterruptedException {
         if (recordMaker != null) {
             List<Serializable[]> rows = write.getRows();
             final Instant ts = context.getClock().currentTimeAsInstant();
-            int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
+                final List<RowConversion> conversions = new ArrayList<>(numRows - startingRowNumber);
                 for (int row = startingRowNumber; row != numRows; ++row) {
-                    count += recordMaker.create(rows.get(row), ts, row, numRows);
+                    conversions.add(recordMaker.prepareCreate(rows.get(row), ts, row, numRows));
                 }
+                final int count = convertRows(conversions);
                 if (logger.isDebugEnabled()) {
                     if (startingRowNumber != 0) {
                         logger.debug("Recorded {} insert record(s) for last {} row(s) in event: {}",
@@ -904,15 +1038,16 @@ protected void handleUpdate(Event event) throws InterruptedException {
         if (recordMaker != null) {
             List<Entry<Serializable[], Serializable[]>> rows = update.getRows();
             final Instant ts = context.getClock().currentTimeAsInstant();
-            int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
+                final List<RowConversion> conversions = new ArrayList<>(numRows - startingRowNumber);
                 for (int row = startingRowNumber; row != numRows; ++row) {
                     Map.Entry<Serializable[], Serializable[]> changes = rows.get(row);
                     Serializable[] before = changes.getKey();
                     Serializable[] after = changes.getValue();
-                    count += recordMaker.update(before, after, ts, row, numRows);
+                    conversions.add(recordMaker.prepareUpdate(before, after, ts, row, numRows));
                 }
+                final int count = convertRows(conversions);
                 if (logger.isDebugEnabled()) {
                     if (startingRowNumber != 0) {
                         logger.debug("Recorded {} update record(s) for last {} row(s) in event: {}",
@@ -957,12 +1092,13 @@ protected void handleDelete(Event event) throws InterruptedException {
         if (recordMaker != null) {
             List<Serializable[]> rows = deleted.getRows();
             final Instant ts = context.getClock().currentTimeAsInstant();
-            int count = 0;
             int numRows = rows.size();
             if (startingRowNumber < numRows) {
+                final List<RowConversion> conversions = new ArrayList<>(numRows - startingRowNumber);
                 for (int row = startingRowNumber; row != numRows; ++row) {
-                    count += recordMaker.delete(rows.get(row), ts, row, numRows);
+                    conversions.add(recordMaker.prepareDelete(rows.get(row), ts, row, numRows));
                 }
+                final int count = convertRows(conversions);
                 if (logger.isDebugEnabled()) {
                     if (startingRowNumber != 0) {
                         logger.debug("Recorded {} delete record(s) for last {} row(s) in event: {}",
@@ -1084,7 +1220,8 @@ private void logReaderState() {
     }
 
     private void logReaderState(Level severity) {
-        final Object position = client == null ? "N/A" : client.getBinlogFilename() + "/" + client.getBinlogPosition();
+        final BinlogPosition current = getCurrentBinlogPosition();
+        final Object position = current == null ? "N/A" : current.getFilename() + "/" + current.getPosition();
         final String message = "Error during binlog processing. Last offset stored = {}, binlog reader near position = {}";
         switch (severity) {
             case WARN:
@@ -1107,6 +1244,10 @@ protected BinaryLogClient getBinlogClient() {
     }
 
     public BinlogPosition getCurrentBinlogPosition() {
+        if (fileReader != null) {
+            return fileReader.getBinlogFilename() == null ? null
+                    : new BinlogPosition(fileReader.getBinlogFilename(), fileReader.getBinlogPosition());
+        }
         return new BinlogPosition(client.getBinlogFilename(), client.getBinlogPosition());
     }
 
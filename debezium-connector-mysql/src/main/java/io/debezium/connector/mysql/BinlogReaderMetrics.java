@@ -25,6 +25,7 @@ class BinlogReaderMetrics extends PipelineMetrics implements BinlogReaderMetrics
     private final BinaryLogClient client;
     private final BinaryLogClientStatistics stats;
     private final MySqlSchema schema;
+    private final RowConversionPipeline conversionPipeline;
 
     private final AtomicLong numberOfCommittedTransactions = new AtomicLong();
     private final AtomicLong numberOfRolledBackTransactions = new AtomicLong();
@@ -33,11 +34,13 @@ class BinlogReaderMetrics extends PipelineMetrics implements BinlogReaderMetrics
     private final AtomicBoolean isGtidModeEnabled = new AtomicBoolean(false);
     private final AtomicReference<String> lastTransactionId = new AtomicReference<>();
 
-    public BinlogReaderMetrics(BinaryLogClient client, MySqlTaskContext taskContext, String name, ChangeEventQueueMetrics changeEventQueueMetrics) {
+    public BinlogReaderMetrics(BinaryLogClient client, MySqlTaskContext taskContext, String name, ChangeEventQueueMetrics changeEventQueueMetrics,
+                               RowConversionPipeline conversionPipeline) {
         super(taskContext, name, changeEventQueueMetrics, null);
         this.client = client;
         this.stats = new BinaryLogClientStatistics(client);
         this.schema = taskContext.dbSchema();
+        this.conversionPipeline = conversionPipeline;
     }
 
     @Override
@@ -109,6 +112,9 @@ public void reset() {
         numberOfLargeTransactions.set(0);
         lastTransactionId.set(null);
         isGtidModeEnabled.set(false);
+        if (conversionPipeline != null) {
+            conversionPipeline.reset();
+        }
     }
 
     @Override
@@ -131,6 +137,41 @@ public long getNumberOfLargeTransactions() {
         return numberOfLargeTransactions.get();
     }
 
+    @Override
+    public int getRowConversionThreads() {
+        return conversionPipeline != null ? conversionPipeline.getThreads() : 0;
+    }
+
+    @Override
+    public int getRowConversionQueueCapacity() {
+        return conversionPipeline != null ? conversionPipeline.getCapacity() : 0;
+    }
+
+    @Override
+    public int getRowConversionQueueSize() {
+        return conversionPipeline != null ? conversionPipeline.getSize() : 0;
+    }
+
+    @Override
+    public long getNumberOfConvertedRowEvents() {
+        return conversionPipeline != null ? conversionPipeline.getNumberOfConvertedEvents() : 0;
+    }
+
+    @Override
+    public long getMilliSecondsSpentConvertingRows() {
+        return conversionPipeline != null ? conversionPipeline.getMilliSecondsConverting() : 0;
+    }
+
+    @Override
+    public long getMilliSecondsReaderWaitedForConversion() {
+        return conversionPipeline != null ? conversionPipeline.getMilliSecondsReaderWaiting() : 0;
+    }
+
+    @Override
+    public long getMilliSecondsEmitterWaitedForConversion() {
+        return conversionPipeline != null ? conversionPipeline.getMilliSecondsEmitterWaiting() : 0;
+    }
+
     public void onCommittedTransaction() {
         numberOfCommittedTransactions.incrementAndGet();
     }
@@ -77,4 +77,40 @@ public interface BinlogReaderMetricsMXBean extends StreamingChangeEventSourceMet
      * @return true if using Gtids, false if not.
      */
     boolean getIsGtidModeEnabled();
+
+    /**
+     * The number of threads converting the rows of binlog events, 0 if the rows are converted by the binlog reader thread.
+     */
+    int getRowConversionThreads();
+
+    /**
+     * The maximum number of binlog events that can be read but not yet emitted when converting rows using multiple threads.
+     */
+    int getRowConversionQueueCapacity();
+
+    /**
+     * The number of binlog events that have been read but whose change events have not been emitted yet.
+     */
+    int getRowConversionQueueSize();
+
+    /**
+     * Tracks the number of binlog events whose rows have been converted by the row conversion threads.
+     */
+    long getNumberOfConvertedRowEvents();
+
+    /**
+     * Tracks the total time the row conversion threads have spent converting rows.
+     */
+    long getMilliSecondsSpentConvertingRows();
+
+    /**
+     * Tracks the total time the binlog reader thread has been blocked because the row conversion queue was full.
+     */
+    long getMilliSecondsReaderWaitedForConversion();
+
+    /**
+     * Tracks the total time spent waiting for the conversion of the oldest binlog event in order to emit its change
+     * events in binlog order.
+     */
+    long getMilliSecondsEmitterWaitedForConversion();
 }
@@ -8,6 +8,7 @@
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 
+import org.apache.kafka.connect.errors.ConnectException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +38,9 @@
  *     <li>Buffer content is sent to the final handler</li>
  *     <li>Binlog position is rewound and all events between the above recorded positions are sent to the final handler</li>
  * </ul>
+ * If a {@link EventSpillBuffer spill buffer} is configured, the events not fitting into the buffer are written to local disk
+ * first and replayed from there after the buffer content; the binlog position is only rewound for the events that don't fit
+ * into the spill buffer either.
  *
  * @author Jiri Pechanec
  *
@@ -47,6 +51,7 @@ class EventBuffer {
 
     private final int capacity;
     private final Queue<Event> buffer;
+    private final EventSpillBuffer spillBuffer;
     private final BinlogReader reader;
     private boolean txStarted = false;
 
@@ -62,8 +67,19 @@ class EventBuffer {
     private BinlogPosition forwardTillPosition;
 
     public EventBuffer(int capacity, BinlogReader reader) {
+        this(capacity, null, reader);
+    }
+
+    /**
+     * @param capacity the number of events kept in memory
+     * @param spillBuffer the buffer for the events not fitting into memory; may be null if those should always be re-read
+     *            from the binlog
+     * @param reader the reader handling the events
+     */
+    public EventBuffer(int capacity, EventSpillBuffer spillBuffer, BinlogReader reader) {
         this.capacity = capacity;
         this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.spillBuffer = spillBuffer;
         this.reader = reader;
     }
 
@@ -123,8 +139,8 @@ private boolean isReplayingEventsBeyondBufferCapacity() {
     }
 
     /**
-     * Adds an event to the buffer if there is a space available. Records binlog position for the first
-     * event that does not fit for later replay.
+     * Adds an event to the buffer if there is a space available, otherwise to the spill buffer. Records binlog
+     * position for the first event that does not fit into either for later replay.
      *
      * @param event
      */
@@ -133,17 +149,40 @@ private void addToBuffer(Event event) {
             return;
         }
         if (buffer.size() == capacity) {
-            switchToBufferFullMode();
+            if (!spill(event)) {
+                switchToBufferFullMode();
+            }
         }
         else {
             buffer.add(event);
         }
     }
 
+    private boolean spill(Event event) {
+        if (spillBuffer == null) {
+            return false;
+        }
+        final boolean firstSpilled = spillBuffer.isEmpty();
+        if (!spillBuffer.add(event)) {
+            return false;
+        }
+        if (firstSpilled) {
+            LOGGER.info("Buffer full, spilling the remainder of the transaction to disk from {}", reader.getCurrentBinlogPosition());
+            reader.getMetrics().onLargeTransaction();
+        }
+        return true;
+    }
+
+    private boolean isSpilling() {
+        return spillBuffer != null && !spillBuffer.isEmpty();
+    }
+
     private void switchToBufferFullMode() {
         largeTxNotBufferedPosition = reader.getCurrentBinlogPosition();
         LOGGER.info("Buffer full, will need to re-read part of the transaction from binlog from {}", largeTxNotBufferedPosition);
-        reader.getMetrics().onLargeTransaction();
+        if (!isSpilling()) {
+            reader.getMetrics().onLargeTransaction();
+        }
         // Position for TABLE_MAP is not stored by com.github.shyiko.mysql.binlog.BinaryLogClient.updateClientBinlogFilenameAndPosition(Event)
         if (buffer.peek().getHeader().getEventType() == EventType.TABLE_MAP) {
             buffer.remove();
@@ -194,6 +233,15 @@ private void completeTransaction(boolean wellFormed, Event event) {
         for (Event e : buffer) {
             reader.handleEvent(e);
         }
+        if (isSpilling()) {
+            LOGGER.debug("Executing {} events spilled to disk", spillBuffer.size());
+            try {
+                spillBuffer.replay(reader::handleEvent);
+            }
+            catch (ConnectException e) {
+                reader.failed(e, "Error replaying binlog events spilled to disk");
+            }
+        }
         LOGGER.debug("Executing events from binlog that have not fit into buffer");
         if (isInBufferFullMode()) {
             forwardTillPosition = reader.getCurrentBinlogPosition();
@@ -225,8 +273,19 @@ private void rollbackTransaction() {
      */
     private void clear() {
         buffer.clear();
+        if (spillBuffer != null) {
+            spillBuffer.clear();
+        }
         largeTxNotBufferedPosition = null;
         txStarted = false;
     }
 
+    /**
+     * Deletes the files of the spill buffer if any; invoked when the reader is stopped.
+     */
+    public void close() {
+        if (spillBuffer != null) {
+            spillBuffer.close();
+        }
+    }
 }
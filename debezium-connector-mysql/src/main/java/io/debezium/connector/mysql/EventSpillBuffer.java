@@ -0,0 +1,313 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * Stores the binlog events of a transaction that don't fit into the {@link EventBuffer} in memory-mapped segment files on
+ * local disk, so that they can be replayed in order once the transaction commits instead of re-reading them from the
+ * binlog.
+ * <p>
+ * Each segment starts with a Java serialization stream header, followed by the serialized events, each preceded by a
+ * stream reset, so that one object stream reads all events of a segment. The total size of the segment files is bounded;
+ * once an event doesn't fit anymore, it is rejected and the {@link EventBuffer} falls back to re-reading the remainder of
+ * the transaction from the binlog. The segments are reused by subsequent transactions, as mapped files can't be unmapped
+ * explicitly; they are deleted when the buffer is closed.
+ *
+ * @see MySqlConnectorConfig#BUFFER_SPILL_MAX_BYTES
+ */
+@ThreadSafe
+class EventSpillBuffer implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventSpillBuffer.class);
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int STREAM_HEADER_SIZE = 2 * Short.BYTES;
+    private static final String SEGMENT_PREFIX = "debezium-binlog-spill-";
+    private static final String SEGMENT_SUFFIX = ".segment";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final int segmentSize;
+    private final List<Segment> segments = new ArrayList<>();
+    private final SerializationBuffer serialized = new SerializationBuffer();
+
+    /**
+     * The stream serializing the events into {@link #serialized}, reused for all events
+     */
+    private ObjectOutputStream out;
+
+    /**
+     * The index of the segment events are currently appended to; -1 if no event has been stored yet
+     */
+    private int currentSegment = -1;
+    private long mappedBytes;
+    private long bytes;
+    private int events;
+
+    /**
+     * @param directory the directory in which the segment files are created; may not be null
+     * @param maxBytes the maximum total size of the segment files; must be positive
+     */
+    EventSpillBuffer(Path directory, long maxBytes) {
+        this(directory, maxBytes, DEFAULT_SEGMENT_SIZE);
+    }
+
+    EventSpillBuffer(Path directory, long maxBytes, int segmentSize) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.segmentSize = (int) Math.min(segmentSize, maxBytes);
+    }
+
+    /**
+     * Appends an event to the spill files.
+     *
+     * @param event the event; may not be null
+     * @return {@code true} if the event has been stored, {@code false} if it would exceed the size limit or couldn't be
+     *         stored, in which case the events stored so far are kept
+     */
+    public synchronized boolean add(Event event) {
+        try {
+            final int length = serialize(event);
+            if (bytes + length > maxBytes) {
+                LOGGER.info("Spilled binlog events reached the limit of {} bytes", maxBytes);
+                return false;
+            }
+
+            Segment segment = currentSegment != -1 ? segments.get(currentSegment) : null;
+            if (segment == null || segment.buffer.remaining() < length) {
+                segment = nextSegment(length);
+                if (segment == null) {
+                    LOGGER.info("Spill files reached the limit of {} bytes", maxBytes);
+                    return false;
+                }
+            }
+            serialized.writeTo(segment.buffer);
+            segment.events++;
+            bytes += length;
+            events++;
+            return true;
+        }
+        catch (IOException | RuntimeException e) {
+            // the state of the object stream is undefined after a failed write
+            out = null;
+            LOGGER.warn("Unable to spill binlog event to disk, the remainder of the transaction will be re-read from the binlog", e);
+            return false;
+        }
+    }
+
+    /**
+     * Serializes the given event into {@link #serialized}. The stream is reset before each event, so that no event
+     * refers to objects of a previous one and the events of a segment can be read following the segment's stream header.
+     *
+     * @return the length of the serialized event
+     */
+    private int serialize(Event event) throws IOException {
+        if (out == null) {
+            out = new ObjectOutputStream(serialized);
+        }
+        // discards the previous event as well as the stream header
+        serialized.reset();
+        out.reset();
+        out.writeObject(event);
+        out.flush();
+        return serialized.size();
+    }
+
+    /**
+     * Returns the next segment with room for an event of the given length, reusing the segments of previous transactions
+     * before mapping a new one.
+     *
+     * @return the segment, or {@code null} if mapping a further segment would exceed the size limit
+     */
+    private Segment nextSegment(int length) throws IOException {
+        while (currentSegment + 1 < segments.size()) {
+            final Segment segment = segments.get(++currentSegment);
+            if (segment.buffer.remaining() >= length) {
+                return segment;
+            }
+        }
+
+        final int required = STREAM_HEADER_SIZE + length;
+        final long size = Math.min(Math.max(segmentSize, required), maxBytes - mappedBytes);
+        if (size < required) {
+            return null;
+        }
+
+        final Path file = Files.createTempFile(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        LOGGER.debug("Spilling binlog events to {}", file);
+        final Segment segment = new Segment(file);
+        segments.add(segment);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment.buffer = channel.map(MapMode.READ_WRITE, 0, size);
+        }
+        segment.reset();
+        mappedBytes += size;
+        currentSegment = segments.size() - 1;
+        return segment;
+    }
+
+    /**
+     * Passes all stored events to the given consumer, in the order in which they have been added.
+     *
+     * @param consumer the consumer of the events; may not be null
+     * @throws ConnectException if an event can't be read back
+     */
+    public synchronized void replay(Consumer<Event> consumer) {
+        for (Segment segment : segments) {
+            if (segment.events == 0) {
+                continue;
+            }
+            final ByteBuffer buffer = segment.buffer.duplicate();
+            buffer.flip();
+            try (ObjectInputStream in = new ObjectInputStream(new ByteBufferInputStream(buffer))) {
+                for (int i = 0; i < segment.events; i++) {
+                    consumer.accept((Event) in.readObject());
+                }
+            }
+            catch (IOException | ClassNotFoundException e) {
+                throw new ConnectException("Unable to read binlog event spilled to " + segment.file, e);
+            }
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return events == 0;
+    }
+
+    /**
+     * @return the number of stored events
+     */
+    public synchronized int size() {
+        return events;
+    }
+
+    /**
+     * @return the total number of bytes occupied by the stored events
+     */
+    public synchronized long sizeInBytes() {
+        return bytes;
+    }
+
+    /**
+     * Discards all stored events, keeping the segment files for storing the events of subsequent transactions.
+     */
+    public synchronized void clear() {
+        for (Segment segment : segments) {
+            segment.reset();
+        }
+        currentSegment = -1;
+        bytes = 0;
+        events = 0;
+    }
+
+    /**
+     * Discards all stored events and deletes the segment files.
+     */
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            segment.buffer = null;
+            try {
+                Files.deleteIfExists(segment.file);
+            }
+            catch (IOException e) {
+                // the file may still be mapped on some platforms, in which case it can only be deleted once unmapped
+                LOGGER.debug("Unable to delete binlog spill file {}, deleting it on exit", segment.file, e);
+                segment.file.toFile().deleteOnExit();
+            }
+        }
+        segments.clear();
+        currentSegment = -1;
+        mappedBytes = 0;
+        bytes = 0;
+        events = 0;
+        out = null;
+    }
+
+    private static class Segment {
+        private final Path file;
+        private MappedByteBuffer buffer;
+        private int events;
+
+        private Segment(Path file) {
+            this.file = file;
+        }
+
+        private void reset() {
+            buffer.clear();
+            buffer.putShort(ObjectStreamConstants.STREAM_MAGIC);
+            buffer.putShort(ObjectStreamConstants.STREAM_VERSION);
+            events = 0;
+        }
+    }
+
+    /**
+     * Gives access to the serialized bytes without copying them.
+     */
+    private static class SerializationBuffer extends ByteArrayOutputStream {
+
+        private void writeTo(ByteBuffer target) {
+            target.put(buf, 0, count);
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
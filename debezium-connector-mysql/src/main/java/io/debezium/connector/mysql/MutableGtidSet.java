@@ -0,0 +1,296 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * A mutable set of MySQL GTIDs that is updated incrementally as GTID events are read from the binlog. The transaction
+ * numbers of each server are kept as sorted arrays of primitive interval bounds, so adding and looking up a single GTID
+ * takes logarithmic time and doesn't allocate unless a new interval has to be created.
+ * <p>
+ * The string representation is only built when {@link #toString() requested}, and only the part of the servers whose
+ * GTIDs have changed since the last request is formatted again. It uses the same format as
+ * {@link com.github.shyiko.mysql.binlog.GtidSet}, so it can be parsed by {@link GtidSet}.
+ */
+@NotThreadSafe
+public final class MutableGtidSet {
+
+    private final Map<String, Intervals> intervalsByServerId = new TreeMap<>(); // sorts on keys
+    private Intervals lastModified;
+    private String formatted;
+
+    public MutableGtidSet() {
+    }
+
+    /**
+     * @param gtids the string representation of the GTIDs; may be null or empty
+     */
+    public MutableGtidSet(String gtids) {
+        if (gtids == null) {
+            return;
+        }
+        for (String uuidSet : gtids.replaceAll("\n", "").replaceAll("\r", "").split(",")) {
+            final String[] parts = uuidSet.trim().split(":");
+            if (parts.length < 2) {
+                continue;
+            }
+            final Intervals intervals = intervalsFor(parts[0]);
+            for (int i = 1; i < parts.length; i++) {
+                final int separator = parts[i].indexOf('-');
+                final long start = Long.parseLong(separator < 0 ? parts[i] : parts[i].substring(0, separator));
+                final long end = separator < 0 ? start : Long.parseLong(parts[i].substring(separator + 1));
+                intervals.add(start, end);
+            }
+        }
+    }
+
+    /**
+     * Adds a single GTID.
+     *
+     * @param gtid the GTID in the form {@code <server UUID>:<transaction number>}; may not be null
+     * @return {@code true} if the GTID has been added, or {@code false} if it was already contained in this set
+     */
+    public boolean add(String gtid) {
+        final int separator = gtid.indexOf(':');
+        return add(gtid.substring(0, separator).trim(), Long.parseLong(gtid.substring(separator + 1).trim()));
+    }
+
+    /**
+     * Adds a single GTID.
+     *
+     * @param uuid the UUID of the server that generated the transaction; may not be null
+     * @param transactionNumber the number of the transaction
+     * @return {@code true} if the GTID has been added, or {@code false} if it was already contained in this set
+     */
+    public boolean add(String uuid, long transactionNumber) {
+        // consecutive GTIDs usually come from the same server
+        final Intervals intervals = lastModified != null && lastModified.uuid.equals(uuid) ? lastModified : intervalsFor(uuid);
+        if (!intervals.add(transactionNumber, transactionNumber)) {
+            return false;
+        }
+        lastModified = intervals;
+        formatted = null;
+        return true;
+    }
+
+    /**
+     * @param gtid the GTID in the form {@code <server UUID>:<transaction number>}; may not be null
+     * @return {@code true} if this set contains the GTID, or {@code false} otherwise
+     */
+    public boolean contains(String gtid) {
+        final int separator = gtid.indexOf(':');
+        return contains(gtid.substring(0, separator).trim(), Long.parseLong(gtid.substring(separator + 1).trim()));
+    }
+
+    /**
+     * @param uuid the UUID of the server that generated the transaction; may not be null
+     * @param transactionNumber the number of the transaction
+     * @return {@code true} if this set contains the GTID, or {@code false} otherwise
+     */
+    public boolean contains(String uuid, long transactionNumber) {
+        final Intervals intervals = intervalsByServerId.get(uuid);
+        return intervals != null && intervals.contains(transactionNumber);
+    }
+
+    public boolean isEmpty() {
+        return intervalsByServerId.isEmpty();
+    }
+
+    /**
+     * Obtain an immutable copy of this set.
+     *
+     * @return the immutable set; never null
+     */
+    public GtidSet toGtidSet() {
+        return new GtidSet(toString());
+    }
+
+    private Intervals intervalsFor(String uuid) {
+        return intervalsByServerId.computeIfAbsent(uuid, Intervals::new);
+    }
+
+    @Override
+    public String toString() {
+        if (formatted == null) {
+            formatted = format(null, 0);
+        }
+        return formatted;
+    }
+
+    /**
+     * Get the string representation of this set without the given GTID, e.g. the set of the GTIDs that have been completed
+     * while the transaction with the given GTID is still in progress.
+     *
+     * @param gtid the GTID to leave out; may not be null
+     * @return the string representation; never null
+     */
+    String toStringWithout(String gtid) {
+        final int separator = gtid.indexOf(':');
+        return format(gtid.substring(0, separator).trim(), Long.parseLong(gtid.substring(separator + 1).trim()));
+    }
+
+    private String format(String excludedUuid, long excludedTransactionNumber) {
+        final StringBuilder sb = new StringBuilder();
+        for (Intervals intervals : intervalsByServerId.values()) {
+            final String uuidSet = intervals.uuid.equals(excludedUuid)
+                    ? intervals.format(excludedTransactionNumber)
+                    : intervals.toString();
+            if (uuidSet == null) {
+                continue;
+            }
+            if (sb.length() != 0) {
+                sb.append(',');
+            }
+            sb.append(uuidSet);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return intervalsByServerId.keySet().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof MutableGtidSet) {
+            return toString().equals(obj.toString());
+        }
+        return false;
+    }
+
+    /**
+     * The sorted, non-adjacent intervals of transaction numbers of a single server.
+     */
+    private static final class Intervals {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private final String uuid;
+        private long[] starts = new long[INITIAL_CAPACITY];
+        private long[] ends = new long[INITIAL_CAPACITY];
+        private int size;
+        private String formatted;
+
+        private Intervals(String uuid) {
+            this.uuid = uuid;
+        }
+
+        /**
+         * @return the index of the last interval starting at or before the given transaction number, or -1 if there is none
+         */
+        private int floor(long transactionNumber) {
+            final int index = Arrays.binarySearch(starts, 0, size, transactionNumber);
+            return index >= 0 ? index : -index - 2;
+        }
+
+        private boolean contains(long transactionNumber) {
+            final int index = floor(transactionNumber);
+            return index >= 0 && transactionNumber <= ends[index];
+        }
+
+        /**
+         * Adds the given interval, merging it with all overlapping and adjacent intervals.
+         *
+         * @return {@code true} if this changed the intervals, or {@code false} if they already contained the interval
+         */
+        private boolean add(long start, long end) {
+            if (size > 0 && start == ends[size - 1] + 1) {
+                // the common case of the next transaction from this server
+                ends[size - 1] = end;
+                formatted = null;
+                return true;
+            }
+            int first = floor(start);
+            if (first >= 0 && end <= ends[first]) {
+                return false;
+            }
+            if (first < 0 || ends[first] + 1 < start) {
+                first++;
+            }
+            int last = first;
+            long mergedStart = start;
+            long mergedEnd = end;
+            while (last < size && starts[last] <= end + 1) {
+                mergedStart = Math.min(mergedStart, starts[last]);
+                mergedEnd = Math.max(mergedEnd, ends[last]);
+                last++;
+            }
+            if (last == first) {
+                insert(first, start, end);
+            }
+            else {
+                starts[first] = mergedStart;
+                ends[first] = mergedEnd;
+                remove(first + 1, last);
+            }
+            formatted = null;
+            return true;
+        }
+
+        private void insert(int index, long start, long end) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            System.arraycopy(starts, index, starts, index + 1, size - index);
+            System.arraycopy(ends, index, ends, index + 1, size - index);
+            starts[index] = start;
+            ends[index] = end;
+            size++;
+        }
+
+        private void remove(int from, int to) {
+            System.arraycopy(starts, to, starts, from, size - to);
+            System.arraycopy(ends, to, ends, from, size - to);
+            size -= to - from;
+        }
+
+        /**
+         * @return the string representation without the given transaction number, or null if no transaction remains
+         */
+        private String format(long excludedTransactionNumber) {
+            final StringBuilder sb = new StringBuilder(uuid);
+            boolean empty = true;
+            for (int i = 0; i < size; i++) {
+                if (excludedTransactionNumber < starts[i] || excludedTransactionNumber > ends[i]) {
+                    appendInterval(sb, starts[i], ends[i]);
+                    empty = false;
+                    continue;
+                }
+                if (excludedTransactionNumber > starts[i]) {
+                    appendInterval(sb, starts[i], excludedTransactionNumber - 1);
+                    empty = false;
+                }
+                if (excludedTransactionNumber < ends[i]) {
+                    appendInterval(sb, excludedTransactionNumber + 1, ends[i]);
+                    empty = false;
+                }
+            }
+            return empty ? null : sb.toString();
+        }
+
+        private static void appendInterval(StringBuilder sb, long start, long end) {
+            sb.append(':').append(start).append('-').append(end);
+        }
+
+        @Override
+        public String toString() {
+            if (formatted == null) {
+                formatted = format(-1);
+            }
+            return formatted;
+        }
+    }
+}
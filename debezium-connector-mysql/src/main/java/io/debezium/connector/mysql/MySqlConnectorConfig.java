@@ -14,6 +14,7 @@
 import org.apache.kafka.common.config.ConfigDef.Type;
 import org.apache.kafka.common.config.ConfigDef.Width;
 
+import io.debezium.antlr.AntlrDdlParser;
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
 import io.debezium.config.EnumeratedValue;
@@ -281,6 +282,14 @@ public static enum SnapshotLockingMode implements EnumeratedValue {
          */
         MINIMAL("minimal"),
 
+        /**
+         * Like {@link #MINIMAL}, but instead of the global read lock, the connector holds a backup lock while it reads the database
+         * schemas, i.e. {@code LOCK INSTANCE FOR BACKUP} on MySQL 8 or {@code LOCK TABLES FOR BACKUP} on Percona Server, which
+         * prevents schema changes but not writes. Writes are only blocked while the snapshot transaction is started and the binlog
+         * position is read. If the server supports neither of these locks, the connector behaves as with {@link #MINIMAL}.
+         */
+        MINIMAL_BACKUP("minimal_backup"),
+
         /**
          * This mode will avoid using ANY table locks during the snapshot process.  This mode can only be used with SnapShotMode
          * set to schema_only or schema_only_recovery.
@@ -525,6 +534,55 @@ public static EventProcessingFailureHandlingMode parse(String value) {
         }
     }
 
+    /**
+     * The set of predefined modes for accessing binlog files read from local disk.
+     */
+    public static enum BinlogFileAccessMode implements EnumeratedValue {
+
+        /**
+         * The files are read sequentially through a buffered stream.
+         */
+        STREAM("stream"),
+
+        /**
+         * The files are mapped into memory, which avoids copying their content from the file system cache.
+         */
+        MEMORY_MAPPED("memory_mapped");
+
+        private final String value;
+
+        private BinlogFileAccessMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static BinlogFileAccessMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+
+            value = value.trim();
+
+            for (BinlogFileAccessMode option : BinlogFileAccessMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+
+            return null;
+        }
+    }
+
     /**
      * {@link Integer#MIN_VALUE Minimum value} used for fetch size hint.
      * See <a href="https://issues.jboss.org/browse/DBZ-94">DBZ-94</a> for details.
@@ -545,6 +603,18 @@ public static EventProcessingFailureHandlingMode parse(String value) {
      */
     private static final int DEFAULT_BINLOG_BUFFER_SIZE = 0;
 
+    /**
+     * Default number of threads converting the rows of binlog events. A value of 0 disables the conversion pipeline,
+     * all rows will be converted by the thread reading the binlog.
+     */
+    private static final int DEFAULT_BINLOG_CONVERSION_THREADS = 0;
+
+    /**
+     * Default maximum number of binlog events that have been read but whose records haven't been emitted yet
+     * when converting rows using multiple threads.
+     */
+    private static final int DEFAULT_BINLOG_CONVERSION_QUEUE_SIZE = 1024;
+
     public static final Field HOSTNAME = Field.create("database.hostname")
             .withDisplayName("Hostname")
             .withType(Type.STRING)
@@ -840,6 +910,71 @@ public static EventProcessingFailureHandlingMode parse(String value) {
             .withDefault(DEFAULT_BINLOG_BUFFER_SIZE)
             .withValidation(Field::isNonNegativeInteger);
 
+    public static final Field BUFFER_SPILL_MAX_BYTES = Field.create("binlog.buffer.spill.max.bytes")
+            .withDisplayName("Binlog reader buffer spill size")
+            .withType(Type.LONG)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of bytes of binlog events of a single transaction that are written to local "
+                    + "disk once the look-ahead buffer is full, so that they can be replayed when the transaction commits. "
+                    + "If the events of a transaction exceed this limit, the remainder of the transaction is re-read from the binlog. "
+                    + "Use 0 to always re-read the part of a transaction not fitting into the look-ahead buffer from the binlog. "
+                    + "Defaults to 0 (i.e. spilling is disabled).")
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong);
+
+    public static final Field BUFFER_SPILL_DIRECTORY = Field.create("binlog.buffer.spill.directory")
+            .withDisplayName("Binlog reader buffer spill directory")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("The directory in which the binlog events of transactions not fitting into the look-ahead buffer "
+                    + "are stored. The files are reused by subsequent transactions and deleted when the connector stops. "
+                    + "Defaults to the temporary directory of the JVM.");
+
+    public static final Field BINLOG_FILES = Field.create("binlog.files")
+            .withDisplayName("Binlog files")
+            .withType(Type.LIST)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("A comma-separated list of paths of binlog files on local disk to be read instead of the binlog "
+                    + "of the MySQL server, e.g. to re-process archived binlog files. The files are read in the order of their names, "
+                    + "starting at the binlog file and position of the recorded offset if any, and the binlog reader completes once "
+                    + "the last file has been read. By default the binlog is read from the MySQL server.");
+
+    public static final Field BINLOG_FILES_ACCESS_MODE = Field.create("binlog.files.access.mode")
+            .withDisplayName("Binlog files access mode")
+            .withEnum(BinlogFileAccessMode.class, BinlogFileAccessMode.STREAM)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("How the binlog files configured by '" + BINLOG_FILES.name() + "' are read, including: "
+                    + "'stream' (the default) the files are read through a buffered stream; "
+                    + "'memory_mapped' the files are mapped into memory.");
+
+    public static final Field BINLOG_CONVERSION_THREADS = Field.create("binlog.conversion.threads")
+            .withDisplayName("Binlog row conversion threads")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of threads converting the rows of binlog events into change events. "
+                    + "When greater than 0, the binlog reader thread only reads the events, the rows are converted "
+                    + "concurrently and the change events are emitted in the original binlog order. "
+                    + "Use 0 to convert the rows on the binlog reader thread. "
+                    + "Defaults to " + DEFAULT_BINLOG_CONVERSION_THREADS + ".")
+            .withDefault(DEFAULT_BINLOG_CONVERSION_THREADS)
+            .withValidation(Field::isNonNegativeInteger);
+
+    public static final Field BINLOG_CONVERSION_QUEUE_SIZE = Field.create("binlog.conversion.queue.size")
+            .withDisplayName("Binlog row conversion queue size")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of binlog events that have been read but whose change events have not yet "
+                    + "been emitted when converting rows using multiple threads. The binlog reader blocks once this is reached. "
+                    + "Defaults to " + DEFAULT_BINLOG_CONVERSION_QUEUE_SIZE + ".")
+            .withDefault(DEFAULT_BINLOG_CONVERSION_QUEUE_SIZE)
+            .withValidation(Field::isPositiveInteger);
+
     /**
      * The database history class is hidden in the {@link #configDef()} since that is designed to work with a user interface,
      * and in these situations using Kafka is the only way to go.
@@ -900,9 +1035,12 @@ public static EventProcessingFailureHandlingMode parse(String value) {
                     + "while the database schemas and other metadata are being read. The remaining work in a snapshot involves selecting all rows from "
                     + "each table, and this can be done using the snapshot process' REPEATABLE READ transaction even when the lock is no longer held and "
                     + "other operations are updating the database. However, in some cases it may be desirable to block all writes for the entire duration "
-                    + "of the snapshot; in such cases set this property to 'extended'. Using a value of 'none' will prevent the connector from acquiring any "
-                    + "table locks during the snapshot process. This mode can only be used in combination with snapshot.mode values of 'schema_only' or "
-                    + "'schema_only_recovery' and is only safe to use if no schema changes are happening while the snapshot is taken.")
+                    + "of the snapshot; in such cases set this property to 'extended'. "
+                    + "Using a value of 'minimal_backup' holds a backup lock instead (LOCK INSTANCE FOR BACKUP on MySQL 8, LOCK TABLES FOR BACKUP on "
+                    + "Percona Server), which prevents schema changes but not writes while the schemas are being read, and blocks writes only while "
+                    + "the binlog position is read; it falls back to 'minimal' if the server supports neither of these locks. "
+                    + "Using a value of 'none' will prevent the connector from acquiring any table locks during the snapshot process. "
+                    + "This mode can only be used in combination with snapshot.mode values of 'schema_only' or 'schema_only_recovery' and is only safe to use if no schema changes are happening while the snapshot is taken.")
             .withValidation(MySqlConnectorConfig::validateSnapshotLockingMode);
 
     public static final Field SNAPSHOT_NEW_TABLES = Field.create("snapshot.new.tables")
@@ -1002,6 +1140,17 @@ public static final Field MASK_COLUMN(int length) {
                             "false - delegates the implicit conversion to the database" +
                             "true - (the default) Debezium makes the conversion");
 
+    public static final Field DDL_PARSER_MAX_DFA_STATES = Field.create("ddl.parser.max.dfa.states")
+            .withDisplayName("Maximum number of cached DDL parser states")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of states of the prediction DFA the DDL parser keeps cached. The cache is shared by all "
+                    + "MySQL connectors running in the same JVM, so the value configured for the connector started last applies to all of "
+                    + "them. Once the cache grows beyond this size, it is cleared. Defaults to " + AntlrDdlParser.DEFAULT_MAX_DFA_STATES + ".")
+            .withDefault(AntlrDdlParser.DEFAULT_MAX_DFA_STATES)
+            .withValidation(Field::isPositiveInteger);
+
     /**
      * The set of {@link Field}s defined as part of this configuration.
      */
@@ -1009,14 +1158,17 @@ public static final Field MASK_COLUMN(int length) {
             SERVER_NAME,
             CONNECTION_TIMEOUT_MS, KEEP_ALIVE, KEEP_ALIVE_INTERVAL_MS,
             CommonConnectorConfig.MAX_QUEUE_SIZE,
+            CommonConnectorConfig.QUEUE_IMPLEMENTATION,
             CommonConnectorConfig.MAX_BATCH_SIZE,
             CommonConnectorConfig.POLL_INTERVAL_MS,
-            BUFFER_SIZE_FOR_BINLOG_READER, Heartbeat.HEARTBEAT_INTERVAL,
+            BUFFER_SIZE_FOR_BINLOG_READER, BUFFER_SPILL_MAX_BYTES, BUFFER_SPILL_DIRECTORY, BINLOG_FILES, BINLOG_FILES_ACCESS_MODE,
+            BINLOG_CONVERSION_THREADS, BINLOG_CONVERSION_QUEUE_SIZE,
+            Heartbeat.HEARTBEAT_INTERVAL,
             Heartbeat.HEARTBEAT_TOPICS_PREFIX, DATABASE_HISTORY, INCLUDE_SCHEMA_CHANGES, INCLUDE_SQL_QUERY,
             TABLE_WHITELIST, TABLE_BLACKLIST, TABLES_IGNORE_BUILTIN,
             DATABASE_WHITELIST, DATABASE_BLACKLIST,
             COLUMN_BLACKLIST, MSG_KEY_COLUMNS,
-            SNAPSHOT_MODE, SNAPSHOT_NEW_TABLES, SNAPSHOT_LOCKING_MODE,
+            SNAPSHOT_MODE, SNAPSHOT_NEW_TABLES, SNAPSHOT_LOCKING_MODE, RelationalDatabaseConnectorConfig.SNAPSHOT_MAX_THREADS,
             RelationalDatabaseConnectorConfig.SNAPSHOT_SELECT_STATEMENT_OVERRIDES_BY_TABLE,
             GTID_SOURCE_INCLUDES, GTID_SOURCE_EXCLUDES,
             GTID_SOURCE_FILTER_DML_EVENTS,
@@ -1029,7 +1181,7 @@ public static final Field MASK_COLUMN(int length) {
             INCONSISTENT_SCHEMA_HANDLING_MODE,
             CommonConnectorConfig.SNAPSHOT_DELAY_MS,
             CommonConnectorConfig.SNAPSHOT_FETCH_SIZE,
-            CommonConnectorConfig.TOMBSTONES_ON_DELETE, ENABLE_TIME_ADJUSTER,
+            CommonConnectorConfig.TOMBSTONES_ON_DELETE, ENABLE_TIME_ADJUSTER, DDL_PARSER_MAX_DFA_STATES,
             CommonConnectorConfig.SOURCE_STRUCT_MAKER_VERSION);
 
     /**
@@ -1044,6 +1196,7 @@ public static final Field MASK_COLUMN(int length) {
             KafkaDatabaseHistory.RECOVERY_POLL_INTERVAL_MS,
             DatabaseHistory.SKIP_UNPARSEABLE_DDL_STATEMENTS,
             DatabaseHistory.STORE_ONLY_MONITORED_TABLES_DDL,
+            DatabaseHistory.CHECKPOINT_INTERVAL,
             DatabaseHistory.DDL_FILTER);
 
     private final SnapshotLockingMode snapshotLockingMode;
@@ -1092,17 +1245,20 @@ protected static ConfigDef configDef() {
                 KafkaDatabaseHistory.TOPIC, KafkaDatabaseHistory.RECOVERY_POLL_ATTEMPTS,
                 KafkaDatabaseHistory.RECOVERY_POLL_INTERVAL_MS, DATABASE_HISTORY,
                 DatabaseHistory.SKIP_UNPARSEABLE_DDL_STATEMENTS, DatabaseHistory.DDL_FILTER,
-                DatabaseHistory.STORE_ONLY_MONITORED_TABLES_DDL);
+                DatabaseHistory.STORE_ONLY_MONITORED_TABLES_DDL, DatabaseHistory.CHECKPOINT_INTERVAL);
         Field.group(config, "Events", INCLUDE_SCHEMA_CHANGES, INCLUDE_SQL_QUERY, TABLES_IGNORE_BUILTIN, DATABASE_WHITELIST, TABLE_WHITELIST,
                 COLUMN_BLACKLIST, TABLE_BLACKLIST, DATABASE_BLACKLIST, MSG_KEY_COLUMNS,
                 RelationalDatabaseConnectorConfig.SNAPSHOT_SELECT_STATEMENT_OVERRIDES_BY_TABLE,
                 GTID_SOURCE_INCLUDES, GTID_SOURCE_EXCLUDES, GTID_SOURCE_FILTER_DML_EVENTS, GTID_NEW_CHANNEL_POSITION, BUFFER_SIZE_FOR_BINLOG_READER,
+                BUFFER_SPILL_MAX_BYTES, BUFFER_SPILL_DIRECTORY, BINLOG_FILES, BINLOG_FILES_ACCESS_MODE,
                 Heartbeat.HEARTBEAT_INTERVAL, Heartbeat.HEARTBEAT_TOPICS_PREFIX, EVENT_DESERIALIZATION_FAILURE_HANDLING_MODE, INCONSISTENT_SCHEMA_HANDLING_MODE,
                 CommonConnectorConfig.TOMBSTONES_ON_DELETE, CommonConnectorConfig.SOURCE_STRUCT_MAKER_VERSION);
         Field.group(config, "Connector", CONNECTION_TIMEOUT_MS, KEEP_ALIVE, KEEP_ALIVE_INTERVAL_MS, CommonConnectorConfig.MAX_QUEUE_SIZE,
-                CommonConnectorConfig.MAX_BATCH_SIZE, CommonConnectorConfig.POLL_INTERVAL_MS,
+                CommonConnectorConfig.QUEUE_IMPLEMENTATION,
+                CommonConnectorConfig.MAX_BATCH_SIZE, CommonConnectorConfig.POLL_INTERVAL_MS, BINLOG_CONVERSION_THREADS, BINLOG_CONVERSION_QUEUE_SIZE,
                 SNAPSHOT_MODE, SNAPSHOT_LOCKING_MODE, SNAPSHOT_NEW_TABLES, TIME_PRECISION_MODE, DECIMAL_HANDLING_MODE,
-                BIGINT_UNSIGNED_HANDLING_MODE, SNAPSHOT_DELAY_MS, SNAPSHOT_FETCH_SIZE, ENABLE_TIME_ADJUSTER);
+                BIGINT_UNSIGNED_HANDLING_MODE, SNAPSHOT_DELAY_MS, SNAPSHOT_FETCH_SIZE, RelationalDatabaseConnectorConfig.SNAPSHOT_MAX_THREADS,
+                ENABLE_TIME_ADJUSTER, DDL_PARSER_MAX_DFA_STATES);
         return config;
     }
 
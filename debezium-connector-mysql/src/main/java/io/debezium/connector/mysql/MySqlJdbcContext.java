@@ -47,6 +47,8 @@ public class MySqlJdbcContext implements AutoCloseable {
     protected final Logger logger = LoggerFactory.getLogger(getClass());
     protected final Configuration config;
     protected final JdbcConnection jdbc;
+    private final Configuration jdbcConfig;
+    private final ConnectionFactory connectionFactory;
     private final Map<String, String> originalSystemProperties = new HashMap<>();
 
     public MySqlJdbcContext(MySqlConnectorConfig config) {
@@ -76,10 +78,10 @@ else if ("true".equals(legacyDateTime)) {
             logger.warn("'{}' is set to 'true'. This setting is not recommended and can result in timezone issues.", JDBC_PROPERTY_LEGACY_DATETIME);
         }
 
-        jdbcConfig = jdbcConfigBuilder.build();
-        String driverClassName = jdbcConfig.getString(MySqlConnectorConfig.JDBC_DRIVER);
-        this.jdbc = new JdbcConnection(jdbcConfig,
-                JdbcConnection.patternBasedFactory(MYSQL_CONNECTION_URL, driverClassName, getClass().getClassLoader()));
+        this.jdbcConfig = jdbcConfigBuilder.build();
+        String driverClassName = this.jdbcConfig.getString(MySqlConnectorConfig.JDBC_DRIVER);
+        this.connectionFactory = JdbcConnection.patternBasedFactory(MYSQL_CONNECTION_URL, driverClassName, getClass().getClassLoader());
+        this.jdbc = new JdbcConnection(this.jdbcConfig, connectionFactory);
     }
 
     public Configuration config() {
@@ -90,6 +92,16 @@ public JdbcConnection jdbc() {
         return jdbc;
     }
 
+    /**
+     * Create another connection to the server with the same configuration as {@link #jdbc()}, without actually connecting.
+     * The caller is responsible for closing it.
+     *
+     * @return the new connection; never null
+     */
+    public JdbcConnection newJdbcConnection() {
+        return new JdbcConnection(jdbcConfig, connectionFactory);
+    }
+
     public Logger logger() {
         return logger;
     }
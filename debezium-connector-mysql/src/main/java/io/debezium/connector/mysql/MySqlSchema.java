@@ -33,7 +33,6 @@
 import io.debezium.relational.Tables.TableFilter;
 import io.debezium.relational.ddl.DdlChanges;
 import io.debezium.relational.ddl.DdlChanges.DatabaseStatementStringConsumer;
-import io.debezium.relational.ddl.DdlParser;
 import io.debezium.relational.history.DatabaseHistory;
 import io.debezium.relational.history.DatabaseHistoryMetrics;
 import io.debezium.relational.history.HistoryRecordComparator;
@@ -67,7 +66,7 @@ public class MySqlSchema extends RelationalDatabaseSchema {
     private final static Logger logger = LoggerFactory.getLogger(MySqlSchema.class);
 
     private final Set<String> ignoredQueryStatements = Collect.unmodifiableSet("BEGIN", "END", "FLUSH PRIVILEGES");
-    private final DdlParser ddlParser;
+    private final MySqlAntlrDdlParser ddlParser;
     private final Filters filters;
     private final DatabaseHistory dbHistory;
     private final DdlChanges ddlChanges;
@@ -115,6 +114,7 @@ public MySqlSchema(MySqlConnectorConfig configuration,
         this.storeOnlyMonitoredTablesDdl = dbHistoryConfig.getBoolean(DatabaseHistory.STORE_ONLY_MONITORED_TABLES_DDL);
 
         this.ddlParser = new MySqlAntlrDdlParser(getValueConverters(configuration), getTableFilter());
+        MySqlAntlrDdlParser.setMaxDfaStates(config.getInteger(MySqlConnectorConfig.DDL_PARSER_MAX_DFA_STATES));
         this.ddlChanges = this.ddlParser.getDdlChanges();
 
         // Create and configure the database history ...
@@ -230,6 +230,27 @@ public SystemVariables systemVariables() {
         return ddlParser.systemVariables();
     }
 
+    /**
+     * Get the DDL statements that restore the state of the DDL parser beyond the table definitions, i.e. the default
+     * character sets of the server and of the databases, when recovering the schema from a checkpoint.
+     *
+     * @return the {@code ;}-separated DDL statements; null if there is no such state
+     */
+    private String parserStateStatements() {
+        final StringBuilder sb = new StringBuilder();
+        final String serverCharset = ddlParser.systemVariables().getVariable(MySqlSystemVariables.CHARSET_NAME_SERVER);
+        if (serverCharset != null) {
+            sb.append("SET ").append(MySqlSystemVariables.CHARSET_NAME_SERVER).append('=').append(serverCharset);
+        }
+        ddlParser.charsetNameForDatabase().forEach((databaseName, charsetName) -> {
+            if (sb.length() > 0) {
+                sb.append(";").append(System.lineSeparator());
+            }
+            sb.append("ALTER DATABASE `").append(databaseName.replace("`", "``")).append("` CHARACTER SET ").append(charsetName);
+        });
+        return sb.length() > 0 ? sb.toString() : null;
+    }
+
     protected void appendDropTableStatement(StringBuilder sb, TableId tableId) {
         sb.append("DROP TABLE ").append(tableId).append(" IF EXISTS;").append(System.lineSeparator());
     }
@@ -356,6 +377,7 @@ else if (filters.databaseFilter().test(databaseName) || databaseName == null ||
             // - or DDLs for monitored objects
             if (!storeOnlyMonitoredTablesDdl || isGlobalSetVariableStatement(ddlStatements, databaseName) || changes.stream().anyMatch(filters().tableFilter()::test)) {
                 dbHistory.record(source.partition(), source.offset(), databaseName, ddlStatements);
+                dbHistory.checkpoint(source.partition(), source.offset(), tables(), this::parserStateStatements);
             }
         }
         else {
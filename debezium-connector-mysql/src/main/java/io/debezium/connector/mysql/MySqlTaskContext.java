@@ -5,15 +5,21 @@
  */
 package io.debezium.connector.mysql;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.config.Configuration;
 import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.connector.mysql.MySqlConnectorConfig.BinlogFileAccessMode;
 import io.debezium.connector.mysql.MySqlConnectorConfig.GtidNewChannelPosition;
 import io.debezium.connector.mysql.MySqlConnectorConfig.SnapshotMode;
 import io.debezium.function.Predicates;
@@ -207,6 +213,44 @@ public int bufferSizeForBinlogReader() {
         return config.getInteger(MySqlConnectorConfig.BUFFER_SIZE_FOR_BINLOG_READER);
     }
 
+    public long bufferSpillMaxBytesForBinlogReader() {
+        return config.getLong(MySqlConnectorConfig.BUFFER_SPILL_MAX_BYTES);
+    }
+
+    public String bufferSpillDirectoryForBinlogReader() {
+        return config.getString(MySqlConnectorConfig.BUFFER_SPILL_DIRECTORY, System.getProperty("java.io.tmpdir"));
+    }
+
+    /**
+     * Get the binlog files on local disk to be read instead of the binlog of the MySQL server.
+     *
+     * @return the paths of the files in the order of their names; empty if the binlog is to be read from the server
+     */
+    public List<Path> binlogFiles() {
+        final List<String> files = config.getStrings(MySqlConnectorConfig.BINLOG_FILES, ",");
+        if (files == null) {
+            return Collections.emptyList();
+        }
+        return files.stream()
+                .map(String::trim)
+                .filter(file -> !file.isEmpty())
+                .map(Paths::get)
+                .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                .collect(Collectors.toList());
+    }
+
+    public BinlogFileAccessMode binlogFileAccessMode() {
+        return BinlogFileAccessMode.parse(config.getString(MySqlConnectorConfig.BINLOG_FILES_ACCESS_MODE));
+    }
+
+    public int binlogConversionThreads() {
+        return config.getInteger(MySqlConnectorConfig.BINLOG_CONVERSION_THREADS);
+    }
+
+    public int binlogConversionQueueSize() {
+        return config.getInteger(MySqlConnectorConfig.BINLOG_CONVERSION_QUEUE_SIZE);
+    }
+
     public boolean includeSchemaChangeRecords() {
         return config.getBoolean(MySqlConnectorConfig.INCLUDE_SCHEMA_CHANGES);
     }
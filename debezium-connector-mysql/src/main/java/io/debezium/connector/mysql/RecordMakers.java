@@ -220,125 +220,120 @@ public boolean assign(long tableNumber, TableId id) {
         Converter converter = new Converter() {
 
             @Override
-            public int read(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
-                            BlockingConsumer<SourceRecord> consumer)
-                    throws InterruptedException {
-                Object key = tableSchema.keyFromColumnData(row);
-                Struct value = tableSchema.valueFromColumnData(row);
-                if (value != null || key != null) {
-                    Schema keySchema = tableSchema.keySchema();
-                    Map<String, ?> partition = source.partition();
-                    Map<String, Object> offset = source.offsetForRow(rowNumber, numberOfRows);
-                    source.tableEvent(id);
-                    Struct origin = source.struct();
-                    SourceRecord record = new SourceRecord(partition, getSourceRecordOffset(offset), topicName, partitionNum,
-                            keySchema, key, envelope.schema(), envelope.read(value, origin, ts));
-                    consumer.accept(record);
-                    return 1;
-                }
-                return 0;
+            public RowConversion read(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts) {
+                final RowPosition position = positionOf(source, rowNumber, numberOfRows);
+                return consumer -> {
+                    Object key = tableSchema.keyFromColumnData(row);
+                    Struct value = tableSchema.valueFromColumnData(row);
+                    if (value != null || key != null) {
+                        Schema keySchema = tableSchema.keySchema();
+                        SourceRecord record = new SourceRecord(position.partition, position.offset, topicName, partitionNum,
+                                keySchema, key, envelope.schema(), envelope.read(value, position.origin, ts));
+                        consumer.accept(record);
+                        return 1;
+                    }
+                    return 0;
+                };
             }
 
             @Override
-            public int insert(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
-                              BlockingConsumer<SourceRecord> consumer)
-                    throws InterruptedException {
+            public RowConversion insert(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts) {
                 validateColumnCount(tableSchema, row);
-                Object key = tableSchema.keyFromColumnData(row);
-                Struct value = tableSchema.valueFromColumnData(row);
-                if (value != null || key != null) {
-                    Schema keySchema = tableSchema.keySchema();
-                    Map<String, ?> partition = source.partition();
-                    Map<String, Object> offset = source.offsetForRow(rowNumber, numberOfRows);
-                    source.tableEvent(id);
-                    Struct origin = source.struct();
-                    SourceRecord record = new SourceRecord(partition, getSourceRecordOffset(offset), topicName, partitionNum,
-                            keySchema, key, envelope.schema(), envelope.create(value, origin, ts));
-                    consumer.accept(record);
-                    return 1;
-                }
-                return 0;
+                final RowPosition position = positionOf(source, rowNumber, numberOfRows);
+                return consumer -> {
+                    Object key = tableSchema.keyFromColumnData(row);
+                    Struct value = tableSchema.valueFromColumnData(row);
+                    if (value != null || key != null) {
+                        Schema keySchema = tableSchema.keySchema();
+                        SourceRecord record = new SourceRecord(position.partition, position.offset, topicName, partitionNum,
+                                keySchema, key, envelope.schema(), envelope.create(value, position.origin, ts));
+                        consumer.accept(record);
+                        return 1;
+                    }
+                    return 0;
+                };
             }
 
             @Override
-            public int update(SourceInfo source, Object[] before, Object[] after, int rowNumber, int numberOfRows, BitSet includedColumns,
-                              Instant ts,
-                              BlockingConsumer<SourceRecord> consumer)
-                    throws InterruptedException {
-                int count = 0;
+            public RowConversion update(SourceInfo source, Object[] before, Object[] after, int rowNumber, int numberOfRows, BitSet includedColumns,
+                                        Instant ts) {
                 validateColumnCount(tableSchema, after);
-                Object key = tableSchema.keyFromColumnData(after);
-                Struct valueAfter = tableSchema.valueFromColumnData(after);
-                if (valueAfter != null || key != null) {
-                    Object oldKey = tableSchema.keyFromColumnData(before);
-                    Struct valueBefore = tableSchema.valueFromColumnData(before);
-                    Schema keySchema = tableSchema.keySchema();
-                    Map<String, ?> partition = source.partition();
-                    Map<String, Object> offset = source.offsetForRow(rowNumber, numberOfRows);
-                    source.tableEvent(id);
-                    Struct origin = source.struct();
-                    if (key != null && !Objects.equals(key, oldKey)) {
-                        // The key has changed, so we need to deal with both the new key and old key.
-                        // Consumers may push the events into a system that won't allow both records to exist at the same time,
-                        // so we first want to send the delete event for the old key...
-                        SourceRecord record = new SourceRecord(partition, getSourceRecordOffset(offset), topicName, partitionNum,
-                                keySchema, oldKey, envelope.schema(), envelope.delete(valueBefore, origin, ts));
-                        consumer.accept(record);
-                        ++count;
+                final RowPosition position = positionOf(source, rowNumber, numberOfRows);
+                return consumer -> {
+                    int count = 0;
+                    Object key = tableSchema.keyFromColumnData(after);
+                    Struct valueAfter = tableSchema.valueFromColumnData(after);
+                    if (valueAfter != null || key != null) {
+                        Object oldKey = tableSchema.keyFromColumnData(before);
+                        Struct valueBefore = tableSchema.valueFromColumnData(before);
+                        Schema keySchema = tableSchema.keySchema();
+                        if (key != null && !Objects.equals(key, oldKey)) {
+                            // The key has changed, so we need to deal with both the new key and old key.
+                            // Consumers may push the events into a system that won't allow both records to exist at the same time,
+                            // so we first want to send the delete event for the old key...
+                            SourceRecord record = new SourceRecord(position.partition, position.offset, topicName, partitionNum,
+                                    keySchema, oldKey, envelope.schema(), envelope.delete(valueBefore, position.origin, ts));
+                            consumer.accept(record);
+                            ++count;
 
-                        if (emitTombstoneOnDelete) {
-                            // Next send a tombstone event for the old key ...
-                            record = new SourceRecord(partition, getSourceRecordOffset(offset), topicName, partitionNum, keySchema, oldKey, null, null);
+                            if (emitTombstoneOnDelete) {
+                                // Next send a tombstone event for the old key ...
+                                record = new SourceRecord(position.partition, position.offset, topicName, partitionNum, keySchema, oldKey, null, null);
+                                consumer.accept(record);
+                                ++count;
+                            }
+
+                            // And finally send the create event ...
+                            record = new SourceRecord(position.partition, position.offset, topicName, partitionNum,
+                                    keySchema, key, envelope.schema(), envelope.create(valueAfter, position.origin, ts));
+                            consumer.accept(record);
+                            ++count;
+                        }
+                        else {
+                            // The key has not changed, so a simple update is fine ...
+                            SourceRecord record = new SourceRecord(position.partition, position.offset, topicName, partitionNum,
+                                    keySchema, key, envelope.schema(), envelope.update(valueBefore, valueAfter, position.origin, ts));
                             consumer.accept(record);
                             ++count;
                         }
-
-                        // And finally send the create event ...
-                        record = new SourceRecord(partition, getSourceRecordOffset(offset), topicName, partitionNum,
-                                keySchema, key, envelope.schema(), envelope.create(valueAfter, origin, ts));
-                        consumer.accept(record);
-                        ++count;
-                    }
-                    else {
-                        // The key has not changed, so a simple update is fine ...
-                        SourceRecord record = new SourceRecord(partition, getSourceRecordOffset(offset), topicName, partitionNum,
-                                keySchema, key, envelope.schema(), envelope.update(valueBefore, valueAfter, origin, ts));
-                        consumer.accept(record);
-                        ++count;
                     }
-                }
-                return count;
+                    return count;
+                };
             }
 
             @Override
-            public int delete(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
-                              BlockingConsumer<SourceRecord> consumer)
-                    throws InterruptedException {
-                int count = 0;
+            public RowConversion delete(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts) {
                 validateColumnCount(tableSchema, row);
-                Object key = tableSchema.keyFromColumnData(row);
-                Struct value = tableSchema.valueFromColumnData(row);
-                if (value != null || key != null) {
-                    Schema keySchema = tableSchema.keySchema();
-                    Map<String, ?> partition = source.partition();
-                    Map<String, Object> offset = source.offsetForRow(rowNumber, numberOfRows);
-                    source.tableEvent(id);
-                    Struct origin = source.struct();
-                    // Send a delete message ...
-                    SourceRecord record = new SourceRecord(partition, getSourceRecordOffset(offset), topicName, partitionNum,
-                            keySchema, key, envelope.schema(), envelope.delete(value, origin, ts));
-                    consumer.accept(record);
-                    ++count;
-
-                    // And send a tombstone ...
-                    if (emitTombstoneOnDelete) {
-                        record = new SourceRecord(partition, getSourceRecordOffset(offset), topicName, partitionNum,
-                                keySchema, key, null, null);
+                final RowPosition position = positionOf(source, rowNumber, numberOfRows);
+                return consumer -> {
+                    int count = 0;
+                    Object key = tableSchema.keyFromColumnData(row);
+                    Struct value = tableSchema.valueFromColumnData(row);
+                    if (value != null || key != null) {
+                        Schema keySchema = tableSchema.keySchema();
+                        // Send a delete message ...
+                        SourceRecord record = new SourceRecord(position.partition, position.offset, topicName, partitionNum,
+                                keySchema, key, envelope.schema(), envelope.delete(value, position.origin, ts));
                         consumer.accept(record);
                         ++count;
+
+                        // And send a tombstone ...
+                        if (emitTombstoneOnDelete) {
+                            record = new SourceRecord(position.partition, position.offset, topicName, partitionNum,
+                                    keySchema, key, null, null);
+                            consumer.accept(record);
+                            ++count;
+                        }
                     }
-                }
-                return count;
+                    return count;
+                };
+            }
+
+            private RowPosition positionOf(SourceInfo source, int rowNumber, int numberOfRows) {
+                Map<String, ?> partition = source.partition();
+                Map<String, Object> offset = source.offsetForRow(rowNumber, numberOfRows);
+                source.tableEvent(id);
+                return new RowPosition(partition, getSourceRecordOffset(offset), source.struct());
             }
 
             @Override
@@ -383,22 +378,46 @@ protected Struct schemaChangeRecordValue(String databaseName, Set<TableId> table
     }
 
     protected static interface Converter {
-        int read(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
-                 BlockingConsumer<SourceRecord> consumer)
-                throws InterruptedException;
+        RowConversion read(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts);
 
-        int insert(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
-                   BlockingConsumer<SourceRecord> consumer)
-                throws InterruptedException;
+        RowConversion insert(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts);
 
-        int update(SourceInfo source, Object[] before, Object[] after, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
-                   BlockingConsumer<SourceRecord> consumer)
-                throws InterruptedException;
+        RowConversion update(SourceInfo source, Object[] before, Object[] after, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts);
 
-        int delete(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts,
-                   BlockingConsumer<SourceRecord> consumer)
-                throws InterruptedException;
+        RowConversion delete(SourceInfo source, Object[] row, int rowNumber, int numberOfRows, BitSet includedColumns, Instant ts);
+    }
 
+    /**
+     * The conversion of a single row into {@link SourceRecord}s. The position of the row within the source has already been
+     * captured when the conversion was prepared, so the conversion doesn't access the {@link SourceInfo} and may run on a
+     * different thread than the one reading the source.
+     */
+    @FunctionalInterface
+    public static interface RowConversion {
+
+        /**
+         * Convert the row and send the resulting records to the given consumer.
+         *
+         * @param consumer the consumer for all produced records; may not be null
+         * @return the number of records produced; will be 0 or more
+         * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
+         */
+        int convert(BlockingConsumer<SourceRecord> consumer) throws InterruptedException;
+    }
+
+    /**
+     * The partition, offset and source struct of a row, captured from the {@link SourceInfo} at the time the row was read.
+     */
+    private static final class RowPosition {
+        private final Map<String, ?> partition;
+        private final Map<String, ?> offset;
+        private final Struct origin;
+
+        private RowPosition(Map<String, ?> partition, Map<String, ?> offset, Struct origin) {
+            this.partition = partition;
+            this.offset = offset;
+            this.origin = origin;
+        }
     }
 
     /**
@@ -440,7 +459,7 @@ public int read(Object[] row, Instant ts) throws InterruptedException {
          * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
          */
         public int read(Object[] row, Instant ts, int rowNumber, int numberOfRows) throws InterruptedException {
-            return converter.read(source, row, rowNumber, numberOfRows, includedColumns, ts, consumer);
+            return prepareRead(row, ts, rowNumber, numberOfRows).convert(consumer);
         }
 
         /**
@@ -468,7 +487,7 @@ public int create(Object[] row, Instant ts) throws InterruptedException {
          * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
          */
         public int create(Object[] row, Instant ts, int rowNumber, int numberOfRows) throws InterruptedException {
-            return converter.insert(source, row, rowNumber, numberOfRows, includedColumns, ts, consumer);
+            return prepareCreate(row, ts, rowNumber, numberOfRows).convert(consumer);
         }
 
         /**
@@ -500,7 +519,7 @@ public int update(Object[] before, Object[] after, Instant ts) throws Interrupte
          * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
          */
         public int update(Object[] before, Object[] after, Instant ts, int rowNumber, int numberOfRows) throws InterruptedException {
-            return converter.update(source, before, after, rowNumber, numberOfRows, includedColumns, ts, consumer);
+            return prepareUpdate(before, after, ts, rowNumber, numberOfRows).convert(consumer);
         }
 
         /**
@@ -528,7 +547,69 @@ public int delete(Object[] row, Instant ts) throws InterruptedException {
          * @throws InterruptedException if this thread is interrupted while waiting to give a source record to the consumer
          */
         public int delete(Object[] row, Instant ts, int rowNumber, int numberOfRows) throws InterruptedException {
-            return converter.delete(source, row, rowNumber, numberOfRows, includedColumns, ts, consumer);
+            return prepareDelete(row, ts, rowNumber, numberOfRows).convert(consumer);
+        }
+
+        /**
+         * Capture the position of the row for a {@link io.debezium.data.Envelope.Operation#READ read} record, deferring its
+         * conversion to the returned {@link RowConversion}.
+         *
+         * @param row the values of the row, in the same order as the columns in the {@link Table} definition in the
+         *            {@link MySqlSchema}.
+         * @param ts the timestamp for this row
+         * @param rowNumber the number of this row; must be 0 or more
+         * @param numberOfRows the total number of rows to be read; must be 1 or more
+         * @return the conversion of the row; never null
+         */
+        public RowConversion prepareRead(Object[] row, Instant ts, int rowNumber, int numberOfRows) {
+            return converter.read(source, row, rowNumber, numberOfRows, includedColumns, ts);
+        }
+
+        /**
+         * Capture the position of the row for a {@link io.debezium.data.Envelope.Operation#CREATE create} record, deferring
+         * its conversion to the returned {@link RowConversion}.
+         *
+         * @param row the values of the row, in the same order as the columns in the {@link Table} definition in the
+         *            {@link MySqlSchema}.
+         * @param ts the timestamp for this row
+         * @param rowNumber the number of this row; must be 0 or more
+         * @param numberOfRows the total number of rows to be read; must be 1 or more
+         * @return the conversion of the row; never null
+         */
+        public RowConversion prepareCreate(Object[] row, Instant ts, int rowNumber, int numberOfRows) {
+            return converter.insert(source, row, rowNumber, numberOfRows, includedColumns, ts);
+        }
+
+        /**
+         * Capture the position of the row for an {@link io.debezium.data.Envelope.Operation#UPDATE update} record, deferring
+         * its conversion to the returned {@link RowConversion}.
+         *
+         * @param before the values of the row <i>before</i> the update, in the same order as the columns in the {@link Table}
+         *            definition in the {@link MySqlSchema}
+         * @param after the values of the row <i>after</i> the update, in the same order as the columns in the {@link Table}
+         *            definition in the {@link MySqlSchema}
+         * @param ts the timestamp for this row
+         * @param rowNumber the number of this row; must be 0 or more
+         * @param numberOfRows the total number of rows to be read; must be 1 or more
+         * @return the conversion of the row; never null
+         */
+        public RowConversion prepareUpdate(Object[] before, Object[] after, Instant ts, int rowNumber, int numberOfRows) {
+            return converter.update(source, before, after, rowNumber, numberOfRows, includedColumns, ts);
+        }
+
+        /**
+         * Capture the position of the row for a {@link io.debezium.data.Envelope.Operation#DELETE delete} record, deferring
+         * its conversion to the returned {@link RowConversion}.
+         *
+         * @param row the values of the row, in the same order as the columns in the {@link Table} definition in the
+         *            {@link MySqlSchema}.
+         * @param ts the timestamp for this row
+         * @param rowNumber the number of this row; must be 0 or more
+         * @param numberOfRows the total number of rows to be read; must be 1 or more
+         * @return the conversion of the row; never null
+         */
+        public RowConversion prepareDelete(Object[] row, Instant ts, int rowNumber, int numberOfRows) {
+            return converter.delete(source, row, rowNumber, numberOfRows, includedColumns, ts);
         }
     }
 
@@ -0,0 +1,296 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.mysql.RecordMakers.RowConversion;
+import io.debezium.function.BlockingConsumer;
+import io.debezium.util.Threads;
+
+/**
+ * Converts the rows of binlog events into {@link SourceRecord}s on a pool of worker threads, while the binlog client thread
+ * only reads and dispatches the events. The position of each row is captured by the binlog client thread when the row's
+ * {@link RowConversion conversion} is prepared, so that the workers don't have to access the mutable {@link SourceInfo}.
+ * <p>
+ * The pipeline consists of three stages:
+ * <ol>
+ * <li>the binlog client thread {@link #submit(List) submits} the conversions of the rows of each event, or
+ * {@link #emit(SourceRecord) passes} records it has created itself, e.g. schema change or heartbeat records;</li>
+ * <li>the worker threads convert the rows of the submitted events concurrently;</li>
+ * <li>a single emitter thread passes the converted records to the consumer in the order in which the events have been
+ * submitted, i.e. in the original binlog order, waiting for the conversion of the oldest event to complete if needed.</li>
+ * </ol>
+ * The number of events submitted but not yet emitted is bounded by the capacity of the pipeline; the binlog client thread
+ * blocks once that is reached.
+ */
+@ThreadSafe
+class RowConversionPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RowConversionPipeline.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final long AWAIT_INTERVAL_MS = 10;
+
+    private final String logicalName;
+    private final int threads;
+    private final int capacity;
+    private final BlockingConsumer<SourceRecord> consumer;
+    private final Consumer<Throwable> failureHandler;
+    private final BlockingQueue<Future<List<SourceRecord>>> pending;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong emitted = new AtomicLong();
+
+    private final LongAdder numberOfConvertedEvents = new LongAdder();
+    private final LongAdder nanosConverting = new LongAdder();
+    private final LongAdder nanosReaderWaiting = new LongAdder();
+    private final LongAdder nanosEmitterWaiting = new LongAdder();
+
+    private volatile boolean running;
+    private ExecutorService workers;
+    private ExecutorService emitter;
+
+    /**
+     * @param logicalName the logical name of the connector, used for naming the threads; may not be null
+     * @param threads the number of threads converting rows; must be positive
+     * @param capacity the maximum number of events submitted but not yet emitted; must be positive
+     * @param consumer the consumer of the converted records, invoked in binlog order on the emitter thread; may not be null
+     * @param failureHandler invoked on the emitter thread if the conversion of an event or the consumer fails; may not be null
+     */
+    RowConversionPipeline(String logicalName, int threads, int capacity, BlockingConsumer<SourceRecord> consumer,
+                          Consumer<Throwable> failureHandler) {
+        this.logicalName = logicalName;
+        this.threads = threads;
+        this.capacity = capacity;
+        this.consumer = consumer;
+        this.failureHandler = failureHandler;
+        this.pending = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        LOGGER.info("Converting binlog rows using {} thread(s) with a capacity of {} event(s)", threads, capacity);
+        failure.set(null);
+        pending.clear();
+        enqueued.set(0);
+        emitted.set(0);
+        workers = Threads.newFixedThreadPool(MySqlConnector.class, logicalName, "binlog-converter", threads);
+        emitter = Threads.newSingleThreadExecutor(MySqlConnector.class, logicalName, "binlog-emitter");
+        running = true;
+        emitter.submit(this::emitInOrder);
+    }
+
+    /**
+     * Stops the pipeline, discarding all events that have been submitted but not yet emitted.
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        emitter.shutdownNow();
+        workers.shutdownNow();
+        final List<Future<List<SourceRecord>>> unsent = new ArrayList<>();
+        pending.drainTo(unsent);
+        unsent.forEach(future -> future.cancel(true));
+        try {
+            if (!emitter.awaitTermination(POLL_INTERVAL_MS * 10, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Binlog record emitter didn't stop in time");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.info("Discarding {} unconverted binlog event(s) due to the connector shutting down", unsent.size());
+    }
+
+    /**
+     * Submits the conversions of the rows of a single binlog event; the records produced by them will be emitted after all
+     * previously submitted records. Blocks while the pipeline is at capacity.
+     *
+     * @param conversions the conversions of the rows of the event, in the order of the rows; may not be null
+     * @throws InterruptedException if the calling thread is interrupted while waiting for room in the pipeline
+     * @throws ConnectException if a previously submitted conversion has failed
+     */
+    public void submit(List<RowConversion> conversions) throws InterruptedException {
+        if (conversions.isEmpty()) {
+            return;
+        }
+        enqueue(CompletableFuture.supplyAsync(() -> convert(conversions), workers));
+    }
+
+    /**
+     * Passes a record that doesn't need to be converted; it will be emitted after all previously submitted records.
+     * Blocks while the pipeline is at capacity.
+     *
+     * @param record the record; may not be null
+     * @throws InterruptedException if the calling thread is interrupted while waiting for room in the pipeline
+     * @throws ConnectException if a previously submitted conversion has failed
+     */
+    public void emit(SourceRecord record) throws InterruptedException {
+        enqueue(CompletableFuture.completedFuture(Collections.singletonList(record)));
+    }
+
+    private void enqueue(Future<List<SourceRecord>> future) throws InterruptedException {
+        final long start = System.nanoTime();
+        try {
+            while (!pending.offer(future, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                checkNotFailed();
+                if (!running) {
+                    future.cancel(true);
+                    return;
+                }
+            }
+            enqueued.incrementAndGet();
+            checkNotFailed();
+        }
+        finally {
+            nanosReaderWaiting.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Blocks until all records submitted so far have been passed to the consumer, or the pipeline has been stopped.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     * @throws ConnectException if a submitted conversion has failed
+     */
+    public void awaitEmitted() throws InterruptedException {
+        final long target = enqueued.get();
+        while (running && emitted.get() < target) {
+            checkNotFailed();
+            Thread.sleep(AWAIT_INTERVAL_MS);
+        }
+        checkNotFailed();
+    }
+
+    private void checkNotFailed() {
+        final Throwable error = failure.get();
+        if (error != null) {
+            throw new ConnectException("The conversion of a previous binlog event failed", error);
+        }
+    }
+
+    private List<SourceRecord> convert(List<RowConversion> conversions) {
+        final long start = System.nanoTime();
+        final List<SourceRecord> records = new ArrayList<>(conversions.size());
+        try {
+            for (RowConversion conversion : conversions) {
+                conversion.convert(records::add);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while converting binlog event", e);
+        }
+        nanosConverting.add(System.nanoTime() - start);
+        numberOfConvertedEvents.increment();
+        return records;
+    }
+
+    private void emitInOrder() {
+        try {
+            while (running) {
+                final Future<List<SourceRecord>> next = pending.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (next == null) {
+                    continue;
+                }
+                final long start = System.nanoTime();
+                final List<SourceRecord> records = next.get();
+                nanosEmitterWaiting.add(System.nanoTime() - start);
+                for (SourceRecord record : records) {
+                    consumer.accept(record);
+                }
+                emitted.incrementAndGet();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException e) {
+            fail(e.getCause());
+        }
+        catch (RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    private void fail(Throwable error) {
+        if (running) {
+            failure.set(error);
+            failureHandler.accept(error);
+        }
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of events that have been submitted but not yet emitted
+     */
+    public int getSize() {
+        return pending.size();
+    }
+
+    public long getNumberOfConvertedEvents() {
+        return numberOfConvertedEvents.sum();
+    }
+
+    /**
+     * @return the total time the worker threads have spent converting rows
+     */
+    public long getMilliSecondsConverting() {
+        return TimeUnit.NANOSECONDS.toMillis(nanosConverting.sum());
+    }
+
+    /**
+     * @return the total time the binlog client thread has been blocked because the pipeline was at capacity
+     */
+    public long getMilliSecondsReaderWaiting() {
+        return TimeUnit.NANOSECONDS.toMillis(nanosReaderWaiting.sum());
+    }
+
+    /**
+     * @return the total time the emitter thread has waited for the conversion of the oldest event to complete
+     */
+    public long getMilliSecondsEmitterWaiting() {
+        return TimeUnit.NANOSECONDS.toMillis(nanosEmitterWaiting.sum());
+    }
+
+    public void reset() {
+        numberOfConvertedEvents.reset();
+        nanosConverting.reset();
+        nanosReaderWaiting.reset();
+        nanosEmitterWaiting.reset();
+    }
+}
@@ -16,16 +16,26 @@
 import java.time.Year;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
+import com.github.shyiko.mysql.binlog.event.DeleteRowsEventData;
 import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
 import com.github.shyiko.mysql.binlog.event.deserialization.AbstractRowsEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.DeleteRowsEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.UpdateRowsEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.WriteRowsEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
 
+import io.debezium.relational.TableId;
+
 /**
  * Custom deserializers for the MySQL Binlog Client library.
  * <p>
@@ -42,6 +52,10 @@
  * methods on all 3 classes. It's ugly, but it works.
  * <p>
  * See the <a href="https://dev.mysql.com/doc/refman/5.0/en/datetime.html">MySQL Date Time</a> documentation.
+ * <p>
+ * The deserializers also skip the rows of events for tables that are excluded by the table filter of the connector; such
+ * events are produced with the table number and the included columns, but without any rows. The remaining bytes of
+ * the event are skipped by the {@link com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer}.
  *
  * @author Randall Hauch
  */
@@ -54,8 +68,43 @@ class RowDeserializers {
      */
     public static class DeleteRowsDeserializer extends DeleteRowsEventDataDeserializer {
 
+        private final Map<Long, TableMapEventData> tableMapEventByTableId;
+        private final Predicate<TableId> tableFilter;
+        private boolean mayContainExtraInformation;
+
         public DeleteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId) {
+            this(tableMapEventByTableId, tableId -> true);
+        }
+
+        public DeleteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId, Predicate<TableId> tableFilter) {
             super(tableMapEventByTableId);
+            this.tableMapEventByTableId = tableMapEventByTableId;
+            this.tableFilter = tableFilter;
+        }
+
+        @Override
+        public DeleteRowsDeserializer setMayContainExtraInformation(boolean mayContainExtraInformation) {
+            super.setMayContainExtraInformation(mayContainExtraInformation);
+            this.mayContainExtraInformation = mayContainExtraInformation;
+            return this;
+        }
+
+        @Override
+        public DeleteRowsEventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+            DeleteRowsEventData eventData = new DeleteRowsEventData();
+            eventData.setTableId(readTableNumber(inputStream, mayContainExtraInformation));
+            eventData.setIncludedColumns(inputStream.readBitSet(inputStream.readPackedInteger(), true));
+            if (isIncluded(tableMapEventByTableId, tableFilter, eventData.getTableId())) {
+                List<Serializable[]> rows = new ArrayList<>();
+                while (inputStream.available() > 0) {
+                    rows.add(deserializeRow(eventData.getTableId(), eventData.getIncludedColumns(), inputStream));
+                }
+                eventData.setRows(rows);
+            }
+            else {
+                eventData.setRows(Collections.emptyList());
+            }
+            return eventData;
         }
 
         @Override
@@ -116,8 +165,47 @@ protected Serializable deserializeYear(ByteArrayInputStream inputStream) throws
      */
     public static class UpdateRowsDeserializer extends UpdateRowsEventDataDeserializer {
 
+        private final Map<Long, TableMapEventData> tableMapEventByTableId;
+        private final Predicate<TableId> tableFilter;
+        private boolean mayContainExtraInformation;
+
         public UpdateRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId) {
+            this(tableMapEventByTableId, tableId -> true);
+        }
+
+        public UpdateRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId, Predicate<TableId> tableFilter) {
             super(tableMapEventByTableId);
+            this.tableMapEventByTableId = tableMapEventByTableId;
+            this.tableFilter = tableFilter;
+        }
+
+        @Override
+        public UpdateRowsDeserializer setMayContainExtraInformation(boolean mayContainExtraInformation) {
+            super.setMayContainExtraInformation(mayContainExtraInformation);
+            this.mayContainExtraInformation = mayContainExtraInformation;
+            return this;
+        }
+
+        @Override
+        public UpdateRowsEventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+            UpdateRowsEventData eventData = new UpdateRowsEventData();
+            eventData.setTableId(readTableNumber(inputStream, mayContainExtraInformation));
+            int numberOfColumns = inputStream.readPackedInteger();
+            eventData.setIncludedColumnsBeforeUpdate(inputStream.readBitSet(numberOfColumns, true));
+            eventData.setIncludedColumns(inputStream.readBitSet(numberOfColumns, true));
+            if (isIncluded(tableMapEventByTableId, tableFilter, eventData.getTableId())) {
+                List<Map.Entry<Serializable[], Serializable[]>> rows = new ArrayList<>();
+                while (inputStream.available() > 0) {
+                    rows.add(new AbstractMap.SimpleEntry<>(
+                            deserializeRow(eventData.getTableId(), eventData.getIncludedColumnsBeforeUpdate(), inputStream),
+                            deserializeRow(eventData.getTableId(), eventData.getIncludedColumns(), inputStream)));
+                }
+                eventData.setRows(rows);
+            }
+            else {
+                eventData.setRows(Collections.emptyList());
+            }
+            return eventData;
         }
 
         @Override
@@ -178,8 +266,43 @@ protected Serializable deserializeYear(ByteArrayInputStream inputStream) throws
      */
     public static class WriteRowsDeserializer extends WriteRowsEventDataDeserializer {
 
+        private final Map<Long, TableMapEventData> tableMapEventByTableId;
+        private final Predicate<TableId> tableFilter;
+        private boolean mayContainExtraInformation;
+
         public WriteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId) {
+            this(tableMapEventByTableId, tableId -> true);
+        }
+
+        public WriteRowsDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId, Predicate<TableId> tableFilter) {
             super(tableMapEventByTableId);
+            this.tableMapEventByTableId = tableMapEventByTableId;
+            this.tableFilter = tableFilter;
+        }
+
+        @Override
+        public WriteRowsDeserializer setMayContainExtraInformation(boolean mayContainExtraInformation) {
+            super.setMayContainExtraInformation(mayContainExtraInformation);
+            this.mayContainExtraInformation = mayContainExtraInformation;
+            return this;
+        }
+
+        @Override
+        public WriteRowsEventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+            WriteRowsEventData eventData = new WriteRowsEventData();
+            eventData.setTableId(readTableNumber(inputStream, mayContainExtraInformation));
+            eventData.setIncludedColumns(inputStream.readBitSet(inputStream.readPackedInteger(), true));
+            if (isIncluded(tableMapEventByTableId, tableFilter, eventData.getTableId())) {
+                List<Serializable[]> rows = new ArrayList<>();
+                while (inputStream.available() > 0) {
+                    rows.add(deserializeRow(eventData.getTableId(), eventData.getIncludedColumns(), inputStream));
+                }
+                eventData.setRows(rows);
+            }
+            else {
+                eventData.setRows(Collections.emptyList());
+            }
+            return eventData;
         }
 
         @Override
@@ -236,6 +359,39 @@ protected Serializable deserializeYear(ByteArrayInputStream inputStream) throws
     private static final int MASK_10_BITS = (1 << 10) - 1;
     private static final int MASK_6_BITS = (1 << 6) - 1;
 
+    /**
+     * Reads the header of a rows event up to the number of columns, i.e. the table number, the flags and any extra
+     * information.
+     *
+     * @param inputStream the binary stream containing the raw binlog event data
+     * @param mayContainExtraInformation whether the event is a version 2 rows event that may contain extra information
+     * @return the table number of the event
+     * @throws IOException if there is an error reading from the binlog event data
+     */
+    private static long readTableNumber(ByteArrayInputStream inputStream, boolean mayContainExtraInformation) throws IOException {
+        long tableNumber = inputStream.readLong(6);
+        inputStream.skip(2); // flags
+        if (mayContainExtraInformation) {
+            int extraInfoLength = inputStream.readInteger(2);
+            inputStream.skip(extraInfoLength - 2);
+        }
+        return tableNumber;
+    }
+
+    /**
+     * Determines whether the rows of a rows event are to be deserialized. Events for tables without a preceding table map
+     * event are always deserialized, so that they are handled as before.
+     *
+     * @param tableMapEventByTableId the most recent table map events by table number; may not be null
+     * @param tableFilter the filter of the tables whose rows are captured; may not be null
+     * @param tableNumber the table number of the event
+     * @return {@code true} if the rows of the event are to be deserialized, {@code false} if they are to be skipped
+     */
+    private static boolean isIncluded(Map<Long, TableMapEventData> tableMapEventByTableId, Predicate<TableId> tableFilter, long tableNumber) {
+        TableMapEventData tableMap = tableMapEventByTableId.get(tableNumber);
+        return tableMap == null || tableFilter.test(new TableId(tableMap.getDatabase(), null, tableMap.getTable()));
+    }
+
     /**
      * Converts a MySQL string to a {@code byte[]}.
      *
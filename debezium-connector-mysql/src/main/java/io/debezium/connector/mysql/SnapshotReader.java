@@ -19,12 +19,17 @@
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
@@ -37,6 +42,7 @@
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.connector.mysql.RecordMakers.RecordsForTable;
 import io.debezium.data.Envelope;
+import io.debezium.function.BlockingConsumer;
 import io.debezium.function.BufferedBlockingConsumer;
 import io.debezium.function.Predicates;
 import io.debezium.heartbeat.Heartbeat;
@@ -245,6 +251,8 @@ protected void execute() {
         boolean tableLocks = false;
         final List<TableId> tablesToSnapshotSchemaAfterUnlock = new ArrayList<>();
         Set<TableId> lockedTables = Collections.emptySet();
+        List<JdbcConnection> parallelConnections = Collections.emptyList();
+        BackupLock backupLock = null;
 
         try {
             metrics.snapshotStarted();
@@ -300,9 +308,20 @@ protected void execute() {
                     return;
                 }
                 if (!snapshotLockingMode.equals(MySqlConnectorConfig.SnapshotLockingMode.NONE) && useGlobalLock) {
+                    if (snapshotLockingMode.equals(MySqlConnectorConfig.SnapshotLockingMode.MINIMAL_BACKUP)) {
+                        backupLock = acquireBackupLock(mysql, sql);
+                    }
                     try {
-                        logger.info("Step 1: flush and obtain global read lock to prevent writes to database");
-                        sql.set("FLUSH TABLES WITH READ LOCK");
+                        if (backupLock != null) {
+                            // The backup lock prevents schema changes, so writes only need to be prevented while the transaction
+                            // is started and the binlog position is read, which only requires that nothing is committed
+                            logger.info("Step 1: obtain lock to prevent commits to database");
+                            sql.set(backupLock.commitLockStatement);
+                        }
+                        else {
+                            logger.info("Step 1: flush and obtain global read lock to prevent writes to database");
+                            sql.set("FLUSH TABLES WITH READ LOCK");
+                        }
                         mysql.executeWithoutCommitting(sql.get());
                         lockAcquired = clock.currentTimeInMillis();
                         metrics.globalLockAcquired();
@@ -312,6 +331,10 @@ protected void execute() {
                         logger.info("Step 1: unable to flush and acquire global read lock, will use table read locks after reading table names");
                         // Continue anyway, since RDS (among others) don't allow setting a global lock
                         assert !isLocked;
+                        if (backupLock != null) {
+                            releaseBackupLock(backupLock, mysql, sql);
+                            backupLock = null;
+                        }
                     }
                     // FLUSH TABLES resets TX and isolation level
                     sql.set("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ");
@@ -339,9 +362,23 @@ protected void execute() {
                 }
                 step = 3;
                 if (isLocked) {
+                    parallelConnections = openParallelConnections(isLocked);
                     // Obtain the binlog position and update the SourceInfo in the context. This means that all source records
                     // generated as part of the snapshot will contain the binlog position of the snapshot.
                     readBinlogPosition(step++, source, mysql, sql);
+
+                    if (backupLock != null) {
+                        // The transactions have been started and the binlog position has been read, so commits can resume
+                        // while the backup lock keeps preventing schema changes until the schemas have been read ...
+                        logger.info("Step {}: releasing lock on commits to enable MySQL writes", step);
+                        sql.set(backupLock.commitUnlockStatement);
+                        mysql.executeWithoutCommitting(sql.get());
+                        isLocked = false;
+                        long lockReleased = clock.currentTimeInMillis();
+                        metrics.globalLockReleased();
+                        logger.info("Step {}: blocked writes to MySQL for a total of {}", step++,
+                                Strings.duration(lockReleased - lockAcquired));
+                    }
                 }
 
                 // -------------------
@@ -463,6 +500,7 @@ protected void execute() {
                     }
 
                     // Our tables are locked, so read the binlog position ...
+                    parallelConnections = openParallelConnections(isLocked);
                     readBinlogPosition(step++, source, mysql, sql);
                 }
 
@@ -531,8 +569,16 @@ protected void execute() {
                 // ------
                 // STEP 7
                 // ------
-                if (snapshotLockingMode.equals(MySqlConnectorConfig.SnapshotLockingMode.MINIMAL) && isLocked) {
-                    if (tableLocks) {
+                if (backupLock != null) {
+                    // The schemas have been read, so they can be changed again; releasing a backup lock doesn't commit the
+                    // transaction, as long as no other table locks are held
+                    logger.info("Step {}: releasing backup lock to enable schema changes", step++);
+                    releaseBackupLock(backupLock, mysql, sql);
+                    backupLock = null;
+                }
+                if ((snapshotLockingMode.equals(MySqlConnectorConfig.SnapshotLockingMode.MINIMAL)
+                        || snapshotLockingMode.equals(MySqlConnectorConfig.SnapshotLockingMode.MINIMAL_BACKUP)) && isLocked) {
+                    if (tableLocks && parallelConnections.isEmpty()) {
                         // We could not acquire a global read lock and instead had to obtain individual table-level read locks
                         // using 'FLUSH TABLE <tableName> WITH READ LOCK'. However, if we were to do this, the 'UNLOCK TABLES'
                         // would implicitly commit our active transaction, and this would break our consistent snapshot logic.
@@ -546,7 +592,9 @@ protected void execute() {
                         // All subsequent SELECT should still use the MVCC snapshot obtained when we started our transaction
                         // (since we started it "...with consistent snapshot"). So, since we're only doing very simple SELECT
                         // without WHERE predicates, we can release the lock now ...
-                        logger.info("Step {}: releasing global read lock to enable MySQL writes", step);
+                        // When the tables are scanned in parallel, they are only read within the transactions of the parallel
+                        // connections, so even table read locks can be released, as committing our own transaction doesn't matter.
+                        logger.info("Step {}: releasing {} to enable MySQL writes", step, tableLocks ? "table read locks" : "global read lock");
                         sql.set("UNLOCK TABLES");
                         mysql.executeWithoutCommitting(sql.get());
                         isLocked = false;
@@ -554,6 +602,16 @@ protected void execute() {
                         metrics.globalLockReleased();
                         logger.info("Step {}: blocked writes to MySQL for a total of {}", step++,
                                 Strings.duration(lockReleased - lockAcquired));
+                        if (!tablesToSnapshotSchemaAfterUnlock.isEmpty()) {
+                            logger.info("Step {}: reading table schema for non-whitelisted tables", step++);
+                            for (TableId tableId : tablesToSnapshotSchemaAfterUnlock) {
+                                if (!isRunning()) {
+                                    break;
+                                }
+                                readTableSchema(sql, mysql, schema, source, tableId.catalog(), tableId);
+                            }
+                            tablesToSnapshotSchemaAfterUnlock.clear();
+                        }
                     }
                 }
 
@@ -573,117 +631,12 @@ protected void execute() {
                     metrics.monitoredTablesDetermined(capturedTableIds);
 
                     long startScan = clock.currentTimeInMillis();
-                    AtomicLong totalRowCount = new AtomicLong();
-                    int counter = 0;
-                    int completedCounter = 0;
-                    long largeTableCount = context.rowCountForLargeTable();
-                    Iterator<TableId> tableIdIter = capturedTableIds.iterator();
-                    while (tableIdIter.hasNext()) {
-                        TableId tableId = tableIdIter.next();
-                        AtomicLong rowNum = new AtomicLong();
-                        if (!isRunning()) {
-                            break;
-                        }
-
-                        // Obtain a record maker for this table, which knows about the schema ...
-                        RecordsForTable recordMaker = context.makeRecord().forTable(tableId, null, bufferedRecordQueue);
-                        if (recordMaker != null) {
-
-                            // Switch to the table's database ...
-                            sql.set("USE " + quote(tableId.catalog()) + ";");
-                            mysql.executeWithoutCommitting(sql.get());
-
-                            AtomicLong numRows = new AtomicLong(-1);
-                            AtomicReference<String> rowCountStr = new AtomicReference<>("<unknown>");
-                            StatementFactory statementFactory = this::createStatementWithLargeResultSet;
-                            if (largeTableCount > 0) {
-                                try {
-                                    // Choose how we create statements based on the # of rows.
-                                    // This is approximate and less accurate then COUNT(*),
-                                    // but far more efficient for large InnoDB tables.
-                                    sql.set("SHOW TABLE STATUS LIKE '" + tableId.table() + "';");
-                                    mysql.query(sql.get(), rs -> {
-                                        if (rs.next()) {
-                                            numRows.set(rs.getLong(5));
-                                        }
-                                    });
-                                    if (numRows.get() <= largeTableCount) {
-                                        statementFactory = this::createStatement;
-                                    }
-                                    rowCountStr.set(numRows.toString());
-                                }
-                                catch (SQLException e) {
-                                    // Log it, but otherwise just use large result set by default ...
-                                    logger.debug("Error while getting number of rows in table {}: {}", tableId, e.getMessage(), e);
-                                }
-                            }
-
-                            // Scan the rows in the table ...
-                            long start = clock.currentTimeInMillis();
-                            logger.info("Step {}: - scanning table '{}' ({} of {} tables)", step, tableId, ++counter, capturedTableIds.size());
-
-                            Map<TableId, String> selectOverrides = context.getConnectorConfig().getSnapshotSelectOverridesByTable();
-
-                            String selectStatement = selectOverrides.getOrDefault(tableId, "SELECT * FROM " + quote(tableId));
-                            logger.info("For table '{}' using select statement: '{}'", tableId, selectStatement);
-                            sql.set(selectStatement);
-
-                            try {
-                                int stepNum = step;
-                                mysql.query(sql.get(), statementFactory, rs -> {
-                                    try {
-                                        // The table is included in the connector's filters, so process all of the table records
-                                        // ...
-                                        final Table table = schema.tableFor(tableId);
-                                        final int numColumns = table.columns().size();
-                                        final Object[] row = new Object[numColumns];
-                                        while (rs.next()) {
-                                            for (int i = 0, j = 1; i != numColumns; ++i, ++j) {
-                                                Column actualColumn = table.columns().get(i);
-                                                row[i] = readField(rs, j, actualColumn, table);
-                                            }
-                                            recorder.recordRow(recordMaker, row, clock.currentTimeAsInstant()); // has no row number!
-                                            rowNum.incrementAndGet();
-                                            if (rowNum.get() % 100 == 0 && !isRunning()) {
-                                                // We've stopped running ...
-                                                break;
-                                            }
-                                            if (rowNum.get() % 10_000 == 0) {
-                                                if (logger.isInfoEnabled()) {
-                                                    long stop = clock.currentTimeInMillis();
-                                                    logger.info("Step {}: - {} of {} rows scanned from table '{}' after {}",
-                                                            stepNum, rowNum, rowCountStr, tableId, Strings.duration(stop - start));
-                                                }
-                                                metrics.rowsScanned(tableId, rowNum.get());
-                                            }
-                                        }
-
-                                        totalRowCount.addAndGet(rowNum.get());
-                                        if (isRunning()) {
-                                            if (logger.isInfoEnabled()) {
-                                                long stop = clock.currentTimeInMillis();
-                                                logger.info("Step {}: - Completed scanning a total of {} rows from table '{}' after {}",
-                                                        stepNum, rowNum, tableId, Strings.duration(stop - start));
-                                            }
-                                            metrics.rowsScanned(tableId, rowNum.get());
-                                        }
-                                    }
-                                    catch (InterruptedException e) {
-                                        Thread.currentThread().interrupt();
-                                        // We were not able to finish all rows in all tables ...
-                                        logger.info("Step {}: Stopping the snapshot due to thread interruption", stepNum);
-                                        interrupted.set(true);
-                                    }
-                                });
-                            }
-                            finally {
-                                metrics.tableSnapshotCompleted(tableId, rowNum.get());
-                                if (interrupted.get()) {
-                                    break;
-                                }
-                            }
-                        }
-                        ++completedCounter;
+                    TableScanner scanner = new TableScanner(step, capturedTableIds, bufferedRecordQueue, interrupted);
+                    if (parallelConnections.isEmpty()) {
+                        scanner.scan(mysql, sql);
+                    }
+                    else {
+                        scanInParallel(scanner, parallelConnections);
                     }
 
                     // See if we've been stopped or interrupted ...
@@ -700,7 +653,7 @@ protected void execute() {
                         bufferedRecordQueue.close(this::replaceOffsetAndSource);
                         if (logger.isInfoEnabled()) {
                             logger.info("Step {}: scanned {} rows in {} tables in {}",
-                                    step, totalRowCount, capturedTableIds.size(), Strings.duration(stop - startScan));
+                                    step, scanner.totalRowCount, capturedTableIds.size(), Strings.duration(stop - startScan));
                         }
                     }
                     catch (InterruptedException e) {
@@ -708,7 +661,8 @@ protected void execute() {
                         // We were not able to finish all rows in all tables ...
                         if (logger.isInfoEnabled()) {
                             logger.info("Step {}: aborting the snapshot after {} rows in {} of {} tables {}",
-                                    step, totalRowCount, completedCounter, capturedTableIds.size(), Strings.duration(stop - startScan));
+                                    step, scanner.totalRowCount, scanner.completedTables, capturedTableIds.size(),
+                                    Strings.duration(stop - startScan));
                         }
                         interrupted.set(true);
                     }
@@ -829,6 +783,15 @@ protected void execute() {
                 catch (Exception eUnlock) {
                     logger.error("Removing of table locks not completed successfully", eUnlock);
                 }
+                if (backupLock != null) {
+                    try {
+                        sql.set(backupLock.commitUnlockStatement);
+                        mysql.executeWithoutCommitting(sql.get());
+                    }
+                    catch (Exception eUnlock) {
+                        logger.error("Removing of lock on commits not completed successfully", eUnlock);
+                    }
+                }
                 try {
                     mysql.connection().rollback();
                 }
@@ -836,6 +799,14 @@ protected void execute() {
                     logger.error("Execption while rollback is executed", eRollback);
                 }
             }
+            if (backupLock != null) {
+                try {
+                    releaseBackupLock(backupLock, mysql, new AtomicReference<>());
+                }
+                catch (Exception eUnlock) {
+                    logger.error("Removing of backup lock not completed successfully", eUnlock);
+                }
+            }
             failed(e, "Aborting snapshot due to error when last running '" + sql.get() + "': " + e.getMessage());
         }
         finally {
@@ -845,6 +816,301 @@ protected void execute() {
             catch (SQLException e) {
                 logger.warn("Failed to close the connection properly", e);
             }
+            closeParallelConnections(parallelConnections);
+        }
+    }
+
+    /**
+     * Obtain the first backup lock that is supported by the server.
+     *
+     * @return the backup lock; null if the server supports none of them or the user lacks the privileges
+     */
+    private BackupLock acquireBackupLock(JdbcConnection mysql, AtomicReference<String> sql) {
+        for (BackupLock lock : BackupLock.values()) {
+            try {
+                sql.set(lock.lockStatement);
+                mysql.executeWithoutCommitting(sql.get());
+                logger.info("Step 1: obtained backup lock using '{}' to prevent schema changes", lock.lockStatement);
+                return lock;
+            }
+            catch (SQLException e) {
+                logger.debug("Unable to obtain backup lock using '{}': {}", lock.lockStatement, e.getMessage());
+            }
+        }
+        logger.warn("Step 1: unable to obtain a backup lock, either the server doesn't support backup locks or the user lacks the "
+                + "privileges; continuing as with snapshot locking mode '{}'", MySqlConnectorConfig.SnapshotLockingMode.MINIMAL.getValue());
+        return null;
+    }
+
+    private void releaseBackupLock(BackupLock backupLock, JdbcConnection mysql, AtomicReference<String> sql) throws SQLException {
+        sql.set(backupLock.unlockStatement);
+        mysql.executeWithoutCommitting(sql.get());
+    }
+
+    /**
+     * Open the connections for scanning the tables in parallel, if more than one {@link MySqlConnectorConfig#SNAPSHOT_MAX_THREADS
+     * snapshot thread} is configured. Each of them starts a transaction with a consistent snapshot while the read lock is
+     * still held, so that all of them see the state of the database at the binlog position that is read next.
+     *
+     * @param isLocked whether the global read lock or the table read locks are held
+     * @return the connections; empty if the tables are to be scanned by the snapshot connection itself
+     * @throws SQLException if a connection could not be opened or its transaction could not be started
+     */
+    private List<JdbcConnection> openParallelConnections(boolean isLocked) throws SQLException {
+        final int threads = context.getConnectorConfig().getSnapshotMaxThreads();
+        if (threads <= 1 || !includeData) {
+            return Collections.emptyList();
+        }
+        if (!isLocked) {
+            logger.warn("Scanning the tables by a single thread, as {} threads would only see a consistent state of the database "
+                    + "while writes are prevented, which they aren't with snapshot locking mode '{}'", threads, snapshotLockingMode.getValue());
+            return Collections.emptyList();
+        }
+        logger.info("\t starting transactions with consistent snapshot on {} connections for scanning tables in parallel", threads);
+        final List<JdbcConnection> connections = new ArrayList<>(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                final JdbcConnection connection = connectionContext.newJdbcConnection();
+                connections.add(connection);
+                connection.setAutoCommit(false);
+                connection.executeWithoutCommitting("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ",
+                        "START TRANSACTION WITH CONSISTENT SNAPSHOT");
+            }
+        }
+        catch (SQLException e) {
+            closeParallelConnections(connections);
+            throw e;
+        }
+        return connections;
+    }
+
+    private void closeParallelConnections(List<JdbcConnection> connections) {
+        for (JdbcConnection connection : connections) {
+            try {
+                // the transactions only read, so there is nothing to commit
+                connection.connection().rollback();
+            }
+            catch (SQLException e) {
+                logger.warn("Failed to roll back the transaction of a parallel snapshot connection", e);
+            }
+            finally {
+                try {
+                    connection.close();
+                }
+                catch (SQLException e) {
+                    logger.warn("Failed to close a parallel snapshot connection", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Scan the tables with one thread per connection, each of them taking the next table that hasn't been scanned yet.
+     */
+    private void scanInParallel(TableScanner scanner, List<JdbcConnection> connections) throws Exception {
+        logger.info("Scanning tables using {} threads", connections.size());
+        final ExecutorService executor = Threads.newFixedThreadPool(MySqlConnector.class, context.getConnectorConfig().getLogicalName(),
+                "snapshot-worker", connections.size());
+        final CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+        try {
+            for (JdbcConnection connection : connections) {
+                completionService.submit(() -> {
+                    context.configureLoggingContext("snapshot");
+                    scanner.scan(connection, new AtomicReference<>());
+                    return null;
+                });
+            }
+            for (int i = 0; i < connections.size(); i++) {
+                try {
+                    completionService.take().get();
+                }
+                catch (ExecutionException e) {
+                    // stop the other threads after the table they are currently scanning
+                    scanner.interrupted.set(true);
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof Exception) {
+                        throw (Exception) cause;
+                    }
+                    throw new ConnectException(cause);
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("Stopping the snapshot due to thread interruption");
+            scanner.interrupted.set(true);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The locks used by {@link MySqlConnectorConfig.SnapshotLockingMode#MINIMAL_BACKUP}, in the order in which they are tried.
+     * A backup lock prevents schema changes but not writes, so it is combined with a lock that briefly prevents commits.
+     */
+    private static enum BackupLock {
+
+        /**
+         * MySQL 8 and Percona Server 8; {@code UNLOCK TABLES} releases the global read lock without committing the transaction.
+         */
+        INSTANCE("LOCK INSTANCE FOR BACKUP", "UNLOCK INSTANCE", "FLUSH TABLES WITH READ LOCK", "UNLOCK TABLES"),
+
+        /**
+         * Percona Server 5.6 and 5.7; {@code UNLOCK TABLES} only commits the transaction if tables were locked by
+         * {@code LOCK TABLES}, so releasing the backup lock alone keeps the transaction open.
+         */
+        TABLES("LOCK TABLES FOR BACKUP", "UNLOCK TABLES", "LOCK BINLOG FOR BACKUP", "UNLOCK BINLOG");
+
+        private final String lockStatement;
+        private final String unlockStatement;
+        private final String commitLockStatement;
+        private final String commitUnlockStatement;
+
+        private BackupLock(String lockStatement, String unlockStatement, String commitLockStatement, String commitUnlockStatement) {
+            this.lockStatement = lockStatement;
+            this.unlockStatement = unlockStatement;
+            this.commitLockStatement = commitLockStatement;
+            this.commitUnlockStatement = commitUnlockStatement;
+        }
+    }
+
+    /**
+     * Scans the captured tables one after another and records their rows. The tables are taken from a queue, so that the
+     * same scanner can be used by several threads with a connection each, and the recording of the rows is synchronized,
+     * as the record queue and the source info are shared by all of them.
+     */
+    private final class TableScanner {
+
+        private final int step;
+        private final Queue<TableId> tableIds;
+        private final int tableCount;
+        private final BlockingConsumer<SourceRecord> recordQueue;
+        private final AtomicBoolean interrupted;
+        private final long largeTableCount = context.rowCountForLargeTable();
+        private final AtomicLong totalRowCount = new AtomicLong();
+        private final AtomicInteger startedTables = new AtomicInteger();
+        private final AtomicInteger completedTables = new AtomicInteger();
+
+        private TableScanner(int step, List<TableId> tableIds, BlockingConsumer<SourceRecord> recordQueue, AtomicBoolean interrupted) {
+            this.step = step;
+            this.tableIds = new ConcurrentLinkedQueue<>(tableIds);
+            this.tableCount = tableIds.size();
+            this.recordQueue = recordQueue;
+            this.interrupted = interrupted;
+        }
+
+        private void scan(JdbcConnection mysql, AtomicReference<String> sql) throws SQLException {
+            final MySqlSchema schema = context.dbSchema();
+            final Clock clock = context.getClock();
+            TableId tableId;
+            while (isRunning() && !interrupted.get() && (tableId = tableIds.poll()) != null) {
+                final TableId id = tableId;
+                AtomicLong rowNum = new AtomicLong();
+
+                // Obtain a record maker for this table, which knows about the schema ...
+                RecordsForTable recordMaker = context.makeRecord().forTable(id, null, recordQueue);
+                if (recordMaker != null) {
+
+                    // Switch to the table's database ...
+                    sql.set("USE " + quote(id.catalog()) + ";");
+                    mysql.executeWithoutCommitting(sql.get());
+
+                    AtomicLong numRows = new AtomicLong(-1);
+                    AtomicReference<String> rowCountStr = new AtomicReference<>("<unknown>");
+                    StatementFactory statementFactory = SnapshotReader.this::createStatementWithLargeResultSet;
+                    if (largeTableCount > 0) {
+                        try {
+                            // Choose how we create statements based on the # of rows.
+                            // This is approximate and less accurate then COUNT(*),
+                            // but far more efficient for large InnoDB tables.
+                            sql.set("SHOW TABLE STATUS LIKE '" + id.table() + "';");
+                            mysql.query(sql.get(), rs -> {
+                                if (rs.next()) {
+                                    numRows.set(rs.getLong(5));
+                                }
+                            });
+                            if (numRows.get() <= largeTableCount) {
+                                statementFactory = SnapshotReader.this::createStatement;
+                            }
+                            rowCountStr.set(numRows.toString());
+                        }
+                        catch (SQLException e) {
+                            // Log it, but otherwise just use large result set by default ...
+                            logger.debug("Error while getting number of rows in table {}: {}", id, e.getMessage(), e);
+                        }
+                    }
+
+                    // Scan the rows in the table ...
+                    long start = clock.currentTimeInMillis();
+                    logger.info("Step {}: - scanning table '{}' ({} of {} tables)", step, id, startedTables.incrementAndGet(), tableCount);
+
+                    Map<TableId, String> selectOverrides = context.getConnectorConfig().getSnapshotSelectOverridesByTable();
+
+                    String selectStatement = selectOverrides.getOrDefault(id, "SELECT * FROM " + quote(id));
+                    logger.info("For table '{}' using select statement: '{}'", id, selectStatement);
+                    sql.set(selectStatement);
+
+                    try {
+                        mysql.query(sql.get(), statementFactory, rs -> {
+                            try {
+                                // The table is included in the connector's filters, so process all of the table records
+                                // ...
+                                final Table table = schema.tableFor(id);
+                                final int numColumns = table.columns().size();
+                                final Object[] row = new Object[numColumns];
+                                while (rs.next()) {
+                                    for (int i = 0, j = 1; i != numColumns; ++i, ++j) {
+                                        Column actualColumn = table.columns().get(i);
+                                        row[i] = readField(rs, j, actualColumn, table);
+                                    }
+                                    // the buffered consumer and the reader's queue, e.g. a ring buffer, only support
+                                    // one producer at a time, so the scanning threads record their rows one by one
+                                    synchronized (recordQueue) {
+                                        recorder.recordRow(recordMaker, row, clock.currentTimeAsInstant()); // has no row number!
+                                    }
+                                    rowNum.incrementAndGet();
+                                    if (rowNum.get() % 100 == 0 && (!isRunning() || interrupted.get())) {
+                                        // We've stopped running ...
+                                        break;
+                                    }
+                                    if (rowNum.get() % 10_000 == 0) {
+                                        if (logger.isInfoEnabled()) {
+                                            long stop = clock.currentTimeInMillis();
+                                            logger.info("Step {}: - {} of {} rows scanned from table '{}' after {}",
+                                                    step, rowNum, rowCountStr, id, Strings.duration(stop - start));
+                                        }
+                                        metrics.rowsScanned(id, rowNum.get());
+                                    }
+                                }
+
+                                totalRowCount.addAndGet(rowNum.get());
+                                if (isRunning()) {
+                                    if (logger.isInfoEnabled()) {
+                                        long stop = clock.currentTimeInMillis();
+                                        logger.info("Step {}: - Completed scanning a total of {} rows from table '{}' after {}",
+                                                step, rowNum, id, Strings.duration(stop - start));
+                                    }
+                                    metrics.rowsScanned(id, rowNum.get());
+                                }
+                            }
+                            catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                // We were not able to finish all rows in all tables ...
+                                logger.info("Step {}: Stopping the snapshot due to thread interruption", step);
+                                interrupted.set(true);
+                            }
+                        });
+                    }
+                    finally {
+                        metrics.tableSnapshotCompleted(id, rowNum.get());
+                    }
+                    if (interrupted.get()) {
+                        break;
+                    }
+                }
+                completedTables.incrementAndGet();
+            }
         }
     }
 
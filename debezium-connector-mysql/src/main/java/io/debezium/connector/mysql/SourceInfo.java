@@ -124,6 +124,16 @@ final class SourceInfo extends AbstractSourceInfo {
     private int currentRowNumber = 0;
     private long currentEventLengthInBytes = 0;
     private String restartGtidSet;
+    /**
+     * The GTIDs seen in the binlog since the last {@link #setCompletedGtidSet(String) reset}, from which
+     * {@link #currentGtidSet} and {@link #restartGtidSet} are formatted lazily; null if no GTID has been started since.
+     */
+    private MutableGtidSet gtids;
+    /**
+     * The GTID of the transaction in progress that has been newly added to {@link #gtids} and hence is not part of
+     * the restart GTID set yet; null if there is none.
+     */
+    private String uncommittedGtid;
     private String restartBinlogFilename;
     private long restartBinlogPosition = 0L;
     private long restartEventsToSkip = 0;
@@ -256,6 +266,7 @@ private Map<String, Object> offsetUsingPosition(long rowsToSkip) {
         if (serverId != 0) {
             map.put(SERVER_ID_KEY, serverId);
         }
+        final String restartGtidSet = restartGtidSet();
         if (restartGtidSet != null) {
             // Put the previously-completed GTID set in the offset along with the event number ...
             map.put(GTID_SET_KEY, restartGtidSet);
@@ -332,7 +343,13 @@ public long eventsToSkipUponRestart() {
     }
 
     public void commitTransaction() {
-        this.restartGtidSet = this.currentGtidSet;
+        if (this.gtids != null) {
+            this.uncommittedGtid = null;
+            this.restartGtidSet = null;
+        }
+        else {
+            this.restartGtidSet = this.currentGtidSet;
+        }
         this.restartBinlogFilename = this.currentBinlogFilename;
         this.restartBinlogPosition = this.currentBinlogPosition + this.currentEventLengthInBytes;
         this.restartRowsToSkip = 0;
@@ -344,19 +361,22 @@ public void commitTransaction() {
     /**
      * Record that a new GTID transaction has been started and has been included in the set of GTIDs known to the MySQL server.
      *
+     * The GTID set is updated incrementally, and its string representations are only built once an offset or the
+     * {@link #gtidSet() GTID set} is requested.
+     *
      * @param gtid the string representation of a specific GTID that has been begun; may not be null
-     * @param gtidSet the string representation of GTID set that includes the newly begun GTID; may not be null
      */
-    public void startGtid(String gtid, String gtidSet) {
+    public void startGtid(String gtid) {
         this.currentGtid = gtid;
-        if (gtidSet != null && !gtidSet.trim().isEmpty()) {
-            // Remove all the newline chars that exist in the GTID set string ...
-            String trimmedGtidSet = gtidSet.replaceAll("\n", "").replaceAll("\r", "");
-            // Set the GTID set that we'll use if restarting BEFORE successful completion of the events in this GTID ...
-            this.restartGtidSet = this.currentGtidSet != null ? this.currentGtidSet : trimmedGtidSet;
-            // Record the GTID set that includes the current transaction ...
-            this.currentGtidSet = trimmedGtidSet;
+        if (this.gtids == null) {
+            this.gtids = new MutableGtidSet(this.currentGtidSet);
         }
+        final boolean hadGtids = !this.gtids.isEmpty();
+        // The GTID set that we'll use if restarting BEFORE successful completion of the events in this GTID
+        // excludes this GTID, unless it is the very first one ...
+        this.uncommittedGtid = this.gtids.add(gtid) && hadGtids ? gtid : null;
+        this.currentGtidSet = null;
+        this.restartGtidSet = null;
     }
 
     /**
@@ -371,7 +391,23 @@ public void setCompletedGtidSet(String gtidSet) {
             String trimmedGtidSet = gtidSet.replaceAll("\n", "").replaceAll("\r", "");
             this.currentGtidSet = trimmedGtidSet;
             this.restartGtidSet = trimmedGtidSet;
+            this.gtids = null;
+            this.uncommittedGtid = null;
+        }
+    }
+
+    private String currentGtidSet() {
+        if (currentGtidSet == null && gtids != null) {
+            currentGtidSet = gtids.toString();
+        }
+        return currentGtidSet;
+    }
+
+    private String restartGtidSet() {
+        if (restartGtidSet == null && gtids != null) {
+            restartGtidSet = uncommittedGtid != null ? gtids.toStringWithout(uncommittedGtid) : currentGtidSet();
         }
+        return restartGtidSet;
     }
 
     /**
@@ -549,7 +585,7 @@ private boolean booleanOffsetValue(Map<String, ?> values, String key) {
      * @return the string representation of the binlog GTID ranges; may be null
      */
     public String gtidSet() {
-        return this.currentGtidSet != null ? this.currentGtidSet : null;
+        return currentGtidSet();
     }
 
     /**
@@ -637,9 +673,9 @@ int getCurrentRowNumber() {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        if (currentGtidSet != null) {
+        if (currentGtidSet() != null) {
             sb.append("GTIDs ");
-            sb.append(currentGtidSet);
+            sb.append(currentGtidSet());
             sb.append(" and binlog file '").append(restartBinlogFilename).append("'");
             sb.append(", pos=").append(restartBinlogPosition);
             sb.append(", skipping ").append(restartEventsToSkip);
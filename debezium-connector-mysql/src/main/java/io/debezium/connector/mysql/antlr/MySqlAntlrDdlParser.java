@@ -63,6 +63,16 @@ protected MySqlAntlrDdlParser(boolean throwErrorsFromTreeWalk, boolean includeVi
         this.tableFilter = tableFilter;
     }
 
+    /**
+     * Sets the maximum number of DFA states cached for the MySQL grammar. The cache is shared by all parsers in the JVM, so
+     * this applies to all of them.
+     *
+     * @param maxStates the maximum number of DFA states; must be positive
+     */
+    public static void setMaxDfaStates(int maxStates) {
+        dfaCache(MySqlParser._ATN).setMaxStates(maxStates);
+    }
+
     @Override
     protected ParseTree parseTree(MySqlParser parser) {
         return parser.root();
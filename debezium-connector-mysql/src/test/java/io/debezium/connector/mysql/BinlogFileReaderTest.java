@@ -0,0 +1,207 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient.EventListener;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.QueryEventData;
+import com.github.shyiko.mysql.binlog.event.RotateEventData;
+
+import io.debezium.connector.mysql.BinlogReader.BinlogPosition;
+import io.debezium.connector.mysql.MySqlConnectorConfig.BinlogFileAccessMode;
+import io.debezium.util.Testing;
+
+public class BinlogFileReaderTest {
+
+    private static final String FILE1 = "mysql-bin.000001";
+    private static final String FILE2 = "mysql-bin.000002";
+
+    private File directory;
+    private List<Path> files;
+    private final List<String> received = new ArrayList<>();
+
+    @Before
+    public void beforeEach() throws IOException {
+        directory = Testing.Files.createTestingDirectory("binlog-files");
+        Testing.Files.delete(directory);
+        directory.mkdirs();
+
+        files = Arrays.asList(
+                new BinlogWriter().query("BEGIN").query("INSERT 1").xid().rotate(FILE2).writeTo(directory.toPath().resolve(FILE1)),
+                new BinlogWriter().query("BEGIN").query("INSERT 2").xid().writeTo(directory.toPath().resolve(FILE2)));
+    }
+
+    @After
+    public void afterEach() {
+        Testing.Files.delete(directory);
+    }
+
+    @Test
+    public void shouldReadAllFilesInOrder() throws IOException {
+        for (BinlogFileAccessMode accessMode : BinlogFileAccessMode.values()) {
+            received.clear();
+            final BinlogFileReader reader = reader(accessMode, this::record);
+            assertThat(reader.read(null, 0)).isEqualTo(7);
+            assertThat(received).containsExactly(
+                    "ROTATE " + FILE1 + "/4", "BEGIN@4", "INSERT 1@44", "XID@87", "ROTATE " + FILE2 + "/4",
+                    "BEGIN@4", "INSERT 2@44", "XID@87");
+            assertThat(reader.getBinlogFilename()).isEqualTo(FILE2);
+            assertThat(reader.getBinlogPosition()).isEqualTo(114);
+        }
+    }
+
+    @Test
+    public void shouldStartAtPosition() throws IOException {
+        final BinlogFileReader reader = reader(BinlogFileAccessMode.MEMORY_MAPPED, this::record);
+        assertThat(reader.read(FILE1, 87)).isEqualTo(7);
+        assertThat(received).containsExactly(
+                "ROTATE " + FILE1 + "/87", "XID@87", "ROTATE " + FILE2 + "/4", "BEGIN@4", "INSERT 2@44", "XID@87");
+
+        received.clear();
+        assertThat(reader(BinlogFileAccessMode.STREAM, this::record).read(FILE2, 4)).isEqualTo(3);
+        assertThat(received).containsExactly("ROTATE " + FILE2 + "/4", "BEGIN@4", "INSERT 2@44", "XID@87");
+    }
+
+    @Test
+    public void shouldRewindToPosition() throws IOException {
+        final List<BinlogFileReader> self = new ArrayList<>();
+        final BinlogFileReader reader = reader(BinlogFileAccessMode.STREAM, event -> {
+            record(event);
+            if (event.getHeader().getEventType() == EventType.XID && received.size() < 10) {
+                self.get(0).rewind(new BinlogPosition(FILE1, 44));
+            }
+        });
+        self.add(reader);
+        reader.read(null, 0);
+        assertThat(received).containsExactly(
+                "ROTATE " + FILE1 + "/4", "BEGIN@4", "INSERT 1@44", "XID@87",
+                "ROTATE " + FILE1 + "/44", "INSERT 1@44", "XID@87",
+                "ROTATE " + FILE1 + "/44", "INSERT 1@44", "XID@87",
+                "ROTATE " + FILE2 + "/4", "BEGIN@4", "INSERT 2@44", "XID@87");
+    }
+
+    @Test
+    public void shouldStopReading() throws IOException {
+        final List<BinlogFileReader> self = new ArrayList<>();
+        final BinlogFileReader reader = reader(BinlogFileAccessMode.STREAM, event -> {
+            record(event);
+            if (event.getHeader().getEventType() == EventType.XID) {
+                self.get(0).stop();
+            }
+        });
+        self.add(reader);
+        reader.read(null, 0);
+        assertThat(received).containsExactly("ROTATE " + FILE1 + "/4", "BEGIN@4", "INSERT 1@44", "XID@87");
+    }
+
+    private BinlogFileReader reader(BinlogFileAccessMode accessMode, EventListener listener) {
+        // the connector's deserializer, which must cope with the end of each file
+        return new BinlogFileReader(files, accessMode, BinlogReader.createEventDeserializer(tableId -> true), Collections.singletonList(listener));
+    }
+
+    private void record(Event event) {
+        final EventHeaderV4 header = event.getHeader();
+        switch (header.getEventType()) {
+            case ROTATE:
+                final RotateEventData rotate = event.getData();
+                received.add("ROTATE " + rotate.getBinlogFilename() + "/" + rotate.getBinlogPosition());
+                break;
+            case QUERY:
+                received.add(((QueryEventData) event.getData()).getSql() + "@" + header.getPosition());
+                break;
+            default:
+                received.add(header.getEventType() + "@" + header.getPosition());
+        }
+    }
+
+    /**
+     * Writes a binlog file with events without checksums.
+     */
+    private static class BinlogWriter {
+
+        private static final int HEADER_LENGTH = 19;
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        private BinlogWriter() {
+            out.write(0xfe);
+            out.write('b');
+            out.write('i');
+            out.write('n');
+        }
+
+        private BinlogWriter query(String sql) {
+            final ByteArrayOutputStream data = new ByteArrayOutputStream();
+            writeInt(data, 1, 4); // thread id
+            writeInt(data, 0, 4); // execution time
+            data.write(2); // length of the database name
+            writeInt(data, 0, 2); // error code
+            writeInt(data, 0, 2); // length of the status variables
+            data.write('d');
+            data.write('b');
+            data.write(0);
+            final byte[] statement = sql.getBytes(StandardCharsets.UTF_8);
+            data.write(statement, 0, statement.length);
+            return event(2, data);
+        }
+
+        private BinlogWriter xid() {
+            final ByteArrayOutputStream data = new ByteArrayOutputStream();
+            writeInt(data, 42, 8);
+            return event(16, data);
+        }
+
+        private BinlogWriter rotate(String filename) {
+            final ByteArrayOutputStream data = new ByteArrayOutputStream();
+            writeInt(data, 4, 8);
+            final byte[] name = filename.getBytes(StandardCharsets.UTF_8);
+            data.write(name, 0, name.length);
+            return event(4, data);
+        }
+
+        private BinlogWriter event(int type, ByteArrayOutputStream data) {
+            final int length = HEADER_LENGTH + data.size();
+            writeInt(out, 1_500_000_000, 4); // timestamp
+            out.write(type);
+            writeInt(out, 1, 4); // server id
+            writeInt(out, length, 4);
+            writeInt(out, out.size() - 9 + length - 4, 4); // next position, relative to the start of the header
+            writeInt(out, 0, 2); // flags
+            final byte[] bytes = data.toByteArray();
+            out.write(bytes, 0, bytes.length);
+            return this;
+        }
+
+        private Path writeTo(Path file) throws IOException {
+            return Files.write(file, out.toByteArray());
+        }
+
+        private static void writeInt(ByteArrayOutputStream out, long value, int length) {
+            for (int i = 0; i < length; i++) {
+                out.write((int) (value >>> (8 * i)));
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.QueryEventData;
+
+import io.debezium.util.Testing;
+
+public class EventSpillBufferTest {
+
+    private File directory;
+    private EventSpillBuffer buffer;
+
+    @Before
+    public void beforeEach() {
+        directory = Testing.Files.createTestingDirectory("binlog-spill");
+        Testing.Files.delete(directory);
+        directory.mkdirs();
+    }
+
+    @After
+    public void afterEach() {
+        if (buffer != null) {
+            buffer.close();
+        }
+        Testing.Files.delete(directory);
+    }
+
+    @Test
+    public void shouldReplayEventsInOrderAcrossSegments() {
+        buffer = new EventSpillBuffer(directory.toPath(), 1024 * 1024, 2048);
+        for (int i = 0; i < 100; i++) {
+            assertThat(buffer.add(query(i))).isTrue();
+        }
+        assertThat(buffer.size()).isEqualTo(100);
+        assertThat(directory.list().length).isGreaterThan(1);
+
+        final List<String> replayed = new ArrayList<>();
+        buffer.replay(event -> replayed.add(((QueryEventData) event.getData()).getSql()));
+        assertThat(replayed).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(replayed.get(i)).isEqualTo("INSERT INTO t VALUES (" + i + ")");
+        }
+        assertThat(((QueryEventData) firstReplayed().getData()).getDatabase()).isEqualTo("db");
+        assertThat(firstReplayed().getHeader().getEventType()).isEqualTo(EventType.QUERY);
+    }
+
+    @Test
+    public void shouldRejectEventsBeyondLimit() {
+        buffer = new EventSpillBuffer(directory.toPath(), 4096);
+        int added = 0;
+        while (buffer.add(query(added))) {
+            added++;
+        }
+        assertThat(added).isGreaterThan(0);
+        assertThat(buffer.size()).isEqualTo(added);
+        assertThat(buffer.sizeInBytes()).isLessThanOrEqualTo(4096);
+
+        final List<Event> replayed = new ArrayList<>();
+        buffer.replay(replayed::add);
+        assertThat(replayed).hasSize(added);
+    }
+
+    @Test
+    public void shouldNotMapMoreThanLimit() {
+        buffer = new EventSpillBuffer(directory.toPath(), 5000, 4096);
+        int added = 0;
+        while (buffer.add(query(added))) {
+            added++;
+        }
+        assertThat(added).isGreaterThan(0);
+
+        long fileBytes = 0;
+        for (File file : directory.listFiles()) {
+            fileBytes += file.length();
+        }
+        assertThat(fileBytes).isLessThanOrEqualTo(5000);
+
+        final List<Event> replayed = new ArrayList<>();
+        buffer.replay(replayed::add);
+        assertThat(replayed).hasSize(added);
+    }
+
+    @Test
+    public void shouldReuseFilesAfterClear() {
+        buffer = new EventSpillBuffer(directory.toPath(), 1024 * 1024, 2048);
+        assertThat(buffer.isEmpty()).isTrue();
+        for (int i = 0; i < 100; i++) {
+            assertThat(buffer.add(query(i))).isTrue();
+        }
+        assertThat(buffer.isEmpty()).isFalse();
+        final Set<String> files = new HashSet<>(Arrays.asList(directory.list()));
+
+        buffer.clear();
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.sizeInBytes()).isEqualTo(0);
+        assertThat(firstReplayed()).isNull();
+
+        for (int i = 100; i < 150; i++) {
+            assertThat(buffer.add(query(i))).isTrue();
+        }
+        assertThat(new HashSet<>(Arrays.asList(directory.list()))).isEqualTo(files);
+
+        final List<String> replayed = new ArrayList<>();
+        buffer.replay(event -> replayed.add(((QueryEventData) event.getData()).getSql()));
+        assertThat(replayed).hasSize(50);
+        assertThat(replayed.get(0)).isEqualTo("INSERT INTO t VALUES (100)");
+        assertThat(replayed.get(49)).isEqualTo("INSERT INTO t VALUES (149)");
+    }
+
+    @Test
+    public void shouldDeleteFilesOnClose() {
+        buffer = new EventSpillBuffer(directory.toPath(), 1024 * 1024);
+        assertThat(buffer.add(query(1))).isTrue();
+        assertThat(directory.list()).hasSize(1);
+
+        buffer.close();
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(directory.list()).isEmpty();
+    }
+
+    private Event firstReplayed() {
+        final List<Event> replayed = new ArrayList<>();
+        buffer.replay(replayed::add);
+        return replayed.isEmpty() ? null : replayed.get(0);
+    }
+
+    private static Event query(int value) {
+        final EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(EventType.QUERY);
+        header.setTimestamp(value);
+        final QueryEventData data = new QueryEventData();
+        data.setDatabase("db");
+        data.setSql("INSERT INTO t VALUES (" + value + ")");
+        return new Event(header, data);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class MutableGtidSetTest {
+
+    private static final String UUID1 = "24bc7850-2c16-11e6-a073-0242ac110002";
+    private static final String UUID2 = "7c1de3f2-3fd2-11e6-9cdc-42010af000bc";
+
+    private MutableGtidSet gtids;
+
+    @Test
+    public void shouldParseAndFormatLikeGtidSet() {
+        final String str = UUID2 + ":1-39,\n" + UUID1 + ":193-199:1-191:192-192:250";
+        gtids = new MutableGtidSet(str);
+        assertThat(gtids.toString()).isEqualTo(new GtidSet(str).toString());
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-199:250-250," + UUID2 + ":1-39");
+        assertThat(gtids.toGtidSet()).isEqualTo(new GtidSet(str));
+
+        assertThat(new MutableGtidSet("").isEmpty()).isTrue();
+        assertThat(new MutableGtidSet(null).toString()).isEmpty();
+    }
+
+    @Test
+    public void shouldAddTransactionsAndMergeIntervals() {
+        gtids = new MutableGtidSet();
+        assertThat(gtids.add(UUID1 + ":1")).isTrue();
+        assertThat(gtids.add(UUID1 + ":2")).isTrue();
+        assertThat(gtids.add(UUID1 + ":2")).isFalse();
+        assertThat(gtids.add(UUID1, 5)).isTrue();
+        assertThat(gtids.add(UUID1, 10)).isTrue();
+        assertThat(gtids.add(UUID2, 7)).isTrue();
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-2:5-5:10-10," + UUID2 + ":7-7");
+
+        assertThat(gtids.add(UUID1, 4)).isTrue();
+        assertThat(gtids.add(UUID1, 3)).isTrue();
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-5:10-10," + UUID2 + ":7-7");
+
+        for (long i = 6; i < 10; i++) {
+            gtids.add(UUID1, i);
+        }
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-10," + UUID2 + ":7-7");
+
+        assertThat(gtids.contains(UUID1, 1)).isTrue();
+        assertThat(gtids.contains(UUID1 + ":10")).isTrue();
+        assertThat(gtids.contains(UUID1, 11)).isFalse();
+        assertThat(gtids.contains(UUID2, 6)).isFalse();
+        assertThat(gtids.contains(UUID2, 7)).isTrue();
+        assertThat(gtids.contains("unknown", 7)).isFalse();
+    }
+
+    @Test
+    public void shouldMergeOverlappingIntervalsWhenParsing() {
+        gtids = new MutableGtidSet(UUID1 + ":10-20:30-40:1-5:15-32:6-8");
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-8:10-40");
+        assertThat(gtids.contains(UUID1, 9)).isFalse();
+        assertThat(gtids.add(UUID1, 9)).isTrue();
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-40");
+    }
+
+    @Test
+    public void shouldFormatWithoutTransaction() {
+        gtids = new MutableGtidSet(UUID1 + ":1-10," + UUID2 + ":3-3");
+        assertThat(gtids.toStringWithout(UUID1 + ":10")).isEqualTo(UUID1 + ":1-9," + UUID2 + ":3-3");
+        assertThat(gtids.toStringWithout(UUID1 + ":5")).isEqualTo(UUID1 + ":1-4:6-10," + UUID2 + ":3-3");
+        assertThat(gtids.toStringWithout(UUID2 + ":3")).isEqualTo(UUID1 + ":1-10");
+        assertThat(gtids.toString()).isEqualTo(UUID1 + ":1-10," + UUID2 + ":3-3");
+    }
+}
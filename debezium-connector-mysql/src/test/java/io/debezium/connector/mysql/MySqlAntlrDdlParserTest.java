@@ -25,7 +25,10 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import io.debezium.antlr.AntlrDdlParser;
+import io.debezium.antlr.DfaCache;
 import io.debezium.connector.mysql.antlr.MySqlAntlrDdlParser;
+import io.debezium.ddl.parser.mysql.generated.MySqlParser;
 import io.debezium.doc.FixFor;
 import io.debezium.jdbc.JdbcValueConverters;
 import io.debezium.jdbc.TemporalPrecisionMode;
@@ -39,6 +42,7 @@
 import io.debezium.relational.ddl.DdlParser;
 import io.debezium.relational.ddl.DdlParserListener.Event;
 import io.debezium.relational.ddl.SimpleDdlParserListener;
+import io.debezium.text.ParsingException;
 import io.debezium.util.IoUtil;
 import io.debezium.util.Testing;
 
@@ -75,6 +79,44 @@ public void shouldUpdateAndRenameTable() {
         assertThat(table.columnWithName("val2")).isNotNull();
     }
 
+    @Test
+    public void shouldReportSyntaxErrorsOfFullPrediction() {
+        try {
+            parser.parse("CREATE TABLE mytable (id INT PRIMARY KEY, val1 INT,, val2 INT)", tables);
+            fail("statement should not have been parsed");
+        }
+        catch (ParsingException e) {
+            assertThat(e.getPosition().line()).isEqualTo(1);
+            assertThat(e.getPosition().column()).isEqualTo(51);
+        }
+        assertThat(tables.size()).isEqualTo(0);
+
+        // the parser can be used again afterwards
+        parser.parse("CREATE TABLE mytable (id INT PRIMARY KEY, val1 INT, val2 INT)", tables);
+        assertThat(tables.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldTrimDfaCache() {
+        final DfaCache dfaCache = AntlrDdlParser.dfaCache(MySqlParser._ATN);
+        final int maxStates = dfaCache.getMaxStates();
+        try {
+            parser.parse("CREATE TABLE mytable (id INT PRIMARY KEY, val1 INT, val2 INT)", tables);
+            assertThat(dfaCache.states()).isGreaterThan(0);
+
+            dfaCache.setMaxStates(dfaCache.states());
+            parser.parse("CREATE TABLE mytable (id INT PRIMARY KEY, val1 INT, val2 INT)", tables);
+            assertThat(dfaCache.states()).isEqualTo(dfaCache.getMaxStates());
+
+            parser.parse("ALTER TABLE mytable DROP COLUMN val1, ADD COLUMN val3 VARCHAR(255) NOT NULL DEFAULT 'x'", tables);
+            assertThat(dfaCache.states()).isEqualTo(0);
+            assertThat(tables.forTable(null, null, "mytable").columnWithName("val3")).isNotNull();
+        }
+        finally {
+            dfaCache.setMaxStates(maxStates);
+        }
+    }
+
     @Test
     @FixFor("DBZ-1560")
     public void shouldDropPrimaryKeyColumn() {
@@ -10,6 +10,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Set;
 
@@ -174,6 +175,35 @@ public void shouldLoadSystemAndNonSystemTablesAndConsumeAllDatabases() throws In
         assertHistoryRecorded();
     }
 
+    @Test
+    public void shouldRecoverFromCheckpoint() throws Exception {
+        mysql = build.with(DatabaseHistory.CHECKPOINT_INTERVAL, "2")
+                .storeDatabaseHistoryInFile(TEST_FILE_PATH)
+                .serverName(SERVER_NAME)
+                .includeDatabases("connector_test,mysql,db2")
+                .includeBuiltInTables()
+                .createSchemas();
+        mysql.start();
+
+        source.setBinlogStartPoint("binlog-001", 400);
+        mysql.applyDdl(source, "mysql", "SET " + MySqlSystemVariables.CHARSET_NAME_SERVER + "=utf8mb4", this::printStatements);
+        mysql.applyDdl(source, "mysql", readFile("ddl/mysql-test-init-5.7.ddl"), this::printStatements);
+
+        source.setBinlogStartPoint("binlog-001", 1000);
+        mysql.applyDdl(source, "db1", readFile("ddl/mysql-products.ddl"), this::printStatements);
+        mysql.applyDdl(source, "db1", "CREATE DATABASE db2 CHARACTER SET latin2", this::printStatements);
+
+        // recorded after the latest checkpoint and relying on the character set of the database restored from it
+        source.setBinlogStartPoint("binlog-001", 2000);
+        mysql.applyDdl(source, "db2", "USE db2; CREATE TABLE t (id INT PRIMARY KEY, name VARCHAR(20))", this::printStatements);
+
+        assertThat(Files.readAllLines(TEST_FILE_PATH).stream().filter(line -> line.contains("\"checkpoint\":true")).count()).isEqualTo(2);
+        assertThat(mysql.tableFor(TableId.parse("db2.t")).columnWithName("name").charsetName()).isEqualTo("latin2");
+        assertTableIncluded("mysql.columns_priv");
+        assertTableIncluded("db2.t");
+        assertHistoryRecorded();
+    }
+
     protected void assertTableIncluded(String fullyQualifiedTableName) {
         TableId tableId = TableId.parse(fullyQualifiedTableName);
         TableSchema tableSchema = mysql.schemaFor(tableId);
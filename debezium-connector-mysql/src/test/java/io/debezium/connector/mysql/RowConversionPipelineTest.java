@@ -0,0 +1,117 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.After;
+import org.junit.Test;
+
+import io.debezium.connector.mysql.RecordMakers.RowConversion;
+
+public class RowConversionPipelineTest {
+
+    private final List<Integer> emitted = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private RowConversionPipeline pipeline;
+
+    @After
+    public void afterEach() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    public void shouldEmitRecordsInSubmissionOrder() throws Exception {
+        final int events = 200;
+        final CountDownLatch done = new CountDownLatch(events * 3);
+        pipeline = new RowConversionPipeline("test", 4, 8, record -> {
+            emitted.add((Integer) record.value());
+            done.countDown();
+        }, failure::set);
+        pipeline.start();
+
+        final Random random = new Random(42);
+        int value = 0;
+        for (int event = 0; event < events; event++) {
+            if (event % 10 == 0) {
+                // a record created by the reader itself, e.g. a heartbeat
+                pipeline.emit(record(value++));
+                done.countDown();
+                done.countDown();
+                continue;
+            }
+            final int delay = random.nextInt(3);
+            pipeline.submit(Arrays.asList(slowRow(value++, delay), slowRow(value++, delay), slowRow(value++, 0)));
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(failure.get()).isNull();
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < value; i++) {
+            expected.add(i);
+        }
+        assertThat(emitted).isEqualTo(expected);
+        assertThat(pipeline.getNumberOfConvertedEvents()).isEqualTo(events - events / 10);
+        assertThat(pipeline.getSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldReportConversionFailure() throws Exception {
+        final CountDownLatch failed = new CountDownLatch(1);
+        pipeline = new RowConversionPipeline("test", 2, 1, record -> emitted.add((Integer) record.value()), error -> {
+            failure.set(error);
+            failed.countDown();
+        });
+        pipeline.start();
+
+        pipeline.submit(Arrays.asList(slowRow(0, 0)));
+        pipeline.submit(Arrays.asList(consumer -> {
+            throw new ConnectException("boom");
+        }));
+
+        assertThat(failed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(failure.get().getMessage()).isEqualTo("boom");
+        assertThat(emitted).containsOnly(0);
+
+        try {
+            pipeline.emit(record(1));
+            pipeline.emit(record(2));
+            throw new AssertionError("Expected the failure to be propagated to the reader");
+        }
+        catch (ConnectException e) {
+            assertThat(e.getCause()).isSameAs(failure.get());
+        }
+    }
+
+    private static RowConversion slowRow(int value, int delayMillis) {
+        return consumer -> {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            consumer.accept(record(value));
+            return 1;
+        };
+    }
+
+    private static SourceRecord record(int value) {
+        return new SourceRecord(null, null, "topic", 0, Schema.INT32_SCHEMA, value);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mysql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.event.DeleteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.ColumnType;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import io.debezium.relational.TableId;
+
+public class RowDeserializersTest {
+
+    private static final long CAPTURED_TABLE = 17;
+    private static final long EXCLUDED_TABLE = 18;
+
+    private final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<>();
+    private final Predicate<TableId> tableFilter = tableId -> tableId.table().equals("captured");
+
+    @Before
+    public void beforeEach() {
+        tableMapEventByTableId.put(CAPTURED_TABLE, tableMap(CAPTURED_TABLE, "captured"));
+        tableMapEventByTableId.put(EXCLUDED_TABLE, tableMap(EXCLUDED_TABLE, "excluded"));
+    }
+
+    @Test
+    public void shouldDeserializeRowsOfCapturedTable() throws IOException {
+        WriteRowsEventData write = new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId, tableFilter)
+                .deserialize(rowsEvent(CAPTURED_TABLE, false, 1, 2, 3));
+        assertThat(write.getTableId()).isEqualTo(CAPTURED_TABLE);
+        assertThat(write.getRows()).hasSize(3);
+        assertThat(write.getRows().get(2)).isEqualTo(new Serializable[]{ 3 });
+
+        DeleteRowsEventData delete = new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId, tableFilter)
+                .setMayContainExtraInformation(true)
+                .deserialize(rowsEvent(CAPTURED_TABLE, true, 4));
+        assertThat(delete.getRows()).hasSize(1);
+        assertThat(delete.getRows().get(0)).isEqualTo(new Serializable[]{ 4 });
+
+        UpdateRowsEventData update = new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId, tableFilter)
+                .deserialize(updateRowsEvent(CAPTURED_TABLE, 5, 6));
+        assertThat(update.getRows()).hasSize(1);
+        assertThat(update.getRows().get(0).getKey()).isEqualTo(new Serializable[]{ 5 });
+        assertThat(update.getRows().get(0).getValue()).isEqualTo(new Serializable[]{ 6 });
+    }
+
+    @Test
+    public void shouldSkipRowsOfExcludedTable() throws IOException {
+        WriteRowsEventData write = new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId, tableFilter)
+                .setMayContainExtraInformation(true)
+                .deserialize(rowsEvent(EXCLUDED_TABLE, true, 1, 2, 3));
+        assertThat(write.getTableId()).isEqualTo(EXCLUDED_TABLE);
+        assertThat(write.getIncludedColumns().cardinality()).isEqualTo(1);
+        assertThat(write.getRows()).isEmpty();
+
+        DeleteRowsEventData delete = new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId, tableFilter)
+                .deserialize(rowsEvent(EXCLUDED_TABLE, false, 4));
+        assertThat(delete.getRows()).isEmpty();
+
+        UpdateRowsEventData update = new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId, tableFilter)
+                .deserialize(updateRowsEvent(EXCLUDED_TABLE, 5, 6));
+        assertThat(update.getIncludedColumnsBeforeUpdate().cardinality()).isEqualTo(1);
+        assertThat(update.getRows()).isEmpty();
+    }
+
+    @Test
+    public void shouldDeserializeAllRowsWithoutFilter() throws IOException {
+        WriteRowsEventData write = new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId)
+                .deserialize(rowsEvent(EXCLUDED_TABLE, false, 1, 2));
+        assertThat(write.getRows()).hasSize(2);
+    }
+
+    private static TableMapEventData tableMap(long tableNumber, String table) {
+        TableMapEventData tableMap = new TableMapEventData();
+        tableMap.setTableId(tableNumber);
+        tableMap.setDatabase("db");
+        tableMap.setTable(table);
+        tableMap.setColumnTypes(new byte[]{ (byte) ColumnType.LONG.getCode() });
+        tableMap.setColumnMetadata(new int[]{ 0 });
+        tableMap.setColumnNullability(new BitSet());
+        return tableMap;
+    }
+
+    /**
+     * Encodes the body of a rows event of a table with a single {@code INT} column.
+     */
+    private static ByteArrayInputStream rowsEvent(long tableNumber, boolean withExtraInformation, int... values) {
+        ByteArrayOutputStream out = header(tableNumber, withExtraInformation);
+        out.write(1); // included columns
+        for (int value : values) {
+            out.write(0); // null bitmap
+            writeInt(out, value);
+        }
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private static ByteArrayInputStream updateRowsEvent(long tableNumber, int before, int after) {
+        ByteArrayOutputStream out = header(tableNumber, false);
+        out.write(1); // included columns before update
+        out.write(1); // included columns
+        out.write(0);
+        writeInt(out, before);
+        out.write(0);
+        writeInt(out, after);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private static ByteArrayOutputStream header(long tableNumber, boolean withExtraInformation) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 6; i++) {
+            out.write((int) (tableNumber >>> (8 * i)));
+        }
+        out.write(0); // flags
+        out.write(0);
+        if (withExtraInformation) {
+            out.write(2); // length of extra information including the length itself
+            out.write(0);
+        }
+        out.write(1); // number of columns
+        return out;
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        for (int i = 0; i < 4; i++) {
+            out.write(value >>> (8 * i));
+        }
+    }
+}
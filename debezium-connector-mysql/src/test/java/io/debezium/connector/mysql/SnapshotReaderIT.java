@@ -12,8 +12,10 @@
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -32,6 +34,8 @@
 import io.debezium.data.SchemaChangeHistory;
 import io.debezium.data.VerifyRecord;
 import io.debezium.heartbeat.Heartbeat;
+import io.debezium.junit.logging.LogInterceptor;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
 import io.debezium.relational.history.DatabaseHistory;
 import io.debezium.util.Testing;
 
@@ -104,8 +108,18 @@ public void shouldCreateSnapshotOfSingleDatabaseWithoutGlobalLockAndStoreOnlyMon
         snapshotOfSingleDatabase(false, true);
     }
 
+    @Test
+    public void shouldCreateSnapshotOfSingleDatabaseWithBackupLock() throws Exception {
+        // falls back to the global read lock on servers without backup locks
+        snapshotOfSingleDatabase(simpleConfig().with(MySqlConnectorConfig.SNAPSHOT_LOCKING_MODE, MySqlConnectorConfig.SnapshotLockingMode.MINIMAL_BACKUP),
+                true, false);
+    }
+
     private void snapshotOfSingleDatabase(boolean useGlobalLock, boolean storeOnlyMonitoredTables) throws Exception {
-        final Builder builder = simpleConfig();
+        snapshotOfSingleDatabase(simpleConfig(), useGlobalLock, storeOnlyMonitoredTables);
+    }
+
+    private void snapshotOfSingleDatabase(Builder builder, boolean useGlobalLock, boolean storeOnlyMonitoredTables) throws Exception {
         if (!useGlobalLock) {
             builder
                     .with(MySqlConnectorConfig.USER, "cloud")
@@ -215,6 +229,123 @@ private void snapshotOfSingleDatabase(boolean useGlobalLock, boolean storeOnlyMo
         }
     }
 
+    @Test
+    public void shouldCreateSnapshotOfSingleDatabaseUsingParallelThreads() throws Exception {
+        final LogInterceptor logInterceptor = new LogInterceptor();
+        config = simpleConfig()
+                .with(RelationalDatabaseConnectorConfig.SNAPSHOT_MAX_THREADS, 3)
+                // keep the table scans blocked while no records are polled
+                .with(MySqlConnectorConfig.MAX_BATCH_SIZE, 1)
+                .with(MySqlConnectorConfig.MAX_QUEUE_SIZE, 2)
+                .build();
+        context = new MySqlTaskContext(config, new Filters.Builder(config).build());
+        context.start();
+        reader = new SnapshotReader("snapshot", context);
+        reader.uponCompletion(completed::countDown);
+        reader.generateReadEvents();
+
+        // Start the snapshot ...
+        reader.start();
+
+        waitForTableScan(logInterceptor);
+        assertThat(logInterceptor.containsMessage("releasing global read lock to enable MySQL writes")).isTrue();
+
+        // The global read lock was released before the scan, so writes must not be blocked ...
+        try (MySQLConnection db = MySQLConnection.forTestDatabase(DATABASE.getDatabaseName())) {
+            db.execute("SET SESSION lock_wait_timeout=5",
+                    "INSERT INTO customers VALUES (default,'Jane','Doe','jane.doe@example.com')");
+        }
+
+        // Poll for records ...
+        List<SourceRecord> records = null;
+        KeyValueStore store = KeyValueStore.createForTopicsBeginningWith(DATABASE.getServerName() + ".");
+        final Set<String> keys = new HashSet<>();
+        final Set<Object> positions = new HashSet<>();
+        while ((records = reader.poll()) != null) {
+            records.forEach(record -> {
+                VerifyRecord.isValid(record);
+                store.add(record);
+                // every row must be read exactly once ...
+                assertThat(keys.add(record.topic() + "/" + record.key())).isTrue();
+                positions.add(record.sourceOffset().get(SourceInfo.BINLOG_FILENAME_OFFSET_KEY) + "/"
+                        + record.sourceOffset().get(SourceInfo.BINLOG_POSITION_OFFSET_KEY));
+            });
+        }
+        // The last poll should always return null ...
+        assertThat(records).isNull();
+
+        // ... and all rows must be read from the same consistent snapshot
+        assertThat(positions).hasSize(1);
+        assertThat(store.collection(DATABASE.getDatabaseName(), productsTableName()).numberOfReads()).isEqualTo(9);
+        assertThat(store.collection(DATABASE.getDatabaseName(), "products_on_hand").numberOfReads()).isEqualTo(9);
+        assertThat(store.collection(DATABASE.getDatabaseName(), "customers").numberOfReads()).isEqualTo(4);
+        assertThat(store.collection(DATABASE.getDatabaseName(), "orders").numberOfReads()).isEqualTo(5);
+        assertThat(store.collection(DATABASE.getDatabaseName(), "dbz_342_timetest").numberOfReads()).isEqualTo(1);
+        assertThat(keys).hasSize(28);
+
+        // Make sure the snapshot completed ...
+        if (!completed.await(10, TimeUnit.SECONDS)) {
+            fail("failed to complete the snapshot within 10 seconds");
+        }
+    }
+
+    @Test
+    public void shouldAllowSchemaChangesWhileTablesAreScannedWithBackupLock() throws Exception {
+        final LogInterceptor logInterceptor = new LogInterceptor();
+        config = simpleConfig()
+                .with(MySqlConnectorConfig.SNAPSHOT_LOCKING_MODE, MySqlConnectorConfig.SnapshotLockingMode.MINIMAL_BACKUP)
+                // keep the table scan blocked while no records are polled
+                .with(MySqlConnectorConfig.MAX_BATCH_SIZE, 1)
+                .with(MySqlConnectorConfig.MAX_QUEUE_SIZE, 2)
+                .build();
+        context = new MySqlTaskContext(config, new Filters.Builder(config).build());
+        context.start();
+        reader = new SnapshotReader("snapshot", context);
+        reader.uponCompletion(completed::countDown);
+        reader.generateReadEvents();
+
+        // Start the snapshot ...
+        reader.start();
+        waitForTableScan(logInterceptor);
+
+        // Neither the backup lock nor the global read lock it falls back to may be held while the rows are scanned ...
+        try (MySQLConnection db = MySQLConnection.forTestDatabase(DATABASE.getDatabaseName())) {
+            db.execute("SET SESSION lock_wait_timeout=5",
+                    "CREATE TABLE dbz_created_during_snapshot (id INT PRIMARY KEY)");
+        }
+
+        // Poll for records ...
+        List<SourceRecord> records = null;
+        KeyValueStore store = KeyValueStore.createForTopicsBeginningWith(DATABASE.getServerName() + ".");
+        while ((records = reader.poll()) != null) {
+            records.forEach(record -> {
+                VerifyRecord.isValid(record);
+                store.add(record);
+            });
+        }
+        // The last poll should always return null ...
+        assertThat(records).isNull();
+
+        // The table created after the tables were read is not part of the snapshot ...
+        assertThat(store.collectionCount()).isEqualTo(5);
+        assertThat(store.collection(DATABASE.getDatabaseName(), "customers").numberOfReads()).isEqualTo(4);
+
+        // Make sure the snapshot completed ...
+        if (!completed.await(10, TimeUnit.SECONDS)) {
+            fail("failed to complete the snapshot within 10 seconds");
+        }
+    }
+
+    private void waitForTableScan(LogInterceptor logInterceptor) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (!logInterceptor.containsMessage("scanning contents of")) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("failed to start scanning the tables within 30 seconds");
+            }
+            Thread.sleep(100);
+        }
+    }
+
     @Test
     public void shouldCreateSnapshotOfSingleDatabaseUsingReadEvents() throws Exception {
         config = simpleConfig().with(MySqlConnectorConfig.DATABASE_WHITELIST, "connector_(.*)_" + DATABASE.getIdentifier()).build();
@@ -609,6 +609,27 @@ public void shouldRemoveNewlinesFromGtidSet() {
         assertThat(source.gtidSet()).isEqualTo(gtidCleaned);
     }
 
+    @Test
+    public void shouldRecordCompletedGtidSetInOffsetWhileTransactionIsInProgress() {
+        final String uuid = "7c1de3f2-3fd2-11e6-9cdc-42010af000bc";
+        source.setBinlogStartPoint(FILENAME, 100);
+        source.setCompletedGtidSet(uuid + ":1-39");
+
+        source.startGtid(uuid + ":40");
+        source.startNextTransaction();
+        assertThat(source.gtidSet()).isEqualTo(uuid + ":1-40");
+        assertThat(source.offset().get(SourceInfo.GTID_SET_KEY)).isEqualTo(uuid + ":1-39");
+        source.commitTransaction();
+        assertThat(source.offset().get(SourceInfo.GTID_SET_KEY)).isEqualTo(uuid + ":1-40");
+
+        source.startGtid(uuid + ":41");
+        source.startNextTransaction();
+        assertThat(source.offset().get(SourceInfo.GTID_SET_KEY)).isEqualTo(uuid + ":1-40");
+        source.commitTransaction();
+        assertThat(source.offset().get(SourceInfo.GTID_SET_KEY)).isEqualTo(uuid + ":1-41");
+        assertThat(source.gtidSet()).isEqualTo(uuid + ":1-41");
+    }
+
     @FixFor("DBZ-107")
     @Test
     public void shouldNotSetBlankGtidSet() {
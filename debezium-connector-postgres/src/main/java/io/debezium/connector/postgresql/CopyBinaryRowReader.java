@@ -0,0 +1,335 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.postgresql.copy.CopyOut;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.util.PGmoney;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalSnapshotChangeEventSource.SnapshotRowReader;
+import io.debezium.relational.Table;
+
+/**
+ * Reads the records of a table during the snapshot by streaming the output of a {@code COPY ... TO STDOUT (FORMAT binary)}
+ * statement and decoding the fields straight into the values that would be read from the JDBC result set of the snapshot
+ * select statement, so that they are converted by {@link PostgresValueConverter} alike.
+ * <p>
+ * Fields of types whose binary format isn't decoded here but whose JDBC values are read as strings anyway, e.g. {@code time}
+ * or {@code money}, are copied as text. Tables with columns of any other type, e.g. arrays, enums or domains, can't be read
+ * this way.
+ */
+class CopyBinaryRowReader implements SnapshotRowReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CopyBinaryRowReader.class);
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0 };
+    private static final int HEADER_LENGTH = SIGNATURE.length + 4 + 4;
+    private static final short TRAILER = -1;
+    private static final int NULL_LENGTH = -1;
+
+    private static final int NUMERIC_POS = 0x0000;
+    private static final int NUMERIC_NEG = 0x4000;
+    private static final int NUMERIC_NAN = 0xC000;
+    private static final int NUMERIC_PINF = 0xD000;
+    private static final int NUMERIC_NINF = 0xF000;
+    private static final int NUMERIC_BASE = 10_000;
+    private static final int NUMERIC_BASE_DIGITS = 4;
+    // the number of base 10000 digits that always fit into a long
+    private static final int MAX_LONG_NUMERIC_DIGITS = 4;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * Decodes the binary representation of a non-null field.
+     */
+    @FunctionalInterface
+    interface FieldDecoder {
+        Object decode(byte[] bytes, int offset, int length) throws SQLException;
+    }
+
+    private final CopyOut copy;
+    private final FieldDecoder[] decoders;
+
+    // the COPY data not read yet is buffer[position, limit)
+    private byte[] buffer = EMPTY;
+    private int position;
+    private int limit;
+    private boolean headerRead;
+    private boolean completed;
+
+    /**
+     * @param copy the COPY operation, returning the fields of the columns of the given decoders in binary format
+     * @param decoders the decoders of the fields of each row, in order
+     */
+    CopyBinaryRowReader(CopyOut copy, FieldDecoder[] decoders) {
+        this.copy = copy;
+        this.decoders = decoders;
+    }
+
+    /**
+     * Starts copying the records returned by the given snapshot select statement of the given table, in the transaction of
+     * the given connection.
+     *
+     * @return the reader or an empty optional if the table has columns of a type that can't be copied
+     */
+    static Optional<SnapshotRowReader> open(JdbcConnection connection, TypeRegistry typeRegistry, Table table, String select) throws SQLException {
+        final BaseConnection pgConnection = (BaseConnection) connection.connection();
+        final List<Column> columns = table.columns();
+        final FieldDecoder[] decoders = new FieldDecoder[columns.size()];
+        for (int i = 0; i < decoders.length; i++) {
+            final PostgresType type = typeRegistry.get(columns.get(i).typeName());
+            decoders[i] = type.isRootType() && !type.isArrayType() ? decoder(type.getOid(), pgConnection.getTimestampUtils()) : null;
+            if (decoders[i] == null) {
+                LOGGER.info("\t Reading table '{}' using its select statement as column '{}' of type '{}' can't be copied in binary format", table.id(),
+                        columns.get(i).name(), type.getName());
+                return Optional.empty();
+            }
+        }
+
+        final String statement = copyStatement(table, typeRegistry, select);
+        LOGGER.info("\t Copying table '{}' using statement '{}'", table.id(), statement);
+        return Optional.of(new CopyBinaryRowReader(pgConnection.getCopyAPI().copyOut(statement), decoders));
+    }
+
+    /**
+     * @return the COPY statement for the columns of the given table, as returned by the given select statement
+     */
+    static String copyStatement(Table table, TypeRegistry typeRegistry, String select) {
+        final StringBuilder statement = new StringBuilder("COPY (SELECT ");
+        boolean first = true;
+        for (Column column : table.columns()) {
+            if (!first) {
+                statement.append(", ");
+            }
+            first = false;
+            statement.append("t.\"").append(column.name().replace("\"", "\"\"")).append('"');
+            if (isCopiedAsText(typeRegistry.get(column.typeName()).getOid())) {
+                statement.append("::text");
+            }
+        }
+        return statement.append(" FROM (").append(select).append(") t) TO STDOUT (FORMAT binary)").toString();
+    }
+
+    private static boolean isCopiedAsText(int oid) {
+        switch (oid) {
+            case PgOid.MONEY:
+            case PgOid.BIT:
+            case PgOid.TIME:
+            case PgOid.TIMETZ:
+            case PgOid.JSON:
+            case PgOid.JSONB_OID:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return the decoder for fields of the given type, returning the same value as
+     *         {@link PostgresSnapshotChangeEventSource#readColumnValue} does for it; null if fields of that type can't be copied
+     */
+    static FieldDecoder decoder(int oid, TimestampUtils timestampUtils) {
+        switch (oid) {
+            case PgOid.BOOL:
+                return (bytes, offset, length) -> bytes[offset] != 0;
+            case PgOid.INT2:
+                return (bytes, offset, length) -> (int) (short) readInt16(bytes, offset);
+            case PgOid.INT4:
+                return (bytes, offset, length) -> readInt32(bytes, offset);
+            case PgOid.INT8:
+                return (bytes, offset, length) -> readInt64(bytes, offset);
+            case PgOid.FLOAT4:
+                return (bytes, offset, length) -> Float.intBitsToFloat(readInt32(bytes, offset));
+            case PgOid.FLOAT8:
+                return (bytes, offset, length) -> Double.longBitsToDouble(readInt64(bytes, offset));
+            case PgOid.NUMERIC:
+                return CopyBinaryRowReader::decodeNumeric;
+            case PgOid.TEXT:
+            case PgOid.VARCHAR:
+            case PgOid.BPCHAR:
+            case PgOid.BIT:
+            case PgOid.TIME:
+            case PgOid.TIMETZ:
+            case PgOid.JSON:
+            case PgOid.JSONB_OID:
+                return (bytes, offset, length) -> new String(bytes, offset, length, StandardCharsets.UTF_8);
+            case PgOid.MONEY:
+                return (bytes, offset, length) -> new PGmoney(new String(bytes, offset, length, StandardCharsets.UTF_8)).val;
+            case PgOid.BYTEA:
+                return (bytes, offset, length) -> Arrays.copyOfRange(bytes, offset, offset + length);
+            case PgOid.UUID:
+                return (bytes, offset, length) -> new UUID(readInt64(bytes, offset), readInt64(bytes, offset + 8));
+            case PgOid.DATE:
+                return timestampUtils == null ? null
+                        : (bytes, offset, length) -> timestampUtils.toDateBin(null, Arrays.copyOfRange(bytes, offset, offset + length));
+            case PgOid.TIMESTAMP:
+            case PgOid.TIMESTAMPTZ:
+                return timestampUtils == null ? null
+                        : (bytes, offset, length) -> timestampUtils.toTimestampBin(null, Arrays.copyOfRange(bytes, offset, offset + length),
+                                oid == PgOid.TIMESTAMPTZ);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Decodes a numeric value: the number of base 10000 digits, the weight of the first digit, the sign, the display scale
+     * and the digits.
+     */
+    private static SpecialValueDecimal decodeNumeric(byte[] bytes, int offset, int length) throws SQLException {
+        final int digitCount = readInt16(bytes, offset);
+        final int weight = (short) readInt16(bytes, offset + 2);
+        final int sign = readInt16(bytes, offset + 4);
+        final int scale = readInt16(bytes, offset + 6);
+
+        switch (sign) {
+            case NUMERIC_NAN:
+                return SpecialValueDecimal.NOT_A_NUMBER;
+            case NUMERIC_PINF:
+                return SpecialValueDecimal.POSITIVE_INF;
+            case NUMERIC_NINF:
+                return SpecialValueDecimal.NEGATIVE_INF;
+            case NUMERIC_POS:
+            case NUMERIC_NEG:
+                break;
+            default:
+                throw new SQLException("Invalid sign " + Integer.toHexString(sign) + " of numeric value");
+        }
+
+        BigDecimal value;
+        if (digitCount <= MAX_LONG_NUMERIC_DIGITS) {
+            long unscaled = 0;
+            for (int i = 0; i < digitCount; i++) {
+                unscaled = unscaled * NUMERIC_BASE + readInt16(bytes, offset + 8 + 2 * i);
+            }
+            value = BigDecimal.valueOf(sign == NUMERIC_NEG ? -unscaled : unscaled, (digitCount - 1 - weight) * NUMERIC_BASE_DIGITS);
+        }
+        else {
+            BigInteger unscaled = BigInteger.ZERO;
+            final BigInteger base = BigInteger.valueOf(NUMERIC_BASE);
+            for (int i = 0; i < digitCount; i++) {
+                unscaled = unscaled.multiply(base).add(BigInteger.valueOf(readInt16(bytes, offset + 8 + 2 * i)));
+            }
+            value = new BigDecimal(sign == NUMERIC_NEG ? unscaled.negate() : unscaled, (digitCount - 1 - weight) * NUMERIC_BASE_DIGITS);
+        }
+        // the digits beyond the display scale are zeros, so no rounding takes place
+        return new SpecialValueDecimal(value.setScale(scale));
+    }
+
+    @Override
+    public Object[] next() throws SQLException {
+        if (completed) {
+            return null;
+        }
+        if (!headerRead) {
+            readHeader();
+        }
+
+        require(2);
+        final short fieldCount = (short) readInt16(buffer, position);
+        position += 2;
+        if (fieldCount == TRAILER) {
+            completed = true;
+            // reading until the end of the COPY data completes the statement
+            boolean more;
+            do {
+                more = copy.readFromCopy() != null;
+            } while (more);
+            return null;
+        }
+        if (fieldCount != decoders.length) {
+            throw new SQLException("Expected " + decoders.length + " fields per COPY row but got " + fieldCount);
+        }
+
+        final Object[] row = new Object[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            require(4);
+            final int length = readInt32(buffer, position);
+            position += 4;
+            if (length != NULL_LENGTH) {
+                require(length);
+                row[i] = decoders[i].decode(buffer, position, length);
+                position += length;
+            }
+        }
+        return row;
+    }
+
+    private void readHeader() throws SQLException {
+        require(HEADER_LENGTH);
+        for (int i = 0; i < SIGNATURE.length; i++) {
+            if (buffer[position + i] != SIGNATURE[i]) {
+                throw new SQLException("Invalid signature of COPY data in binary format");
+            }
+        }
+        final int extensionLength = readInt32(buffer, position + SIGNATURE.length + 4);
+        position += HEADER_LENGTH;
+        require(extensionLength);
+        position += extensionLength;
+        headerRead = true;
+    }
+
+    /**
+     * Makes sure that the buffer contains at least the given number of bytes not read yet, reading more COPY data as
+     * needed. The server sends each row as one chunk of data, so the remaining bytes only need to be joined with the next
+     * chunk if a row isn't sent that way.
+     */
+    private void require(int count) throws SQLException {
+        while (limit - position < count) {
+            final byte[] chunk = copy.readFromCopy();
+            if (chunk == null) {
+                throw new SQLException("Unexpected end of COPY data");
+            }
+            final int remaining = limit - position;
+            if (remaining == 0) {
+                buffer = chunk;
+            }
+            else {
+                final byte[] joined = new byte[remaining + chunk.length];
+                System.arraycopy(buffer, position, joined, 0, remaining);
+                System.arraycopy(chunk, 0, joined, remaining, chunk.length);
+                buffer = joined;
+            }
+            position = 0;
+            limit = buffer.length;
+        }
+    }
+
+    private static int readInt16(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xff) << 8) | (bytes[offset + 1] & 0xff);
+    }
+
+    private static int readInt32(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xff) << 24) | ((bytes[offset + 1] & 0xff) << 16) | ((bytes[offset + 2] & 0xff) << 8) | (bytes[offset + 3] & 0xff);
+    }
+
+    private static long readInt64(byte[] bytes, int offset) {
+        return ((long) readInt32(bytes, offset) << 32) | (readInt32(bytes, offset + 4) & 0xffffffffL);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (copy.isActive()) {
+            // the connection can't be used for other statements until the COPY has ended
+            copy.cancelCopy();
+        }
+    }
+}
@@ -5,17 +5,23 @@
  */
 package io.debezium.connector.postgresql;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.connection.ReplicationConnection;
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
 import io.debezium.connector.postgresql.spi.Snapshotter;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.ChangeEventSourceFactory;
 import io.debezium.pipeline.source.spi.SnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
 import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.Column;
 import io.debezium.relational.TableId;
 import io.debezium.util.Clock;
 
@@ -76,4 +82,15 @@ public StreamingChangeEventSource getStreamingChangeEventSource(OffsetContext of
                 taskContext,
                 replicationConnection);
     }
+
+    @Override
+    public Optional<IncrementalSnapshotChangeEventSource> getIncrementalSnapshotChangeEventSource() {
+        return Optional.of(new IncrementalSnapshotChangeEventSource(configuration, jdbcConnection, dispatcher, schema, clock) {
+
+            @Override
+            protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) throws SQLException {
+                return PostgresSnapshotChangeEventSource.readColumnValue(rs, columnIndex, schema.getTypeRegistry());
+            }
+        });
+    }
 }
@@ -34,6 +34,7 @@
 import io.debezium.connector.postgresql.connection.wal2json.StreamingWal2JsonMessageDecoder;
 import io.debezium.connector.postgresql.snapshot.AlwaysSnapshotter;
 import io.debezium.connector.postgresql.snapshot.ExportedSnapshotter;
+import io.debezium.connector.postgresql.snapshot.IncrementalSnapshotter;
 import io.debezium.connector.postgresql.snapshot.InitialOnlySnapshotter;
 import io.debezium.connector.postgresql.snapshot.InitialSnapshotter;
 import io.debezium.connector.postgresql.snapshot.NeverSnapshotter;
@@ -206,6 +207,11 @@ public enum SnapshotMode implements EnumeratedValue {
          */
         EXPORTED("exported", (c) -> new ExportedSnapshotter()),
 
+        /**
+         * Snapshot the data incrementally while streaming, upon initial startup of a connector.
+         */
+        INCREMENTAL("incremental", (c) -> new IncrementalSnapshotter()),
+
         /**
          * Inject a custom snapshotter, which allows for more control over snapshots.
          */
@@ -553,6 +559,66 @@ public static SchemaRefreshMode parse(String value) {
         }
     }
 
+    /**
+     * The set of predefined SnapshotReadMode options or aliases.
+     */
+    public enum SnapshotReadMode implements EnumeratedValue {
+        /**
+         * Read the records of the tables by executing the snapshot select statements.
+         */
+        SELECT("select"),
+
+        /**
+         * Read the records of the tables by copying the results of the snapshot select statements in binary format.
+         */
+        COPY_BINARY("copy_binary");
+
+        private final String value;
+
+        SnapshotReadMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static SnapshotReadMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (SnapshotReadMode option : SnapshotReadMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static SnapshotReadMode parse(String value, String defaultValue) {
+            SnapshotReadMode mode = parse(value);
+            if (mode == null && defaultValue != null) {
+                mode = parse(defaultValue);
+            }
+            return mode;
+        }
+    }
+
     protected static final String DATABASE_CONFIG_PREFIX = "database.";
     protected static final int DEFAULT_PORT = 5_432;
     protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 10_240;
@@ -598,6 +664,19 @@ public static SchemaRefreshMode parse(String value) {
             .withDescription("The name of the Postgres 10+ publication used for streaming changes from a plugin." +
                     "Defaults to '" + ReplicationConnection.Builder.DEFAULT_PUBLICATION_NAME + "'");
 
+    public static final Field TABLE_FILTER_ON_SERVER = Field.create("table.filter.on.server")
+            .withDisplayName("Filter tables on the server")
+            .withType(Type.BOOLEAN)
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the logical decoding plugin should only decode and send the changes of the tables captured according to the "
+                    + "schema and table whitelists and blacklists, instead of the changes of all tables. "
+                    + "For 'pgoutput', the publication is created for, or updated to, the captured tables when the connector starts "
+                    + "(unless it was created for all tables); for 'wal2json', the 'add-tables' option is passed unless it is given in '"
+                    + "slot.stream.params'. Tables created while the connector is running are only captured after it is restarted. "
+                    + "Defaults to 'false'.");
+
     public static final Field STREAM_PARAMS = Field.create("slot.stream.params")
             .withDisplayName("Optional parameters to pass to the logical decoder when the stream is started.")
             .withType(Type.STRING)
@@ -834,6 +913,17 @@ public static SchemaRefreshMode parse(String value) {
                     + "'false' (the default) omits the fields; "
                     + "'true' converts the field into an implementation dependent binary representation.");
 
+    public static final Field SNAPSHOT_READ_MODE = Field.create("snapshot.read.mode")
+            .withDisplayName("Snapshot read mode")
+            .withEnum(SnapshotReadMode.class, SnapshotReadMode.SELECT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("How the records of the captured tables are read during a snapshot. "
+                    + "'select' (the default) executes the snapshot select statement of each table; "
+                    + "'copy_binary' streams the result of the select statement using 'COPY ... TO STDOUT (FORMAT binary)' in the same snapshot "
+                    + "transaction, which decodes faster for large tables. Tables read in chunks, tables whose select statement is overridden and "
+                    + "tables with columns of types that can't be copied, e.g. arrays, enums or domains, are always read using the select statement.");
+
     public static final Field SCHEMA_REFRESH_MODE = Field.create("schema.refresh.mode")
             .withDisplayName("Schema refresh mode")
             .withEnum(SchemaRefreshMode.class, SchemaRefreshMode.COLUMNS_DIFF)
@@ -892,18 +982,24 @@ public static final Field MASK_COLUMN(int length) {
     /**
      * The set of {@link Field}s defined as part of this configuration.
      */
-    public static Field.Set ALL_FIELDS = Field.setOf(PLUGIN_NAME, SLOT_NAME, DROP_SLOT_ON_STOP, PUBLICATION_NAME, STREAM_PARAMS, MAX_RETRIES, RETRY_DELAY_MS,
+    public static Field.Set ALL_FIELDS = Field.setOf(PLUGIN_NAME, SLOT_NAME, DROP_SLOT_ON_STOP, PUBLICATION_NAME, TABLE_FILTER_ON_SERVER, STREAM_PARAMS, MAX_RETRIES,
+            RETRY_DELAY_MS,
             DATABASE_NAME, USER, PASSWORD, HOSTNAME, PORT, ON_CONNECT_STATEMENTS, RelationalDatabaseConnectorConfig.SERVER_NAME,
             CommonConnectorConfig.MAX_BATCH_SIZE,
-            CommonConnectorConfig.MAX_QUEUE_SIZE, CommonConnectorConfig.POLL_INTERVAL_MS,
+            CommonConnectorConfig.MAX_QUEUE_SIZE, CommonConnectorConfig.MAX_QUEUE_SIZE_IN_BYTES, CommonConnectorConfig.QUEUE_IMPLEMENTATION,
+            CommonConnectorConfig.POLL_INTERVAL_MS,
+            CommonConnectorConfig.POLL_LINGER_MS,
             CommonConnectorConfig.SNAPSHOT_DELAY_MS, CommonConnectorConfig.SNAPSHOT_FETCH_SIZE,
             Heartbeat.HEARTBEAT_INTERVAL,
             Heartbeat.HEARTBEAT_TOPICS_PREFIX,
             SCHEMA_WHITELIST,
             SCHEMA_BLACKLIST, TABLE_WHITELIST, TABLE_BLACKLIST, MSG_KEY_COLUMNS,
-            COLUMN_BLACKLIST, SNAPSHOT_MODE, TIME_PRECISION_MODE, DECIMAL_HANDLING_MODE, HSTORE_HANDLING_MODE,
+            COLUMN_BLACKLIST, SNAPSHOT_MODE, SNAPSHOT_READ_MODE, TIME_PRECISION_MODE, DECIMAL_HANDLING_MODE, HSTORE_HANDLING_MODE,
             INTERVAL_HANDLING_MODE, SSL_MODE, SSL_CLIENT_CERT, SSL_CLIENT_KEY_PASSWORD,
-            SSL_ROOT_CERT, SSL_CLIENT_KEY, RelationalDatabaseConnectorConfig.SNAPSHOT_LOCK_TIMEOUT_MS, SSL_SOCKET_FACTORY,
+            SSL_ROOT_CERT, SSL_CLIENT_KEY, RelationalDatabaseConnectorConfig.SNAPSHOT_LOCK_TIMEOUT_MS, RelationalDatabaseConnectorConfig.SNAPSHOT_MAX_THREADS,
+            RelationalDatabaseConnectorConfig.SNAPSHOT_CHUNK_SIZE, RelationalDatabaseConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
+            CommonConnectorConfig.SIGNAL_DATA_COLLECTION, CommonConnectorConfig.METRICS_MAX_TRACKED_TABLES,
+            SSL_SOCKET_FACTORY,
             STATUS_UPDATE_INTERVAL_MS, TCP_KEEPALIVE, INCLUDE_UNKNOWN_DATATYPES,
             RelationalDatabaseConnectorConfig.SNAPSHOT_SELECT_STATEMENT_OVERRIDES_BY_TABLE, SCHEMA_REFRESH_MODE, CommonConnectorConfig.TOMBSTONES_ON_DELETE,
             XMIN_FETCH_INTERVAL, TOASTED_VALUE_PLACEHOLDER, SNAPSHOT_MODE_CLASS, CommonConnectorConfig.SOURCE_STRUCT_MAKER_VERSION);
@@ -912,6 +1008,7 @@ public static final Field MASK_COLUMN(int length) {
     private final IntervalHandlingMode intervalHandlingMode;
     private final SnapshotMode snapshotMode;
     private final SchemaRefreshMode schemaRefreshMode;
+    private final SnapshotReadMode snapshotReadMode;
 
     protected PostgresConnectorConfig(Configuration config) {
         super(
@@ -927,6 +1024,7 @@ protected PostgresConnectorConfig(Configuration config) {
         this.intervalHandlingMode = IntervalHandlingMode.parse(config.getString(PostgresConnectorConfig.INTERVAL_HANDLING_MODE));
         this.snapshotMode = SnapshotMode.parse(config.getString(SNAPSHOT_MODE));
         this.schemaRefreshMode = SchemaRefreshMode.parse(config.getString(SCHEMA_REFRESH_MODE));
+        this.snapshotReadMode = SnapshotReadMode.parse(config.getString(SNAPSHOT_READ_MODE), SNAPSHOT_READ_MODE.defaultValueAsString());
     }
 
     protected String hostname() {
@@ -961,6 +1059,10 @@ protected String publicationName() {
         return getConfig().getString(PUBLICATION_NAME);
     }
 
+    protected boolean tableFilterOnServer() {
+        return getConfig().getBoolean(TABLE_FILTER_ON_SERVER);
+    }
+
     protected String streamParams() {
         return getConfig().getString(STREAM_PARAMS);
     }
@@ -1021,6 +1123,10 @@ protected Snapshotter getSnapshotter() {
         return this.snapshotMode.getSnapshotter(getConfig());
     }
 
+    protected SnapshotReadMode snapshotReadMode() {
+        return snapshotReadMode;
+    }
+
     protected boolean skipRefreshSchemaOnMissingToastableData() {
         return SchemaRefreshMode.COLUMNS_DIFF_EXCLUDE_UNCHANGED_TOAST == this.schemaRefreshMode;
     }
@@ -1051,15 +1157,21 @@ protected static ConfigDef configDef() {
         ConfigDef config = new ConfigDef();
         Field.group(config, "Postgres", SLOT_NAME, PUBLICATION_NAME, PLUGIN_NAME, RelationalDatabaseConnectorConfig.SERVER_NAME, DATABASE_NAME, HOSTNAME, PORT,
                 USER, PASSWORD, ON_CONNECT_STATEMENTS, SSL_MODE, SSL_CLIENT_CERT, SSL_CLIENT_KEY_PASSWORD, SSL_ROOT_CERT, SSL_CLIENT_KEY,
-                DROP_SLOT_ON_STOP, STREAM_PARAMS, MAX_RETRIES, RETRY_DELAY_MS, SSL_SOCKET_FACTORY, STATUS_UPDATE_INTERVAL_MS, TCP_KEEPALIVE, XMIN_FETCH_INTERVAL);
+                DROP_SLOT_ON_STOP, TABLE_FILTER_ON_SERVER, STREAM_PARAMS, MAX_RETRIES, RETRY_DELAY_MS, SSL_SOCKET_FACTORY, STATUS_UPDATE_INTERVAL_MS, TCP_KEEPALIVE,
+                XMIN_FETCH_INTERVAL);
         Field.group(config, "Events", SCHEMA_WHITELIST, SCHEMA_BLACKLIST, TABLE_WHITELIST, TABLE_BLACKLIST,
                 COLUMN_BLACKLIST, MSG_KEY_COLUMNS, INCLUDE_UNKNOWN_DATATYPES, SNAPSHOT_SELECT_STATEMENT_OVERRIDES_BY_TABLE,
                 CommonConnectorConfig.TOMBSTONES_ON_DELETE, Heartbeat.HEARTBEAT_INTERVAL,
                 Heartbeat.HEARTBEAT_TOPICS_PREFIX, CommonConnectorConfig.SOURCE_STRUCT_MAKER_VERSION,
                 TOASTED_VALUE_PLACEHOLDER);
-        Field.group(config, "Connector", CommonConnectorConfig.POLL_INTERVAL_MS, CommonConnectorConfig.MAX_BATCH_SIZE, CommonConnectorConfig.MAX_QUEUE_SIZE,
-                CommonConnectorConfig.SNAPSHOT_DELAY_MS, CommonConnectorConfig.SNAPSHOT_FETCH_SIZE,
-                SNAPSHOT_MODE, RelationalDatabaseConnectorConfig.SNAPSHOT_LOCK_TIMEOUT_MS, TIME_PRECISION_MODE, DECIMAL_HANDLING_MODE, HSTORE_HANDLING_MODE,
+        Field.group(config, "Connector", CommonConnectorConfig.POLL_INTERVAL_MS, CommonConnectorConfig.POLL_LINGER_MS, CommonConnectorConfig.MAX_BATCH_SIZE,
+                CommonConnectorConfig.MAX_QUEUE_SIZE,
+                CommonConnectorConfig.MAX_QUEUE_SIZE_IN_BYTES, CommonConnectorConfig.QUEUE_IMPLEMENTATION, CommonConnectorConfig.SNAPSHOT_DELAY_MS,
+                CommonConnectorConfig.SNAPSHOT_FETCH_SIZE,
+                SNAPSHOT_MODE, SNAPSHOT_READ_MODE, RelationalDatabaseConnectorConfig.SNAPSHOT_LOCK_TIMEOUT_MS, RelationalDatabaseConnectorConfig.SNAPSHOT_MAX_THREADS,
+                RelationalDatabaseConnectorConfig.SNAPSHOT_CHUNK_SIZE, RelationalDatabaseConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
+                CommonConnectorConfig.SIGNAL_DATA_COLLECTION, CommonConnectorConfig.METRICS_MAX_TRACKED_TABLES, TIME_PRECISION_MODE,
+                DECIMAL_HANDLING_MODE, HSTORE_HANDLING_MODE,
                 INTERVAL_HANDLING_MODE, SCHEMA_REFRESH_MODE, SNAPSHOT_MODE_CLASS);
 
         return config;
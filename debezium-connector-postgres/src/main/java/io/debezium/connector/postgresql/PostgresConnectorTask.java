@@ -136,8 +136,11 @@ public void start(Configuration config) {
 
             queue = new ChangeEventQueue.Builder<DataChangeEvent>()
                     .pollInterval(connectorConfig.getPollInterval())
+                    .pollLinger(connectorConfig.getPollLinger())
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
+                    .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .queueImplementation(connectorConfig.getQueueImplementation())
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
 
@@ -156,7 +159,7 @@ public void start(Configuration config) {
                     previousOffset,
                     errorHandler,
                     PostgresConnector.class,
-                    connectorConfig.getLogicalName(),
+                    connectorConfig,
                     new PostgresChangeEventSourceFactory(
                             connectorConfig,
                             snapshotter,
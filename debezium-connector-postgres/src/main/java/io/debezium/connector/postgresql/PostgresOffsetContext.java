@@ -21,13 +21,16 @@
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.connection.ReplicationConnection;
 import io.debezium.connector.postgresql.spi.OffsetState;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
 import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.SnapshotCheckpoint;
+import io.debezium.relational.SnapshotCheckpointOffsetContext;
 import io.debezium.relational.TableId;
 import io.debezium.schema.DataCollectionId;
 import io.debezium.time.Conversions;
 import io.debezium.util.Clock;
 
-public class PostgresOffsetContext implements OffsetContext {
+public class PostgresOffsetContext implements SnapshotCheckpointOffsetContext {
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSnapshotChangeEventSource.class);
 
     private static final String SERVER_PARTITION_KEY = "server";
@@ -38,11 +41,15 @@ public class PostgresOffsetContext implements OffsetContext {
     private final Map<String, String> partition;
     private boolean lastSnapshotRecord;
     private Long lastCompletelyProcessedLsn;
+    private final SnapshotCheckpoint snapshotCheckpoint;
+    private final IncrementalSnapshotContext incrementalSnapshotContext;
 
     private PostgresOffsetContext(PostgresConnectorConfig connectorConfig, Long lsn, Long lastCompletelyProcessedLsn, Long txId, Instant time, boolean snapshot,
-                                  boolean lastSnapshotRecord) {
+                                  boolean lastSnapshotRecord, SnapshotCheckpoint snapshotCheckpoint, IncrementalSnapshotContext incrementalSnapshotContext) {
         partition = Collections.singletonMap(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
         sourceInfo = new SourceInfo(connectorConfig);
+        this.snapshotCheckpoint = snapshotCheckpoint;
+        this.incrementalSnapshotContext = incrementalSnapshotContext;
 
         this.lastCompletelyProcessedLsn = lastCompletelyProcessedLsn;
         sourceInfo.update(lsn, time, txId, null, sourceInfo.xmin());
@@ -80,10 +87,12 @@ private PostgresOffsetContext(PostgresConnectorConfig connectorConfig, Long lsn,
         if (sourceInfo.isSnapshot()) {
             result.put(SourceInfo.SNAPSHOT_KEY, true);
             result.put(SourceInfo.LAST_SNAPSHOT_RECORD_KEY, lastSnapshotRecord);
+            snapshotCheckpoint.writeTo(result);
         }
         if (lastCompletelyProcessedLsn != null) {
             result.put(LAST_COMPLETELY_PROCESSED_LSN_KEY, lastCompletelyProcessedLsn);
         }
+        incrementalSnapshotContext.store(result);
         return result;
     }
 
@@ -102,6 +111,16 @@ public boolean isSnapshotRunning() {
         return sourceInfo.isSnapshot();
     }
 
+    @Override
+    public SnapshotCheckpoint getSnapshotCheckpoint() {
+        return snapshotCheckpoint;
+    }
+
+    @Override
+    public IncrementalSnapshotContext getIncrementalSnapshotContext() {
+        return incrementalSnapshotContext;
+    }
+
     @Override
     public void preSnapshotStart() {
         sourceInfo.setSnapshot(SnapshotRecord.TRUE);
@@ -175,7 +194,8 @@ public OffsetContext load(Map<String, ?> offset) {
             final Instant useconds = Conversions.toInstantFromMicros((Long) offset.get(SourceInfo.TIMESTAMP_USEC_KEY));
             final boolean snapshot = (boolean) ((Map<String, Object>) offset).getOrDefault(SourceInfo.SNAPSHOT_KEY, Boolean.FALSE);
             final boolean lastSnapshotRecord = (boolean) ((Map<String, Object>) offset).getOrDefault(SourceInfo.LAST_SNAPSHOT_RECORD_KEY, Boolean.FALSE);
-            return new PostgresOffsetContext(connectorConfig, lsn, lastCompletelyProcessedLsn, txId, useconds, snapshot, lastSnapshotRecord);
+            return new PostgresOffsetContext(connectorConfig, lsn, lastCompletelyProcessedLsn, txId, useconds, snapshot, lastSnapshotRecord,
+                    SnapshotCheckpoint.load(offset), IncrementalSnapshotContext.load(offset));
         }
     }
 
@@ -199,7 +219,9 @@ public static PostgresOffsetContext initialContext(PostgresConnectorConfig conne
                     txId,
                     clock.currentTimeAsInstant(),
                     false,
-                    false);
+                    false,
+                    new SnapshotCheckpoint(),
+                    new IncrementalSnapshotContext());
         }
         catch (SQLException e) {
             throw new ConnectException("Database processing error", e);
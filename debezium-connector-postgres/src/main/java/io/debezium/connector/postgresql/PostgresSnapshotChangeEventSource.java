@@ -13,15 +13,18 @@
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.kafka.connect.source.SourceConnector;
 import org.postgresql.util.PGmoney;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.connector.postgresql.PostgresConnectorConfig.SnapshotReadMode;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.connection.ReplicationConnection;
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
 import io.debezium.connector.postgresql.spi.Snapshotter;
 import io.debezium.data.SpecialValueDecimal;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.spi.OffsetContext;
@@ -58,17 +61,36 @@ public PostgresSnapshotChangeEventSource(PostgresConnectorConfig connectorConfig
     protected SnapshottingTask getSnapshottingTask(OffsetContext previousOffset) {
         boolean snapshotSchema = true;
         boolean snapshotData = true;
+        boolean snapshotDataIncrementally = false;
 
         snapshotData = snapshotter.shouldSnapshot();
         if (snapshotData) {
             LOGGER.info("According to the connector configuration data will be snapshotted");
         }
+        else if (snapshotter.shouldSnapshotIncrementally()) {
+            LOGGER.info("According to the connector configuration data will be snapshotted incrementally while streaming");
+            snapshotSchema = false;
+            snapshotDataIncrementally = true;
+        }
         else {
             LOGGER.info("According to the connector configuration no snapshot will be executed");
             snapshotSchema = false;
         }
 
-        return new SnapshottingTask(snapshotSchema, snapshotData);
+        return new SnapshottingTask(snapshotSchema, snapshotData, snapshotDataIncrementally);
+    }
+
+    /**
+     * The previous snapshot can only be resumed if the replication slot hasn't been re-created since, as otherwise the
+     * changes since the previous snapshot offset can't be streamed.
+     */
+    @Override
+    protected boolean isSnapshotResumable(OffsetContext previousOffset) {
+        if (slotCreatedInfo != null) {
+            LOGGER.info("The replication slot has been created after the previous snapshot, so it can't be resumed");
+            return false;
+        }
+        return super.isSnapshotResumable(previousOffset);
     }
 
     @Override
@@ -186,17 +208,75 @@ protected SchemaChangeEvent getCreateTableEvent(SnapshotContext snapshotContext,
     protected void complete(SnapshotContext snapshotContext) {
     }
 
+    /**
+     * Opens a connection whose transaction imports the snapshot of the main snapshot connection, so that all connections
+     * read the tables' data at the same point in time. That's the snapshot exported when creating the replication slot,
+     * if the main snapshot transaction is based on it, or otherwise one exported by the main snapshot connection.
+     */
+    @Override
+    protected Optional<JdbcConnection> openParallelSnapshotConnection(SnapshotContext snapshotContext) throws SQLException {
+        final PostgresSnapshotContext ctx = (PostgresSnapshotContext) snapshotContext;
+        if (ctx.exportedSnapshotId == null) {
+            if (snapshotter.exportSnapshot() && slotCreatedInfo != null && slotCreatedInfo.snapshotName() != null) {
+                // the snapshot stays valid as the replication connection isn't used until streaming starts
+                ctx.exportedSnapshotId = slotCreatedInfo.snapshotName();
+                LOGGER.info("Using snapshot '{}' exported by replication slot '{}' for reading tables in parallel", ctx.exportedSnapshotId,
+                        slotCreatedInfo.slotName());
+            }
+            else {
+                ctx.exportedSnapshotId = jdbcConnection.queryAndMap("SELECT pg_export_snapshot()", rs -> rs.next() ? rs.getString(1) : null);
+                LOGGER.info("Exported snapshot '{}' for reading tables in parallel", ctx.exportedSnapshotId);
+            }
+        }
+
+        final PostgresConnection connection = new PostgresConnection(jdbcConnection.config());
+        try {
+            connection.setAutoCommit(false);
+            connection.executeWithoutCommitting(
+                    "SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY;",
+                    "SET TRANSACTION SNAPSHOT '" + ctx.exportedSnapshotId + "';");
+        }
+        catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return Optional.of(connection);
+    }
+
+    @Override
+    protected Class<? extends SourceConnector> getConnectorClass() {
+        return PostgresConnector.class;
+    }
+
     @Override
     protected Optional<String> getSnapshotSelect(SnapshotContext snapshotContext, TableId tableId) {
         return snapshotter.buildSnapshotQuery(tableId);
     }
 
+    @Override
+    protected Optional<SnapshotRowReader> openSnapshotRowReader(SnapshotContext snapshotContext, Table table, String select, JdbcConnection connection)
+            throws SQLException {
+        if (connectorConfig.snapshotReadMode() != SnapshotReadMode.COPY_BINARY) {
+            return Optional.empty();
+        }
+        // the COPY statement is executed by the given connection, so it reads the table in the snapshot transaction as well
+        return CopyBinaryRowReader.open(connection, schema.getTypeRegistry(), table, select);
+    }
+
     @Override
     protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) throws SQLException {
+        return readColumnValue(rs, columnIndex, schema.getTypeRegistry());
+    }
+
+    /**
+     * Reads the value of the given column of a snapshot record, in the representation expected by the value
+     * converters; shared with the incremental snapshot.
+     */
+    static Object readColumnValue(ResultSet rs, int columnIndex, TypeRegistry typeRegistry) throws SQLException {
         try {
             final ResultSetMetaData metaData = rs.getMetaData();
             final String columnTypeName = metaData.getColumnTypeName(columnIndex);
-            final PostgresType type = schema.getTypeRegistry().get(columnTypeName);
+            final PostgresType type = typeRegistry.get(columnTypeName);
 
             LOGGER.trace("Type of incoming data is: {}", type.getOid());
             LOGGER.trace("ColumnTypeName is: {}", columnTypeName);
@@ -236,7 +316,7 @@ protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) th
         }
         catch (SQLException e) {
             // not a known type
-            return super.getColumnValue(rs, columnIndex, column);
+            return rs.getObject(columnIndex);
         }
     }
 
@@ -245,6 +325,11 @@ protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) th
      */
     private static class PostgresSnapshotContext extends SnapshotContext {
 
+        /**
+         * Id of the snapshot exported for parallel snapshot connections, if any
+         */
+        private String exportedSnapshotId;
+
         public PostgresSnapshotContext(String catalogName) throws SQLException {
             super(catalogName);
         }
@@ -111,6 +111,7 @@ protected ReplicationConnection createReplicationConnection(boolean exportSnapsh
         return ReplicationConnection.builder(config.jdbcConfig())
                 .withSlot(config.slotName())
                 .withPublication(config.publicationName())
+                .withTableFilter(config.tableFilterOnServer() ? new Filters(config).tableFilter() : null)
                 .withPlugin(config.plugin())
                 .dropSlotOnClose(dropSlotOnStop)
                 .streamParams(config.streamParams())
@@ -17,6 +17,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.postgresql.core.BaseConnection;
@@ -100,8 +101,9 @@ private static Map<String, String> getLongTypeNames() {
         return longTypeNames;
     }
 
-    private final Map<String, PostgresType> nameToType = new HashMap<>();
-    private final Map<Integer, PostgresType> oidToType = new HashMap<>();
+    // concurrent maps, as types may be looked up by several snapshot threads at once
+    private final Map<String, PostgresType> nameToType = new ConcurrentHashMap<>();
+    private final Map<Integer, PostgresType> oidToType = new ConcurrentHashMap<>();
 
     private final PostgresConnection connection;
 
@@ -403,7 +405,7 @@ private void prime() {
         }
     }
 
-    private PostgresType resolveUnknownType(String name) {
+    private synchronized PostgresType resolveUnknownType(String name) {
         try {
             LOGGER.trace("Type '{}' not cached, attempting to lookup from database.", name);
             final Connection connection = this.connection.connection();
@@ -447,7 +449,7 @@ private PostgresType resolveUnknownType(String name) {
         return null;
     }
 
-    private PostgresType resolveUnknownType(int lookupOid) {
+    private synchronized PostgresType resolveUnknownType(int lookupOid) {
         try {
             LOGGER.trace("Type OID '{}' not cached, attempting to lookup from database.", lookupOid);
             final Connection connection = this.connection.connection();
@@ -70,4 +70,10 @@ default void setContainsMetadata(boolean flag) {
      * @return {@code true} if the incoming message should be skipped, {@code false} otherwise
      */
     boolean shouldMessageBeSkipped(ByteBuffer buffer, Long lastReceivedLsn, Long startLsn, boolean skipFirstFlushRecord);
+
+    /**
+     * Releases any resources, such as database connections, acquired by this decoder.
+     */
+    default void close() {
+    }
 }
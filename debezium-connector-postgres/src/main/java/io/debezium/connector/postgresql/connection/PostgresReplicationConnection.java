@@ -16,11 +16,14 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.errors.ConnectException;
 import org.postgresql.core.ServerVersion;
@@ -39,6 +42,8 @@
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.jdbc.JdbcConnectionException;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables.TableFilter;
 import io.debezium.util.Clock;
 import io.debezium.util.Metronome;
 
@@ -52,6 +57,8 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
 
     private static Logger LOGGER = LoggerFactory.getLogger(PostgresReplicationConnection.class);
 
+    private static final String WAL2JSON_ADD_TABLES = "add-tables";
+
     private final String slotName;
     private final String publicationName;
     private final PostgresConnectorConfig.LogicalDecoder plugin;
@@ -62,6 +69,7 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
     private final MessageDecoder messageDecoder;
     private final TypeRegistry typeRegistry;
     private final Properties streamParams;
+    private final TableFilter tableFilter;
 
     private long defaultStartingPos;
     private SlotCreationResult slotCreationInfo;
@@ -80,6 +88,7 @@ public class PostgresReplicationConnection extends JdbcConnection implements Rep
      * @param typeRegistry registry with PostgreSQL types
      * @param streamParams additional parameters to pass to the replication stream
      * @param schema the schema; must not be null
+     * @param tableFilter the filter of the tables whose changes should be sent by the server; may be null for all tables
      *
      * updates to the server
      */
@@ -92,7 +101,8 @@ private PostgresReplicationConnection(Configuration config,
                                           Duration statusUpdateInterval,
                                           TypeRegistry typeRegistry,
                                           Properties streamParams,
-                                          PostgresSchema schema) {
+                                          PostgresSchema schema,
+                                          TableFilter tableFilter) {
         super(config, PostgresConnection.FACTORY, null, PostgresReplicationConnection::defaultSettings);
 
         this.originalConfig = config;
@@ -105,6 +115,7 @@ private PostgresReplicationConnection(Configuration config,
         this.messageDecoder = plugin.messageDecoder(new MessageDecoderConfig(config, schema, publicationName));
         this.typeRegistry = typeRegistry;
         this.streamParams = streamParams;
+        this.tableFilter = tableFilter;
         this.slotCreationInfo = null;
         this.hasInitedSlot = false;
     }
@@ -119,25 +130,26 @@ protected void initPublication() {
         if (PostgresConnectorConfig.LogicalDecoder.PGOUTPUT.equals(plugin)) {
             LOGGER.info("Initializing PgOutput logical decoder publication");
             try {
-                String selectPublication = String.format("SELECT COUNT(1) FROM pg_publication WHERE pubname = '%s'", publicationName);
+                String selectPublication = String.format("SELECT puballtables FROM pg_publication WHERE pubname = '%s'", publicationName);
                 try (Statement stmt = pgConnection().createStatement(); ResultSet rs = stmt.executeQuery(selectPublication)) {
-                    if (rs.next()) {
-                        Long count = rs.getLong(1);
-                        if (count == 0L) {
-                            LOGGER.info("Creating new publication '{}' for plugin '{}'", publicationName, plugin);
-                            // Publication doesn't exist, create it.
-                            // todo: DBZ-766 - Change this to be restricted based on configured whitelist tables?
-                            // For situations where no publication exists, we likely cannot create it for all tables.
-                            // This is because postgres requires certain super user permissions to use "ALL TABLES".
-                            // We should restrict this to the configured tables here.
-                            stmt.execute(String.format("CREATE PUBLICATION %s FOR ALL TABLES;", publicationName));
-                        }
-                        else {
-                            LOGGER.trace(
-                                    "A logical publication named '{}' for plugin '{}' and database '{}' is already active on the server " +
-                                            "and will be used by the plugin",
-                                    publicationName, plugin, database());
+                    if (!rs.next()) {
+                        LOGGER.info("Creating new publication '{}' for plugin '{}'", publicationName, plugin);
+                        // Publication doesn't exist, create it.
+                        // Unless the tables are filtered on the server, it is created for all tables,
+                        // which requires super user permissions.
+                        stmt.execute(createPublicationStatement());
+                    }
+                    else if (tableFilter != null && !rs.getBoolean(1)) {
+                        updatePublicationTables();
+                    }
+                    else {
+                        if (tableFilter != null) {
+                            LOGGER.warn("The publication '{}' is defined for all tables, so changes of all tables will be sent by the server", publicationName);
                         }
+                        LOGGER.trace(
+                                "A logical publication named '{}' for plugin '{}' and database '{}' is already active on the server " +
+                                        "and will be used by the plugin",
+                                publicationName, plugin, database());
                     }
                 }
             }
@@ -149,6 +161,117 @@ protected void initPublication() {
             streamParams.put("proto_version", 1);
             streamParams.put("publication_names", publicationName);
         }
+        else if (tableFilter != null) {
+            initPluginTableFilter();
+        }
+    }
+
+    private String createPublicationStatement() throws SQLException {
+        if (tableFilter == null) {
+            return String.format("CREATE PUBLICATION %s FOR ALL TABLES;", publicationName);
+        }
+        final Set<TableId> tables = capturedTables();
+        if (tables.isEmpty()) {
+            LOGGER.warn("No tables are captured, creating publication '{}' without tables", publicationName);
+            return String.format("CREATE PUBLICATION %s;", publicationName);
+        }
+        return String.format("CREATE PUBLICATION %s FOR TABLE %s;", publicationName, toPublicationTableList(tables));
+    }
+
+    /**
+     * Brings the tables of the existing publication in line with the captured tables, as the table filters or the tables
+     * in the database may have changed since it has been created.
+     */
+    private void updatePublicationTables() throws SQLException {
+        final Set<TableId> publishedTables = new TreeSet<>();
+        final String selectPublicationTables = String.format("SELECT schemaname, tablename FROM pg_publication_tables WHERE pubname = '%s'", publicationName);
+        try (Statement stmt = pgConnection().createStatement(); ResultSet rs = stmt.executeQuery(selectPublicationTables)) {
+            while (rs.next()) {
+                publishedTables.add(new TableId(null, rs.getString(1), rs.getString(2)));
+            }
+        }
+
+        final Set<TableId> tables = capturedTables();
+        if (tables.equals(publishedTables)) {
+            LOGGER.info("The publication '{}' already contains the captured tables {}", publicationName, tables);
+            return;
+        }
+
+        final String statement;
+        if (tables.isEmpty()) {
+            LOGGER.warn("No tables are captured, removing all tables from publication '{}'", publicationName);
+            statement = String.format("ALTER PUBLICATION %s DROP TABLE %s;", publicationName, toPublicationTableList(publishedTables));
+        }
+        else {
+            LOGGER.info("Updating the tables of publication '{}' from {} to {}", publicationName, publishedTables, tables);
+            statement = String.format("ALTER PUBLICATION %s SET TABLE %s;", publicationName, toPublicationTableList(tables));
+        }
+        try (Statement stmt = pgConnection().createStatement()) {
+            stmt.execute(statement);
+        }
+    }
+
+    /**
+     * Passes the captured tables to logical decoding plugins other than pgoutput, if they support filtering tables.
+     */
+    private void initPluginTableFilter() {
+        if (!"wal2json".equals(plugin.getPostgresPluginName())) {
+            LOGGER.warn("The plugin '{}' does not support filtering tables, changes of all tables will be sent by the server", plugin);
+            return;
+        }
+        if (streamParams.containsKey(WAL2JSON_ADD_TABLES)) {
+            LOGGER.info("Using the '{}' option given in the stream parameters", WAL2JSON_ADD_TABLES);
+            return;
+        }
+        final Set<TableId> tables;
+        try {
+            tables = capturedTables();
+        }
+        catch (SQLException e) {
+            throw new JdbcConnectionException(e);
+        }
+        if (tables.isEmpty()) {
+            LOGGER.warn("No tables are captured, changes of all tables will be sent by the server");
+            return;
+        }
+        final String addTables = tables.stream()
+                .map(table -> escapeWal2JsonName(table.schema()) + "." + escapeWal2JsonName(table.table()))
+                .collect(Collectors.joining(","));
+        LOGGER.info("Restricting the changes sent by the server to the captured tables {}", tables);
+        streamParams.put(WAL2JSON_ADD_TABLES, addTables);
+    }
+
+    /**
+     * @return the tables of the database included by the table filter, identified by schema and name only
+     */
+    private Set<TableId> capturedTables() throws SQLException {
+        try (PostgresConnection connection = new PostgresConnection(originalConfig)) {
+            return connection.readTableNames(connection.database(), null, null, new String[]{ "TABLE" }).stream()
+                    .filter(tableFilter::isIncluded)
+                    .map(table -> new TableId(null, table.schema(), table.table()))
+                    .collect(Collectors.toCollection(TreeSet::new));
+        }
+    }
+
+    private static String toPublicationTableList(Set<TableId> tables) {
+        return tables.stream()
+                .map(TableId::toDoubleQuotedString)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Escapes the characters that wal2json treats specially in the table names of the {@code add-tables} option.
+     */
+    private static String escapeWal2JsonName(String name) {
+        final StringBuilder escaped = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (c == ' ' || c == '\'' || c == ',' || c == '.' || c == '*' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
     }
 
     protected void initReplicationSlot() throws SQLException, InterruptedException {
@@ -521,6 +644,12 @@ public synchronized void close() {
         catch (Throwable e) {
             LOGGER.error("Unexpected error while closing Postgres connection", e);
         }
+        try {
+            messageDecoder.close();
+        }
+        catch (Throwable e) {
+            LOGGER.error("Unexpected error while closing message decoder", e);
+        }
         if (dropSlotOnClose) {
             // we're dropping the replication slot via a regular - i.e. not a replication - connection
             try (PostgresConnection connection = new PostgresConnection(originalConfig)) {
@@ -552,6 +681,7 @@ protected static class ReplicationConnectionBuilder implements Builder {
         private TypeRegistry typeRegistry;
         private PostgresSchema schema;
         private Properties slotStreamParams = new Properties();
+        private TableFilter tableFilter;
 
         protected ReplicationConnectionBuilder(Configuration config) {
             assert config != null;
@@ -585,6 +715,12 @@ public ReplicationConnectionBuilder dropSlotOnClose(final boolean dropSlotOnClos
             return this;
         }
 
+        @Override
+        public Builder withTableFilter(TableFilter tableFilter) {
+            this.tableFilter = tableFilter;
+            return this;
+        }
+
         @Override
         public ReplicationConnectionBuilder streamParams(final String slotStreamParams) {
             if (slotStreamParams != null && !slotStreamParams.isEmpty()) {
@@ -619,7 +755,7 @@ public Builder exportSnapshotOnCreate(boolean exportSnapshot) {
         public ReplicationConnection build() {
             assert plugin != null : "Decoding plugin name is not set";
             return new PostgresReplicationConnection(config, slotName, publicationName, plugin, dropSlotOnClose, exportSnapshot,
-                    statusUpdateIntervalVal, typeRegistry, slotStreamParams, schema);
+                    statusUpdateIntervalVal, typeRegistry, slotStreamParams, schema, tableFilter);
         }
 
         @Override
@@ -19,6 +19,7 @@
 import io.debezium.connector.postgresql.PostgresSchema;
 import io.debezium.connector.postgresql.TypeRegistry;
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
+import io.debezium.relational.Tables.TableFilter;
 
 /**
  * A Postgres logical streaming replication connection. Replication connections are established for a slot and a given plugin
@@ -169,6 +170,15 @@ interface Builder {
          */
         Builder withSchema(PostgresSchema schema);
 
+        /**
+         * Restricts the changes decoded and sent by the server to the ones of the tables included by the given filter, if
+         * the logical decoding plugin supports it.
+         *
+         * @param tableFilter the filter of the captured tables; may be null if the changes of all tables should be sent
+         * @return this instance
+         */
+        Builder withTableFilter(TableFilter tableFilter);
+
         /**
          * Optional parameters to pass to the logical decoder when the stream starts.
          *
@@ -6,74 +6,175 @@
 package io.debezium.connector.postgresql.connection.pgoutput;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 
 import io.debezium.connector.postgresql.connection.AbstractColumnValue;
 import io.debezium.data.SpecialValueDecimal;
-import io.debezium.util.Strings;
 
 /**
+ * The text representation of a column value as sent by the pgoutput plug-in. The value is kept as a slice of the bytes of
+ * the replication message and only decoded when accessed; integers, booleans, plain decimals and byte arrays are parsed
+ * straight from the bytes without creating a string first.
+ *
  * @author Chris Cranford
  */
 class PgOutputColumnValue extends AbstractColumnValue<String> {
 
+    // the number of decimal digits that always fit into a long
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
     private String value;
 
-    PgOutputColumnValue(String value) {
-        this.value = value;
+    /**
+     * @param bytes the bytes of the replication message; must not be modified afterwards
+     * @param offset the offset of the value within the bytes
+     * @param length the length of the value in bytes
+     */
+    PgOutputColumnValue(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
     }
 
     @Override
     public String getRawValue() {
-        return value;
+        return asString();
     }
 
     @Override
     public boolean isNull() {
-        return value == null;
+        return false;
     }
 
     @Override
     public String asString() {
+        if (value == null) {
+            value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
         return value;
     }
 
     @Override
     public Boolean asBoolean() {
-        return "t".equalsIgnoreCase(value);
+        return length == 1 && (bytes[offset] == 't' || bytes[offset] == 'T');
     }
 
     @Override
     public Integer asInteger() {
-        return Integer.valueOf(value);
+        if (length > 0 && length <= 10) {
+            final long parsed = parseLong();
+            if (parsed >= Integer.MIN_VALUE && parsed <= Integer.MAX_VALUE) {
+                return (int) parsed;
+            }
+        }
+        return Integer.valueOf(asString());
     }
 
     @Override
     public Long asLong() {
-        return Long.valueOf(value);
+        if (length > 0 && length <= MAX_LONG_DIGITS) {
+            final long parsed = parseLong();
+            if (parsed != Long.MIN_VALUE) {
+                return parsed;
+            }
+        }
+        return Long.valueOf(asString());
     }
 
     @Override
     public Float asFloat() {
-        return Float.valueOf(value);
+        return Float.valueOf(asString());
     }
 
     @Override
     public Double asDouble() {
-        return Double.valueOf(value);
+        return Double.valueOf(asString());
     }
 
     @Override
     public SpecialValueDecimal asDecimal() {
-        if ("NaN".equals(value)) {
+        if (length == 3 && bytes[offset] == 'N' && bytes[offset + 1] == 'a' && bytes[offset + 2] == 'N') {
             return SpecialValueDecimal.NOT_A_NUMBER;
         }
-        else {
-            return new SpecialValueDecimal(new BigDecimal(value));
-        }
+        final BigDecimal parsed = parseDecimal();
+        return new SpecialValueDecimal(parsed != null ? parsed : new BigDecimal(asString()));
     }
 
     @Override
     public byte[] asByteArray() {
-        return Strings.hexStringToByteArray(value.substring(2));
+        // bytea values are sent in hex format, prefixed with "\x"
+        final byte[] result = new byte[(length - 2) / 2];
+        for (int i = 0, j = offset + 2; i < result.length; i++, j += 2) {
+            result[i] = (byte) ((Character.digit(bytes[j], 16) << 4) + Character.digit(bytes[j + 1], 16));
+        }
+        return result;
+    }
+
+    /**
+     * Parses an integer of at most {@link #MAX_LONG_DIGITS} digits with an optional leading sign.
+     *
+     * @return the value or {@link Long#MIN_VALUE} if the bytes are not such a number
+     */
+    private long parseLong() {
+        int i = offset;
+        final int end = offset + length;
+        final boolean negative = bytes[i] == '-';
+        if (negative || bytes[i] == '+') {
+            i++;
+        }
+        if (i == end) {
+            return Long.MIN_VALUE;
+        }
+        long result = 0;
+        for (; i < end; i++) {
+            final int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            result = result * 10 + digit;
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Parses a decimal of at most {@link #MAX_LONG_DIGITS} digits with an optional leading sign and decimal point.
+     *
+     * @return the value or null if the bytes are not such a number, e.g. when using an exponent or infinity
+     */
+    private BigDecimal parseDecimal() {
+        int i = offset;
+        final int end = offset + length;
+        if (i == end) {
+            return null;
+        }
+        final boolean negative = bytes[i] == '-';
+        if (negative || bytes[i] == '+') {
+            i++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            final byte b = bytes[i];
+            if (b == '.' && scale == -1) {
+                scale = 0;
+                continue;
+            }
+            final int digit = b - '0';
+            if (digit < 0 || digit > 9 || ++digits > MAX_LONG_DIGITS) {
+                return null;
+            }
+            unscaled = unscaled * 10 + digit;
+            if (scale != -1) {
+                scale++;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
     }
 }
@@ -6,9 +6,6 @@
 package io.debezium.connector.postgresql.connection.pgoutput;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.Charset;
-import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -17,7 +14,6 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,10 +30,11 @@
 import io.debezium.connector.postgresql.connection.AbstractMessageDecoder;
 import io.debezium.connector.postgresql.connection.AbstractReplicationMessageColumn;
 import io.debezium.connector.postgresql.connection.MessageDecoderConfig;
-import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.connection.ReplicationMessage.Column;
 import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
 import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
+import io.debezium.connector.postgresql.connection.pgoutput.RelationMetaDataCache.LayoutHash;
+import io.debezium.connector.postgresql.connection.pgoutput.RelationMetaDataCache.RelationMetaData;
 import io.debezium.relational.ColumnEditor;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
@@ -61,6 +58,8 @@ public class PgOutputMessageDecoder extends AbstractMessageDecoder {
     private int transactionId;
 
     private final MessageDecoderConfig config;
+    private final RelationMetaDataCache relationMetaData;
+    private final Map<TableId, ColumnTypes> columnTypes = new HashMap<>();
 
     public enum MessageType {
         RELATION,
@@ -101,6 +100,7 @@ public static MessageType forType(char type) {
 
     public PgOutputMessageDecoder(MessageDecoderConfig config) {
         this.config = config;
+        this.relationMetaData = new RelationMetaDataCache(config.getConfiguration(), config.getPublicationName());
     }
 
     @Override
@@ -214,6 +214,11 @@ public ChainedLogicalStreamBuilder optionsWithoutMetadata(ChainedLogicalStreamBu
         return builder;
     }
 
+    @Override
+    public void close() {
+        relationMetaData.close();
+    }
+
     /**
      * Callback handler for the 'B' begin replication message.
      *
@@ -252,7 +257,7 @@ private void handleCommitMessage(ByteBuffer buffer) {
      * @param buffer The replication stream buffer
      * @param typeRegistry The postgres type registry
      */
-    private void handleRelationMessage(ByteBuffer buffer, TypeRegistry typeRegistry) throws SQLException {
+    private void handleRelationMessage(ByteBuffer buffer, TypeRegistry typeRegistry) {
         int relationId = buffer.getInt();
         String schemaName = readString(buffer);
         String tableName = readString(buffer);
@@ -262,70 +267,43 @@ private void handleRelationMessage(ByteBuffer buffer, TypeRegistry typeRegistry)
         LOGGER.trace("Event: {}, RelationId: {}, Replica Identity: {}, Columns: {}", MessageType.RELATION, relationId, replicaIdentityId, columnCount);
         LOGGER.trace("Schema: '{}', Table: '{}'", schemaName, tableName);
 
-        // Perform several out-of-bands database metadata queries
-        Map<String, Boolean> columnOptionality;
-        Set<String> primaryKeyColumns;
-        try (final PostgresConnection connection = new PostgresConnection(config.getConfiguration())) {
-            final DatabaseMetaData databaseMetadata = connection.connection().getMetaData();
-            columnOptionality = getTableColumnOptionalityFromDatabase(databaseMetadata, schemaName, tableName);
-            primaryKeyColumns = getTablePrimaryKeyColumnNamesFromDatabase(databaseMetadata, schemaName, tableName);
-            if (primaryKeyColumns == null || primaryKeyColumns.isEmpty()) {
-                primaryKeyColumns = new HashSet<>(connection.readTableUniqueIndices(databaseMetadata, new TableId(null, schemaName, tableName)));
-            }
+        List<String> columnNames = new ArrayList<>(columnCount);
+        int[] columnTypes = new int[columnCount];
+        int[] typeModifiers = new int[columnCount];
+        int layoutHash = LayoutHash.INITIAL;
+        for (short i = 0; i < columnCount; ++i) {
+            byte flags = buffer.get();
+            String columnName = readString(buffer);
+            columnTypes[i] = buffer.getInt();
+            typeModifiers[i] = buffer.getInt();
+            layoutHash = LayoutHash.add(layoutHash, columnName, columnTypes[i], typeModifiers[i]);
+            columnNames.add(Strings.unquoteIdentifierPart(columnName));
         }
 
+        // Resolve the metadata not sent with the message, from the cache or by an out-of-bands query
+        RelationMetaData metaData = relationMetaData.get(relationId, layoutHash);
+        Set<String> primaryKeyColumns = metaData.keyColumns();
+
         List<ColumnMetaData> columns = new ArrayList<>();
         for (short i = 0; i < columnCount; ++i) {
-            byte flags = buffer.get();
-            String columnName = Strings.unquoteIdentifierPart(readString(buffer));
-            int columnType = buffer.getInt();
-            int attypmod = buffer.getInt();
+            String columnName = columnNames.get(i);
 
-            final PostgresType postgresType = typeRegistry.get(columnType);
+            final PostgresType postgresType = typeRegistry.get(columnTypes[i]);
             boolean key = isColumnInPrimaryKey(schemaName, tableName, columnName, primaryKeyColumns);
 
-            Boolean optional = columnOptionality.get(columnName);
+            Boolean optional = metaData.isOptional(columnName);
             if (optional == null) {
                 LOGGER.warn("Column '{}' optionality could not be determined, defaulting to true", columnName);
                 optional = true;
             }
 
-            columns.add(new ColumnMetaData(columnName, postgresType, key, optional, attypmod));
+            columns.add(new ColumnMetaData(columnName, postgresType, key, optional, typeModifiers[i]));
         }
 
         Table table = resolveRelationFromMetadata(new PgOutputRelationMetaData(relationId, schemaName, tableName, columns));
         config.getSchema().applySchemaChangesForTable(relationId, table);
     }
 
-    private Map<String, Boolean> getTableColumnOptionalityFromDatabase(DatabaseMetaData databaseMetadata, String schemaName, String tableName) {
-        Map<String, Boolean> columnOptionality = new HashMap<>();
-        try {
-            try (ResultSet resultSet = databaseMetadata.getColumns(null, schemaName, tableName, null)) {
-                while (resultSet.next()) {
-                    columnOptionality.put(resultSet.getString("COLUMN_NAME"), resultSet.getString("IS_NULLABLE").equals("YES"));
-                }
-            }
-        }
-        catch (SQLException e) {
-            LOGGER.warn("Failed to read column optionality metadata for '{}.{}'", schemaName, tableName);
-            // todo: DBZ-766 Should this throw the exception or just log the warning?
-        }
-        return columnOptionality;
-    }
-
-    private Set<String> getTablePrimaryKeyColumnNamesFromDatabase(DatabaseMetaData databaseMetadata, String schemaName, String tableName) {
-        Set<String> primaryKeyColumns = new HashSet<>();
-        try (ResultSet resultSet = databaseMetadata.getPrimaryKeys(null, schemaName, tableName)) {
-            while (resultSet.next()) {
-                primaryKeyColumns.add(resultSet.getString("COLUMN_NAME"));
-            }
-        }
-        catch (SQLException e) {
-            LOGGER.warn("Failed to read table {}.{} primary keys", schemaName, tableName);
-        }
-        return primaryKeyColumns;
-    }
-
     private boolean isColumnInPrimaryKey(String schemaName, String tableName, String columnName, Set<String> primaryKeyColumns) {
         // todo (DBZ-766) - Discuss this logic with team as there may be a better way to handle this
         // Personally I think its sufficient enough to resolve the PK based on the out-of-bands call
@@ -370,7 +348,7 @@ private void decodeInsert(ByteBuffer buffer, TypeRegistry typeRegistry, Replicat
         }
         else {
             Table table = resolvedTable.get();
-            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table, resolveColumnTypes(typeRegistry, table));
             processor.process(new PgOutputReplicationMessage(
                     Operation.INSERT,
                     table.id().toDoubleQuotedString(),
@@ -409,13 +387,13 @@ private void decodeUpdate(ByteBuffer buffer, TypeRegistry typeRegistry, Replicat
             List<Column> oldColumns = null;
             char tupleType = (char) buffer.get();
             if ('O' == tupleType || 'K' == tupleType) {
-                oldColumns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+                oldColumns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table, resolveColumnTypes(typeRegistry, table));
                 // Read the 'N' tuple type
                 // This is necessary so the stream position is accurate for resolving the column tuple data
                 tupleType = (char) buffer.get();
             }
 
-            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table, resolveColumnTypes(typeRegistry, table));
             processor.process(new PgOutputReplicationMessage(
                     Operation.UPDATE,
                     table.id().toDoubleQuotedString(),
@@ -446,7 +424,7 @@ private void decodeDelete(ByteBuffer buffer, TypeRegistry typeRegistry, Replicat
         }
         else {
             Table table = resolvedTable.get();
-            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table, resolveColumnTypes(typeRegistry, table));
             processor.process(new PgOutputReplicationMessage(
                     Operation.DELETE,
                     table.id().toDoubleQuotedString(),
@@ -520,37 +498,52 @@ private static String readString(ByteBuffer buffer) {
     }
 
     /**
-     * Reads the replication stream where the column stream specifies a length followed by the value.
+     * Resolves the {@link PostgresType types} of the columns of the given table, reusing the ones resolved for the
+     * same table before, so that they don't need to be looked up by name for every tuple.
      *
-     * @param buffer The replication stream buffer
-     * @return the column value as a string read from the replication stream
+     * @param typeRegistry The database type registry
+     * @param table The database table
+     * @return the types of the columns of the table, in order
      */
-    private static String readColumnValueAsString(ByteBuffer buffer) {
-        int length = buffer.getInt();
-        byte[] value = new byte[length];
-        buffer.get(value, 0, length);
-        return new String(value, Charset.forName("UTF-8"));
+    private PostgresType[] resolveColumnTypes(TypeRegistry typeRegistry, Table table) {
+        final ColumnTypes cached = columnTypes.get(table.id());
+        if (cached != null && cached.table == table) {
+            return cached.types;
+        }
+        final List<io.debezium.relational.Column> tableColumns = table.columns();
+        final PostgresType[] types = new PostgresType[tableColumns.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = typeRegistry.get(tableColumns.get(i).typeName());
+        }
+        columnTypes.put(table.id(), new ColumnTypes(table, types));
+        return types;
     }
 
     /**
      * Resolve the replication stream's tuple data to a list of replication message columns.
+     * <p>
+     * The values are not decoded here; each column keeps a slice of the bytes of the message that is decoded when its
+     * value is requested, so the buffer must be backed by an array that is not reused for subsequent messages, as it is
+     * the case for the buffers passed by the PostgreSQL JDBC driver.
      *
-     * @param buffer The replication stream buffer
+     * @param buffer The replication stream buffer, positioned at the number of columns of the tuple data
      * @param typeRegistry The database type registry
      * @param table The database table
+     * @param columnTypes The types of the columns of the table, in order
      * @return list of replication message columns
      */
-    private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer, TypeRegistry typeRegistry, Table table) {
+    public static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer, TypeRegistry typeRegistry, Table table, PostgresType[] columnTypes) {
         // Read number of the columns
         short numberOfColumns = buffer.getShort();
 
+        final List<io.debezium.relational.Column> tableColumns = table.columns();
+        final byte[] bytes = buffer.hasArray() ? buffer.array() : null;
         List<Column> columns = new ArrayList<>(numberOfColumns);
         for (short i = 0; i < numberOfColumns; ++i) {
 
-            final io.debezium.relational.Column column = table.columns().get(i);
+            final io.debezium.relational.Column column = tableColumns.get(i);
             final String columnName = column.name();
-            final String typeName = column.typeName();
-            final PostgresType columnType = typeRegistry.get(typeName);
+            final PostgresType columnType = columnTypes[i];
             final String typeExpression = column.typeExpression();
             final boolean optional = column.isOptional();
 
@@ -560,18 +553,28 @@ private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer,
             // 'n' : Value is null.
             char type = (char) buffer.get();
             if (type == 't') {
-                final String valueStr = readColumnValueAsString(buffer);
+                final int length = buffer.getInt();
+                final PgOutputColumnValue value;
+                if (bytes != null) {
+                    value = new PgOutputColumnValue(bytes, buffer.arrayOffset() + buffer.position(), length);
+                    buffer.position(buffer.position() + length);
+                }
+                else {
+                    final byte[] copy = new byte[length];
+                    buffer.get(copy);
+                    value = new PgOutputColumnValue(copy, 0, length);
+                }
                 columns.add(
                         new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional, true) {
                             @Override
                             public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
-                                return PgOutputReplicationMessage.getValue(columnName, columnType, typeExpression, valueStr, connection, includeUnknownDatatypes,
+                                return PgOutputReplicationMessage.getValue(columnName, columnType, typeExpression, value, connection, includeUnknownDatatypes,
                                         typeRegistry);
                             }
 
                             @Override
                             public String toString() {
-                                return columnName + "(" + typeExpression + ")=" + valueStr;
+                                return columnName + "(" + typeExpression + ")=" + value.asString();
                             }
                         });
             }
@@ -595,7 +598,23 @@ public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDa
             }
         }
 
-        columns.forEach(c -> LOGGER.trace("Column: {}", c));
+        if (LOGGER.isTraceEnabled()) {
+            columns.forEach(c -> LOGGER.trace("Column: {}", c));
+        }
         return columns;
     }
+
+    /**
+     * The types of the columns of a table as resolved for one version of its definition.
+     */
+    private static class ColumnTypes {
+
+        private final Table table;
+        private final PostgresType[] types;
+
+        private ColumnTypes(Table table, PostgresType[] types) {
+            this.table = table;
+            this.types = types;
+        }
+    }
 }
@@ -12,6 +12,7 @@
 import io.debezium.connector.postgresql.PostgresType;
 import io.debezium.connector.postgresql.TypeRegistry;
 import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.ReplicationMessage.ColumnValue;
 import io.debezium.connector.postgresql.connection.ReplicationMessageColumnValueResolver;
 
 /**
@@ -82,7 +83,7 @@ public boolean shouldSchemaBeSynchronized() {
     }
 
     /**
-     * Converts the value (string representation) coming from PgOutput plugin to
+     * Converts the value (text representation) coming from PgOutput plugin to
      * a Java value based on the type of the column from the message.  This value will be converted later on if necessary by the
      * connector's value converter to match whatever the Connect schema type expects.
      *
@@ -90,9 +91,8 @@ public boolean shouldSchemaBeSynchronized() {
      *
      * @return the value; may be null
      */
-    public static Object getValue(String columnName, PostgresType type, String fullType, String rawValue, final PgConnectionSupplier connection,
+    public static Object getValue(String columnName, PostgresType type, String fullType, ColumnValue<?> columnValue, final PgConnectionSupplier connection,
                                   boolean includeUnknownDataTypes, TypeRegistry typeRegistry) {
-        final PgOutputColumnValue columnValue = new PgOutputColumnValue(rawValue);
         return ReplicationMessageColumnValueResolver.resolveValue(columnName, type, fullType, columnValue, connection, includeUnknownDataTypes, typeRegistry);
     }
 }
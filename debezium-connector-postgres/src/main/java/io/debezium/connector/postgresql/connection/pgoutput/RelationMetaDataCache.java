@@ -0,0 +1,181 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+
+/**
+ * Resolves the column metadata of relations that is not part of the pgoutput 'R' relation messages, i.e. the
+ * optionality of the columns and the columns of the primary key or, for tables without one, of the first unique index.
+ * <p>
+ * The metadata is read from the {@code pg_attribute} and {@code pg_index} catalogs using a single connection that is
+ * kept open for the lifetime of the cache. Upon the first relation message, the metadata of all tables of the
+ * publication is read with one query, so that the relation messages sent for each table after (re)starting the
+ * replication stream don't need a query each. A cached entry is used only if the column layout it was read for matches
+ * the one of the relation message, and only once: any further relation message for a table signals a change to it, so
+ * its metadata is read again. Failures to read the metadata are logged, and the metadata of the affected relation is
+ * treated as unknown rather than stopping the replication stream.
+ */
+class RelationMetaDataCache implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RelationMetaDataCache.class);
+
+    // The key columns are the ones of the primary key or of the unique index first by name
+    private static final String SELECT_COLUMNS = "SELECT c.oid, a.attname, a.atttypid, a.atttypmod, a.attnotnull, coalesce(a.attnum = ANY (k.indkey), false) "
+            + "FROM pg_class c "
+            + "JOIN pg_attribute a ON a.attrelid = c.oid AND a.attnum > 0 AND NOT a.attisdropped "
+            + "LEFT JOIN LATERAL (SELECT i.indkey FROM pg_index i JOIN pg_class ic ON ic.oid = i.indexrelid "
+            + "WHERE i.indrelid = c.oid AND i.indisunique ORDER BY i.indisprimary DESC, ic.relname LIMIT 1) k ON true ";
+
+    private static final String SELECT_PUBLICATION_COLUMNS = SELECT_COLUMNS
+            + "JOIN pg_namespace n ON n.oid = c.relnamespace "
+            + "JOIN pg_publication_tables pt ON pt.schemaname = n.nspname AND pt.tablename = c.relname "
+            + "WHERE pt.pubname = ? ORDER BY c.oid, a.attnum";
+
+    private static final String SELECT_RELATION_COLUMNS = SELECT_COLUMNS
+            + "WHERE c.oid = ?::oid ORDER BY a.attnum";
+
+    private final Configuration config;
+    private final String publicationName;
+    private final Map<Integer, RelationMetaData> cache = new HashMap<>();
+    private PostgresConnection connection;
+    private boolean warmedUp;
+
+    RelationMetaDataCache(Configuration config, String publicationName) {
+        this.config = config;
+        this.publicationName = publicationName;
+    }
+
+    /**
+     * Get the metadata of the given relation.
+     *
+     * @param relationId the identifier of the relation
+     * @param layoutHash the {@link LayoutHash hash of the column layout} sent in the relation message
+     * @return the metadata; empty if it could not be read, never null
+     */
+    RelationMetaData get(int relationId, int layoutHash) {
+        if (!warmedUp) {
+            warmedUp = true;
+            warmUp();
+        }
+        final RelationMetaData cached = cache.remove(relationId);
+        if (cached != null && cached.layoutHash == layoutHash) {
+            LOGGER.trace("Using cached metadata of relation {}", relationId);
+            return cached;
+        }
+        try {
+            final Map<Integer, RelationMetaData> read = new HashMap<>();
+            connection().prepareQuery(SELECT_RELATION_COLUMNS, statement -> statement.setLong(1, Integer.toUnsignedLong(relationId)), rs -> read(rs, read));
+            final RelationMetaData metaData = read.get(relationId);
+            return metaData != null ? metaData : RelationMetaData.EMPTY;
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Failed to read the metadata of relation {}", relationId, e);
+            // the connection might be broken, so use a new one next time
+            close();
+            return RelationMetaData.EMPTY;
+        }
+    }
+
+    private void warmUp() {
+        if (publicationName == null) {
+            return;
+        }
+        try {
+            connection().prepareQuery(SELECT_PUBLICATION_COLUMNS, statement -> statement.setString(1, publicationName), rs -> read(rs, cache));
+            LOGGER.info("Read the metadata of {} relations of publication '{}'", cache.size(), publicationName);
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Failed to read the metadata of the relations of publication '{}', reading them one by one", publicationName, e);
+            close();
+        }
+    }
+
+    private static void read(ResultSet rs, Map<Integer, RelationMetaData> relations) throws SQLException {
+        while (rs.next()) {
+            // OIDs are unsigned, the protocol messages carry them as signed integers
+            final int relationId = (int) rs.getLong(1);
+            final String columnName = rs.getString(2);
+            final RelationMetaData relation = relations.computeIfAbsent(relationId, id -> new RelationMetaData());
+            relation.layoutHash = LayoutHash.add(relation.layoutHash, columnName, (int) rs.getLong(3), rs.getInt(4));
+            relation.columnOptionality.put(columnName, !rs.getBoolean(5));
+            if (rs.getBoolean(6)) {
+                relation.keyColumns.add(columnName);
+            }
+        }
+    }
+
+    private PostgresConnection connection() {
+        if (connection == null) {
+            connection = new PostgresConnection(config);
+        }
+        return connection;
+    }
+
+    @Override
+    public void close() {
+        cache.clear();
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+    }
+
+    /**
+     * The metadata of the columns of one relation.
+     */
+    static class RelationMetaData {
+
+        private static final RelationMetaData EMPTY = new RelationMetaData();
+
+        private final Map<String, Boolean> columnOptionality = new HashMap<>();
+        private final Set<String> keyColumns = new HashSet<>();
+        private int layoutHash = LayoutHash.INITIAL;
+
+        /**
+         * @return whether the column of the given name is optional; null if the column is not known
+         */
+        Boolean isOptional(String columnName) {
+            return columnOptionality.get(columnName);
+        }
+
+        /**
+         * @return the names of the columns of the primary key or, if there is none, of the first unique index; never null
+         */
+        Set<String> keyColumns() {
+            return Collections.unmodifiableSet(keyColumns);
+        }
+    }
+
+    /**
+     * The hash of the names, types and type modifiers of the columns of a relation, in order.
+     */
+    static final class LayoutHash {
+
+        static final int INITIAL = 1;
+
+        private LayoutHash() {
+        }
+
+        static int add(int hash, String columnName, int typeOid, int typeModifier) {
+            hash = 31 * hash + columnName.hashCode();
+            hash = 31 * hash + typeOid;
+            return 31 * hash + typeModifier;
+        }
+    }
+}
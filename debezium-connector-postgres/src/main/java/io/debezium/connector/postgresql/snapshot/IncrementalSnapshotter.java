@@ -0,0 +1,51 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.spi.OffsetState;
+import io.debezium.connector.postgresql.spi.SlotState;
+
+/**
+ * Snapshots the data of the captured tables incrementally while streaming upon initial startup of a connector, so that
+ * changes are streamed right away. Requires a signaling table to be configured.
+ */
+public class IncrementalSnapshotter extends QueryingSnapshotter {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(IncrementalSnapshotter.class);
+    private OffsetState sourceInfo;
+
+    @Override
+    public void init(PostgresConnectorConfig config, OffsetState sourceInfo, SlotState slotState) {
+        super.init(config, sourceInfo, slotState);
+        this.sourceInfo = sourceInfo;
+    }
+
+    @Override
+    public boolean shouldStream() {
+        return true;
+    }
+
+    @Override
+    public boolean shouldSnapshot() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldSnapshotIncrementally() {
+        if (sourceInfo == null) {
+            LOGGER.info("Taking initial incremental snapshot for new datasource");
+            return true;
+        }
+        else {
+            LOGGER.info("Streaming logical changes from last known position, resuming incremental snapshot if not completed yet");
+            return false;
+        }
+    }
+}
@@ -44,6 +44,14 @@ void init(PostgresConnectorConfig config, OffsetState sourceInfo,
      */
     boolean shouldStream();
 
+    /**
+     * @return true if the data of the captured tables should be snapshotted incrementally while streaming rather than
+     * before streaming begins; only applies if {@link #shouldSnapshot()} returns false
+     */
+    default boolean shouldSnapshotIncrementally() {
+        return false;
+    }
+
     /**
      * @return true if when creating a slot, a snapshot should be exported, which
      * can be used as an alternative to taking a lock
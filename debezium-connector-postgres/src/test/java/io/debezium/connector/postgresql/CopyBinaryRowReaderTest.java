@@ -0,0 +1,244 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.copy.CopyOut;
+
+import io.debezium.data.SpecialValueDecimal;
+
+public class CopyBinaryRowReaderTest {
+
+    private static final int[] TYPES = { PgOid.INT4, PgOid.INT8, PgOid.TEXT, PgOid.NUMERIC, PgOid.BOOL, PgOid.UUID, PgOid.FLOAT8, PgOid.INT2 };
+    private static final UUID ID = UUID.fromString("f81d4fae-7dec-11d0-a765-00a0c91e6bf6");
+
+    private ByteArrayOutputStream bytes;
+    private DataOutputStream out;
+
+    @Before
+    public void beforeEach() throws IOException {
+        bytes = new ByteArrayOutputStream();
+        out = new DataOutputStream(bytes);
+        out.write(new byte[]{ 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0 });
+        out.writeInt(0);
+        out.writeInt(0);
+    }
+
+    @Test
+    public void shouldDecodeRows() throws Exception {
+        writeRow(42, Long.MAX_VALUE, "zürich", new short[]{ 1, 2345, 6780 }, 1, 0x0000, 3, true, ID, 1.5d, (short) -7);
+        writeNullRow();
+        writeRow(-1, -2L, "", new short[]{ 5000 }, -1, 0x4000, 1, false, ID, -0.25d, (short) 0);
+
+        final CopyBinaryRowReader reader = reader(finish(), Integer.MAX_VALUE);
+        assertThat(reader.next()).isEqualTo(new Object[]{ 42, Long.MAX_VALUE, "zürich", decimal("12345.678"), true, ID, 1.5d, -7 });
+        assertThat(reader.next()).isEqualTo(new Object[TYPES.length]);
+        assertThat(reader.next()).isEqualTo(new Object[]{ -1, -2L, "", decimal("-0.5"), false, ID, -0.25d, 0 });
+        assertThat(reader.next()).isNull();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    public void shouldDecodeRowsSplitAcrossChunks() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            writeRow(i, i * 1_000_000_000_000L, "row " + i, new short[]{ 1, 0, 0, 0, 0, 1 }, 3, 0x0000, 8, i % 2 == 0, ID, i / 3d, (short) i);
+        }
+
+        final byte[] data = finish();
+        for (int chunkSize : new int[]{ 1, 3, 7, 64 }) {
+            final CopyBinaryRowReader reader = reader(data, chunkSize);
+            for (int i = 0; i < 10; i++) {
+                assertThat(reader.next()).isEqualTo(new Object[]{ i, i * 1_000_000_000_000L, "row " + i, decimal("1000000000000.00000001"), i % 2 == 0, ID,
+                        i / 3d, i });
+            }
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    public void shouldDecodeSpecialNumericValues() throws Exception {
+        writeNumericRow(new short[0], 0, 0x0000, 2);
+        writeNumericRow(new short[]{ 1 }, 1, 0x0000, 0);
+        writeNumericRow(new short[0], 0, 0xC000, 0);
+        writeNumericRow(new short[0], 0, 0xD000, 0);
+        writeNumericRow(new short[0], 0, 0xF000, 0);
+
+        final CopyBinaryRowReader reader = new CopyBinaryRowReader(new ChunkedCopyOut(finish(), 5), new CopyBinaryRowReader.FieldDecoder[]{
+                CopyBinaryRowReader.decoder(PgOid.NUMERIC, null) });
+        assertThat(reader.next()).isEqualTo(new Object[]{ decimal("0.00") });
+        assertThat(reader.next()).isEqualTo(new Object[]{ decimal("10000") });
+        assertThat(reader.next()).isEqualTo(new Object[]{ SpecialValueDecimal.NOT_A_NUMBER });
+        assertThat(reader.next()).isEqualTo(new Object[]{ SpecialValueDecimal.POSITIVE_INF });
+        assertThat(reader.next()).isEqualTo(new Object[]{ SpecialValueDecimal.NEGATIVE_INF });
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    public void shouldNotDecodeTypesRequiringConnection() {
+        assertThat(CopyBinaryRowReader.decoder(PgOid.TIMESTAMPTZ, null)).isNull();
+        assertThat(CopyBinaryRowReader.decoder(PgOid.DATE, null)).isNull();
+        assertThat(CopyBinaryRowReader.decoder(PgOid.INT4_ARRAY, null)).isNull();
+    }
+
+    @Test(expected = SQLException.class)
+    public void shouldFailOnTruncatedData() throws Exception {
+        writeRow(1, 1L, "a", new short[]{ 1 }, 0, 0x0000, 0, true, ID, 1d, (short) 1);
+        out.flush();
+        final byte[] data = bytes.toByteArray();
+        reader(Arrays.copyOf(data, data.length - 3), 16).next();
+    }
+
+    @Test
+    public void shouldCancelUnfinishedCopyOnClose() throws Exception {
+        writeRow(1, 1L, "a", new short[]{ 1 }, 0, 0x0000, 0, true, ID, 1d, (short) 1);
+        final ChunkedCopyOut copy = new ChunkedCopyOut(finish(), 16);
+        try (CopyBinaryRowReader reader = new CopyBinaryRowReader(copy, decoders())) {
+            assertThat(reader.next()).isNotNull();
+        }
+        assertThat(copy.isActive()).isFalse();
+        assertThat(copy.cancelled).isTrue();
+    }
+
+    private void writeRow(int i, long l, String text, short[] digits, int weight, int sign, int scale, boolean b, UUID uuid, double d, short s)
+            throws IOException {
+        out.writeShort(TYPES.length);
+        out.writeInt(4);
+        out.writeInt(i);
+        out.writeInt(8);
+        out.writeLong(l);
+        final byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+        writeNumeric(digits, weight, sign, scale);
+        out.writeInt(1);
+        out.writeByte(b ? 1 : 0);
+        out.writeInt(16);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+        out.writeInt(8);
+        out.writeDouble(d);
+        out.writeInt(2);
+        out.writeShort(s);
+    }
+
+    private void writeNullRow() throws IOException {
+        out.writeShort(TYPES.length);
+        for (int i = 0; i < TYPES.length; i++) {
+            out.writeInt(-1);
+        }
+    }
+
+    private void writeNumericRow(short[] digits, int weight, int sign, int scale) throws IOException {
+        out.writeShort(1);
+        writeNumeric(digits, weight, sign, scale);
+    }
+
+    private void writeNumeric(short[] digits, int weight, int sign, int scale) throws IOException {
+        out.writeInt(8 + 2 * digits.length);
+        out.writeShort(digits.length);
+        out.writeShort(weight);
+        out.writeShort(sign);
+        out.writeShort(scale);
+        for (short digit : digits) {
+            out.writeShort(digit);
+        }
+    }
+
+    private byte[] finish() throws IOException {
+        out.writeShort(-1);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static CopyBinaryRowReader reader(byte[] data, int chunkSize) {
+        return new CopyBinaryRowReader(new ChunkedCopyOut(data, chunkSize), decoders());
+    }
+
+    private static CopyBinaryRowReader.FieldDecoder[] decoders() {
+        final CopyBinaryRowReader.FieldDecoder[] decoders = new CopyBinaryRowReader.FieldDecoder[TYPES.length];
+        for (int i = 0; i < TYPES.length; i++) {
+            decoders[i] = CopyBinaryRowReader.decoder(TYPES[i], null);
+        }
+        return decoders;
+    }
+
+    private static SpecialValueDecimal decimal(String value) {
+        return new SpecialValueDecimal(new BigDecimal(value));
+    }
+
+    /**
+     * Returns the given COPY data in chunks of the given size, followed by null for the end of the data.
+     */
+    private static class ChunkedCopyOut implements CopyOut {
+
+        private final Deque<byte[]> chunks = new ArrayDeque<>();
+        private boolean cancelled;
+        private boolean ended;
+
+        ChunkedCopyOut(byte[] data, int chunkSize) {
+            for (int i = 0; i < data.length; i += chunkSize) {
+                chunks.add(Arrays.copyOfRange(data, i, Math.min(data.length, i + chunkSize)));
+            }
+        }
+
+        @Override
+        public byte[] readFromCopy() {
+            final byte[] chunk = chunks.poll();
+            ended = chunk == null;
+            return chunk;
+        }
+
+        @Override
+        public byte[] readFromCopy(boolean block) {
+            return readFromCopy();
+        }
+
+        @Override
+        public int getFieldCount() {
+            return TYPES.length;
+        }
+
+        @Override
+        public int getFormat() {
+            return 1;
+        }
+
+        @Override
+        public int getFieldFormat(int field) {
+            return 1;
+        }
+
+        @Override
+        public boolean isActive() {
+            // as with the driver, the operation is active until the end of the data has been read
+            return !cancelled && !ended;
+        }
+
+        @Override
+        public void cancelCopy() {
+            cancelled = true;
+        }
+
+        @Override
+        public long getHandledRowCount() {
+            return 0;
+        }
+    }
+}
@@ -15,14 +15,18 @@
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
 
@@ -1018,6 +1022,33 @@ public void shouldAllowForExportedSnapshot() throws Exception {
         VerifyRecord.isValidInsert(s2recs.get(0), PK_FIELD, 3);
     }
 
+    @Test
+    public void shouldReadTablesInParallelFromExportedSnapshot() throws Exception {
+        final LogInterceptor logInterceptor = new LogInterceptor();
+        TestHelper.dropDefaultReplicationSlot();
+
+        TestHelper.execute(SETUP_TABLES_STMT);
+        Configuration config = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SNAPSHOT_MODE, SnapshotMode.EXPORTED.getValue())
+                .with(RelationalDatabaseConnectorConfig.SNAPSHOT_MAX_THREADS, 2)
+                .with(PostgresConnectorConfig.DROP_SLOT_ON_STOP, Boolean.TRUE)
+                .build();
+        start(PostgresConnector.class, config);
+        assertConnectorIsRunning();
+
+        SourceRecords actualRecords = consumeRecordsByTopic(2);
+        VerifyRecord.isValidRead(actualRecords.recordsForTopic(topicName("s1.a")).get(0), PK_FIELD, 1);
+        VerifyRecord.isValidRead(actualRecords.recordsForTopic(topicName("s2.a")).get(0), PK_FIELD, 1);
+        assertThat(logInterceptor.containsMessage("exported by replication slot")).isTrue();
+
+        // changes after the slot's consistent point are streamed
+        TestHelper.execute(INSERT_STMT);
+        actualRecords = consumeRecordsByTopic(2);
+        VerifyRecord.isValidInsert(actualRecords.recordsForTopic(topicName("s1.a")).get(0), PK_FIELD, 2);
+        VerifyRecord.isValidInsert(actualRecords.recordsForTopic(topicName("s2.a")).get(0), PK_FIELD, 2);
+        stopConnector();
+    }
+
     @Test
     @FixFor("DBZ-1437")
     public void shouldPeformSnapshotOnceForInitialOnlySnapshotMode() throws Exception {
@@ -1217,6 +1248,162 @@ public void testCustomPublicationNameUsed() throws Exception {
         assertTrue(TestHelper.publicationExists("cdc"));
     }
 
+    @Test
+    @SkipWhenDecoderPluginNameIsNot(value = SkipWhenDecoderPluginNameIsNot.DecoderPluginName.PGOUTPUT, reason = "Publication configuration only valid for PGOUTPUT decoder")
+    public void shouldRestrictPublicationToCapturedTables() throws Exception {
+        TestHelper.dropPublication();
+        TestHelper.execute(SETUP_TABLES_STMT);
+
+        Configuration.Builder configBuilder = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SNAPSHOT_MODE, SnapshotMode.NEVER.getValue())
+                .with(PostgresConnectorConfig.TABLE_FILTER_ON_SERVER, true)
+                .with(PostgresConnectorConfig.SCHEMA_WHITELIST, "s1");
+
+        start(PostgresConnector.class, configBuilder.build());
+        waitForStreamingRunning();
+        assertThat(publicationTables()).containsOnly("s1.a");
+
+        TestHelper.execute(INSERT_STMT);
+        SourceRecords records = consumeRecordsByTopic(1);
+        assertThat(records.recordsForTopic(topicName("s1.a"))).hasSize(1);
+        stopConnector();
+
+        // the publication follows the changed filters after a restart
+        start(PostgresConnector.class, configBuilder.with(PostgresConnectorConfig.SCHEMA_WHITELIST, "s2").build());
+        waitForStreamingRunning();
+        assertThat(publicationTables()).containsOnly("s2.a");
+        stopConnector();
+    }
+
+    private Set<String> publicationTables() throws SQLException {
+        try (PostgresConnection connection = TestHelper.create()) {
+            return connection.queryAndMap(
+                    "SELECT schemaname, tablename FROM pg_publication_tables WHERE pubname = '" + ReplicationConnection.Builder.DEFAULT_PUBLICATION_NAME + "'",
+                    rs -> {
+                        final Set<String> tables = new HashSet<>();
+                        while (rs.next()) {
+                            tables.add(rs.getString(1) + "." + rs.getString(2));
+                        }
+                        return tables;
+                    });
+        }
+    }
+
+    @Test
+    public void shouldResumeSnapshotStoppedWithinTable() throws Exception {
+        // rows 1-8 are read in two complete chunks, the stop record is the second one of the third chunk
+        assertResumedSnapshotEmitsAllRecords(record -> record.topic().equals(topicName("s1.a"))
+                && ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER).getInt32("aa") == 10, 9);
+    }
+
+    @Test
+    public void shouldResumeSnapshotStoppedAtFirstRecordOfTable() throws Exception {
+        assertResumedSnapshotEmitsAllRecords(record -> record.topic().equals(topicName("s1.b")), 25);
+    }
+
+    /**
+     * Stops the snapshot before processing the first record matching the given predicate and restarts the connector,
+     * expecting the resumed snapshot to emit exactly the records not committed before: no record is missing and
+     * neither completed tables nor committed records of the interrupted table are emitted again.
+     */
+    private void assertResumedSnapshotEmitsAllRecords(Predicate<SourceRecord> isStopRecord, int recordsBeforeStop) throws Exception {
+        TestHelper.execute("DROP SCHEMA IF EXISTS s1 CASCADE;" +
+                "CREATE SCHEMA s1;" +
+                "CREATE TABLE s1.a (pk integer, aa integer, PRIMARY KEY(pk));" +
+                "INSERT INTO s1.a (pk, aa) SELECT s, s FROM generate_series(1, 25) AS s;" +
+                "CREATE TABLE s1.b (pk integer, bb integer, PRIMARY KEY(pk));" +
+                "INSERT INTO s1.b (pk, bb) SELECT s, s FROM generate_series(1, 25) AS s;");
+        final Configuration config = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SNAPSHOT_MODE, SnapshotMode.INITIAL.getValue())
+                .with(PostgresConnectorConfig.SCHEMA_WHITELIST, "s1")
+                .with(RelationalDatabaseConnectorConfig.SNAPSHOT_CHUNK_SIZE, 4)
+                .build();
+
+        final List<Integer> aValues = new ArrayList<>();
+        final List<Integer> bValues = new ArrayList<>();
+        final Consumer<SourceRecord> collector = record -> {
+            final Struct after = ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER);
+            if (record.topic().equals(topicName("s1.a"))) {
+                aValues.add(after.getInt32("aa"));
+            }
+            else {
+                bValues.add(after.getInt32("bb"));
+            }
+        };
+
+        // the engine stops before processing the stop record, committing the offset of the record before
+        start(PostgresConnector.class, config, isStopRecord);
+        consumeRecordsByTopic(recordsBeforeStop).allRecordsInOrder().forEach(collector);
+        stopConnector();
+
+        start(PostgresConnector.class, config);
+        assertConnectorIsRunning();
+        waitForSnapshotToBeCompleted();
+        // try to consume more records than expected, so that records emitted twice are noticed
+        final List<SourceRecord> resumed = consumeRecordsByTopic(50 - recordsBeforeStop + 1, 3).allRecordsInOrder();
+        assertThat(resumed).hasSize(50 - recordsBeforeStop);
+        resumed.forEach(collector);
+
+        assertThat(new HashSet<>(aValues)).hasSize(25);
+        assertThat(aValues).hasSize(25);
+        assertThat(new HashSet<>(bValues)).hasSize(25);
+        assertThat(bValues).hasSize(25);
+        stopConnector();
+    }
+
+    @Test
+    public void shouldNotEmitStaleIncrementalSnapshotRecordsOfRowsChangedWhileChunksAreRead() throws Exception {
+        TestHelper.execute("DROP SCHEMA IF EXISTS s1 CASCADE;" +
+                "CREATE SCHEMA s1;" +
+                "CREATE TABLE s1.debezium_signal (id varchar(64), type varchar(32), data varchar(2048));" +
+                "CREATE TABLE s1.a (pk integer, aa integer, PRIMARY KEY(pk));" +
+                "INSERT INTO s1.a (pk, aa) SELECT s, s FROM generate_series(1, 500) AS s;");
+        final Configuration config = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SNAPSHOT_MODE, SnapshotMode.INCREMENTAL.getValue())
+                .with(PostgresConnectorConfig.SCHEMA_WHITELIST, "s1")
+                .with(CommonConnectorConfig.SIGNAL_DATA_COLLECTION, "s1.debezium_signal")
+                .with(RelationalDatabaseConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_SIZE, 10)
+                .build();
+
+        start(PostgresConnector.class, config);
+        assertConnectorIsRunning();
+        waitForStreamingRunning();
+
+        // rows are updated and inserted while the table is read chunk by chunk, so that changes are received within
+        // open windows; the last value of every row is pk + 1000
+        final CompletableFuture<Void> changes = CompletableFuture.runAsync(() -> {
+            for (int pk = 1; pk <= 500; pk++) {
+                TestHelper.execute("UPDATE s1.a SET aa = " + (pk + 1000) + " WHERE pk = " + pk + ";" +
+                        "INSERT INTO s1.a (pk, aa) VALUES (" + (pk + 500) + ", " + (pk + 1500) + ");");
+            }
+        });
+
+        final Map<Integer, Integer> lastValues = new HashMap<>();
+        final AtomicInteger reads = new AtomicInteger();
+        final Consumer<SourceRecord> collector = record -> {
+            if (record.topic().equals(topicName("s1.a"))) {
+                final Struct value = (Struct) record.value();
+                final Struct after = value.getStruct(Envelope.FieldName.AFTER);
+                if (Envelope.Operation.READ.code().equals(value.getString(Envelope.FieldName.OPERATION))) {
+                    reads.incrementAndGet();
+                }
+                lastValues.put(after.getInt32("pk"), after.getInt32("aa"));
+            }
+        };
+
+        Awaitility.await().atMost(Duration.ONE_MINUTE).until(() -> {
+            consumeAvailableRecords(collector);
+            return changes.isDone() && lastValues.size() == 1000;
+        });
+        changes.get();
+        // drain the remaining chunks, a snapshot record superseding a streamed change would be emitted among them
+        consumeRecords(Integer.MAX_VALUE, 3, collector, false);
+
+        assertThat(reads.get()).isGreaterThan(0);
+        lastValues.forEach((pk, aa) -> assertThat(aa).as("aa of row " + pk).isEqualTo(pk + 1000));
+        stopConnector();
+    }
+
     @Test
     @FixFor("DBZ-1015")
     public void shouldRewriteIdentityKey() throws InterruptedException {
@@ -19,6 +19,7 @@
 import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +50,7 @@
 import io.debezium.doc.FixFor;
 import io.debezium.heartbeat.Heartbeat;
 import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
 import io.debezium.relational.RelationalDatabaseConnectorConfig.DecimalHandlingMode;
 import io.debezium.util.Collect;
 import io.debezium.util.Testing;
@@ -95,6 +97,28 @@ public void shouldGenerateSnapshotsForDefaultDatatypes() throws Exception {
         }
     }
 
+    @Test
+    public void shouldGenerateSnapshotsForDefaultDatatypesCopyingTables() throws Exception {
+        String statementsBuilder = ALL_STMTS.stream().collect(Collectors.joining(";" + System.lineSeparator())) + ";";
+        TestHelper.execute(statementsBuilder);
+
+        // tables with columns of types that can't be copied are read using the select statement
+        buildNoStreamProducer(TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SNAPSHOT_READ_MODE, PostgresConnectorConfig.SnapshotReadMode.COPY_BINARY));
+
+        TestConsumer consumer = testConsumer(ALL_STMTS.size(), "public", "Quoted__");
+        consumer.await(TestHelper.waitTimeForRecords() * 30, TimeUnit.SECONDS);
+
+        Map<String, List<SchemaAndValueField>> expectedValuesByTopicName = super.schemaAndValuesByTopicName();
+        consumer.process(record -> assertReadRecord(record, expectedValuesByTopicName));
+
+        while (!consumer.isEmpty()) {
+            SourceRecord record = consumer.remove();
+            assertRecordOffsetAndSnapshotSource(record, true, consumer.isEmpty());
+            assertSourceInfo(record);
+        }
+    }
+
     @Test
     public void shouldGenerateSnapshotsForCustomDatatypes() throws Exception {
         TestHelper.execute(INSERT_CUSTOM_TYPES_STMT);
@@ -385,6 +409,75 @@ public void shouldGenerateSnapshotsForPartitionedTables() throws Exception {
         }
     }
 
+    @Test
+    public void shouldGenerateSnapshotReadingTablesInParallel() throws Exception {
+        TestHelper.dropAllSchemas();
+
+        final int tableCount = 5;
+        final int rowsPerTable = 20;
+        for (int i = 0; i < tableCount; i++) {
+            TestHelper.execute("CREATE TABLE t" + i + " (pk integer, aa integer, PRIMARY KEY(pk));" +
+                    "INSERT INTO t" + i + " (pk, aa) SELECT s, s FROM generate_series(1, " + rowsPerTable + ") AS s;");
+        }
+
+        buildNoStreamProducer(TestHelper.defaultConfig()
+                .with(RelationalDatabaseConnectorConfig.SNAPSHOT_MAX_THREADS, 3));
+
+        TestConsumer consumer = testConsumer(tableCount * rowsPerTable);
+        consumer.await(TestHelper.waitTimeForRecords() * 30, TimeUnit.SECONDS);
+
+        Map<String, Integer> topicCounts = new HashMap<>();
+        consumer.process(record -> topicCounts.merge(record.topic(), 1, Integer::sum));
+
+        assertThat(topicCounts).hasSize(tableCount);
+        for (int i = 0; i < tableCount; i++) {
+            assertEquals(rowsPerTable, topicCounts.get("test_server.public.t" + i).intValue());
+        }
+
+        // only the very last record must be marked as the last one of the snapshot
+        while (!consumer.isEmpty()) {
+            SourceRecord record = consumer.remove();
+            assertRecordOffsetAndSnapshotSource(record, true, consumer.isEmpty());
+            assertSourceInfo(record);
+        }
+    }
+
+    @Test
+    public void shouldGenerateSnapshotReadingTablesInChunks() throws Exception {
+        TestHelper.dropAllSchemas();
+        TestHelper.execute("CREATE TABLE t1 (pk integer, aa integer, PRIMARY KEY(pk));" +
+                "INSERT INTO t1 (pk, aa) SELECT s, s FROM generate_series(1, 25) AS s;" +
+                "CREATE TABLE t2 (pk integer, bb integer, cc integer, PRIMARY KEY(pk, bb));" +
+                "INSERT INTO t2 (pk, bb, cc) SELECT s / 3, s % 3, s FROM generate_series(1, 25) AS s;");
+
+        buildNoStreamProducer(TestHelper.defaultConfig()
+                .with(RelationalDatabaseConnectorConfig.SNAPSHOT_CHUNK_SIZE, 4)
+                .with(RelationalDatabaseConnectorConfig.SNAPSHOT_MAX_THREADS, 3));
+
+        TestConsumer consumer = testConsumer(50);
+        consumer.await(TestHelper.waitTimeForRecords() * 30, TimeUnit.SECONDS);
+
+        Set<Integer> t1Values = new HashSet<>();
+        Set<Integer> t2Values = new HashSet<>();
+        consumer.process(record -> {
+            Struct after = ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER);
+            if (record.topic().equals("test_server.public.t1")) {
+                t1Values.add(after.getInt32("aa"));
+            }
+            else {
+                t2Values.add(after.getInt32("cc"));
+            }
+        });
+
+        assertThat(t1Values).hasSize(25);
+        assertThat(t2Values).hasSize(25);
+
+        while (!consumer.isEmpty()) {
+            SourceRecord record = consumer.remove();
+            assertRecordOffsetAndSnapshotSource(record, true, consumer.isEmpty());
+        }
+    }
+
     @Test
     @FixFor("DBZ-1162")
     public void shouldGenerateSnapshotsForHstores() throws Exception {
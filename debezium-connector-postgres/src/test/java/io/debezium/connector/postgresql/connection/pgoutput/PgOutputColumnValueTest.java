@@ -0,0 +1,83 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import io.debezium.data.SpecialValueDecimal;
+
+public class PgOutputColumnValueTest {
+
+    @Test
+    public void shouldDecodeSliceOfMessage() {
+        final byte[] message = "xx123yy".getBytes(StandardCharsets.UTF_8);
+        final PgOutputColumnValue value = new PgOutputColumnValue(message, 2, 3);
+        assertThat(value.asString()).isEqualTo("123");
+        assertThat(value.asInteger()).isEqualTo(123);
+        assertThat(value.asLong()).isEqualTo(123L);
+        assertThat(value.isNull()).isFalse();
+    }
+
+    @Test
+    public void shouldParseIntegers() {
+        assertThat(value("-2147483648").asInteger()).isEqualTo(Integer.MIN_VALUE);
+        assertThat(value("2147483647").asInteger()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(value("-9223372036854775808").asLong()).isEqualTo(Long.MIN_VALUE);
+        assertThat(value("9223372036854775807").asLong()).isEqualTo(Long.MAX_VALUE);
+        assertThat(value("-42").asLong()).isEqualTo(-42L);
+        assertThat(value("0").asInteger()).isEqualTo(0);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void shouldFailOnIntegerOverflow() {
+        value("2147483648").asInteger();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void shouldFailOnSignOnly() {
+        value("-").asLong();
+    }
+
+    @Test
+    public void shouldParseBooleans() {
+        assertThat(value("t").asBoolean()).isTrue();
+        assertThat(value("f").asBoolean()).isFalse();
+    }
+
+    @Test
+    public void shouldParseDecimals() {
+        assertThat(value("NaN").asDecimal()).isEqualTo(SpecialValueDecimal.NOT_A_NUMBER);
+        assertDecimal("0");
+        assertDecimal("-12.340");
+        assertDecimal("123456789.123456789");
+        assertDecimal("-0.000001");
+        assertDecimal("12345678901234567890.123");
+        assertDecimal("1.5E+3");
+    }
+
+    @Test
+    public void shouldParseByteArrays() {
+        assertThat(value("\\x00ff7f").asByteArray()).isEqualTo(new byte[]{ 0, (byte) 0xff, 0x7f });
+        assertThat(value("\\x").asByteArray()).isEmpty();
+    }
+
+    private static void assertDecimal(String text) {
+        final BigDecimal expected = new BigDecimal(text);
+        final BigDecimal actual = value(text).asDecimal().getDecimalValue().get();
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.scale()).isEqualTo(expected.scale());
+    }
+
+    private static PgOutputColumnValue value(String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return new PgOutputColumnValue(bytes, 0, bytes.length);
+    }
+}
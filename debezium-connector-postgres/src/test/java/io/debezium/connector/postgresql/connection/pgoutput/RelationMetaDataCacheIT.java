@@ -0,0 +1,156 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.connector.postgresql.TestHelper;
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.connector.postgresql.connection.pgoutput.RelationMetaDataCache.LayoutHash;
+import io.debezium.connector.postgresql.connection.pgoutput.RelationMetaDataCache.RelationMetaData;
+import io.debezium.connector.postgresql.junit.SkipTestDependingOnDecoderPluginNameRule;
+import io.debezium.connector.postgresql.junit.SkipWhenDecoderPluginNameIsNot;
+import io.debezium.jdbc.JdbcConfiguration;
+
+/**
+ * Integration test for {@link RelationMetaDataCache}.
+ */
+@SkipWhenDecoderPluginNameIsNot(value = SkipWhenDecoderPluginNameIsNot.DecoderPluginName.PGOUTPUT, reason = "Publications are only used by pgoutput")
+public class RelationMetaDataCacheIT {
+
+    private static final String PUBLICATION_NAME = "dbz_metadata_cache_publication";
+    private static final int INT4_OID = 23;
+    private static final int VARCHAR_OID = 1043;
+
+    @Rule
+    public TestRule skip = new SkipTestDependingOnDecoderPluginNameRule();
+
+    private RelationMetaDataCache cache;
+
+    @Before
+    public void before() throws Exception {
+        TestHelper.dropAllSchemas();
+        TestHelper.execute(
+                "DROP PUBLICATION IF EXISTS " + PUBLICATION_NAME + ";",
+                "CREATE SCHEMA s1;",
+                "CREATE TABLE s1.a (pk SERIAL, aa INTEGER, PRIMARY KEY (pk));",
+                "CREATE TABLE s1.b (pk SERIAL, bb INTEGER, PRIMARY KEY (pk));",
+                "CREATE PUBLICATION " + PUBLICATION_NAME + " FOR TABLE s1.a, s1.b;");
+    }
+
+    @After
+    public void after() {
+        if (cache != null) {
+            cache.close();
+        }
+        TestHelper.execute("DROP PUBLICATION IF EXISTS " + PUBLICATION_NAME + ";");
+    }
+
+    @Test
+    public void shouldUseWarmedUpMetaDataOnlyOnce() throws Exception {
+        cache = new RelationMetaDataCache(TestHelper.defaultJdbcConfig(), PUBLICATION_NAME);
+        final int layoutHash = layoutHash("pk", INT4_OID, "aa", INT4_OID);
+
+        // the first relation message warms up the cache with all tables of the publication
+        assertThat(cache.get(relationId("s1.b"), layoutHash("pk", INT4_OID, "bb", INT4_OID)).keyColumns()).containsOnly("pk");
+
+        // a change that doesn't alter the column layout
+        TestHelper.execute("ALTER TABLE s1.a ALTER COLUMN aa SET NOT NULL;");
+
+        // the metadata read upon warm-up is used for the first relation message of the table ...
+        RelationMetaData metaData = cache.get(relationId("s1.a"), layoutHash);
+        assertThat(metaData.keyColumns()).containsOnly("pk");
+        assertThat(metaData.isOptional("pk")).isFalse();
+        assertThat(metaData.isOptional("aa")).isTrue();
+
+        // ... but any further one is caused by a change, so the metadata is read again
+        metaData = cache.get(relationId("s1.a"), layoutHash);
+        assertThat(metaData.keyColumns()).containsOnly("pk");
+        assertThat(metaData.isOptional("aa")).isFalse();
+    }
+
+    @Test
+    public void shouldReadMetaDataIfLayoutDoesNotMatch() throws Exception {
+        cache = new RelationMetaDataCache(TestHelper.defaultJdbcConfig(), PUBLICATION_NAME);
+
+        assertThat(cache.get(relationId("s1.b"), layoutHash("pk", INT4_OID, "bb", INT4_OID)).keyColumns()).containsOnly("pk");
+        TestHelper.execute("ALTER TABLE s1.a ADD COLUMN ab VARCHAR(255) NOT NULL DEFAULT 'x';");
+
+        final RelationMetaData metaData = cache.get(relationId("s1.a"), layoutHash("pk", INT4_OID, "aa", INT4_OID, "ab", VARCHAR_OID, 259));
+        assertThat(metaData.keyColumns()).containsOnly("pk");
+        assertThat(metaData.isOptional("aa")).isTrue();
+        assertThat(metaData.isOptional("ab")).isFalse();
+    }
+
+    @Test
+    public void shouldUsePrimaryKeyOrFirstUniqueIndexByName() throws Exception {
+        TestHelper.execute(
+                "CREATE TABLE s1.c (pk INTEGER PRIMARY KEY, cc INTEGER NOT NULL UNIQUE);",
+                "CREATE TABLE s1.d (d1 INTEGER NOT NULL, d2 INTEGER NOT NULL, d3 INTEGER);",
+                "CREATE UNIQUE INDEX d_z_idx ON s1.d (d1);",
+                "CREATE UNIQUE INDEX d_b_idx ON s1.d (d2, d3);",
+                "ALTER PUBLICATION " + PUBLICATION_NAME + " ADD TABLE s1.c, s1.d;");
+        cache = new RelationMetaDataCache(TestHelper.defaultJdbcConfig(), PUBLICATION_NAME);
+
+        assertThat(cache.get(relationId("s1.c"), layoutHash("pk", INT4_OID, "cc", INT4_OID)).keyColumns()).containsOnly("pk");
+        assertThat(cache.get(relationId("s1.d"), layoutHash("d1", INT4_OID, "d2", INT4_OID, "d3", INT4_OID)).keyColumns()).containsOnly("d2", "d3");
+
+        // the same when read for a single relation
+        TestHelper.execute("DROP INDEX s1.d_b_idx;");
+        assertThat(cache.get(relationId("s1.d"), layoutHash("d1", INT4_OID, "d2", INT4_OID, "d3", INT4_OID)).keyColumns()).containsOnly("d1");
+        TestHelper.execute("DROP INDEX s1.d_z_idx;");
+        assertThat(cache.get(relationId("s1.d"), layoutHash("d1", INT4_OID, "d2", INT4_OID, "d3", INT4_OID)).keyColumns()).isEmpty();
+    }
+
+    @Test
+    public void shouldReadMetaDataOfEachRelationIfWarmUpFails() throws Exception {
+        // strings containing NUL characters are rejected by the server, so only the warm-up query fails
+        cache = new RelationMetaDataCache(TestHelper.defaultJdbcConfig(), PUBLICATION_NAME + "\u0000");
+
+        final RelationMetaData metaData = cache.get(relationId("s1.a"), layoutHash("pk", INT4_OID, "aa", INT4_OID));
+        assertThat(metaData.keyColumns()).containsOnly("pk");
+        assertThat(metaData.isOptional("aa")).isTrue();
+    }
+
+    @Test
+    public void shouldReturnUnknownMetaDataIfItCannotBeRead() throws Exception {
+        cache = new RelationMetaDataCache(TestHelper.defaultJdbcConfig().edit().with(JdbcConfiguration.DATABASE, "dbz_missing_database").build(),
+                PUBLICATION_NAME);
+
+        final RelationMetaData metaData = cache.get(relationId("s1.a"), layoutHash("pk", INT4_OID, "aa", INT4_OID));
+        assertThat(metaData.keyColumns()).isEmpty();
+        assertThat(metaData.isOptional("aa")).isNull();
+    }
+
+    private int relationId(String table) throws Exception {
+        try (PostgresConnection connection = TestHelper.create()) {
+            return connection.queryAndMap("SELECT '" + table + "'::regclass::oid", rs -> {
+                rs.next();
+                return (int) rs.getLong(1);
+            });
+        }
+    }
+
+    /**
+     * @param columns the name and type OID of each column, followed by its type modifier if it has one
+     */
+    private static int layoutHash(Object... columns) {
+        int hash = LayoutHash.INITIAL;
+        for (int i = 0; i < columns.length;) {
+            final String name = (String) columns[i++];
+            final int typeOid = (Integer) columns[i++];
+            final int typeModifier = i < columns.length && columns[i] instanceof Integer ? (Integer) columns[i++] : -1;
+            hash = LayoutHash.add(hash, name, typeOid, typeModifier);
+        }
+        return hash;
+    }
+}
@@ -5,13 +5,19 @@
  */
 package io.debezium.connector.sqlserver;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.ChangeEventSourceFactory;
 import io.debezium.pipeline.source.spi.SnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
 import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.Column;
 import io.debezium.relational.TableId;
 import io.debezium.util.Clock;
 
@@ -54,4 +60,19 @@ public StreamingChangeEventSource getStreamingChangeEventSource(OffsetContext of
                 clock,
                 schema);
     }
+
+    /**
+     * The incremental snapshot uses the metadata connection, as the data connection is used for reading the change
+     * tables within transactions spanning multiple events.
+     */
+    @Override
+    public Optional<IncrementalSnapshotChangeEventSource> getIncrementalSnapshotChangeEventSource() {
+        return Optional.of(new IncrementalSnapshotChangeEventSource(configuration, metadataConnection, dispatcher, schema, clock) {
+
+            @Override
+            protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) throws SQLException {
+                return SqlServerSnapshotChangeEventSource.readColumnValue(rs, columnIndex);
+            }
+        });
+    }
 }
@@ -67,6 +67,12 @@ public static enum SnapshotMode implements EnumeratedValue {
         @Deprecated
         INITIAL_SCHEMA_ONLY("initial_schema_only", false),
 
+        /**
+         * Perform a snapshot of the schema upon initial startup of a connector and snapshot the data incrementally
+         * while streaming.
+         */
+        INCREMENTAL("incremental", false, true),
+
         /**
          * Perform a snapshot of the schema but no data upon initial startup of a connector.
          */
@@ -74,10 +80,16 @@ public static enum SnapshotMode implements EnumeratedValue {
 
         private final String value;
         private final boolean includeData;
+        private final boolean includeDataIncrementally;
 
         private SnapshotMode(String value, boolean includeData) {
+            this(value, includeData, false);
+        }
+
+        private SnapshotMode(String value, boolean includeData, boolean includeDataIncrementally) {
             this.value = value;
             this.includeData = includeData;
+            this.includeDataIncrementally = includeDataIncrementally;
         }
 
         @Override
@@ -93,6 +105,13 @@ public boolean includeData() {
             return includeData;
         }
 
+        /**
+         * Whether the data of captured tables should be snapshotted incrementally while streaming.
+         */
+        public boolean includeDataIncrementally() {
+            return includeDataIncrementally;
+        }
+
         /**
          * Determine if the supplied value is one of the predefined options.
          *
@@ -324,6 +343,8 @@ public static SnapshotIsolationMode parse(String value, String defaultValue) {
             SNAPSHOT_MODE,
             SERVER_TIMEZONE,
             RelationalDatabaseConnectorConfig.SNAPSHOT_LOCK_TIMEOUT_MS,
+            RelationalDatabaseConnectorConfig.SNAPSHOT_CHUNK_SIZE,
+            RelationalDatabaseConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
             RelationalDatabaseConnectorConfig.SNAPSHOT_SELECT_STATEMENT_OVERRIDES_BY_TABLE,
             HistorizedRelationalDatabaseConnectorConfig.DATABASE_HISTORY,
             RelationalDatabaseConnectorConfig.TABLE_WHITELIST,
@@ -334,11 +355,16 @@ public static SnapshotIsolationMode parse(String value, String defaultValue) {
             RelationalDatabaseConnectorConfig.DECIMAL_HANDLING_MODE,
             RelationalDatabaseConnectorConfig.TIME_PRECISION_MODE,
             CommonConnectorConfig.POLL_INTERVAL_MS,
+            CommonConnectorConfig.POLL_LINGER_MS,
             CommonConnectorConfig.MAX_BATCH_SIZE,
             CommonConnectorConfig.MAX_QUEUE_SIZE,
+            CommonConnectorConfig.MAX_QUEUE_SIZE_IN_BYTES,
+            CommonConnectorConfig.QUEUE_IMPLEMENTATION,
             CommonConnectorConfig.SNAPSHOT_DELAY_MS,
             CommonConnectorConfig.SNAPSHOT_FETCH_SIZE,
             CommonConnectorConfig.TOMBSTONES_ON_DELETE,
+            CommonConnectorConfig.SIGNAL_DATA_COLLECTION,
+            CommonConnectorConfig.METRICS_MAX_TRACKED_TABLES,
             Heartbeat.HEARTBEAT_INTERVAL, Heartbeat.HEARTBEAT_TOPICS_PREFIX,
             CommonConnectorConfig.SOURCE_STRUCT_MAKER_VERSION);
 
@@ -359,10 +385,13 @@ public static ConfigDef configDef() {
                 Heartbeat.HEARTBEAT_INTERVAL, Heartbeat.HEARTBEAT_TOPICS_PREFIX,
                 CommonConnectorConfig.SOURCE_STRUCT_MAKER_VERSION,
                 CommonConnectorConfig.TOMBSTONES_ON_DELETE);
-        Field.group(config, "Connector", CommonConnectorConfig.POLL_INTERVAL_MS, CommonConnectorConfig.MAX_BATCH_SIZE,
-                CommonConnectorConfig.MAX_QUEUE_SIZE, CommonConnectorConfig.SNAPSHOT_DELAY_MS, CommonConnectorConfig.SNAPSHOT_FETCH_SIZE,
-                RelationalDatabaseConnectorConfig.DECIMAL_HANDLING_MODE, RelationalDatabaseConnectorConfig.TIME_PRECISION_MODE,
-                RelationalDatabaseConnectorConfig.SNAPSHOT_LOCK_TIMEOUT_MS);
+        Field.group(config, "Connector", CommonConnectorConfig.POLL_INTERVAL_MS, CommonConnectorConfig.POLL_LINGER_MS, CommonConnectorConfig.MAX_BATCH_SIZE,
+                CommonConnectorConfig.MAX_QUEUE_SIZE, CommonConnectorConfig.MAX_QUEUE_SIZE_IN_BYTES, CommonConnectorConfig.QUEUE_IMPLEMENTATION,
+                CommonConnectorConfig.SNAPSHOT_DELAY_MS,
+                CommonConnectorConfig.SNAPSHOT_FETCH_SIZE, RelationalDatabaseConnectorConfig.DECIMAL_HANDLING_MODE, RelationalDatabaseConnectorConfig.TIME_PRECISION_MODE,
+                RelationalDatabaseConnectorConfig.SNAPSHOT_LOCK_TIMEOUT_MS,
+                RelationalDatabaseConnectorConfig.SNAPSHOT_CHUNK_SIZE, RelationalDatabaseConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
+                CommonConnectorConfig.SIGNAL_DATA_COLLECTION, CommonConnectorConfig.METRICS_MAX_TRACKED_TABLES);
 
         return config;
     }
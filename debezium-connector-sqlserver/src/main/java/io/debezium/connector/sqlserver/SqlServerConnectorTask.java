@@ -109,8 +109,11 @@ public void start(Configuration config) {
         // Set up the task record queue ...
         this.queue = new ChangeEventQueue.Builder<DataChangeEvent>()
                 .pollInterval(connectorConfig.getPollInterval())
+                .pollLinger(connectorConfig.getPollLinger())
                 .maxBatchSize(connectorConfig.getMaxBatchSize())
                 .maxQueueSize(connectorConfig.getMaxQueueSize())
+                .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                .queueImplementation(connectorConfig.getQueueImplementation())
                 .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                 .build();
 
@@ -128,7 +131,7 @@ public void start(Configuration config) {
                 previousOffset,
                 errorHandler,
                 SqlServerConnector.class,
-                connectorConfig.getLogicalName(),
+                connectorConfig,
                 new SqlServerChangeEventSourceFactory(connectorConfig, dataConnection, metadataConnection, errorHandler, dispatcher, clock, schema),
                 dispatcher,
                 schema);
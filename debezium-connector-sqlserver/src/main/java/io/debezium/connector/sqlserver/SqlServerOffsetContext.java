@@ -13,12 +13,15 @@
 import org.apache.kafka.connect.data.Struct;
 
 import io.debezium.connector.SnapshotRecord;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
 import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.SnapshotCheckpoint;
+import io.debezium.relational.SnapshotCheckpointOffsetContext;
 import io.debezium.relational.TableId;
 import io.debezium.schema.DataCollectionId;
 import io.debezium.util.Collect;
 
-public class SqlServerOffsetContext implements OffsetContext {
+public class SqlServerOffsetContext implements SnapshotCheckpointOffsetContext {
 
     private static final String SERVER_PARTITION_KEY = "server";
     private static final String SNAPSHOT_COMPLETED_KEY = "snapshot_completed";
@@ -27,15 +30,20 @@ public class SqlServerOffsetContext implements OffsetContext {
     private final SourceInfo sourceInfo;
     private final Map<String, String> partition;
     private boolean snapshotCompleted;
+    private final SnapshotCheckpoint snapshotCheckpoint;
+    private final IncrementalSnapshotContext incrementalSnapshotContext;
 
     /**
      * The index of the current event within the current transaction.
      */
     private long eventSerialNo;
 
-    public SqlServerOffsetContext(SqlServerConnectorConfig connectorConfig, TxLogPosition position, boolean snapshot, boolean snapshotCompleted, long eventSerialNo) {
+    public SqlServerOffsetContext(SqlServerConnectorConfig connectorConfig, TxLogPosition position, boolean snapshot, boolean snapshotCompleted, long eventSerialNo,
+                                  SnapshotCheckpoint snapshotCheckpoint, IncrementalSnapshotContext incrementalSnapshotContext) {
         partition = Collections.singletonMap(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
         sourceInfo = new SourceInfo(connectorConfig);
+        this.snapshotCheckpoint = snapshotCheckpoint;
+        this.incrementalSnapshotContext = incrementalSnapshotContext;
 
         sourceInfo.setCommitLsn(position.getCommitLsn());
         sourceInfo.setChangeLsn(position.getInTxLsn());
@@ -51,6 +59,10 @@ public SqlServerOffsetContext(SqlServerConnectorConfig connectorConfig, TxLogPos
         this.eventSerialNo = eventSerialNo;
     }
 
+    public SqlServerOffsetContext(SqlServerConnectorConfig connectorConfig, TxLogPosition position, boolean snapshot, boolean snapshotCompleted, long eventSerialNo) {
+        this(connectorConfig, position, snapshot, snapshotCompleted, eventSerialNo, new SnapshotCheckpoint(), new IncrementalSnapshotContext());
+    }
+
     public SqlServerOffsetContext(SqlServerConnectorConfig connectorConfig, TxLogPosition position, boolean snapshot, boolean snapshotCompleted) {
         this(connectorConfig, position, snapshot, snapshotCompleted, 1);
     }
@@ -63,17 +75,22 @@ public SqlServerOffsetContext(SqlServerConnectorConfig connectorConfig, TxLogPos
     @Override
     public Map<String, ?> getOffset() {
         if (sourceInfo.isSnapshot()) {
-            return Collect.hashMapOf(
+            final Map<String, Object> offset = Collect.hashMapOf(
                     SourceInfo.SNAPSHOT_KEY, true,
                     SNAPSHOT_COMPLETED_KEY, snapshotCompleted,
                     SourceInfo.COMMIT_LSN_KEY, sourceInfo.getCommitLsn().toString());
+            snapshotCheckpoint.writeTo(offset);
+            incrementalSnapshotContext.store(offset);
+            return offset;
         }
         else {
-            return Collect.hashMapOf(
+            final Map<String, Object> offset = Collect.hashMapOf(
                     SourceInfo.COMMIT_LSN_KEY, sourceInfo.getCommitLsn().toString(),
                     SourceInfo.CHANGE_LSN_KEY,
                     sourceInfo.getChangeLsn() == null ? null : sourceInfo.getChangeLsn().toString(),
                     SourceInfo.EVENT_SERIAL_NO_KEY, eventSerialNo);
+            incrementalSnapshotContext.store(offset);
+            return offset;
         }
     }
 
@@ -116,6 +133,16 @@ public boolean isSnapshotCompleted() {
         return snapshotCompleted;
     }
 
+    @Override
+    public SnapshotCheckpoint getSnapshotCheckpoint() {
+        return snapshotCheckpoint;
+    }
+
+    @Override
+    public IncrementalSnapshotContext getIncrementalSnapshotContext() {
+        return incrementalSnapshotContext;
+    }
+
     @Override
     public void preSnapshotStart() {
         sourceInfo.setSnapshot(SnapshotRecord.TRUE);
@@ -158,7 +185,8 @@ public OffsetContext load(Map<String, ?> offset) {
                 eventSerialNo = Long.valueOf(0);
             }
 
-            return new SqlServerOffsetContext(connectorConfig, TxLogPosition.valueOf(commitLsn, changeLsn), snapshot, snapshotCompleted, eventSerialNo);
+            return new SqlServerOffsetContext(connectorConfig, TxLogPosition.valueOf(commitLsn, changeLsn), snapshot, snapshotCompleted, eventSerialNo,
+                    SnapshotCheckpoint.load(offset), IncrementalSnapshotContext.load(offset));
         }
     }
 
@@ -16,6 +16,7 @@
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +56,7 @@ public SqlServerSnapshotChangeEventSource(SqlServerConnectorConfig connectorConf
     protected SnapshottingTask getSnapshottingTask(OffsetContext previousOffset) {
         boolean snapshotSchema = true;
         boolean snapshotData = true;
+        boolean snapshotDataIncrementally = false;
 
         // found a previous offset and the earlier snapshot has completed
         if (previousOffset != null && !previousOffset.isSnapshotRunning()) {
@@ -67,13 +69,17 @@ protected SnapshottingTask getSnapshottingTask(OffsetContext previousOffset) {
             if (connectorConfig.getSnapshotMode().includeData()) {
                 LOGGER.info("According to the connector configuration both schema and data will be snapshotted");
             }
+            else if (connectorConfig.getSnapshotMode().includeDataIncrementally()) {
+                LOGGER.info("According to the connector configuration schema will be snapshotted and data will be snapshotted incrementally while streaming");
+            }
             else {
                 LOGGER.info("According to the connector configuration only schema will be snapshotted");
             }
             snapshotData = connectorConfig.getSnapshotMode().includeData();
+            snapshotDataIncrementally = connectorConfig.getSnapshotMode().includeDataIncrementally();
         }
 
-        return new SnapshottingTask(snapshotSchema, snapshotData);
+        return new SnapshottingTask(snapshotSchema, snapshotData, snapshotDataIncrementally);
     }
 
     @Override
@@ -202,6 +208,11 @@ protected void complete(SnapshotContext snapshotContext) {
         }
     }
 
+    @Override
+    protected Class<? extends SourceConnector> getConnectorClass() {
+        return SqlServerConnector.class;
+    }
+
     /**
      * Generate a valid sqlserver query string for the specified table
      *
@@ -215,6 +226,14 @@ protected Optional<String> getSnapshotSelect(SnapshotContext snapshotContext, Ta
 
     @Override
     protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) throws SQLException {
+        return readColumnValue(rs, columnIndex);
+    }
+
+    /**
+     * Reads the value of the given column of a snapshot record, in the representation expected by the value
+     * converters; shared with the incremental snapshot.
+     */
+    static Object readColumnValue(ResultSet rs, int columnIndex) throws SQLException {
         final ResultSetMetaData metaData = rs.getMetaData();
         final int columnType = metaData.getColumnType(columnIndex);
 
@@ -222,7 +241,7 @@ protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) th
             return rs.getTimestamp(columnIndex);
         }
         else {
-            return super.getColumnValue(rs, columnIndex, column);
+            return rs.getObject(columnIndex);
         }
     }
 
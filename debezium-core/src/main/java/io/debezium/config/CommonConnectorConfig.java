@@ -8,6 +8,8 @@
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
 
 import org.apache.kafka.common.config.ConfigDef.Importance;
 import org.apache.kafka.common.config.ConfigDef.Type;
@@ -18,6 +20,7 @@
 import io.debezium.connector.SourceInfoStructMaker;
 import io.debezium.heartbeat.Heartbeat;
 import io.debezium.relational.history.KafkaDatabaseHistory;
+import io.debezium.util.SingleProducerRingBuffer;
 
 /**
  * Configuration options common to all Debezium connectors.
@@ -79,9 +82,92 @@ public static Version parse(String value, String defaultValue) {
         }
     }
 
+    /**
+     * The set of predefined implementations of the queue buffering change events between the connector's reader and
+     * the Kafka Connect polling loop.
+     */
+    public enum QueueImplementation implements EnumeratedValue {
+
+        /**
+         * A lock-based {@link LinkedBlockingDeque}, allocating a node per element. Supports multiple producers.
+         */
+        LINKED_DEQUE("linked_deque") {
+            @Override
+            public <T> BlockingQueue<T> createQueue(int capacity) {
+                return new LinkedBlockingDeque<>(capacity);
+            }
+        },
+
+        /**
+         * A preallocated, lock-free {@link SingleProducerRingBuffer}. Requires that events are only produced by a
+         * single thread at a time.
+         */
+        RING_BUFFER("ring_buffer") {
+            @Override
+            public <T> BlockingQueue<T> createQueue(int capacity) {
+                return new SingleProducerRingBuffer<>(capacity);
+            }
+        };
+
+        private final String value;
+
+        private QueueImplementation(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Creates a new, empty queue of this implementation.
+         *
+         * @param capacity the maximum number of elements of the queue
+         * @return the new queue; never null
+         */
+        public abstract <T> BlockingQueue<T> createQueue(int capacity);
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static QueueImplementation parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (QueueImplementation option : QueueImplementation.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static QueueImplementation parse(String value, String defaultValue) {
+            QueueImplementation implementation = parse(value);
+            if (implementation == null && defaultValue != null) {
+                implementation = parse(defaultValue);
+            }
+            return implementation;
+        }
+    }
+
     public static final int DEFAULT_MAX_QUEUE_SIZE = 8192;
     public static final int DEFAULT_MAX_BATCH_SIZE = 2048;
+    public static final long DEFAULT_MAX_QUEUE_SIZE_IN_BYTES = 0;
     public static final long DEFAULT_POLL_INTERVAL_MILLIS = 500;
+    public static final int DEFAULT_METRICS_MAX_TRACKED_TABLES = 100;
     public static final String DATABASE_CONFIG_PREFIX = "database.";
 
     public static final Field TOMBSTONES_ON_DELETE = Field.create("tombstones.on.delete")
@@ -106,6 +192,28 @@ public static Version parse(String value, String defaultValue) {
             .withDefault(DEFAULT_MAX_QUEUE_SIZE)
             .withValidation(CommonConnectorConfig::validateMaxQueueSize);
 
+    public static final Field MAX_QUEUE_SIZE_IN_BYTES = Field.create("max.queue.size.in.bytes")
+            .withDisplayName("Change event buffer size in bytes")
+            .withType(Type.LONG)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.MEDIUM)
+            .withDescription("Maximum size of the queue in bytes for change events read from the database log but not yet recorded or forwarded. "
+                    + "The size of each event is estimated when it is enqueued. Defaults to " + DEFAULT_MAX_QUEUE_SIZE_IN_BYTES
+                    + ", which disables this bound, so that the queue is limited by '" + MAX_QUEUE_SIZE.name() + "' only.")
+            .withDefault(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
+            .withValidation(Field::isNonNegativeLong);
+
+    public static final Field QUEUE_IMPLEMENTATION = Field.create("queue.implementation")
+            .withDisplayName("Change event buffer implementation")
+            .withEnum(QueueImplementation.class, QueueImplementation.LINKED_DEQUE)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The implementation of the queue for change events read from the database log but not yet recorded or forwarded. "
+                    + "Options include: "
+                    + "'linked_deque' (the default) uses a lock-based linked queue; "
+                    + "'ring_buffer' uses a preallocated, lock-free ring buffer with batched removal of events, "
+                    + "which reduces allocations and hand-over costs at high event rates.");
+
     public static final Field MAX_BATCH_SIZE = Field.create("max.batch.size")
             .withDisplayName("Change event batch size")
             .withType(Type.INT)
@@ -125,6 +233,17 @@ public static Version parse(String value, String defaultValue) {
             .withDefault(DEFAULT_POLL_INTERVAL_MILLIS)
             .withValidation(Field::isPositiveInteger);
 
+    public static final Field POLL_LINGER_MS = Field.create("poll.linger.ms")
+            .withDisplayName("Poll linger time (ms)")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Enables the low-latency polling mode when set: instead of sleeping for '" + POLL_INTERVAL_MS.name() + "' while no change "
+                    + "events are available, the connector is woken up as soon as events arrive, and hands over a batch once it contains '"
+                    + MAX_BATCH_SIZE.name() + "' events or once this many milliseconds have passed since its first event arrived. '"
+                    + POLL_INTERVAL_MS.name() + "' then only bounds how long to wait while no events arrive. Not set by default.")
+            .withValidation(Field::isNonNegativeLong);
+
     public static final Field SNAPSHOT_DELAY_MS = Field.create("snapshot.delay.ms")
             .withDisplayName("Snapshot Delay (milliseconds)")
             .withType(Type.LONG)
@@ -158,30 +277,61 @@ public static Version parse(String value, String defaultValue) {
             .withDescription("Whether field names will be sanitized to Avro naming conventions")
             .withDefault(Boolean.FALSE);
 
+    public static final Field SIGNAL_DATA_COLLECTION = Field.create("signal.data.collection")
+            .withDisplayName("Signaling data collection")
+            .withType(Type.STRING)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The fully-qualified name of the data collection used for sending signals to the connector, e.g. for triggering "
+                    + "incremental snapshots. The collection must be captured by the connector and contain the columns 'id', 'type' and 'data' (in this order); "
+                    + "each record inserted into it is processed as a signal. Signaling is disabled if not set.");
+
+    public static final Field METRICS_MAX_TRACKED_TABLES = Field.create("metrics.max.tracked.tables")
+            .withDisplayName("Maximum number of tables with metrics")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of tables for which the snapshot and streaming metrics expose per-table event counts, "
+                    + "sizes and lag; events of further tables are only reflected in the connector-wide metrics. "
+                    + "0 disables per-table metrics. Defaults to " + DEFAULT_METRICS_MAX_TRACKED_TABLES + ".")
+            .withDefault(DEFAULT_METRICS_MAX_TRACKED_TABLES)
+            .withValidation(Field::isNonNegativeInteger);
+
     private final Configuration config;
     private final boolean emitTombstoneOnDelete;
     private final int maxQueueSize;
     private final int maxBatchSize;
+    private final long maxQueueSizeInBytes;
+    private final QueueImplementation queueImplementation;
     private final Duration pollInterval;
+    private final Duration pollLinger;
     private final String logicalName;
     private final String heartbeatTopicsPrefix;
     private final Duration snapshotDelayMs;
     private final int snapshotFetchSize;
     private final SourceInfoStructMaker<? extends AbstractSourceInfo> sourceInfoStructMaker;
     private final boolean sanitizeFieldNames;
+    private final String signalingDataCollection;
+    private final int metricsMaxTrackedTables;
 
     protected CommonConnectorConfig(Configuration config, String logicalName, int defaultSnapshotFetchSize) {
         this.config = config;
         this.emitTombstoneOnDelete = config.getBoolean(CommonConnectorConfig.TOMBSTONES_ON_DELETE);
         this.maxQueueSize = config.getInteger(MAX_QUEUE_SIZE);
         this.maxBatchSize = config.getInteger(MAX_BATCH_SIZE);
+        this.maxQueueSizeInBytes = config.getLong(MAX_QUEUE_SIZE_IN_BYTES);
+        this.queueImplementation = QueueImplementation.parse(config.getString(QUEUE_IMPLEMENTATION), QUEUE_IMPLEMENTATION.defaultValueAsString());
         this.pollInterval = config.getDuration(POLL_INTERVAL_MS, ChronoUnit.MILLIS);
+        final Long pollLingerMs = config.getLong(POLL_LINGER_MS.name());
+        this.pollLinger = pollLingerMs != null ? Duration.ofMillis(pollLingerMs) : null;
         this.logicalName = logicalName;
         this.heartbeatTopicsPrefix = config.getString(Heartbeat.HEARTBEAT_TOPICS_PREFIX);
         this.snapshotDelayMs = Duration.ofMillis(config.getLong(SNAPSHOT_DELAY_MS));
         this.snapshotFetchSize = config.getInteger(SNAPSHOT_FETCH_SIZE, defaultSnapshotFetchSize);
         this.sourceInfoStructMaker = getSourceInfoStructMaker(Version.parse(config.getString(SOURCE_STRUCT_MAKER_VERSION)));
         this.sanitizeFieldNames = config.getBoolean(SANITIZE_FIELD_NAMES) || isUsingAvroConverter(config);
+        this.signalingDataCollection = config.getString(SIGNAL_DATA_COLLECTION);
+        this.metricsMaxTrackedTables = config.getInteger(METRICS_MAX_TRACKED_TABLES);
     }
 
     /**
@@ -204,10 +354,25 @@ public int getMaxBatchSize() {
         return maxBatchSize;
     }
 
+    public long getMaxQueueSizeInBytes() {
+        return maxQueueSizeInBytes;
+    }
+
+    public QueueImplementation getQueueImplementation() {
+        return queueImplementation;
+    }
+
     public Duration getPollInterval() {
         return pollInterval;
     }
 
+    /**
+     * Returns the linger time of the low-latency polling mode, or {@code null} if that mode isn't enabled.
+     */
+    public Duration getPollLinger() {
+        return pollLinger;
+    }
+
     public String getLogicalName() {
         return logicalName;
     }
@@ -235,6 +400,17 @@ public boolean getSanitizeFieldNames() {
         return sanitizeFieldNames;
     }
 
+    /**
+     * Returns the name of the data collection used for signaling, or {@code null} if signaling isn't enabled.
+     */
+    public String getSignalingDataCollectionId() {
+        return signalingDataCollection;
+    }
+
+    public int getMetricsMaxTrackedTables() {
+        return metricsMaxTrackedTables;
+    }
+
     private static int validateMaxQueueSize(Configuration config, Field field, Field.ValidationOutput problems) {
         int maxQueueSize = config.getInteger(field);
         int maxBatchSize = config.getInteger(MAX_BATCH_SIZE);
@@ -9,7 +9,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.apache.kafka.connect.errors.ConnectException;
@@ -17,8 +18,11 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.config.CommonConnectorConfig.QueueImplementation;
 import io.debezium.config.ConfigurationDefaults;
+import io.debezium.pipeline.Sizeable;
 import io.debezium.time.Temporals;
+import io.debezium.util.ApproximateStructSizeCalculator;
 import io.debezium.util.Clock;
 import io.debezium.util.LoggingContext;
 import io.debezium.util.LoggingContext.PreviousContext;
@@ -37,6 +41,24 @@
  * to {@link #enqueue(Object)} will block until elements have been removed from
  * the queue.
  * <p>
+ * Optionally, the queue can additionally be bounded by the approximate number of
+ * bytes it holds (see {@link Builder#maxQueueSizeInBytes(long)}). The size of
+ * {@link Sizeable} elements is obtained from the element itself, the size of
+ * {@link SourceRecord} elements is estimated by walking their key and value once
+ * when they are enqueued, and kept alongside them until they are polled.
+ * <p>
+ * By default, an empty queue is polled periodically, sleeping for the poll
+ * interval in between. If a linger time is configured (see
+ * {@link Builder#pollLinger(Duration)}), the queue switches to a low-latency mode
+ * instead: the producer wakes up the waiting consumer as soon as the first element
+ * arrives, and the consumer hands over a batch once it is complete or once the
+ * linger time has passed since it started to fill. The poll interval then only
+ * bounds the time an idle {@link #poll()} blocks.
+ * <p>
+ * The elements are held by a {@link QueueImplementation#LINKED_DEQUE linked deque}
+ * by default; when events are only produced by a single thread, a preallocated
+ * {@link QueueImplementation#RING_BUFFER ring buffer} can be used instead.
+ * <p>
  * If an exception occurs on the producer side, the producer should make that
  * exception known by calling {@link #producerFailure} before stopping its
  * operation. Upon the next call to {@link #poll()}, that exception will be
@@ -58,17 +80,38 @@
     private final Duration pollInterval;
     private final int maxBatchSize;
     private final int maxQueueSize;
-    private final BlockingQueue<T> queue;
+    private final long maxQueueSizeInBytes;
+    private final Duration pollLinger;
+    /**
+     * Holds the elements, or, if the queue is bounded in bytes, {@link SizedElement}s for elements that aren't
+     * {@link Sizeable}, so their size doesn't need to be calculated again when releasing it
+     */
+    private final BlockingQueue<Object> queue;
     private final Metronome metronome;
     private final Supplier<PreviousContext> loggingContextSupplier;
 
+    private final ReentrantLock sizeLock = new ReentrantLock();
+    private final Condition sizeReleased = sizeLock.newCondition();
+    private volatile long currentQueueSizeInBytes;
+    private volatile long peakQueueSizeInBytes;
+
+    private final ReentrantLock signalLock = new ReentrantLock();
+    private final Condition recordsAvailable = signalLock.newCondition();
+    /**
+     * The number of queued elements the consumer is waiting for in low-latency mode; 0 if it isn't waiting
+     */
+    private volatile int awaitedQueueSize;
+
     private volatile Throwable producerFailure;
 
-    private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier) {
+    private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, long maxQueueSizeInBytes, Duration pollLinger,
+                             QueueImplementation queueImplementation, Supplier<LoggingContext.PreviousContext> loggingContextSupplier) {
         this.pollInterval = pollInterval;
         this.maxBatchSize = maxBatchSize;
         this.maxQueueSize = maxQueueSize;
-        this.queue = new LinkedBlockingDeque<>(maxQueueSize);
+        this.maxQueueSizeInBytes = maxQueueSizeInBytes;
+        this.pollLinger = pollLinger;
+        this.queue = queueImplementation.createQueue(maxQueueSize);
         this.metronome = Metronome.sleeper(pollInterval, Clock.SYSTEM);
         this.loggingContextSupplier = loggingContextSupplier;
     }
@@ -78,6 +121,9 @@ private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSi
         private Duration pollInterval;
         private int maxQueueSize;
         private int maxBatchSize;
+        private long maxQueueSizeInBytes;
+        private Duration pollLinger;
+        private QueueImplementation queueImplementation = QueueImplementation.LINKED_DEQUE;
         private Supplier<LoggingContext.PreviousContext> loggingContextSupplier;
 
         public Builder<T> pollInterval(Duration pollInterval) {
@@ -95,19 +141,49 @@ public Builder<T> maxBatchSize(int maxBatchSize) {
             return this;
         }
 
+        /**
+         * Sets the maximum approximate number of bytes the queue may hold; {@code 0} (the default) disables
+         * memory-based back-pressure, leaving the queue bounded by its number of elements only.
+         */
+        public Builder<T> maxQueueSizeInBytes(long maxQueueSizeInBytes) {
+            this.maxQueueSizeInBytes = maxQueueSizeInBytes;
+            return this;
+        }
+
+        /**
+         * Enables the low-latency mode, in which a batch is handed over to the consumer as soon as it is complete or
+         * the given time has passed since its first element arrived; {@code null} (the default) keeps the
+         * interval-based polling.
+         */
+        public Builder<T> pollLinger(Duration pollLinger) {
+            this.pollLinger = pollLinger;
+            return this;
+        }
+
+        /**
+         * Sets the implementation of the underlying queue; {@link QueueImplementation#RING_BUFFER} must only be used
+         * if elements are enqueued by one thread at a time.
+         */
+        public Builder<T> queueImplementation(QueueImplementation queueImplementation) {
+            this.queueImplementation = queueImplementation;
+            return this;
+        }
+
         public Builder<T> loggingContextSupplier(Supplier<LoggingContext.PreviousContext> loggingContextSupplier) {
             this.loggingContextSupplier = loggingContextSupplier;
             return this;
         }
 
         public ChangeEventQueue<T> build() {
-            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier);
+            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, maxQueueSizeInBytes, pollLinger, queueImplementation,
+                    loggingContextSupplier);
         }
     }
 
     /**
      * Enqueues a record so that it can be obtained via {@link #poll()}. This method
-     * will block if the queue is full.
+     * will block if the queue is full, either in terms of elements or, if enabled,
+     * in terms of bytes.
      *
      * @param record
      *            the record to be enqueued
@@ -128,8 +204,128 @@ public void enqueue(T record) throws InterruptedException {
             LOGGER.debug("Enqueuing source record '{}'", record);
         }
 
-        // this will also raise an InterruptedException if the thread is interrupted while waiting for space in the queue
-        queue.put(record);
+        final long size = maxQueueSizeInBytes > 0 ? sizeOf(record) : 0;
+        final Object element;
+        if (maxQueueSizeInBytes > 0) {
+            reserveBytes(size);
+            element = record instanceof Sizeable ? record : new SizedElement(record, size);
+        }
+        else {
+            element = record;
+        }
+
+        boolean enqueued = false;
+        try {
+            // this will also raise an InterruptedException if the thread is interrupted while waiting for space in the queue
+            queue.put(element);
+            enqueued = true;
+        }
+        finally {
+            // the record never made it into the queue, so its reservation must not shrink the capacity for good
+            if (!enqueued && maxQueueSizeInBytes > 0) {
+                releaseBytes(size);
+            }
+        }
+
+        if (pollLinger != null) {
+            signalConsumerIfAwaited();
+        }
+    }
+
+    /**
+     * Wakes up the consumer if it waits for the number of elements now present in the queue. The lock is only
+     * acquired if that's the case, so producers don't contend with the consumer for each element.
+     */
+    private void signalConsumerIfAwaited() {
+        final int awaited = awaitedQueueSize;
+        if (awaited > 0 && queue.size() >= awaited) {
+            signalConsumer();
+        }
+    }
+
+    private void signalConsumer() {
+        signalLock.lock();
+        try {
+            recordsAvailable.signal();
+        }
+        finally {
+            signalLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the given number of bytes fits into the queue and accounts for them. A single record larger
+     * than the configured limit is admitted once the queue has been drained completely, so that it can't block
+     * the producer forever.
+     */
+    private void reserveBytes(long size) throws InterruptedException {
+        sizeLock.lockInterruptibly();
+        try {
+            while (currentQueueSizeInBytes > 0 && currentQueueSizeInBytes + size > maxQueueSizeInBytes) {
+                sizeReleased.await();
+            }
+            currentQueueSizeInBytes += size;
+            if (currentQueueSizeInBytes > peakQueueSizeInBytes) {
+                peakQueueSizeInBytes = currentQueueSizeInBytes;
+            }
+        }
+        finally {
+            sizeLock.unlock();
+        }
+    }
+
+    private void releaseBytes(long size) {
+        sizeLock.lock();
+        try {
+            currentQueueSizeInBytes -= size;
+            sizeReleased.signalAll();
+        }
+        finally {
+            sizeLock.unlock();
+        }
+    }
+
+    /**
+     * Moves at most {@link #maxBatchSize} elements from the queue to the given list, releasing the bytes they occupied.
+     *
+     * @return the number of elements moved
+     */
+    @SuppressWarnings("unchecked")
+    private int drainTo(List<T> records) {
+        if (maxQueueSizeInBytes == 0) {
+            return queue.drainTo((List<Object>) (List<?>) records, maxBatchSize);
+        }
+
+        final List<Object> elements = new ArrayList<>();
+        final int count = queue.drainTo(elements, maxBatchSize);
+        if (count == 0) {
+            return 0;
+        }
+
+        long size = 0;
+        for (Object element : elements) {
+            if (element instanceof SizedElement) {
+                final SizedElement sized = (SizedElement) element;
+                size += sized.size;
+                records.add((T) sized.element);
+            }
+            else {
+                size += ((Sizeable) element).objectSize();
+                records.add((T) element);
+            }
+        }
+        releaseBytes(size);
+        return count;
+    }
+
+    private long sizeOf(T record) {
+        if (record instanceof Sizeable) {
+            return ((Sizeable) record).objectSize();
+        }
+        if (record instanceof SourceRecord) {
+            return ApproximateStructSizeCalculator.getApproximateRecordSize((SourceRecord) record);
+        }
+        return 0;
     }
 
     /**
@@ -146,8 +342,13 @@ public List<T> poll() throws InterruptedException {
         try {
             LOGGER.debug("polling records...");
             List<T> records = new ArrayList<>();
+            if (pollLinger != null) {
+                awaitRecords();
+                drainTo(records);
+                return records;
+            }
             final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.max(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
-            while (!timeout.expired() && queue.drainTo(records, maxBatchSize) == 0) {
+            while (!timeout.expired() && drainTo(records) == 0) {
                 throwProducerFailureIfPresent();
 
                 LOGGER.debug("no records available yet, sleeping a bit...");
@@ -162,8 +363,49 @@ public List<T> poll() throws InterruptedException {
         }
     }
 
+    /**
+     * Blocks until the first element arrives or the poll interval has passed; afterwards blocks until a complete
+     * batch is available or the linger time has passed.
+     */
+    private void awaitRecords() throws InterruptedException {
+        final long timeout = System.nanoTime() + pollInterval.toNanos();
+
+        signalLock.lockInterruptibly();
+        try {
+            awaitedQueueSize = 1;
+            while (queue.isEmpty()) {
+                throwProducerFailureIfPresent();
+
+                final long remaining = timeout - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                LOGGER.debug("no records available yet, waiting for the producer...");
+                recordsAvailable.awaitNanos(remaining);
+            }
+
+            final long linger = Math.min(timeout, System.nanoTime() + pollLinger.toNanos());
+            awaitedQueueSize = maxBatchSize;
+            while (queue.size() < maxBatchSize) {
+                final long remaining = linger - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                recordsAvailable.awaitNanos(remaining);
+            }
+        }
+        finally {
+            awaitedQueueSize = 0;
+            signalLock.unlock();
+        }
+    }
+
     public void producerFailure(final Throwable producerFailure) {
         this.producerFailure = producerFailure;
+
+        if (pollLinger != null) {
+            signalConsumer();
+        }
     }
 
     private void throwProducerFailureIfPresent() {
@@ -181,4 +423,33 @@ public int totalCapacity() {
     public int remainingCapacity() {
         return queue.remainingCapacity();
     }
+
+    @Override
+    public long maxQueueSizeInBytes() {
+        return maxQueueSizeInBytes;
+    }
+
+    @Override
+    public long currentQueueSizeInBytes() {
+        return currentQueueSizeInBytes;
+    }
+
+    @Override
+    public long peakQueueSizeInBytes() {
+        return peakQueueSizeInBytes;
+    }
+
+    /**
+     * An element together with the size reserved for it when it was enqueued.
+     */
+    private static final class SizedElement {
+
+        private final Object element;
+        private final long size;
+
+        private SizedElement(Object element, long size) {
+            this.element = element;
+            this.size = size;
+        }
+    }
 }
@@ -10,4 +10,19 @@ public interface ChangeEventQueueMetrics {
     int totalCapacity();
 
     int remainingCapacity();
+
+    /**
+     * The maximum number of bytes the queue may hold, or {@code 0} if the queue isn't bounded by memory.
+     */
+    long maxQueueSizeInBytes();
+
+    /**
+     * The approximate number of bytes currently buffered in the queue.
+     */
+    long currentQueueSizeInBytes();
+
+    /**
+     * The highest approximate number of bytes buffered in the queue since it has been created.
+     */
+    long peakQueueSizeInBytes();
 }
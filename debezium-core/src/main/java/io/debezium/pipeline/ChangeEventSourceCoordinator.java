@@ -7,6 +7,7 @@
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -15,10 +16,12 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.connector.base.ChangeEventQueueMetrics;
 import io.debezium.connector.common.CdcSourceTaskContext;
 import io.debezium.pipeline.metrics.SnapshotChangeEventSourceMetrics;
 import io.debezium.pipeline.metrics.StreamingChangeEventSourceMetrics;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.ChangeEventSource;
 import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
 import io.debezium.pipeline.source.spi.ChangeEventSourceFactory;
@@ -45,6 +48,7 @@ public class ChangeEventSourceCoordinator {
 
     private final OffsetContext previousOffset;
     private final ErrorHandler errorHandler;
+    private final CommonConnectorConfig connectorConfig;
     private final ChangeEventSourceFactory changeEventSourceFactory;
     private final ExecutorService executor;
     private final EventDispatcher<?> eventDispatcher;
@@ -56,20 +60,24 @@ public class ChangeEventSourceCoordinator {
     private SnapshotChangeEventSourceMetrics snapshotMetrics;
     private StreamingChangeEventSourceMetrics streamingMetrics;
 
-    public ChangeEventSourceCoordinator(OffsetContext previousOffset, ErrorHandler errorHandler, Class<? extends SourceConnector> connectorType, String logicalName,
+    public ChangeEventSourceCoordinator(OffsetContext previousOffset, ErrorHandler errorHandler, Class<? extends SourceConnector> connectorType,
+                                        CommonConnectorConfig connectorConfig,
                                         ChangeEventSourceFactory changeEventSourceFactory, EventDispatcher<?> eventDispatcher, RelationalDatabaseSchema schema) {
         this.previousOffset = previousOffset;
         this.errorHandler = errorHandler;
+        this.connectorConfig = connectorConfig;
         this.changeEventSourceFactory = changeEventSourceFactory;
-        this.executor = Threads.newSingleThreadExecutor(connectorType, logicalName, "change-event-source-coordinator");
+        this.executor = Threads.newSingleThreadExecutor(connectorType, connectorConfig.getLogicalName(), "change-event-source-coordinator");
         this.eventDispatcher = eventDispatcher;
         this.schema = schema;
     }
 
     public synchronized <T extends CdcSourceTaskContext> void start(T taskContext, ChangeEventQueueMetrics changeEventQueueMetrics,
                                                                     EventMetadataProvider metadataProvider) {
-        this.snapshotMetrics = new SnapshotChangeEventSourceMetrics(taskContext, changeEventQueueMetrics, metadataProvider);
-        this.streamingMetrics = new StreamingChangeEventSourceMetrics(taskContext, changeEventQueueMetrics, metadataProvider);
+        this.snapshotMetrics = new SnapshotChangeEventSourceMetrics(taskContext, changeEventQueueMetrics, metadataProvider,
+                connectorConfig.getMetricsMaxTrackedTables());
+        this.streamingMetrics = new StreamingChangeEventSourceMetrics(taskContext, changeEventQueueMetrics, metadataProvider,
+                connectorConfig.getMetricsMaxTrackedTables());
         running = true;
 
         // run the snapshot source on a separate thread so start() won't block
@@ -95,6 +103,13 @@ public synchronized <T extends CdcSourceTaskContext> void start(T taskContext, C
                     streamingSource = changeEventSourceFactory.getStreamingChangeEventSource(snapshotResult.getOffset());
                     eventDispatcher.setEventListener(streamingMetrics);
                     streamingMetrics.connected(true);
+
+                    final Optional<IncrementalSnapshotChangeEventSource> incrementalSnapshotSource = changeEventSourceFactory
+                            .getIncrementalSnapshotChangeEventSource();
+                    if (incrementalSnapshotSource.isPresent()) {
+                        eventDispatcher.setIncrementalSnapshotChangeEventSource(incrementalSnapshotSource.get());
+                        incrementalSnapshotSource.get().init(snapshotResult.getOffset());
+                    }
                     LOGGER.info("Starting streaming");
                     streamingSource.execute(context);
                     LOGGER.info("Finished streaming");
@@ -7,9 +7,14 @@
 
 import org.apache.kafka.connect.source.SourceRecord;
 
-public class DataChangeEvent {
+import io.debezium.util.ApproximateStructSizeCalculator;
+
+public class DataChangeEvent implements Sizeable {
+
+    private static final long UNKNOWN_SIZE = -1;
 
     private final SourceRecord record;
+    private long objectSize = UNKNOWN_SIZE;
 
     public DataChangeEvent(SourceRecord record) {
         this.record = record;
@@ -19,6 +24,18 @@ public SourceRecord getRecord() {
         return record;
     }
 
+    /**
+     * Returns the approximate size of the contained record. The size is calculated on the first invocation, which
+     * happens on the producer thread when the event is enqueued, and is cached afterwards.
+     */
+    @Override
+    public long objectSize() {
+        if (objectSize == UNKNOWN_SIZE) {
+            objectSize = ApproximateStructSizeCalculator.getApproximateRecordSize(record);
+        }
+        return objectSize;
+    }
+
     @Override
     public String toString() {
         return "DataChangeEvent [record=" + record + "]";
@@ -21,6 +21,11 @@
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.Operation;
 import io.debezium.heartbeat.Heartbeat;
+import io.debezium.pipeline.signal.CloseIncrementalSnapshotWindow;
+import io.debezium.pipeline.signal.ExecuteSnapshot;
+import io.debezium.pipeline.signal.OpenIncrementalSnapshotWindow;
+import io.debezium.pipeline.signal.Signal;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.DataChangeEventListener;
 import io.debezium.pipeline.spi.ChangeEventCreator;
 import io.debezium.pipeline.spi.ChangeRecordEmitter;
@@ -58,6 +63,8 @@
     private DataChangeEventListener eventListener = DataChangeEventListener.NO_OP;
     private final boolean emitTombstonesOnDelete;
     private final InconsistentSchemaHandler<T> inconsistentSchemaHandler;
+    private final Signal signal;
+    private IncrementalSnapshotChangeEventSource incrementalSnapshotChangeEventSource;
 
     /**
      * Change event receiver for events dispatched from a streaming change event source.
@@ -84,6 +91,7 @@ public EventDispatcher(CommonConnectorConfig connectorConfig, TopicSelector<T> t
         this.streamingReceiver = new StreamingChangeRecordReceiver();
         this.emitTombstonesOnDelete = connectorConfig.isEmitTombstoneOnDelete();
         this.inconsistentSchemaHandler = inconsistentSchemaHandler != null ? inconsistentSchemaHandler : this::errorOnMissingSchema;
+        this.signal = new Signal(connectorConfig);
 
         heartbeat = Heartbeat.create(connectorConfig.getConfig(), topicSelector.getHeartbeatTopic(),
                 connectorConfig.getLogicalName());
@@ -115,6 +123,14 @@ public SnapshotReceiver getSnapshotChangeEventReceiver() {
         return new BufferingSnapshotChangeRecordReceiver();
     }
 
+    /**
+     * Returns a receiver for the events of an incremental snapshot, which are interleaved with streamed events and
+     * thus are enqueued right away.
+     */
+    public SnapshotReceiver getIncrementalSnapshotChangeEventReceiver() {
+        return new IncrementalSnapshotChangeRecordReceiver();
+    }
+
     /**
      * Dispatches one or more {@link DataChangeEvent}s. If the given data collection is included in the currently
      * captured set of collections, the given emitter will be invoked, so it can emit one or more events (in the common
@@ -150,6 +166,13 @@ public void changeRecord(DataCollectionSchema schema, Operation operation, Objec
                         throws InterruptedException {
                     eventListener.onEvent(dataCollectionId, offset, key, value);
                     streamingReceiver.changeRecord(schema, operation, key, value, offset);
+
+                    if (operation == Operation.CREATE && signal.isSignal(dataCollectionId)) {
+                        signal.process(value, offset);
+                    }
+                    else if (incrementalSnapshotChangeEventSource != null) {
+                        incrementalSnapshotChangeEventSource.processMessage(dataCollectionId, key, offset);
+                    }
                 }
             });
             handled = true;
@@ -203,6 +226,15 @@ private void enqueueHeartbeat(SourceRecord record) throws InterruptedException {
         queue.enqueue(new DataChangeEvent(record));
     }
 
+    /**
+     * Enqueues a change event of the given data collection. The metrics are notified beforehand, so that the size of
+     * the event, if calculated for them, is cached by the event and reused by a queue bounded in bytes.
+     */
+    private void enqueueDataChangeEvent(DataCollectionId dataCollectionId, DataChangeEvent event) throws InterruptedException {
+        eventListener.onEventCreated(dataCollectionId, event);
+        queue.enqueue(event);
+    }
+
     /**
      * Change record receiver used during snapshotting. Allows for a deferred submission of records, which is needed in
      * order to set the "snapshot completed" offset field, which we can't send to Kafka Connect without sending an
@@ -227,7 +259,7 @@ public void changeRecord(DataCollectionSchema dataCollectionSchema, Operation op
             SourceRecord record = new SourceRecord(offsetContext.getPartition(), offsetContext.getOffset(),
                     topicName, null, keySchema, key, dataCollectionSchema.getEnvelopeSchema().schema(), value);
 
-            queue.enqueue(changeEventCreator.createDataChangeEvent(record));
+            enqueueDataChangeEvent(dataCollectionSchema.id(), changeEventCreator.createDataChangeEvent(record));
 
             if (emitTombstonesOnDelete && operation == Operation.DELETE) {
                 SourceRecord tombStone = record.newRecord(
@@ -244,9 +276,23 @@ public void changeRecord(DataCollectionSchema dataCollectionSchema, Operation op
         }
     }
 
+    private final class IncrementalSnapshotChangeRecordReceiver implements SnapshotReceiver {
+
+        @Override
+        public void changeRecord(DataCollectionSchema dataCollectionSchema, Operation operation, Object key, Struct value, OffsetContext offsetContext)
+                throws InterruptedException {
+            streamingReceiver.changeRecord(dataCollectionSchema, operation, key, value, offsetContext);
+        }
+
+        @Override
+        public void completeSnapshot() throws InterruptedException {
+        }
+    }
+
     private final class BufferingSnapshotChangeRecordReceiver implements SnapshotReceiver {
 
         private Supplier<DataChangeEvent> bufferedEvent;
+        private DataCollectionId bufferedDataCollectionId;
 
         @Override
         public void changeRecord(DataCollectionSchema dataCollectionSchema, Operation operation, Object key, Struct value, OffsetContext offsetContext)
@@ -256,13 +302,14 @@ public void changeRecord(DataCollectionSchema dataCollectionSchema, Operation op
             LOGGER.trace("Received change record for {} operation on key {}", operation, key);
 
             if (bufferedEvent != null) {
-                queue.enqueue(bufferedEvent.get());
+                enqueueDataChangeEvent(bufferedDataCollectionId, bufferedEvent.get());
             }
 
             Schema keySchema = dataCollectionSchema.keySchema();
             String topicName = topicSelector.topicNameFor((T) dataCollectionSchema.id());
 
             // the record is produced lazily, so to have the correct offset as per the pre/post completion callbacks
+            bufferedDataCollectionId = dataCollectionSchema.id();
             bufferedEvent = () -> {
                 SourceRecord record = new SourceRecord(offsetContext.getPartition(), offsetContext.getOffset(),
                         topicName, null, keySchema, key, dataCollectionSchema.getEnvelopeSchema().schema(), value);
@@ -285,8 +332,9 @@ public void completeSnapshot() throws InterruptedException {
                         SnapshotRecord.LAST.toSource(source);
                     }
                 }
-                queue.enqueue(event);
+                enqueueDataChangeEvent(bufferedDataCollectionId, event);
                 bufferedEvent = null;
+                bufferedDataCollectionId = null;
             }
         }
     }
@@ -308,6 +356,16 @@ public void setEventListener(DataChangeEventListener eventListener) {
         this.eventListener = eventListener;
     }
 
+    /**
+     * Enables incremental snapshots, triggered and coordinated by signals received from the signaling data collection.
+     */
+    public void setIncrementalSnapshotChangeEventSource(IncrementalSnapshotChangeEventSource incrementalSnapshotChangeEventSource) {
+        this.incrementalSnapshotChangeEventSource = incrementalSnapshotChangeEventSource;
+        signal.registerSignalAction(ExecuteSnapshot.NAME, new ExecuteSnapshot(incrementalSnapshotChangeEventSource));
+        signal.registerSignalAction(OpenIncrementalSnapshotWindow.NAME, new OpenIncrementalSnapshotWindow(incrementalSnapshotChangeEventSource));
+        signal.registerSignalAction(CloseIncrementalSnapshotWindow.NAME, new CloseIncrementalSnapshotWindow(incrementalSnapshotChangeEventSource));
+    }
+
     /**
      * Reaction to an incoming change event for which schema is not found
      */
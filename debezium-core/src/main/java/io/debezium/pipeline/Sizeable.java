@@ -0,0 +1,20 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import io.debezium.connector.base.ChangeEventQueue;
+
+/**
+ * Implemented by events that know their approximate size in memory, so that the {@link ChangeEventQueue} can apply
+ * back-pressure based on the number of buffered bytes rather than on the number of buffered events.
+ */
+public interface Sizeable {
+
+    /**
+     * Returns the approximate number of bytes occupied by this object on the heap.
+     */
+    long objectSize();
+}
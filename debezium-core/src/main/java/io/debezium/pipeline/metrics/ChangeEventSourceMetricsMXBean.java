@@ -5,6 +5,8 @@
  */
 package io.debezium.pipeline.metrics;
 
+import java.util.Map;
+
 /**
  * Metrics that are common for both snapshot and streaming change event sources
  *
@@ -28,5 +30,17 @@ public interface ChangeEventSourceMetricsMXBean {
 
     int getQueueRemainingCapacity();
 
+    long getMaxQueueSizeInBytes();
+
+    long getCurrentQueueSizeInBytes();
+
+    long getPeakQueueSizeInBytes();
+
+    /**
+     * Returns the event counts, sizes and lag of the captured tables, keyed by table name; limited to the number of
+     * tables configured via {@code metrics.max.tracked.tables}.
+     */
+    Map<String, DataCollectionMetrics> getMetricsPerTable();
+
     void reset();
 }
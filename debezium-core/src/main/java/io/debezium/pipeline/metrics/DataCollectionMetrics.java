@@ -0,0 +1,158 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.data.Envelope.Operation;
+
+/**
+ * Metrics of the change events of a single data collection. All counters are {@link LongAdder}s, so that recording an
+ * event doesn't contend with concurrent updates, e.g. by parallel snapshot threads, or with reads by JMX clients.
+ * <p>
+ * The lag of the events behind the source database is recorded in a histogram with buckets of exponentially growing
+ * width; percentiles are reported as the upper bound of the bucket they fall into, i.e. they are accurate within a
+ * factor of two.
+ */
+@ThreadSafe
+public class DataCollectionMetrics {
+
+    /**
+     * Bucket {@code i > 0} holds lags from {@code 2^(i-1)} to {@code 2^i - 1} milliseconds, bucket 0 holds lags of 0;
+     * the last bucket also holds all larger lags, i.e. those above about 12 days.
+     */
+    private static final int LAG_BUCKETS = 31;
+
+    private final LongAdder numberOfCreateEvents = new LongAdder();
+    private final LongAdder numberOfUpdateEvents = new LongAdder();
+    private final LongAdder numberOfDeleteEvents = new LongAdder();
+    private final LongAdder numberOfReadEvents = new LongAdder();
+    private final LongAdder totalNumberOfEvents = new LongAdder();
+    private final LongAdder totalNumberOfBytes = new LongAdder();
+    private final LongAdder[] lagHistogram = new LongAdder[LAG_BUCKETS];
+
+    public DataCollectionMetrics() {
+        for (int i = 0; i < LAG_BUCKETS; i++) {
+            lagHistogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a change event.
+     *
+     * @param operation the operation of the event; may be null if it isn't known
+     * @param lagMillis the time between the change in the source database and the dispatching of the event; negative
+     * if it isn't known
+     */
+    public void onEvent(Operation operation, long lagMillis) {
+        if (operation != null) {
+            switch (operation) {
+                case CREATE:
+                    numberOfCreateEvents.increment();
+                    break;
+                case UPDATE:
+                    numberOfUpdateEvents.increment();
+                    break;
+                case DELETE:
+                    numberOfDeleteEvents.increment();
+                    break;
+                case READ:
+                    numberOfReadEvents.increment();
+                    break;
+            }
+        }
+        totalNumberOfEvents.increment();
+        if (lagMillis >= 0) {
+            lagHistogram[bucketOf(lagMillis)].increment();
+        }
+    }
+
+    /**
+     * Records the approximate size of a change event.
+     */
+    public void onEventCreated(long bytes) {
+        totalNumberOfBytes.add(bytes);
+    }
+
+    private static int bucketOf(long lagMillis) {
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(lagMillis), LAG_BUCKETS - 1);
+    }
+
+    public long getNumberOfCreateEvents() {
+        return numberOfCreateEvents.sum();
+    }
+
+    public long getNumberOfUpdateEvents() {
+        return numberOfUpdateEvents.sum();
+    }
+
+    public long getNumberOfDeleteEvents() {
+        return numberOfDeleteEvents.sum();
+    }
+
+    public long getNumberOfReadEvents() {
+        return numberOfReadEvents.sum();
+    }
+
+    public long getTotalNumberOfEvents() {
+        return totalNumberOfEvents.sum();
+    }
+
+    public long getTotalNumberOfBytes() {
+        return totalNumberOfBytes.sum();
+    }
+
+    public long getMilliSecondsBehindSourceP50() {
+        return lagPercentile(0.50);
+    }
+
+    public long getMilliSecondsBehindSourceP95() {
+        return lagPercentile(0.95);
+    }
+
+    public long getMilliSecondsBehindSourceP99() {
+        return lagPercentile(0.99);
+    }
+
+    /**
+     * Returns the upper bound of the bucket of the lag histogram the given percentile falls into, or -1 if no lag
+     * has been recorded.
+     */
+    long lagPercentile(double percentile) {
+        final long[] counts = new long[LAG_BUCKETS];
+        long total = 0;
+        for (int i = 0; i < LAG_BUCKETS; i++) {
+            counts[i] = lagHistogram[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return -1;
+        }
+
+        final long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < LAG_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) {
+                return (1L << i) - 1;
+            }
+        }
+        return (1L << (LAG_BUCKETS - 1)) - 1;
+    }
+
+    public void reset() {
+        numberOfCreateEvents.reset();
+        numberOfUpdateEvents.reset();
+        numberOfDeleteEvents.reset();
+        numberOfReadEvents.reset();
+        totalNumberOfEvents.reset();
+        totalNumberOfBytes.reset();
+        for (LongAdder bucket : lagHistogram) {
+            bucket.reset();
+        }
+    }
+}
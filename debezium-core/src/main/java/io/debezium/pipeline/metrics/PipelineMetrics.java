@@ -5,14 +5,25 @@
  */
 package io.debezium.pipeline.metrics;
 
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.kafka.connect.data.Struct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.connector.base.ChangeEventQueueMetrics;
 import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.data.Envelope;
 import io.debezium.metrics.Metrics;
+import io.debezium.pipeline.Sizeable;
 import io.debezium.pipeline.source.spi.DataChangeEventListener;
 import io.debezium.pipeline.source.spi.EventMetadataProvider;
 import io.debezium.pipeline.spi.OffsetContext;
@@ -27,6 +38,8 @@
 @ThreadSafe
 public abstract class PipelineMetrics extends Metrics implements DataChangeEventListener, ChangeEventSourceMetricsMXBean {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(PipelineMetrics.class);
+
     protected final EventMetadataProvider metadataProvider;
     protected final AtomicLong totalNumberOfEventsSeen = new AtomicLong();
     private final AtomicLong numberOfEventsFiltered = new AtomicLong();
@@ -34,23 +47,110 @@ public abstract class PipelineMetrics extends Metrics implements DataChangeEvent
     protected final AtomicLong lastEventTimestamp = new AtomicLong(-1);
     private volatile String lastEvent;
 
+    private final int maxTrackedDataCollections;
+    private final ConcurrentMap<DataCollectionId, DataCollectionMetrics> dataCollectionMetrics = new ConcurrentHashMap<>();
+    private final AtomicBoolean trackingLimitReached = new AtomicBoolean();
+
     protected final Clock clock;
     private final ChangeEventQueueMetrics changeEventQueueMetrics;
     protected final CdcSourceTaskContext taskContext;
 
     protected <T extends CdcSourceTaskContext> PipelineMetrics(T taskContext, String contextName, ChangeEventQueueMetrics changeEventQueueMetrics,
                                                                EventMetadataProvider metadataProvider) {
+        this(taskContext, contextName, changeEventQueueMetrics, metadataProvider, CommonConnectorConfig.DEFAULT_METRICS_MAX_TRACKED_TABLES);
+    }
+
+    /**
+     * @param maxTrackedDataCollections the maximum number of data collections for which metrics are kept, see
+     * {@link CommonConnectorConfig#METRICS_MAX_TRACKED_TABLES}
+     */
+    protected <T extends CdcSourceTaskContext> PipelineMetrics(T taskContext, String contextName, ChangeEventQueueMetrics changeEventQueueMetrics,
+                                                               EventMetadataProvider metadataProvider, int maxTrackedDataCollections) {
         super(taskContext, contextName);
         this.taskContext = taskContext;
         this.clock = taskContext.getClock();
         this.changeEventQueueMetrics = changeEventQueueMetrics;
         this.metadataProvider = metadataProvider;
+        this.maxTrackedDataCollections = maxTrackedDataCollections;
     }
 
     @Override
     public void onEvent(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
         updateCommonEventMetrics();
         lastEvent = metadataProvider.toSummaryString(source, offset, key, value);
+
+        final Instant eventTimestamp = metadataProvider.getEventTimestamp(source, offset, key, value);
+        updateDataCollectionMetrics(source, value, eventTimestamp);
+        onEvent(source, offset, key, value, eventTimestamp);
+    }
+
+    /**
+     * Invoked for each data change event after the common metrics have been updated.
+     *
+     * @param eventTimestamp the time of the change in the source database; may be null
+     */
+    protected void onEvent(DataCollectionId source, OffsetContext offset, Object key, Struct value, Instant eventTimestamp) {
+    }
+
+    @Override
+    public void onEventCreated(DataCollectionId source, Sizeable event) {
+        // the event has been counted by onEvent() before, which registers the metrics of tracked data collections
+        final DataCollectionMetrics metrics = source != null ? dataCollectionMetrics.get(source) : null;
+        if (metrics != null) {
+            metrics.onEventCreated(event.objectSize());
+        }
+    }
+
+    private void updateDataCollectionMetrics(DataCollectionId source, Struct value, Instant eventTimestamp) {
+        final DataCollectionMetrics metrics = dataCollectionMetricsFor(source);
+        if (metrics == null) {
+            return;
+        }
+
+        Envelope.Operation operation = null;
+        if (value != null && value.schema().field(Envelope.FieldName.OPERATION) != null) {
+            operation = Envelope.Operation.forCode(value.getString(Envelope.FieldName.OPERATION));
+        }
+        // clocks of database and connector may deviate, so a negative lag is treated as none
+        final long lag = eventTimestamp != null ? Math.max(clock.currentTimeInMillis() - eventTimestamp.toEpochMilli(), 0) : -1;
+
+        metrics.onEvent(operation, lag);
+    }
+
+    /**
+     * Returns the metrics of the given data collection, registering them if the limit of tracked data collections
+     * hasn't been reached yet.
+     *
+     * @return the metrics, or {@code null} if the data collection isn't tracked
+     */
+    private DataCollectionMetrics dataCollectionMetricsFor(DataCollectionId source) {
+        if (source == null) {
+            return null;
+        }
+        final DataCollectionMetrics metrics = dataCollectionMetrics.get(source);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (trackingLimitReached.get()) {
+            return null;
+        }
+        // registration is rare, so it is serialized for checking the limit and adding the metrics atomically
+        synchronized (dataCollectionMetrics) {
+            final DataCollectionMetrics registered = dataCollectionMetrics.get(source);
+            if (registered != null) {
+                return registered;
+            }
+            if (dataCollectionMetrics.size() >= maxTrackedDataCollections) {
+                if (trackingLimitReached.compareAndSet(false, true) && maxTrackedDataCollections > 0) {
+                    LOGGER.info("Metrics are kept for {} tables at most, no metrics are kept for '{}' and further tables", maxTrackedDataCollections,
+                            source);
+                }
+                return null;
+            }
+            final DataCollectionMetrics created = new DataCollectionMetrics();
+            dataCollectionMetrics.put(source, created);
+            return created;
+        }
     }
 
     private void updateCommonEventMetrics() {
@@ -95,6 +195,13 @@ public long getNumberOfErroneousEvents() {
         return numberOfErroneousEvents.get();
     }
 
+    @Override
+    public Map<String, DataCollectionMetrics> getMetricsPerTable() {
+        final Map<String, DataCollectionMetrics> result = new HashMap<>();
+        dataCollectionMetrics.forEach((id, metrics) -> result.put(id.toString(), metrics));
+        return result;
+    }
+
     @Override
     public void reset() {
         totalNumberOfEventsSeen.set(0);
@@ -102,6 +209,10 @@ public void reset() {
         numberOfEventsFiltered.set(0);
         numberOfErroneousEvents.set(0);
         lastEvent = null;
+        synchronized (dataCollectionMetrics) {
+            dataCollectionMetrics.clear();
+            trackingLimitReached.set(false);
+        }
     }
 
     @Override
@@ -113,4 +224,19 @@ public int getQueueTotalCapacity() {
     public int getQueueRemainingCapacity() {
         return changeEventQueueMetrics.remainingCapacity();
     }
+
+    @Override
+    public long getMaxQueueSizeInBytes() {
+        return changeEventQueueMetrics.maxQueueSizeInBytes();
+    }
+
+    @Override
+    public long getCurrentQueueSizeInBytes() {
+        return changeEventQueueMetrics.currentQueueSizeInBytes();
+    }
+
+    @Override
+    public long getPeakQueueSizeInBytes() {
+        return changeEventQueueMetrics.peakQueueSizeInBytes();
+    }
 }
@@ -35,6 +35,7 @@ public class SnapshotChangeEventSourceMetrics extends PipelineMetrics implements
     private final AtomicLong startTime = new AtomicLong();
     private final AtomicLong stopTime = new AtomicLong();
     private final ConcurrentMap<String, Long> rowsScanned = new ConcurrentHashMap<String, Long>();
+    private final ConcurrentMap<String, Long> chunksCompleted = new ConcurrentHashMap<>();
 
     private final ConcurrentMap<String, String> remainingTables = new ConcurrentHashMap<>();
 
@@ -45,6 +46,11 @@ public <T extends CdcSourceTaskContext> SnapshotChangeEventSourceMetrics(T taskC
         super(taskContext, "snapshot", changeEventQueueMetrics, metadataProvider);
     }
 
+    public <T extends CdcSourceTaskContext> SnapshotChangeEventSourceMetrics(T taskContext, ChangeEventQueueMetrics changeEventQueueMetrics,
+                                                                             EventMetadataProvider metadataProvider, int maxTrackedDataCollections) {
+        super(taskContext, "snapshot", changeEventQueueMetrics, metadataProvider, maxTrackedDataCollections);
+    }
+
     @Override
     public int getTotalTableCount() {
         return this.monitoredTables.size();
@@ -140,6 +146,16 @@ public ConcurrentMap<String, Long> getRowsScanned() {
         return rowsScanned;
     }
 
+    @Override
+    public void chunkSnapshotCompleted(TableId tableId, long numRows) {
+        chunksCompleted.merge(tableId.toString(), 1L, Long::sum);
+    }
+
+    @Override
+    public ConcurrentMap<String, Long> getChunksCompleted() {
+        return chunksCompleted;
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -149,6 +165,7 @@ public void reset() {
         startTime.set(0);
         stopTime.set(0);
         rowsScanned.clear();
+        chunksCompleted.clear();
         remainingTables.clear();
         monitoredTables.clear();
     }
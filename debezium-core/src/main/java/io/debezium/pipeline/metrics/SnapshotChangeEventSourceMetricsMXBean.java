@@ -25,4 +25,6 @@ public interface SnapshotChangeEventSourceMetricsMXBean extends ChangeEventSourc
     long getSnapshotDurationInSeconds();
 
     Map<String, Long> getRowsScanned();
+
+    Map<String, Long> getChunksCompleted();
 }
@@ -44,6 +44,11 @@ public <T extends CdcSourceTaskContext> StreamingChangeEventSourceMetrics(T task
         super(taskContext, "streaming", changeEventQueueMetrics, metadataProvider);
     }
 
+    public <T extends CdcSourceTaskContext> StreamingChangeEventSourceMetrics(T taskContext, ChangeEventQueueMetrics changeEventQueueMetrics,
+                                                                              EventMetadataProvider metadataProvider, int maxTrackedDataCollections) {
+        super(taskContext, "streaming", changeEventQueueMetrics, metadataProvider, maxTrackedDataCollections);
+    }
+
     @Override
     public boolean isConnected() {
         return this.connected.get();
@@ -76,10 +81,7 @@ public long getNumberOfCommittedTransactions() {
     }
 
     @Override
-    public void onEvent(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
-        super.onEvent(source, offset, key, value);
-
-        final Instant eventTimestamp = metadataProvider.getEventTimestamp(source, offset, key, value);
+    protected void onEvent(DataCollectionId source, OffsetContext offset, Object key, Struct value, Instant eventTimestamp) {
         if (eventTimestamp != null) {
             lagBehindSource.set(Duration.between(eventTimestamp, Instant.now()));
         }
@@ -0,0 +1,34 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.signal;
+
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
+
+/**
+ * Closes the deduplication window of a chunk of an incremental snapshot upon receiving the high watermark written
+ * after reading the chunk, emitting the remaining records of the chunk.
+ */
+public class CloseIncrementalSnapshotWindow implements Signal.Action {
+
+    public static final String NAME = "snapshot-window-close";
+
+    /**
+     * Appended to the id of the chunk to form the id of the watermark signal
+     */
+    public static final String SUFFIX = "-close";
+
+    private final IncrementalSnapshotChangeEventSource incrementalSnapshotChangeEventSource;
+
+    public CloseIncrementalSnapshotWindow(IncrementalSnapshotChangeEventSource incrementalSnapshotChangeEventSource) {
+        this.incrementalSnapshotChangeEventSource = incrementalSnapshotChangeEventSource;
+    }
+
+    @Override
+    public boolean arrived(Signal.Payload signalPayload) throws InterruptedException {
+        incrementalSnapshotChangeEventSource.closeWindow(signalPayload.id, signalPayload.offsetContext);
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.signal;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.document.Array;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
+
+/**
+ * Triggers an incremental snapshot of the tables given in the {@code data-collections} array of the signal data, e.g.
+ * <pre>
+ * {"data-collections": ["public.customers", "public.orders"]}
+ * </pre>
+ */
+public class ExecuteSnapshot implements Signal.Action {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteSnapshot.class);
+
+    public static final String NAME = "execute-snapshot";
+    public static final String FIELD_DATA_COLLECTIONS = "data-collections";
+
+    private final IncrementalSnapshotChangeEventSource incrementalSnapshotChangeEventSource;
+
+    public ExecuteSnapshot(IncrementalSnapshotChangeEventSource incrementalSnapshotChangeEventSource) {
+        this.incrementalSnapshotChangeEventSource = incrementalSnapshotChangeEventSource;
+    }
+
+    @Override
+    public boolean arrived(Signal.Payload signalPayload) throws InterruptedException {
+        final Array dataCollectionsArray = signalPayload.data != null ? signalPayload.data.getArray(FIELD_DATA_COLLECTIONS) : null;
+        if (dataCollectionsArray == null || dataCollectionsArray.isEmpty()) {
+            LOGGER.warn("Execute snapshot signal '{}' has arrived but the requested field '{}' is missing from data or is empty",
+                    signalPayload, FIELD_DATA_COLLECTIONS);
+            return false;
+        }
+
+        final List<String> dataCollections = dataCollectionsArray.streamValues()
+                .map(value -> value.asString().trim())
+                .collect(Collectors.toList());
+        incrementalSnapshotChangeEventSource.addDataCollectionNamesToSnapshot(dataCollections, signalPayload.offsetContext);
+        return true;
+    }
+}
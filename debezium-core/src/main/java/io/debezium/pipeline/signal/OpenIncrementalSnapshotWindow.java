@@ -0,0 +1,34 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.signal;
+
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
+
+/**
+ * Opens the deduplication window of a chunk of an incremental snapshot upon receiving the low watermark written
+ * before reading the chunk.
+ */
+public class OpenIncrementalSnapshotWindow implements Signal.Action {
+
+    public static final String NAME = "snapshot-window-open";
+
+    /**
+     * Appended to the id of the chunk to form the id of the watermark signal
+     */
+    public static final String SUFFIX = "-open";
+
+    private final IncrementalSnapshotChangeEventSource incrementalSnapshotChangeEventSource;
+
+    public OpenIncrementalSnapshotWindow(IncrementalSnapshotChangeEventSource incrementalSnapshotChangeEventSource) {
+        this.incrementalSnapshotChangeEventSource = incrementalSnapshotChangeEventSource;
+    }
+
+    @Override
+    public boolean arrived(Signal.Payload signalPayload) throws InterruptedException {
+        incrementalSnapshotChangeEventSource.openWindow(signalPayload.id, signalPayload.offsetContext);
+        return true;
+    }
+}
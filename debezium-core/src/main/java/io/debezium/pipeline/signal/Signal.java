@@ -0,0 +1,143 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.signal;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.data.Envelope;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentReader;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.schema.DataCollectionId;
+
+/**
+ * Processes signals sent to the connector by inserting records into the signaling data collection configured via
+ * {@link CommonConnectorConfig#SIGNAL_DATA_COLLECTION}. Such a record comprises three columns (in this order): an
+ * arbitrary unique id, the type of the signal and an optional JSON document with the data of the signal. Signals are
+ * received through the change stream, so they are processed in order with the data changes.
+ */
+@NotThreadSafe
+public class Signal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Signal.class);
+
+    /**
+     * The action executed when a signal of a given type is received.
+     */
+    @FunctionalInterface
+    public interface Action {
+
+        /**
+         * @return {@code true} if the signal has been processed, {@code false} otherwise
+         */
+        boolean arrived(Payload signalPayload) throws InterruptedException;
+    }
+
+    public static class Payload {
+        public final String id;
+        public final String type;
+        public final Document data;
+        public final OffsetContext offsetContext;
+
+        /**
+         * @param data the data of the signal; may be {@code null}
+         * @param offsetContext the offset of the streamed record carrying the signal
+         */
+        public Payload(String id, String type, Document data, OffsetContext offsetContext) {
+            this.id = id;
+            this.type = type;
+            this.data = data;
+            this.offsetContext = offsetContext;
+        }
+
+        @Override
+        public String toString() {
+            return "Payload [id=" + id + ", type=" + type + ", data=" + data + "]";
+        }
+    }
+
+    private final String signalDataCollection;
+    private final Map<String, Action> signalActions = new HashMap<>();
+
+    public Signal(CommonConnectorConfig connectorConfig) {
+        this.signalDataCollection = connectorConfig.getSignalingDataCollectionId();
+    }
+
+    /**
+     * Registers the action to execute for signals of the given type, replacing any action registered before.
+     */
+    public void registerSignalAction(String type, Action action) {
+        signalActions.put(type, action);
+    }
+
+    /**
+     * Whether the given data collection is the signaling data collection.
+     */
+    public boolean isSignal(DataCollectionId dataCollectionId) {
+        return signalDataCollection != null && signalDataCollection.equals(dataCollectionId.toString());
+    }
+
+    /**
+     * Processes a signal given as values of the columns of the signaling data collection.
+     *
+     * @return {@code true} if the signal has been processed, {@code false} if it is unknown or malformed
+     */
+    public boolean process(String id, String type, String data, OffsetContext offset) throws InterruptedException {
+        LOGGER.debug("Received signal id = '{}', type = '{}', data = '{}'", id, type, data);
+        final Action action = signalActions.get(type);
+        if (action == null) {
+            LOGGER.warn("Signal '{}' has arrived but the type '{}' is not recognized", id, type);
+            return false;
+        }
+
+        Document document = null;
+        if (data != null && !data.isEmpty()) {
+            try {
+                document = DocumentReader.defaultReader().read(data);
+            }
+            catch (IOException e) {
+                LOGGER.warn("Signal '{}' has arrived but the data '{}' cannot be parsed", id, data, e);
+                return false;
+            }
+        }
+        return action.arrived(new Payload(id, type, document, offset));
+    }
+
+    /**
+     * Processes a signal given as change event value of a record inserted into the signaling data collection.
+     *
+     * @return {@code true} if the signal has been processed, {@code false} if it is unknown or malformed
+     */
+    public boolean process(Struct value, OffsetContext offset) throws InterruptedException {
+        final Struct after = value.getStruct(Envelope.FieldName.AFTER);
+        if (after == null) {
+            LOGGER.warn("Signal record without new column values has arrived, ignoring");
+            return false;
+        }
+
+        final List<Field> fields = after.schema().fields();
+        if (fields.size() < 3) {
+            LOGGER.warn("Signal record '{}' has arrived but has only {} columns instead of 3, ignoring", after, fields.size());
+            return false;
+        }
+
+        return process(asString(after.get(fields.get(0))), asString(after.get(fields.get(1))), asString(after.get(fields.get(2))), offset);
+    }
+
+    private static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
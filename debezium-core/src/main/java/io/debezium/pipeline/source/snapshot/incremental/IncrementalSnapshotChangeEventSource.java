@@ -0,0 +1,360 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.EventDispatcher.SnapshotReceiver;
+import io.debezium.pipeline.signal.CloseIncrementalSnapshotWindow;
+import io.debezium.pipeline.signal.OpenIncrementalSnapshotWindow;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalDatabaseSchema;
+import io.debezium.relational.RelationalSnapshotChangeEventSource;
+import io.debezium.relational.SnapshotChangeRecordEmitter;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.schema.DataCollectionId;
+import io.debezium.util.Clock;
+
+/**
+ * Snapshots tables while changes are streamed, so that streaming doesn't need to wait for a snapshot to complete and
+ * tables can be snapshotted at any time, e.g. after they have been added to the captured tables.
+ * <p>
+ * The records of a table are read in chunks in primary key order. Before reading a chunk, a low watermark is written to
+ * the signaling table, and after it a high watermark. The records read are buffered until the high watermark is
+ * received by the streaming change event source; all records whose key is changed by a streamed event received between
+ * the two watermarks are dropped from the buffer, as the streamed event supersedes them. The remaining records are
+ * emitted as {@code READ} events, followed by reading the next chunk. Everything happens on the thread streaming the
+ * changes, so streaming pauses while a chunk is read.
+ */
+@NotThreadSafe
+public class IncrementalSnapshotChangeEventSource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalSnapshotChangeEventSource.class);
+
+    private final RelationalDatabaseConnectorConfig connectorConfig;
+    private final JdbcConnection jdbcConnection;
+    private final EventDispatcher<TableId> dispatcher;
+    private final RelationalDatabaseSchema databaseSchema;
+    private final Clock clock;
+    private final TableId signalDataCollectionId;
+    private final String signalWindowStatement;
+
+    /**
+     * The records of the current chunk not superseded by streamed changes yet, by key
+     */
+    private final Map<Struct, Object[]> window = new LinkedHashMap<>();
+    private Table currentTable;
+
+    public IncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig connectorConfig, JdbcConnection jdbcConnection,
+                                                EventDispatcher<TableId> dispatcher, RelationalDatabaseSchema databaseSchema, Clock clock) {
+        this.connectorConfig = connectorConfig;
+        this.jdbcConnection = jdbcConnection;
+        this.dispatcher = dispatcher;
+        this.databaseSchema = databaseSchema;
+        this.clock = clock;
+
+        final String signalDataCollection = connectorConfig.getSignalingDataCollectionId();
+        if (signalDataCollection == null) {
+            signalDataCollectionId = null;
+            signalWindowStatement = null;
+        }
+        else {
+            signalDataCollectionId = TableId.parse(signalDataCollection);
+            signalWindowStatement = "INSERT INTO " + signalDataCollectionId.toDoubleQuotedString() + " VALUES (?, ?, NULL)";
+        }
+    }
+
+    /**
+     * Resumes an incremental snapshot recorded in the given offset, if any.
+     *
+     * @param offsetContext the offset streaming starts from; may be {@code null}
+     */
+    public void init(OffsetContext offsetContext) throws InterruptedException {
+        if (offsetContext == null) {
+            return;
+        }
+
+        final IncrementalSnapshotContext context = offsetContext.getIncrementalSnapshotContext();
+        if (context != null && context.snapshotRunning()) {
+            LOGGER.info("Resuming incremental snapshot of tables {}", context);
+            readChunk(context);
+        }
+    }
+
+    /**
+     * Adds the given tables to the ones to be snapshotted, starting an incremental snapshot if none is running yet.
+     *
+     * @param dataCollectionIds the fully-qualified names of the tables to snapshot
+     * @param offsetContext the offset of the streamed event requesting the snapshot
+     */
+    public void addDataCollectionNamesToSnapshot(List<String> dataCollectionIds, OffsetContext offsetContext) throws InterruptedException {
+        final IncrementalSnapshotContext context = getContext(offsetContext);
+        if (context == null) {
+            return;
+        }
+
+        final List<TableId> tableIds = dataCollectionIds.stream()
+                .map(TableId::parse)
+                .filter(tableId -> !tableId.equals(signalDataCollectionId))
+                .collect(Collectors.toList());
+        LOGGER.info("Requested incremental snapshot of tables {}", tableIds);
+
+        final boolean snapshotRunning = context.snapshotRunning();
+        context.addDataCollections(tableIds);
+        if (!snapshotRunning) {
+            readChunk(context);
+        }
+    }
+
+    /**
+     * Handles the low watermark of a chunk, opening its deduplication window.
+     */
+    public void openWindow(String id, OffsetContext offsetContext) {
+        final IncrementalSnapshotContext context = getContext(offsetContext);
+        if (context == null) {
+            return;
+        }
+
+        if (context.openWindow(chunkIdOf(id))) {
+            LOGGER.debug("Opened deduplication window for chunk '{}'", id);
+        }
+        else {
+            LOGGER.debug("Received low watermark '{}' of another chunk, ignoring", id);
+        }
+    }
+
+    /**
+     * Handles the high watermark of a chunk, emitting the records of the chunk not superseded by streamed changes and
+     * reading the next chunk.
+     */
+    public void closeWindow(String id, OffsetContext offsetContext) throws InterruptedException {
+        final IncrementalSnapshotContext context = getContext(offsetContext);
+        if (context == null) {
+            return;
+        }
+
+        if (!context.isWindowOf(chunkIdOf(id))) {
+            LOGGER.debug("Received high watermark '{}' of another chunk, ignoring", id);
+            return;
+        }
+
+        LOGGER.debug("Closing deduplication window for chunk '{}', emitting {} records", id, window.size());
+        emitWindowRecords(context, offsetContext);
+        context.chunkEmitted();
+        readChunk(context);
+    }
+
+    /**
+     * Drops the record with the given key from the current chunk if the given streamed event has been received within
+     * the chunk's deduplication window.
+     */
+    public void processMessage(DataCollectionId dataCollectionId, Object key, OffsetContext offsetContext) {
+        if (window.isEmpty() || key == null) {
+            return;
+        }
+
+        final IncrementalSnapshotContext context = offsetContext.getIncrementalSnapshotContext();
+        if (context == null || !context.deduplicationNeeded() || !dataCollectionId.equals(context.currentDataCollectionId())) {
+            return;
+        }
+
+        if (window.remove(key) != null) {
+            LOGGER.trace("Dropped snapshot record with key '{}' superseded by streamed event", key);
+        }
+    }
+
+    private IncrementalSnapshotContext getContext(OffsetContext offsetContext) {
+        final IncrementalSnapshotContext context = offsetContext.getIncrementalSnapshotContext();
+        if (context == null) {
+            LOGGER.warn("Incremental snapshots are not supported by this connector, ignoring signal");
+        }
+        return context;
+    }
+
+    private void emitWindowRecords(IncrementalSnapshotContext context, OffsetContext offsetContext) throws InterruptedException {
+        final TableId tableId = context.currentDataCollectionId();
+        final SnapshotReceiver receiver = dispatcher.getIncrementalSnapshotChangeEventReceiver();
+
+        for (Object[] row : window.values()) {
+            offsetContext.event(tableId, clock.currentTimeAsInstant());
+            dispatcher.dispatchSnapshotEvent(tableId, new SnapshotChangeRecordEmitter(offsetContext, row, clock), receiver);
+        }
+        window.clear();
+    }
+
+    /**
+     * Reads the next chunk of the table currently snapshotted, surrounded by the watermarks delimiting its window.
+     * Tables without any further records are completed, continuing with the next table.
+     */
+    private void readChunk(IncrementalSnapshotContext context) throws InterruptedException {
+        if (signalWindowStatement == null) {
+            throw new ConnectException("Incremental snapshots require a signaling data collection to be configured via '"
+                    + CommonConnectorConfig.SIGNAL_DATA_COLLECTION.name() + "'");
+        }
+
+        try {
+            while (context.snapshotRunning()) {
+                final TableId tableId = context.currentDataCollectionId();
+                currentTable = databaseSchema.tableFor(tableId);
+
+                if (currentTable == null) {
+                    LOGGER.warn("Schema of table '{}' is not known, skipping its incremental snapshot", tableId);
+                    context.nextDataCollection();
+                    continue;
+                }
+                if (currentTable.primaryKeyColumnNames().isEmpty()) {
+                    LOGGER.warn("Table '{}' has no primary key, skipping its incremental snapshot", tableId);
+                    context.nextDataCollection();
+                    continue;
+                }
+
+                if (context.maximumKey() == null) {
+                    context.maximumKey(readMaximumKey());
+                    if (context.maximumKey() == null) {
+                        LOGGER.info("Table '{}' is empty, incremental snapshot completed", tableId);
+                        context.nextDataCollection();
+                        continue;
+                    }
+                }
+
+                final String chunkId = context.startNewChunk();
+                emitWindowWatermark(chunkId, OpenIncrementalSnapshotWindow.NAME, OpenIncrementalSnapshotWindow.SUFFIX);
+                final List<String> chunkEndKey = readChunkRecords(context);
+                if (chunkEndKey == null) {
+                    LOGGER.info("Incremental snapshot of table '{}' completed", tableId);
+                    context.nextDataCollection();
+                    continue;
+                }
+
+                context.chunkEndKey(chunkEndKey);
+                emitWindowWatermark(chunkId, CloseIncrementalSnapshotWindow.NAME, CloseIncrementalSnapshotWindow.SUFFIX);
+                return;
+            }
+            LOGGER.info("Incremental snapshot completed");
+        }
+        catch (SQLException e) {
+            throw new ConnectException("Couldn't read chunk of table " + context.currentDataCollectionId() + " for incremental snapshot", e);
+        }
+    }
+
+    private void emitWindowWatermark(String chunkId, String type, String suffix) throws SQLException {
+        jdbcConnection.prepareUpdate(signalWindowStatement, statement -> {
+            statement.setString(1, chunkId + suffix);
+            statement.setString(2, type);
+        });
+        jdbcConnection.commit();
+    }
+
+    /**
+     * Reads the largest primary key of the current table.
+     *
+     * @return the key, or {@code null} if the table is empty
+     */
+    private List<String> readMaximumKey() throws SQLException {
+        final List<String> keyColumns = RelationalSnapshotChangeEventSource.quotedPrimaryKeyColumns(currentTable);
+        final String select = "SELECT * FROM " + currentTable.id().toDoubleQuotedString() + " ORDER BY "
+                + keyColumns.stream().map(column -> column + " DESC").collect(Collectors.joining(", "));
+
+        try (PreparedStatement statement = jdbcConnection.connection().prepareStatement(select)) {
+            statement.setMaxRows(1);
+            try (ResultSet rs = statement.executeQuery()) {
+                final List<String> key = rs.next() ? readKey(rs) : null;
+                jdbcConnection.commit();
+                return key;
+            }
+        }
+    }
+
+    /**
+     * Reads the records of the current table following the last emitted one (up to the maximum key and the chunk size)
+     * into the window.
+     *
+     * @return the key of the last record read, or {@code null} if there are no further records
+     */
+    private List<String> readChunkRecords(IncrementalSnapshotContext context) throws SQLException {
+        final List<String> keyColumns = RelationalSnapshotChangeEventSource.quotedPrimaryKeyColumns(currentTable);
+        final List<Column> keyColumnDefinitions = currentTable.primaryKeyColumns();
+        final List<String> lowerBound = context.lastEventKeySent();
+
+        final StringBuilder select = new StringBuilder("SELECT * FROM ").append(currentTable.id().toDoubleQuotedString()).append(" WHERE ");
+        if (lowerBound != null) {
+            select.append('(').append(RelationalSnapshotChangeEventSource.keyRangePredicate(keyColumns, true)).append(") AND ");
+        }
+        select.append('(').append(RelationalSnapshotChangeEventSource.keyRangePredicate(keyColumns, false)).append(')')
+                .append(" ORDER BY ").append(String.join(", ", keyColumns));
+
+        final TableSchema tableSchema = databaseSchema.schemaFor(currentTable.id());
+        final int numColumns = currentTable.columns().size();
+        List<String> lastKey = null;
+
+        window.clear();
+        try (PreparedStatement statement = jdbcConnection.connection().prepareStatement(select.toString())) {
+            statement.setMaxRows(connectorConfig.getIncrementalSnapshotChunkSize());
+            int parameterIndex = 1;
+            if (lowerBound != null) {
+                parameterIndex = RelationalSnapshotChangeEventSource.setKeyRangeParameters(statement, parameterIndex, lowerBound.toArray(),
+                        keyColumnDefinitions);
+            }
+            RelationalSnapshotChangeEventSource.setKeyRangeParameters(statement, parameterIndex, context.maximumKey().toArray(), keyColumnDefinitions);
+
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    final Object[] row = new Object[numColumns];
+                    for (int i = 0; i < numColumns; i++) {
+                        row[i] = getColumnValue(rs, i + 1, currentTable.columns().get(i));
+                    }
+                    window.put((Struct) tableSchema.keyFromColumnData(row), row);
+                    lastKey = readKey(rs);
+                }
+            }
+            jdbcConnection.commit();
+        }
+
+        LOGGER.debug("Read {} records of table '{}' up to key {}", window.size(), currentTable.id(), lastKey);
+        return lastKey;
+    }
+
+    private List<String> readKey(ResultSet rs) throws SQLException {
+        final List<String> key = new ArrayList<>();
+        for (Column column : currentTable.primaryKeyColumns()) {
+            key.add(rs.getString(column.position()));
+        }
+        return key;
+    }
+
+    /**
+     * Returns the value of the given column of the current record of the given result set, allowing connectors to
+     * apply the same type-specific handling as for the records of the initial snapshot.
+     */
+    protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) throws SQLException {
+        return rs.getObject(columnIndex);
+    }
+
+    private static String chunkIdOf(String watermarkId) {
+        final int separator = watermarkId.lastIndexOf('-');
+        return separator != -1 ? watermarkId.substring(0, separator) : watermarkId;
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.kafka.connect.errors.ConnectException;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.document.Array;
+import io.debezium.document.ArrayReader;
+import io.debezium.document.ArrayWriter;
+import io.debezium.document.Value;
+import io.debezium.relational.TableId;
+
+/**
+ * The state of an incremental snapshot, i.e. a snapshot whose records are read in chunks while streaming changes. The
+ * tables still to be snapshotted, the primary key up to which the records of the current table have been emitted and
+ * the maximum primary key of the current table are recorded in the connector offsets, so that an incremental snapshot
+ * is resumed after a restart. Key values are kept in their textual representation as returned by the database.
+ */
+@NotThreadSafe
+public class IncrementalSnapshotContext {
+
+    public static final String DATA_COLLECTIONS_TO_SNAPSHOT_KEY = "incremental_snapshot_collections";
+    public static final String EVENT_PRIMARY_KEY = "incremental_snapshot_primary_key";
+    public static final String TABLE_MAXIMUM_KEY = "incremental_snapshot_maximum_key";
+
+    private final Deque<TableId> dataCollectionsToSnapshot = new ArrayDeque<>();
+
+    /**
+     * The key of the last record emitted for the current table; {@code null} if no record has been emitted yet
+     */
+    private List<String> lastEventKeySent;
+
+    /**
+     * The largest key of the current table at the time its snapshot began; records inserted later are captured by
+     * streaming only
+     */
+    private List<String> maximumKey;
+
+    /**
+     * The key of the last record of the chunk currently read
+     */
+    private List<String> chunkEndKey;
+
+    /**
+     * The id of the chunk currently read, used for recognizing the watermarks delimiting its window
+     */
+    private String currentChunkId;
+
+    private boolean windowOpened;
+
+    /**
+     * Loads the incremental snapshot context from the given offset.
+     *
+     * @param offset the offset as stored in Kafka; may not be null
+     * @return the context; never null but not {@link #snapshotRunning() running} if the offset doesn't record an
+     * incremental snapshot
+     */
+    public static IncrementalSnapshotContext load(Map<String, ?> offset) {
+        final IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+
+        final Array dataCollections = readArray(offset, DATA_COLLECTIONS_TO_SNAPSHOT_KEY);
+        if (dataCollections != null) {
+            for (Value dataCollection : dataCollections.values()) {
+                context.dataCollectionsToSnapshot.add(TableId.parse(dataCollection.asString()));
+            }
+            context.lastEventKeySent = readKey(offset, EVENT_PRIMARY_KEY);
+            context.maximumKey = readKey(offset, TABLE_MAXIMUM_KEY);
+        }
+
+        return context;
+    }
+
+    private static List<String> readKey(Map<String, ?> offset, String key) {
+        final Array values = readArray(offset, key);
+        if (values == null) {
+            return null;
+        }
+
+        final List<String> result = new ArrayList<>(values.size());
+        values.values().forEach(value -> result.add(value.asString()));
+        return Collections.unmodifiableList(result);
+    }
+
+    private static Array readArray(Map<String, ?> offset, String key) {
+        final Object value = offset.get(key);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return ArrayReader.defaultReader().readArray((String) value);
+        }
+        catch (IOException e) {
+            throw new ConnectException("Couldn't parse incremental snapshot state '" + value + "' from offset", e);
+        }
+    }
+
+    /**
+     * Adds the state of a running incremental snapshot to the given offset.
+     */
+    public void store(Map<String, Object> offset) {
+        if (!snapshotRunning()) {
+            return;
+        }
+
+        final Array dataCollections = Array.create();
+        dataCollectionsToSnapshot.forEach(dataCollection -> dataCollections.add(dataCollection.toDoubleQuotedString()));
+        offset.put(DATA_COLLECTIONS_TO_SNAPSHOT_KEY, writeArray(dataCollections));
+
+        if (lastEventKeySent != null) {
+            offset.put(EVENT_PRIMARY_KEY, writeKey(lastEventKeySent));
+        }
+        if (maximumKey != null) {
+            offset.put(TABLE_MAXIMUM_KEY, writeKey(maximumKey));
+        }
+    }
+
+    private static String writeKey(List<String> key) {
+        final Array values = Array.create();
+        key.forEach(values::add);
+        return writeArray(values);
+    }
+
+    private static String writeArray(Array array) {
+        try {
+            return ArrayWriter.defaultWriter().write(array);
+        }
+        catch (IOException e) {
+            throw new ConnectException("Couldn't serialize incremental snapshot state", e);
+        }
+    }
+
+    /**
+     * Whether any tables remain to be snapshotted.
+     */
+    public boolean snapshotRunning() {
+        return !dataCollectionsToSnapshot.isEmpty();
+    }
+
+    /**
+     * Adds the given tables to the ones to be snapshotted; tables already pending are ignored.
+     */
+    public void addDataCollections(List<TableId> dataCollectionIds) {
+        for (TableId dataCollectionId : dataCollectionIds) {
+            if (!dataCollectionsToSnapshot.contains(dataCollectionId)) {
+                dataCollectionsToSnapshot.add(dataCollectionId);
+            }
+        }
+    }
+
+    /**
+     * Returns the table currently snapshotted, or {@code null} if no snapshot is running.
+     */
+    public TableId currentDataCollectionId() {
+        return dataCollectionsToSnapshot.peek();
+    }
+
+    /**
+     * Completes the snapshot of the current table, continuing with the next one, if any.
+     *
+     * @return the table snapshotted next, or {@code null} if all tables have been snapshotted
+     */
+    public TableId nextDataCollection() {
+        dataCollectionsToSnapshot.poll();
+        lastEventKeySent = null;
+        maximumKey = null;
+        chunkEndKey = null;
+        closeWindow();
+        return dataCollectionsToSnapshot.peek();
+    }
+
+    public List<String> lastEventKeySent() {
+        return lastEventKeySent;
+    }
+
+    public List<String> maximumKey() {
+        return maximumKey;
+    }
+
+    public void maximumKey(List<String> maximumKey) {
+        this.maximumKey = maximumKey;
+    }
+
+    /**
+     * Begins reading a new chunk of the current table.
+     *
+     * @return the id of the new chunk
+     */
+    public String startNewChunk() {
+        currentChunkId = UUID.randomUUID().toString();
+        chunkEndKey = null;
+        windowOpened = false;
+        return currentChunkId;
+    }
+
+    public void chunkEndKey(List<String> chunkEndKey) {
+        this.chunkEndKey = chunkEndKey;
+    }
+
+    /**
+     * Records that all records of the current chunk have been emitted.
+     */
+    public void chunkEmitted() {
+        lastEventKeySent = chunkEndKey;
+        closeWindow();
+    }
+
+    /**
+     * Opens the deduplication window of the current chunk if the given id is the one of the current chunk.
+     *
+     * @return {@code true} if the window has been opened, {@code false} if the id belongs to another chunk
+     */
+    public boolean openWindow(String chunkId) {
+        if (currentChunkId == null || !currentChunkId.equals(chunkId)) {
+            return false;
+        }
+        windowOpened = true;
+        return true;
+    }
+
+    /**
+     * Whether the deduplication window of the current chunk is open, i.e. streamed changes of the current table
+     * supersede the corresponding records of the chunk.
+     */
+    public boolean deduplicationNeeded() {
+        return windowOpened;
+    }
+
+    /**
+     * Whether the given id is the one of the current chunk and its window is open.
+     */
+    public boolean isWindowOf(String chunkId) {
+        return windowOpened && currentChunkId.equals(chunkId);
+    }
+
+    private void closeWindow() {
+        windowOpened = false;
+        currentChunkId = null;
+    }
+
+    @Override
+    public String toString() {
+        return "IncrementalSnapshotContext [dataCollectionsToSnapshot=" + dataCollectionsToSnapshot + ", lastEventKeySent=" + lastEventKeySent
+                + ", maximumKey=" + maximumKey + "]";
+    }
+}
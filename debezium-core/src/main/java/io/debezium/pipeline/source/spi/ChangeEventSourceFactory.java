@@ -5,6 +5,9 @@
  */
 package io.debezium.pipeline.source.spi;
 
+import java.util.Optional;
+
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.spi.OffsetContext;
 
 /**
@@ -34,4 +37,12 @@ public interface ChangeEventSourceFactory {
      * Returns a streaming change event source that starts streaming at the given offset.
      */
     StreamingChangeEventSource getStreamingChangeEventSource(OffsetContext offsetContext);
+
+    /**
+     * Returns a change event source snapshotting tables while streaming, triggered by signals, if supported by the
+     * connector.
+     */
+    default Optional<IncrementalSnapshotChangeEventSource> getIncrementalSnapshotChangeEventSource() {
+        return Optional.empty();
+    }
 }
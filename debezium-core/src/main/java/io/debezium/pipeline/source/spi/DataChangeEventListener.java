@@ -8,6 +8,7 @@
 import org.apache.kafka.connect.data.Struct;
 
 import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.Sizeable;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.schema.DataCollectionId;
 
@@ -24,6 +25,12 @@ public interface DataChangeEventListener {
      */
     void onEvent(DataCollectionId source, OffsetContext offset, Object key, Struct value);
 
+    /**
+     * Invoked for each event of a captured table before it is enqueued. The size of the event is calculated once and
+     * cached, so implementations obtaining it don't add to the costs of a queue bounded in bytes.
+     */
+    void onEventCreated(DataCollectionId source, Sizeable event);
+
     /**
      * Invoked for events pertaining to non-whitelisted tables.
      */
@@ -46,5 +53,9 @@ public void onErroneousEvent(String event) {
         @Override
         public void onEvent(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
         }
+
+        @Override
+        public void onEventCreated(DataCollectionId source, Sizeable event) {
+        }
     };
 }
@@ -26,6 +26,13 @@ public interface SnapshotProgressListener {
 
     void rowsScanned(TableId tableId, long numRows);
 
+    /**
+     * Invoked whenever a chunk of a table has been read, if the table is read in chunks.
+     *
+     * @param numRows the number of rows of the chunk
+     */
+    void chunkSnapshotCompleted(TableId tableId, long numRows);
+
     public static SnapshotProgressListener NO_OP = new SnapshotProgressListener() {
 
         @Override
@@ -36,6 +43,10 @@ public void snapshotStarted() {
         public void rowsScanned(TableId tableId, long numRows) {
         }
 
+        @Override
+        public void chunkSnapshotCompleted(TableId tableId, long numRows) {
+        }
+
         @Override
         public void monitoredTablesDetermined(Iterable<TableId> tableIds) {
         }
@@ -11,6 +11,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
 import io.debezium.schema.DataCollectionId;
 
 /**
@@ -45,6 +46,15 @@ interface Loader {
      */
     boolean isSnapshotRunning();
 
+    /**
+     * Returns the state of the incremental snapshot running while streaming, as recorded in this offset.
+     *
+     * @return the incremental snapshot context or {@code null} if this offset doesn't support incremental snapshots
+     */
+    default IncrementalSnapshotContext getIncrementalSnapshotContext() {
+        return null;
+    }
+
     /**
      * mark current record as the last one in the snapshot
      */
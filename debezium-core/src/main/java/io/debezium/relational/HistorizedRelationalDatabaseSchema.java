@@ -82,6 +82,7 @@ public void initializeStorage() {
     protected void record(SchemaChangeEvent schemaChange, TableChanges tableChanges) {
         databaseHistory.record(schemaChange.getPartition(), schemaChange.getOffset(), schemaChange.getDatabase(),
                 schemaChange.getSchema(), schemaChange.getDdl(), tableChanges);
+        databaseHistory.checkpoint(schemaChange.getPartition(), schemaChange.getOffset(), tables(), () -> null);
     }
 
     @Override
@@ -40,6 +40,8 @@ public abstract class RelationalDatabaseConnectorConfig extends CommonConnectorC
     private static final String TABLE_WHITELIST_NAME = "table.whitelist";
     private static final Pattern MSG_KEY_COLUMNS_PATTERN = Pattern.compile("^(([^:]+):([^:;\\s]+))+[^;]$");
     public static final long DEFAULT_SNAPSHOT_LOCK_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    public static final int DEFAULT_SNAPSHOT_MAX_THREADS = 1;
+    public static final int DEFAULT_INCREMENTAL_SNAPSHOT_CHUNK_SIZE = 1024;
 
     /**
      * The set of predefined DecimalHandlingMode options or aliases.
@@ -262,6 +264,38 @@ public static DecimalHandlingMode parse(String value, String defaultValue) {
             .withDescription("The maximum number of millis to wait for table locks at the beginning of a snapshot. If locks cannot be acquired in this " +
                     "time frame, the snapshot will be aborted. Defaults to 10 seconds");
 
+    public static final Field SNAPSHOT_MAX_THREADS = Field.create("snapshot.max.threads")
+            .withDisplayName("Snapshot maximum threads")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.MEDIUM)
+            .withDefault(DEFAULT_SNAPSHOT_MAX_THREADS)
+            .withDescription("The maximum number of threads used to read the data of the captured tables during a snapshot. "
+                    + "Each thread uses its own database connection and reads one table at a time. Defaults to 1, i.e. tables are read one after another.")
+            .withValidation(Field::isPositiveInteger);
+
+    public static final Field SNAPSHOT_CHUNK_SIZE = Field.create("snapshot.chunk.size")
+            .withDisplayName("Snapshot chunk size")
+            .withType(Type.INT)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withDescription("The maximum number of records read by a single query when snapshotting a table with a primary key. "
+                    + "If set, such tables are read in chunks of this size, ordered by primary key, and the chunks of one table can be read "
+                    + "by several threads concurrently. Defaults to 0, i.e. each table is read with a single query.")
+            .withValidation(Field::isNonNegativeInteger);
+
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_SIZE = Field.create("incremental.snapshot.chunk.size")
+            .withDisplayName("Incremental snapshot chunk size")
+            .withType(Type.INT)
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_INCREMENTAL_SNAPSHOT_CHUNK_SIZE)
+            .withDescription("The maximum number of records read by a single query when snapshotting a table incrementally, i.e. while "
+                    + "streaming changes. The records of such a chunk are kept in memory until the chunk's change events are emitted. Defaults to "
+                    + DEFAULT_INCREMENTAL_SNAPSHOT_CHUNK_SIZE + ".")
+            .withValidation(Field::isPositiveInteger);
+
     private final RelationalTableFilters tableFilters;
     private final TemporalPrecisionMode temporalPrecisionMode;
     private final KeyMapper keyMapper;
@@ -312,6 +346,18 @@ public Duration snapshotLockTimeout() {
         return Duration.ofMillis(getConfig().getLong(SNAPSHOT_LOCK_TIMEOUT_MS));
     }
 
+    public int getSnapshotMaxThreads() {
+        return getConfig().getInteger(SNAPSHOT_MAX_THREADS);
+    }
+
+    public int getSnapshotChunkSize() {
+        return getConfig().getInteger(SNAPSHOT_CHUNK_SIZE);
+    }
+
+    public int getIncrementalSnapshotChunkSize() {
+        return getConfig().getInteger(INCREMENTAL_SNAPSHOT_CHUNK_SIZE);
+    }
+
     private static int validateTableBlacklist(Configuration config, Field field, ValidationOutput problems) {
         String whitelist = config.getString(TABLE_WHITELIST);
         String blacklist = config.getString(TABLE_BLACKLIST);
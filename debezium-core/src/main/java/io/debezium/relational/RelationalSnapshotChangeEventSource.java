@@ -6,21 +6,39 @@
 package io.debezium.relational;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +47,7 @@
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.EventDispatcher.SnapshotReceiver;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
 import io.debezium.pipeline.source.spi.SnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
@@ -37,6 +56,7 @@
 import io.debezium.pipeline.spi.SnapshotResult;
 import io.debezium.schema.SchemaChangeEvent;
 import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
 import io.debezium.util.Metronome;
 import io.debezium.util.Strings;
 import io.debezium.util.Threads;
@@ -90,7 +110,7 @@ public SnapshotResult execute(ChangeEventSourceContext context) throws Interrupt
         SnapshottingTask snapshottingTask = getSnapshottingTask(previousOffset);
 
         // Neither schema nor data require snapshotting
-        if (!snapshottingTask.snapshotSchema() && !snapshottingTask.snapshotData()) {
+        if (!snapshottingTask.snapshotSchema() && !snapshottingTask.snapshotData() && !snapshottingTask.snapshotDataIncrementally()) {
             LOGGER.debug("Skipping snapshotting");
             return SnapshotResult.skipped(previousOffset);
         }
@@ -112,7 +132,11 @@ public SnapshotResult execute(ChangeEventSourceContext context) throws Interrupt
             LOGGER.info("Snapshot step 1 - Preparing");
             snapshotProgressListener.snapshotStarted();
 
-            if (previousOffset != null && previousOffset.isSnapshotRunning()) {
+            final boolean resume = previousOffset != null && previousOffset.isSnapshotRunning() && isSnapshotResumable(previousOffset);
+            if (resume) {
+                LOGGER.info("Previous snapshot was cancelled before completion; it will be resumed with progress {}.", snapshotCheckpointOf(previousOffset));
+            }
+            else if (previousOffset != null && previousOffset.isSnapshotRunning()) {
                 LOGGER.info("Previous snapshot was cancelled before completion; a new snapshot will be taken.");
             }
 
@@ -133,8 +157,14 @@ public SnapshotResult execute(ChangeEventSourceContext context) throws Interrupt
                 lockTablesForSchemaSnapshot(context, ctx);
             }
 
-            LOGGER.info("Snapshot step 4 - Determining snapshot offset");
-            determineSnapshotOffset(ctx);
+            if (resume) {
+                LOGGER.info("Snapshot step 4 - Using snapshot offset of previous snapshot");
+                ctx.offset = previousOffset;
+            }
+            else {
+                LOGGER.info("Snapshot step 4 - Determining snapshot offset");
+                determineSnapshotOffset(ctx);
+            }
 
             LOGGER.info("Snapshot step 5 - Reading structure of captured tables");
             readTableStructure(context, ctx);
@@ -155,6 +185,12 @@ public SnapshotResult execute(ChangeEventSourceContext context) throws Interrupt
                 LOGGER.info("Snapshot step 7 - Snapshotting data");
                 createDataEvents(context, ctx);
             }
+            else if (snapshottingTask.snapshotDataIncrementally()) {
+                LOGGER.info("Snapshot step 7 - Registering captured tables for incremental snapshotting of data while streaming");
+                registerTablesForIncrementalSnapshot(ctx);
+                ctx.offset.preSnapshotCompletion();
+                ctx.offset.postSnapshotCompletion();
+            }
             else {
                 LOGGER.info("Snapshot step 7 - Skipping snapshotting of data");
                 ctx.offset.preSnapshotCompletion();
@@ -192,6 +228,43 @@ public SnapshotResult execute(ChangeEventSourceContext context) throws Interrupt
      */
     protected abstract SnapshottingTask getSnapshottingTask(OffsetContext previousOffset);
 
+    /**
+     * Whether the uncompleted snapshot recorded in the given offset can be resumed, i.e. whether the records emitted by
+     * it don't have to be emitted again. In that case, the snapshot offset of the previous snapshot is used, so
+     * implementations must make sure that all changes since that offset can still be streamed. By default, this is the
+     * case if the offset records any progress of the snapshot; offsets of snapshots which haven't recorded progress,
+     * e.g. as they were written by an earlier version, are not resumed.
+     */
+    protected boolean isSnapshotResumable(OffsetContext previousOffset) {
+        final SnapshotCheckpoint checkpoint = snapshotCheckpointOf(previousOffset);
+        return checkpoint != null && !checkpoint.isEmpty();
+    }
+
+    /**
+     * Returns the snapshot progress recorded in the given offset.
+     *
+     * @return the checkpoint or {@code null} if the offset doesn't record the progress of snapshots
+     */
+    private static SnapshotCheckpoint snapshotCheckpointOf(OffsetContext offset) {
+        return offset instanceof SnapshotCheckpointOffsetContext ? ((SnapshotCheckpointOffsetContext) offset).getSnapshotCheckpoint() : null;
+    }
+
+    /**
+     * Records the captured tables (except the signaling table) in the offset as to be snapshotted incrementally once
+     * streaming has begun.
+     */
+    private void registerTablesForIncrementalSnapshot(SnapshotContext snapshotContext) {
+        final IncrementalSnapshotContext incrementalSnapshotContext = snapshotContext.offset.getIncrementalSnapshotContext();
+        if (incrementalSnapshotContext == null) {
+            throw new ConnectException("Incremental snapshots are not supported by this connector");
+        }
+
+        final String signalDataCollection = connectorConfig.getSignalingDataCollectionId();
+        incrementalSnapshotContext.addDataCollections(snapshotContext.capturedTables.stream()
+                .filter(tableId -> !tableId.toString().equals(signalDataCollection))
+                .collect(Collectors.toList()));
+    }
+
     /**
      * Delays snapshot execution as per the {@link CommonConnectorConfig#SNAPSHOT_DELAY_MS} parameter.
      */
@@ -315,21 +388,44 @@ private void createSchemaChangeEventsForTables(ChangeEventSourceContext sourceCo
      */
     protected abstract SchemaChangeEvent getCreateTableEvent(SnapshotContext snapshotContext, Table table) throws Exception;
 
-    private void createDataEvents(ChangeEventSourceContext sourceContext, SnapshotContext snapshotContext) throws InterruptedException {
+    private void createDataEvents(ChangeEventSourceContext sourceContext, SnapshotContext snapshotContext) throws Exception {
         SnapshotReceiver snapshotReceiver = dispatcher.getSnapshotChangeEventReceiver();
         snapshotContext.offset.preSnapshotStart();
 
-        for (Iterator<TableId> tableIdIterator = snapshotContext.capturedTables.iterator(); tableIdIterator.hasNext();) {
-            final TableId tableId = tableIdIterator.next();
-            snapshotContext.lastTable = !tableIdIterator.hasNext();
+        final SnapshotCheckpoint checkpoint = snapshotCheckpointOf(snapshotContext.offset);
+        final List<TableId> tableIds = snapshotContext.capturedTables.stream()
+                .filter(tableId -> checkpoint == null || !checkpoint.isTableCompleted(tableId))
+                .collect(Collectors.toList());
+        if (tableIds.size() < snapshotContext.capturedTables.size()) {
+            LOGGER.info("Skipping {} tables which have been snapshotted completely by the previous snapshot",
+                    snapshotContext.capturedTables.size() - tableIds.size());
+        }
 
-            if (!sourceContext.isRunning()) {
-                throw new InterruptedException("Interrupted while snapshotting table " + tableId);
+        final List<JdbcConnection> parallelConnections = openParallelSnapshotConnections(snapshotContext, tableIds.size());
+        try {
+            final SnapshotWorkQueue workQueue = new SnapshotWorkQueue();
+            final boolean parallel = !parallelConnections.isEmpty();
+
+            for (Iterator<TableId> tableIdIterator = tableIds.iterator(); tableIdIterator.hasNext();) {
+                final TableId tableId = tableIdIterator.next();
+                // when reading in parallel, it isn't known upfront which table will be finished last
+                final boolean lastTable = !parallel && !tableIdIterator.hasNext();
+                workQueue.add((context, connection) -> createDataEventsForTable(context, snapshotContext, snapshotReceiver, workQueue, tableId, connection,
+                        lastTable));
             }
 
-            LOGGER.debug("Snapshotting table {}", tableId);
-
-            createDataEventsForTable(sourceContext, snapshotContext, snapshotReceiver, snapshotContext.tables.forTable(tableId));
+            if (parallel) {
+                final List<JdbcConnection> connections = new ArrayList<>(parallelConnections.size() + 1);
+                connections.add(jdbcConnection);
+                connections.addAll(parallelConnections);
+                createDataEventsInParallel(sourceContext, workQueue, connections);
+            }
+            else {
+                workQueue.execute(sourceContext, jdbcConnection);
+            }
+        }
+        finally {
+            closeParallelSnapshotConnections(parallelConnections);
         }
 
         snapshotContext.offset.preSnapshotCompletion();
@@ -338,12 +434,122 @@ private void createDataEvents(ChangeEventSourceContext sourceContext, SnapshotCo
     }
 
     /**
-     * Dispatches the data change events for the records of a single table.
+     * Executes the tasks of the given queue using one thread per given connection. As no record is marked as the last
+     * one by the tasks in this case, {@link SnapshotReceiver#completeSnapshot()} marks the last record once all tasks
+     * have been executed.
+     */
+    private void createDataEventsInParallel(ChangeEventSourceContext sourceContext, SnapshotWorkQueue workQueue, List<JdbcConnection> connections)
+            throws Exception {
+        final AtomicBoolean aborted = new AtomicBoolean(false);
+        final ChangeEventSourceContext workerContext = () -> sourceContext.isRunning() && !aborted.get();
+
+        LOGGER.info("Snapshotting tables using {} threads", connections.size());
+
+        final ExecutorService executor = Threads.newFixedThreadPool(getConnectorClass(), connectorConfig.getLogicalName(), "snapshot-worker",
+                connections.size());
+        final CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+        try {
+            for (JdbcConnection connection : connections) {
+                completionService.submit(() -> {
+                    LoggingContext.forConnector(connectorConfig.getContextName(), connectorConfig.getLogicalName(), "snapshot");
+                    workQueue.execute(workerContext, connection);
+                    return null;
+                });
+            }
+
+            for (int i = 0; i < connections.size(); i++) {
+                try {
+                    completionService.take().get();
+                }
+                catch (ExecutionException e) {
+                    aborted.set(true);
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof Exception) {
+                        throw (Exception) cause;
+                    }
+                    throw new ConnectException("Snapshotting of tables failed", cause);
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            aborted.set(true);
+            throw e;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<JdbcConnection> openParallelSnapshotConnections(SnapshotContext snapshotContext, int tableCount) throws Exception {
+        // when reading in chunks, even the records of a single table can be read by several threads
+        final int threads = connectorConfig.getSnapshotChunkSize() > 0 ? connectorConfig.getSnapshotMaxThreads()
+                : Math.min(connectorConfig.getSnapshotMaxThreads(), tableCount);
+        final List<JdbcConnection> connections = new ArrayList<>();
+
+        try {
+            for (int i = 1; i < threads; i++) {
+                final Optional<JdbcConnection> connection = openParallelSnapshotConnection(snapshotContext);
+                if (!connection.isPresent()) {
+                    LOGGER.warn("Reading tables in parallel isn't supported in the current configuration, all tables will be read by a single thread");
+                    closeParallelSnapshotConnections(connections);
+                    return Collections.emptyList();
+                }
+                connections.add(connection.get());
+            }
+        }
+        catch (Exception e) {
+            closeParallelSnapshotConnections(connections);
+            throw e;
+        }
+
+        return connections;
+    }
+
+    private void closeParallelSnapshotConnections(List<JdbcConnection> connections) {
+        for (JdbcConnection connection : connections) {
+            try {
+                rollbackTransaction(connection.connection());
+                connection.close();
+            }
+            catch (Exception e) {
+                LOGGER.warn("Failed to close snapshot connection", e);
+            }
+        }
+    }
+
+    /**
+     * Returns the class of the connector, used for naming the threads reading table data in parallel.
+     */
+    protected abstract Class<? extends SourceConnector> getConnectorClass();
+
+    /**
+     * Opens an additional connection for reading table data in parallel to the main snapshot connection, as per
+     * {@link RelationalDatabaseConnectorConfig#SNAPSHOT_MAX_THREADS}. Implementations must make sure that the returned
+     * connection is in a transaction which sees the same state of the database as the main snapshot connection, e.g. by
+     * importing an exported snapshot. The connection will be rolled back and closed after the data snapshot.
+     *
+     * @return the new connection or an empty optional if data can't be read in parallel, in which case all tables are
+     * read via the main snapshot connection
+     */
+    protected Optional<JdbcConnection> openParallelSnapshotConnection(SnapshotContext snapshotContext) throws Exception {
+        return Optional.empty();
+    }
+
+    /**
+     * Dispatches the data change events for the records of a single table. If the table is read in chunks, only the
+     * first chunk is read, and the task for reading the next chunk is added to the given queue.
      */
     private void createDataEventsForTable(ChangeEventSourceContext sourceContext, SnapshotContext snapshotContext, SnapshotReceiver snapshotReceiver,
-                                          Table table)
+                                          SnapshotWorkQueue workQueue, TableId tableId, JdbcConnection connection, boolean lastTable)
             throws InterruptedException {
 
+        if (!sourceContext.isRunning()) {
+            throw new InterruptedException("Interrupted while snapshotting table " + tableId);
+        }
+
+        LOGGER.debug("Snapshotting table {}", tableId);
+
+        final Table table = snapshotContext.tables.forTable(tableId);
         long exportStart = clock.currentTimeInMillis();
         LOGGER.info("\t Exporting data from table '{}'", table.id());
 
@@ -354,56 +560,428 @@ private void createDataEventsForTable(ChangeEventSourceContext sourceContext, Sn
         }
         LOGGER.info("\t For table '{}' using select statement: '{}'", table.id(), selectStatement.get());
 
-        try (Statement statement = readTableStatement();
-                ResultSet rs = statement.executeQuery(selectStatement.get())) {
-
-            Column[] columns = getColumnsForResultSet(table, rs);
-            final int numColumns = table.columns().size();
-            long rows = 0;
-            Timer logTimer = getTableScanLogTimer();
-            snapshotContext.lastRecordInTable = false;
-
-            if (rs.next()) {
-                while (!snapshotContext.lastRecordInTable) {
-                    if (!sourceContext.isRunning()) {
-                        throw new InterruptedException("Interrupted while snapshotting table " + table.id());
-                    }
+        if (isReadInChunks(table)) {
+            final SnapshotCheckpoint checkpoint = snapshotCheckpointOf(snapshotContext.offset);
+            final List<String> resumeKey = checkpoint != null ? checkpoint.getTableKey(table.id()) : null;
+            final TableChunk firstChunk;
 
-                    rows++;
-                    final Object[] row = new Object[numColumns];
-                    for (int i = 0; i < numColumns; i++) {
-                        row[i] = getColumnValue(rs, i + 1, columns[i]);
-                    }
+            if (resumeKey != null && resumeKey.size() == table.primaryKeyColumns().size()) {
+                LOGGER.info("\t Resuming reading table '{}' in chunks of {} records after key {}", table.id(), connectorConfig.getSnapshotChunkSize(),
+                        resumeKey);
+                firstChunk = new TableChunk(table, selectStatement.get(), new ChunkedTableProgress(exportStart), resumeKey.toArray());
+            }
+            else {
+                LOGGER.info("\t Reading table '{}' in chunks of {} records", table.id(), connectorConfig.getSnapshotChunkSize());
+                firstChunk = new TableChunk(table, selectStatement.get(), new ChunkedTableProgress(exportStart));
+            }
 
-                    snapshotContext.lastRecordInTable = !rs.next();
-                    if (logTimer.expired()) {
-                        long stop = clock.currentTimeInMillis();
-                        LOGGER.info("\t Exported {} records for table '{}' after {}", rows, table.id(),
-                                Strings.duration(stop - exportStart));
-                        snapshotProgressListener.rowsScanned(table.id(), rows);
-                        logTimer = getTableScanLogTimer();
-                    }
+            createDataEventsForChunk(sourceContext, snapshotContext, snapshotReceiver, workQueue, firstChunk, connection, lastTable);
+            return;
+        }
 
-                    if (snapshotContext.lastTable && snapshotContext.lastRecordInTable) {
-                        snapshotContext.offset.markLastSnapshotRecord();
-                    }
-                    dispatcher.dispatchSnapshotEvent(table.id(), getChangeRecordEmitter(snapshotContext, table.id(), row), snapshotReceiver);
+        try {
+            // bulk exports read the table as selected by the connector, so they aren't used for overridden statements
+            final Optional<SnapshotRowReader> rowReader = getSnapshotSelectOverride(table.id()) == null
+                    ? openSnapshotRowReader(snapshotContext, table, selectStatement.get(), connection)
+                    : Optional.empty();
+
+            final long rows;
+            if (rowReader.isPresent()) {
+                try (SnapshotRowReader reader = rowReader.get()) {
+                    rows = createDataEventsForRows(sourceContext, snapshotContext, snapshotReceiver, table, reader, lastTable, exportStart);
                 }
             }
-            else if (snapshotContext.lastTable) {
-                // if the last table does not contain any records we still need to mark the last processed event as the last one
-                snapshotContext.offset.markLastSnapshotRecord();
+            else {
+                try (Statement statement = readTableStatement(connection);
+                        ResultSet rs = statement.executeQuery(selectStatement.get())) {
+                    rows = createDataEventsForResultSet(sourceContext, snapshotContext, snapshotReceiver, table, rs, null, lastTable, exportStart, 0);
+                }
             }
 
             LOGGER.info("\t Finished exporting {} records for table '{}'; total duration '{}'", rows,
                     table.id(), Strings.duration(clock.currentTimeInMillis() - exportStart));
             snapshotProgressListener.tableSnapshotCompleted(table.id(), rows);
+            synchronized (snapshotReceiver) {
+                tableSnapshotCompleted(snapshotContext, table.id());
+            }
+        }
+        catch (SQLException e) {
+            throw new ConnectException("Snapshotting of table " + table.id() + " failed", e);
+        }
+    }
+
+    /**
+     * Whether the given table is read in chunks as per {@link RelationalDatabaseConnectorConfig#SNAPSHOT_CHUNK_SIZE}.
+     * That's only the case for tables with a primary key, whose select statement hasn't been overridden.
+     */
+    private boolean isReadInChunks(Table table) {
+        return connectorConfig.getSnapshotChunkSize() > 0
+                && !table.primaryKeyColumns().isEmpty()
+                && getSnapshotSelectOverride(table.id()) == null;
+    }
+
+    /**
+     * Dispatches the data change events for the records of a single chunk of a table. Before reading the records, the
+     * upper bound of the chunk is determined and the task for reading the next chunk is added to the given queue, so
+     * that the next chunk can be read concurrently by another thread.
+     */
+    private void createDataEventsForChunk(ChangeEventSourceContext sourceContext, SnapshotContext snapshotContext, SnapshotReceiver snapshotReceiver,
+                                          SnapshotWorkQueue workQueue, TableChunk chunk, JdbcConnection connection, boolean lastTable)
+            throws InterruptedException {
+
+        final Table table = chunk.table;
+        if (!sourceContext.isRunning()) {
+            throw new InterruptedException("Interrupted while snapshotting table " + table.id());
+        }
+
+        try {
+            chunk.upperBound = readChunkUpperBound(chunk, connection);
+
+            if (chunk.upperBound != null) {
+                final TableChunk nextChunk = chunk.next();
+                workQueue.addNext((context, nextConnection) -> createDataEventsForChunk(context, snapshotContext, snapshotReceiver, workQueue, nextChunk,
+                        nextConnection, lastTable));
+            }
+
+            final String select = getSnapshotChunkSelect(table, chunk.select, chunk.lowerBound != null, chunk.upperBound != null);
+            LOGGER.debug("\t Reading chunk {} of table '{}' using select statement: '{}'", chunk.index + 1, table.id(), select);
+
+            try (PreparedStatement statement = readChunkStatement(connection, select)) {
+                int parameterIndex = setKeyRangeParameters(statement, 1, chunk.lowerBound, chunk.lowerBoundColumns());
+                setKeyRangeParameters(statement, parameterIndex, chunk.upperBound, null);
+
+                try (ResultSet rs = statement.executeQuery()) {
+                    final boolean lastChunk = chunk.upperBound == null;
+                    final long rows = createDataEventsForResultSet(sourceContext, snapshotContext, snapshotReceiver, table, rs, chunk, lastTable && lastChunk,
+                            chunk.progress.exportStart, chunk.progress.rows.get());
+                    final long totalRows = chunk.progress.rows.addAndGet(rows);
+
+                    LOGGER.debug("\t Finished exporting {} records of chunk {} of table '{}'", rows, chunk.index + 1, table.id());
+                    snapshotProgressListener.chunkSnapshotCompleted(table.id(), rows);
+                    snapshotProgressListener.rowsScanned(table.id(), totalRows);
+                }
+            }
+
+            final boolean tableCompleted;
+            synchronized (snapshotReceiver) {
+                final List<String> checkpointKey = chunk.progress.chunkEmitted(chunk);
+                tableCompleted = chunk.progress.chunkCompleted();
+                if (tableCompleted) {
+                    tableSnapshotCompleted(snapshotContext, table.id());
+                }
+                else if (checkpointKey != null) {
+                    tableSnapshotKey(snapshotContext, table.id(), checkpointKey);
+                }
+            }
+
+            if (tableCompleted) {
+                final long totalRows = chunk.progress.rows.get();
+                LOGGER.info("\t Finished exporting {} records for table '{}'; total duration '{}'", totalRows,
+                        table.id(), Strings.duration(clock.currentTimeInMillis() - chunk.progress.exportStart));
+                snapshotProgressListener.tableSnapshotCompleted(table.id(), totalRows);
+            }
         }
         catch (SQLException e) {
             throw new ConnectException("Snapshotting of table " + table.id() + " failed", e);
         }
     }
 
+    /**
+     * Returns the primary key of the last record of the given chunk, or {@code null} if the chunk contains all the
+     * remaining records of the table.
+     */
+    private Object[] readChunkUpperBound(TableChunk chunk, JdbcConnection connection) throws SQLException {
+        final String select = getSnapshotChunkBoundarySelect(chunk.table, chunk.select, chunk.lowerBound != null, connectorConfig.getSnapshotChunkSize());
+
+        try (PreparedStatement statement = connection.connection().prepareStatement(select)) {
+            setKeyRangeParameters(statement, 1, chunk.lowerBound, chunk.lowerBoundColumns());
+
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+
+                final Object[] key = new Object[chunk.table.primaryKeyColumns().size()];
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = rs.getObject(i + 1);
+                }
+                return key;
+            }
+        }
+    }
+
+    /**
+     * Returns the SELECT statement for determining the primary key of the last record of a chunk when reading a table in
+     * chunks. The statement must return the primary key columns of the {@code chunkSize}-th record in primary key order,
+     * or no record at all if there are fewer records. If {@code hasLowerBound} is {@code true}, only records with a
+     * primary key greater than the last key of the previous chunk must be regarded, using the parameters as defined by
+     * {@link #keyRangePredicate(List, boolean)}.
+     * <p>
+     * The default implementation wraps the table's snapshot select statement, using the standard SQL row limiting clause.
+     *
+     * @param table the table to read
+     * @param select the snapshot select statement of the table
+     */
+    protected String getSnapshotChunkBoundarySelect(Table table, String select, boolean hasLowerBound, int chunkSize) {
+        final List<String> keyColumns = quotedPrimaryKeyColumns(table);
+        final String keys = String.join(", ", keyColumns);
+
+        final StringBuilder sql = new StringBuilder("SELECT ").append(keys).append(" FROM (").append(select).append(") dbz_chunk");
+        if (hasLowerBound) {
+            sql.append(" WHERE ").append(keyRangePredicate(keyColumns, true));
+        }
+        return sql.append(" ORDER BY ").append(keys)
+                .append(" OFFSET ").append(chunkSize - 1).append(" ROWS FETCH NEXT 1 ROWS ONLY")
+                .toString();
+    }
+
+    /**
+     * Returns the SELECT statement for reading the records of one chunk when reading a table in chunks, ordered by
+     * primary key. The bounds of the chunk are given as parameters, the lower (exclusive) bound first, then the upper
+     * (inclusive) bound, each as defined by {@link #keyRangePredicate(List, boolean)}.
+     *
+     * @param table the table to read
+     * @param select the snapshot select statement of the table
+     */
+    protected String getSnapshotChunkSelect(Table table, String select, boolean hasLowerBound, boolean hasUpperBound) {
+        final List<String> keyColumns = quotedPrimaryKeyColumns(table);
+
+        final StringBuilder sql = new StringBuilder("SELECT * FROM (").append(select).append(") dbz_chunk");
+        if (hasLowerBound) {
+            sql.append(" WHERE ").append(keyRangePredicate(keyColumns, true));
+        }
+        if (hasUpperBound) {
+            sql.append(hasLowerBound ? " AND " : " WHERE ").append(keyRangePredicate(keyColumns, false));
+        }
+        return sql.append(" ORDER BY ").append(String.join(", ", keyColumns)).toString();
+    }
+
+    /**
+     * Returns a predicate comparing the given key columns with a key given as parameters, either selecting all keys
+     * greater than the given key ({@code lowerBound} is {@code true}), or all keys less than or equal to the given key.
+     * The predicate is expressed in terms of the single columns, e.g. {@code a >= ? AND (a > ? OR b > ?)}, so that it
+     * can make use of an index on the key columns. Each key value is passed twice, except the one of the last column.
+     */
+    public static String keyRangePredicate(List<String> keyColumns, boolean lowerBound) {
+        final String last = keyColumns.get(keyColumns.size() - 1);
+        String predicate = last + (lowerBound ? " > ?" : " <= ?");
+
+        for (int i = keyColumns.size() - 2; i >= 0; i--) {
+            final String column = keyColumns.get(i);
+            predicate = lowerBound
+                    ? column + " >= ? AND (" + column + " > ? OR (" + predicate + "))"
+                    : column + " <= ? AND (" + column + " < ? OR (" + predicate + "))";
+        }
+
+        return predicate;
+    }
+
+    /**
+     * Binds the values of the given key as parameters of a {@link #keyRangePredicate(List, boolean)}.
+     *
+     * @param keyColumns the key columns, if the values are to be converted to the columns' JDBC types (e.g. for textual
+     * values restored from the offset); {@code null} if they can be passed as they are
+     * @return the index of the next parameter
+     */
+    public static int setKeyRangeParameters(PreparedStatement statement, int parameterIndex, Object[] key, List<Column> keyColumns) throws SQLException {
+        if (key == null) {
+            return parameterIndex;
+        }
+
+        for (int i = 0; i < key.length; i++) {
+            final int repetitions = i < key.length - 1 ? 2 : 1;
+            for (int j = 0; j < repetitions; j++) {
+                if (keyColumns != null) {
+                    statement.setObject(parameterIndex++, key[i], keyColumns.get(i).jdbcType());
+                }
+                else {
+                    statement.setObject(parameterIndex++, key[i]);
+                }
+            }
+        }
+        return parameterIndex;
+    }
+
+    /**
+     * Returns the positions of the given table's primary key columns within the given result set columns.
+     */
+    private int[] getKeyColumnIndexes(Table table, Column[] columns) {
+        final List<Column> keyColumns = table.primaryKeyColumns();
+        final int[] indexes = new int[keyColumns.size()];
+
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = -1;
+            for (int j = 0; j < columns.length; j++) {
+                if (columns[j] != null && columns[j].name().equals(keyColumns.get(i).name())) {
+                    indexes[i] = j + 1;
+                    break;
+                }
+            }
+            if (indexes[i] == -1) {
+                return null;
+            }
+        }
+        return indexes;
+    }
+
+    private List<String> readKey(ResultSet rs, int[] keyColumnIndexes) throws SQLException {
+        final String[] key = new String[keyColumnIndexes.length];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = rs.getString(keyColumnIndexes[i]);
+        }
+        return Arrays.asList(key);
+    }
+
+    /**
+     * Records in the offset that all records of the given table have been emitted. Like all updates of the snapshot
+     * progress, this must happen while holding the lock of the snapshot receiver and only after the last affected record
+     * has been dispatched, so that the offset of each emitted record reflects exactly the records up to and including it.
+     */
+    private void tableSnapshotCompleted(SnapshotContext snapshotContext, TableId tableId) {
+        final SnapshotCheckpoint checkpoint = snapshotCheckpointOf(snapshotContext.offset);
+        if (checkpoint != null) {
+            checkpoint.tableCompleted(tableId);
+        }
+    }
+
+    /**
+     * Records in the offset that all records of the given table up to the given key have been emitted.
+     */
+    private void tableSnapshotKey(SnapshotContext snapshotContext, TableId tableId, List<String> key) {
+        final SnapshotCheckpoint checkpoint = snapshotCheckpointOf(snapshotContext.offset);
+        if (checkpoint != null) {
+            checkpoint.tableKey(tableId, key);
+        }
+    }
+
+    /**
+     * Returns the names of the given table's primary key columns, quoted with double quotes.
+     */
+    public static List<String> quotedPrimaryKeyColumns(Table table) {
+        return table.primaryKeyColumns()
+                .stream()
+                .map(column -> "\"" + column.name().replace("\"", "\"\"") + "\"")
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Dispatches the data change events for the records of the given result set.
+     *
+     * @param chunk the chunk the result set belongs to, if the table is read in chunks; {@code null} otherwise
+     * @param markLastRecord whether the last record of the result set is the last record of the snapshot
+     * @param rowsBefore the number of records of the table already read before, used for progress reporting
+     * @return the number of records read
+     */
+    private long createDataEventsForResultSet(ChangeEventSourceContext sourceContext, SnapshotContext snapshotContext, SnapshotReceiver snapshotReceiver,
+                                              Table table, ResultSet rs, TableChunk chunk, boolean markLastRecord, long exportStart, long rowsBefore)
+            throws SQLException, InterruptedException {
+
+        Column[] columns = getColumnsForResultSet(table, rs);
+        // the records of a chunk are ordered by primary key, so the key of each emitted record can be recorded
+        final int[] keyColumnIndexes = chunk != null ? getKeyColumnIndexes(table, columns) : null;
+        final int numColumns = table.columns().size();
+        long rows = 0;
+        Timer logTimer = getTableScanLogTimer();
+        boolean lastRecord = false;
+
+        if (rs.next()) {
+            while (!lastRecord) {
+                if (!sourceContext.isRunning()) {
+                    throw new InterruptedException("Interrupted while snapshotting table " + table.id());
+                }
+
+                rows++;
+                final Object[] row = new Object[numColumns];
+                for (int i = 0; i < numColumns; i++) {
+                    row[i] = getColumnValue(rs, i + 1, columns[i]);
+                }
+                final List<String> key = keyColumnIndexes != null ? readKey(rs, keyColumnIndexes) : null;
+
+                lastRecord = !rs.next();
+                if (logTimer.expired()) {
+                    logTableScanProgress(table, rowsBefore + rows, exportStart);
+                    logTimer = getTableScanLogTimer();
+                }
+
+                dispatchSnapshotRecord(snapshotContext, snapshotReceiver, table, row, chunk, key, markLastRecord && lastRecord);
+            }
+        }
+        else if (markLastRecord) {
+            // if the last table does not contain any records we still need to mark the last processed event as the last one
+            synchronized (snapshotReceiver) {
+                snapshotContext.offset.markLastSnapshotRecord();
+            }
+        }
+
+        return rows;
+    }
+
+    /**
+     * Dispatches the data change events for the records returned by the given reader.
+     *
+     * @param markLastRecord whether the last record of the reader is the last record of the snapshot
+     * @return the number of records read
+     */
+    private long createDataEventsForRows(ChangeEventSourceContext sourceContext, SnapshotContext snapshotContext, SnapshotReceiver snapshotReceiver,
+                                         Table table, SnapshotRowReader reader, boolean markLastRecord, long exportStart)
+            throws SQLException, InterruptedException {
+
+        long rows = 0;
+        Timer logTimer = getTableScanLogTimer();
+        Object[] row = reader.next();
+
+        if (row == null && markLastRecord) {
+            synchronized (snapshotReceiver) {
+                snapshotContext.offset.markLastSnapshotRecord();
+            }
+        }
+
+        while (row != null) {
+            if (!sourceContext.isRunning()) {
+                throw new InterruptedException("Interrupted while snapshotting table " + table.id());
+            }
+
+            rows++;
+            final Object[] next = reader.next();
+            if (logTimer.expired()) {
+                logTableScanProgress(table, rows, exportStart);
+                logTimer = getTableScanLogTimer();
+            }
+
+            dispatchSnapshotRecord(snapshotContext, snapshotReceiver, table, row, null, null, markLastRecord && next == null);
+            row = next;
+        }
+
+        return rows;
+    }
+
+    private void logTableScanProgress(Table table, long rows, long exportStart) {
+        long stop = clock.currentTimeInMillis();
+        LOGGER.info("\t Exported {} records for table '{}' after {}", rows, table.id(), Strings.duration(stop - exportStart));
+        snapshotProgressListener.rowsScanned(table.id(), rows);
+    }
+
+    private void dispatchSnapshotRecord(SnapshotContext snapshotContext, SnapshotReceiver snapshotReceiver, Table table, Object[] row, TableChunk chunk,
+                                        List<String> key, boolean lastRecord)
+            throws InterruptedException {
+        // the offset and the receiver are shared by all snapshot threads
+        synchronized (snapshotReceiver) {
+            if (lastRecord) {
+                snapshotContext.offset.markLastSnapshotRecord();
+            }
+            dispatcher.dispatchSnapshotEvent(table.id(), getChangeRecordEmitter(snapshotContext, table.id(), row), snapshotReceiver);
+
+            // the receiver only creates the record of the previous row, with the current offset, when dispatching this
+            // row; so the checkpoint may only move past this row afterwards, or the previous row's offset would skip it
+            if (key != null) {
+                final List<String> checkpointKey = chunk.progress.recordEmitted(chunk, key);
+                if (checkpointKey != null) {
+                    tableSnapshotKey(snapshotContext, table.id(), checkpointKey);
+                }
+            }
+        }
+    }
+
     private Timer getTableScanLogTimer() {
         return Threads.timer(clock, LOG_INTERVAL);
     }
@@ -424,6 +1002,11 @@ protected ChangeRecordEmitter getChangeRecordEmitter(SnapshotContext snapshotCon
      * @return a valid query string or empty if table will not be snapshotted
      */
     private Optional<String> determineSnapshotSelect(SnapshotContext snapshotContext, TableId tableId) {
+        String overriddenSelect = getSnapshotSelectOverride(tableId);
+        return overriddenSelect != null ? Optional.of(overriddenSelect) : getSnapshotSelect(snapshotContext, tableId);
+    }
+
+    private String getSnapshotSelectOverride(TableId tableId) {
         String overriddenSelect = connectorConfig.getSnapshotSelectOverridesByTable().get(tableId);
 
         // try without catalog id, as this might or might not be populated based on the given connector
@@ -431,7 +1014,7 @@ private Optional<String> determineSnapshotSelect(SnapshotContext snapshotContext
             overriddenSelect = connectorConfig.getSnapshotSelectOverridesByTable().get(new TableId(null, tableId.schema(), tableId.table()));
         }
 
-        return overriddenSelect != null ? Optional.of(overriddenSelect) : getSnapshotSelect(snapshotContext, tableId);
+        return overriddenSelect;
     }
 
     /**
@@ -458,13 +1041,32 @@ protected Object getColumnValue(ResultSet rs, int columnIndex, Column column) th
         return rs.getObject(columnIndex);
     }
 
-    private Statement readTableStatement() throws SQLException {
+    /**
+     * Opens a reader for the records of a table that isn't read in chunks, as an alternative to executing its snapshot
+     * select statement, e.g. using a bulk export of the database. The reader must read the records in the transaction of
+     * the given connection and return the column values in the same representation as {@link #getColumnValue}.
+     *
+     * @param select the snapshot select statement of the table, as provided by {@link #getSnapshotSelect}
+     * @return the reader or an empty optional if the records should be read by executing the select statement
+     */
+    protected Optional<SnapshotRowReader> openSnapshotRowReader(SnapshotContext snapshotContext, Table table, String select, JdbcConnection connection)
+            throws SQLException {
+        return Optional.empty();
+    }
+
+    private Statement readTableStatement(JdbcConnection connection) throws SQLException {
         int fetchSize = connectorConfig.getSnapshotFetchSize();
-        Statement statement = jdbcConnection.connection().createStatement(); // the default cursor is FORWARD_ONLY
+        Statement statement = connection.connection().createStatement(); // the default cursor is FORWARD_ONLY
         statement.setFetchSize(fetchSize);
         return statement;
     }
 
+    private PreparedStatement readChunkStatement(JdbcConnection connection, String select) throws SQLException {
+        PreparedStatement statement = connection.connection().prepareStatement(select);
+        statement.setFetchSize(connectorConfig.getSnapshotFetchSize());
+        return statement;
+    }
+
     /**
      * Completes the snapshot, doing any required clean-up (resource disposal etc.).
      * @param snapshotContext snapshot context
@@ -491,8 +1093,6 @@ public static class SnapshotContext implements AutoCloseable {
 
         public Set<TableId> capturedTables;
         public OffsetContext offset;
-        public boolean lastTable;
-        public boolean lastRecordInTable;
 
         public SnapshotContext(String catalogName) throws SQLException {
             this.catalogName = catalogName;
@@ -504,6 +1104,200 @@ public void close() throws Exception {
         }
     }
 
+    /**
+     * A reader of the records of a table during the snapshot.
+     */
+    public interface SnapshotRowReader extends AutoCloseable {
+
+        /**
+         * @return the column values of the next record, in the order of the table's columns; null if all records have been read
+         */
+        Object[] next() throws SQLException;
+
+        @Override
+        void close() throws SQLException;
+    }
+
+    /**
+     * A unit of work of the data snapshot, i.e. reading a table or a chunk of a table.
+     */
+    @FunctionalInterface
+    private interface SnapshotTask {
+        void execute(ChangeEventSourceContext context, JdbcConnection connection) throws InterruptedException;
+    }
+
+    /**
+     * The tasks of a data snapshot, executed by one or more threads. Tasks may add further tasks while being executed,
+     * so a thread only finishes once the queue is empty and no other thread is executing a task.
+     */
+    private static class SnapshotWorkQueue {
+
+        private static final long POLL_INTERVAL_MS = 100;
+
+        private final BlockingDeque<SnapshotTask> tasks = new LinkedBlockingDeque<>();
+        private final AtomicInteger pendingTasks = new AtomicInteger();
+
+        void add(SnapshotTask task) {
+            pendingTasks.incrementAndGet();
+            tasks.addLast(task);
+        }
+
+        /**
+         * Adds a task to be executed before all other queued tasks, e.g. the next chunk of the table currently read.
+         */
+        void addNext(SnapshotTask task) {
+            pendingTasks.incrementAndGet();
+            tasks.addFirst(task);
+        }
+
+        void execute(ChangeEventSourceContext context, JdbcConnection connection) throws InterruptedException {
+            while (pendingTasks.get() > 0) {
+                if (!context.isRunning()) {
+                    throw new InterruptedException("Interrupted while snapshotting tables");
+                }
+
+                final SnapshotTask task = tasks.pollFirst(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (task != null) {
+                    try {
+                        task.execute(context, connection);
+                    }
+                    finally {
+                        pendingTasks.decrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A range of records of a table, delimited by primary key.
+     */
+    private static class TableChunk {
+
+        private final Table table;
+        private final String select;
+        private final ChunkedTableProgress progress;
+        private final int index;
+
+        /**
+         * The key of the last record of the previous chunk (exclusive), or {@code null} for the first chunk
+         */
+        private final Object[] lowerBound;
+
+        /**
+         * Whether {@link #lowerBound} has been restored from the offset of a previous snapshot, i.e. it is given in the
+         * textual representation of the key values
+         */
+        private final boolean restoredLowerBound;
+
+        /**
+         * The key of the last record of this chunk (inclusive), or {@code null} for the last chunk
+         */
+        private Object[] upperBound;
+
+        /**
+         * The key of the last emitted record of this chunk, or {@code null} if no record has been emitted yet
+         */
+        private List<String> lastEmittedKey;
+
+        TableChunk(Table table, String select, ChunkedTableProgress progress) {
+            this(table, select, progress, 0, null, false);
+        }
+
+        /**
+         * Creates the first chunk of a table whose records up to the given key have been emitted by a previous snapshot.
+         */
+        TableChunk(Table table, String select, ChunkedTableProgress progress, Object[] restoredLowerBound) {
+            this(table, select, progress, 0, restoredLowerBound, true);
+        }
+
+        private TableChunk(Table table, String select, ChunkedTableProgress progress, int index, Object[] lowerBound, boolean restoredLowerBound) {
+            this.table = table;
+            this.select = select;
+            this.progress = progress;
+            this.index = index;
+            this.lowerBound = lowerBound;
+            this.restoredLowerBound = restoredLowerBound;
+        }
+
+        TableChunk next() {
+            progress.chunkCreated();
+            return new TableChunk(table, select, progress, index + 1, upperBound, false);
+        }
+
+        /**
+         * Returns the columns for converting the values of the lower bound, if required.
+         */
+        List<Column> lowerBoundColumns() {
+            return restoredLowerBound ? table.primaryKeyColumns() : null;
+        }
+    }
+
+    /**
+     * The progress of reading a table in chunks, shared by all the chunks of the table. The key up to which all records
+     * have been emitted is tracked while holding the lock of the snapshot receiver.
+     */
+    private static class ChunkedTableProgress {
+
+        private final long exportStart;
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicInteger pendingChunks = new AtomicInteger(1);
+
+        /**
+         * The index of the first chunk whose records haven't been emitted completely yet
+         */
+        private int firstPendingChunk;
+
+        /**
+         * The last emitted keys of chunks completed while an earlier chunk was still pending
+         */
+        private final Map<Integer, List<String>> completedChunkKeys = new HashMap<>();
+
+        ChunkedTableProgress(long exportStart) {
+            this.exportStart = exportStart;
+        }
+
+        void chunkCreated() {
+            pendingChunks.incrementAndGet();
+        }
+
+        /**
+         * Records the emission of a record of the given chunk.
+         *
+         * @return the key up to which all records of the table have been emitted, if it has changed; {@code null} otherwise
+         */
+        List<String> recordEmitted(TableChunk chunk, List<String> key) {
+            chunk.lastEmittedKey = key;
+            return chunk.index == firstPendingChunk ? key : null;
+        }
+
+        /**
+         * Records that all records of the given chunk have been emitted.
+         *
+         * @return the key up to which all records of the table have been emitted, if it has changed; {@code null} otherwise
+         */
+        List<String> chunkEmitted(TableChunk chunk) {
+            completedChunkKeys.put(chunk.index, chunk.lastEmittedKey);
+
+            List<String> key = null;
+            while (completedChunkKeys.containsKey(firstPendingChunk)) {
+                final List<String> chunkKey = completedChunkKeys.remove(firstPendingChunk++);
+                if (chunkKey != null) {
+                    key = chunkKey;
+                }
+            }
+            return key;
+        }
+
+        /**
+         * Returns whether all chunks of the table have been read. As each chunk creates its successor before it is
+         * completed itself, this is the case once there are no pending chunks anymore.
+         */
+        boolean chunkCompleted() {
+            return pendingChunks.decrementAndGet() == 0;
+        }
+    }
+
     /**
      * A configuration describing the task to be performed during snapshotting.
      */
@@ -511,10 +1305,16 @@ public static class SnapshottingTask {
 
         private final boolean snapshotSchema;
         private final boolean snapshotData;
+        private final boolean snapshotDataIncrementally;
 
         public SnapshottingTask(boolean snapshotSchema, boolean snapshotData) {
+            this(snapshotSchema, snapshotData, false);
+        }
+
+        public SnapshottingTask(boolean snapshotSchema, boolean snapshotData, boolean snapshotDataIncrementally) {
             this.snapshotSchema = snapshotSchema;
             this.snapshotData = snapshotData;
+            this.snapshotDataIncrementally = snapshotDataIncrementally;
         }
 
         /**
@@ -531,9 +1331,17 @@ public boolean snapshotSchema() {
             return snapshotSchema;
         }
 
+        /**
+         * Whether data should be snapshotted incrementally while streaming, rather than before streaming begins.
+         */
+        public boolean snapshotDataIncrementally() {
+            return snapshotDataIncrementally;
+        }
+
         @Override
         public String toString() {
-            return "SnapshottingTask [snapshotSchema=" + snapshotSchema + ", snapshotData=" + snapshotData + "]";
+            return "SnapshottingTask [snapshotSchema=" + snapshotSchema + ", snapshotData=" + snapshotData + ", snapshotDataIncrementally="
+                    + snapshotDataIncrementally + "]";
         }
     }
 
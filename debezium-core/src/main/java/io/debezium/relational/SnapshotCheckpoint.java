@@ -0,0 +1,163 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.connect.errors.ConnectException;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.document.Array;
+import io.debezium.document.ArrayReader;
+import io.debezium.document.ArrayWriter;
+import io.debezium.document.Value;
+
+/**
+ * The progress of an uncompleted relational snapshot, as recorded in the connector offsets, so that an interrupted
+ * snapshot can be resumed rather than started over. It comprises the tables whose records have been emitted completely
+ * and, for tables read in primary key order, the primary key of the record up to which all records have been emitted.
+ * Key values are kept in their textual representation as returned by the database.
+ */
+@ThreadSafe
+public class SnapshotCheckpoint {
+
+    public static final String COMPLETED_TABLES_KEY = "snapshot_completed_tables";
+    public static final String TABLE_KEYS_KEY = "snapshot_table_keys";
+
+    private final Set<TableId> completedTables = new LinkedHashSet<>();
+    private final Map<TableId, List<String>> tableKeys = new LinkedHashMap<>();
+
+    /**
+     * The serialized form of {@link #completedTables}, only re-created if a table has been completed since
+     */
+    private String completedTablesValue;
+
+    /**
+     * Loads the snapshot checkpoint from the given offset.
+     *
+     * @param offset the offset as stored in Kafka; may not be null
+     * @return the checkpoint; never null but empty if the offset doesn't record any snapshot progress
+     */
+    public static SnapshotCheckpoint load(Map<String, ?> offset) {
+        final SnapshotCheckpoint checkpoint = new SnapshotCheckpoint();
+
+        final Array completedTables = readArray(offset, COMPLETED_TABLES_KEY);
+        for (Value table : completedTables.values()) {
+            checkpoint.completedTables.add(TableId.parse(table.asString()));
+        }
+
+        final Array tableKeys = readArray(offset, TABLE_KEYS_KEY);
+        for (Value entry : tableKeys.values()) {
+            final List<String> values = new ArrayList<>();
+            entry.asArray().values().forEach(value -> values.add(value.asString()));
+            checkpoint.tableKeys.put(TableId.parse(values.get(0)), Collections.unmodifiableList(values.subList(1, values.size())));
+        }
+
+        return checkpoint;
+    }
+
+    private static Array readArray(Map<String, ?> offset, String key) {
+        final Object value = offset.get(key);
+        if (value == null) {
+            return Array.create();
+        }
+
+        try {
+            return ArrayReader.defaultReader().readArray((String) value);
+        }
+        catch (IOException e) {
+            throw new ConnectException("Couldn't parse snapshot progress '" + value + "' from offset", e);
+        }
+    }
+
+    /**
+     * Whether any progress has been recorded in this checkpoint.
+     */
+    public synchronized boolean isEmpty() {
+        return completedTables.isEmpty() && tableKeys.isEmpty();
+    }
+
+    /**
+     * Whether all records of the given table have been emitted.
+     */
+    public synchronized boolean isTableCompleted(TableId tableId) {
+        return completedTables.contains(tableId);
+    }
+
+    /**
+     * Returns the primary key of the record of the given table up to which (in primary key order) all records have
+     * been emitted.
+     *
+     * @return the key values in the order of the table's primary key columns, or {@code null} if no key has been
+     * recorded for the given table
+     */
+    public synchronized List<String> getTableKey(TableId tableId) {
+        return tableKeys.get(tableId);
+    }
+
+    /**
+     * Records that all records of the given table have been emitted.
+     */
+    public synchronized void tableCompleted(TableId tableId) {
+        tableKeys.remove(tableId);
+        if (completedTables.add(tableId)) {
+            completedTablesValue = null;
+        }
+    }
+
+    /**
+     * Records that all records of the given table up to the given primary key (in primary key order) have been
+     * emitted.
+     */
+    public synchronized void tableKey(TableId tableId, List<String> key) {
+        tableKeys.put(tableId, key);
+    }
+
+    /**
+     * Adds the recorded progress to the given offset.
+     */
+    public synchronized void writeTo(Map<String, Object> offset) {
+        if (!completedTables.isEmpty()) {
+            if (completedTablesValue == null) {
+                final Array tables = Array.create();
+                completedTables.forEach(table -> tables.add(table.toDoubleQuotedString()));
+                completedTablesValue = writeArray(tables);
+            }
+            offset.put(COMPLETED_TABLES_KEY, completedTablesValue);
+        }
+
+        if (!tableKeys.isEmpty()) {
+            final Array keys = Array.create();
+            for (Map.Entry<TableId, List<String>> tableKey : tableKeys.entrySet()) {
+                final Array entry = Array.create().add(tableKey.getKey().toDoubleQuotedString());
+                tableKey.getValue().forEach(entry::add);
+                keys.add(entry);
+            }
+            offset.put(TABLE_KEYS_KEY, writeArray(keys));
+        }
+    }
+
+    private static String writeArray(Array array) {
+        try {
+            return ArrayWriter.defaultWriter().write(array);
+        }
+        catch (IOException e) {
+            throw new ConnectException("Couldn't serialize snapshot progress", e);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "SnapshotCheckpoint [completedTables=" + completedTables + ", tableKeys=" + tableKeys + "]";
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import io.debezium.pipeline.spi.OffsetContext;
+
+/**
+ * An {@link OffsetContext} of a relational connector which records the progress of snapshots, so that
+ * {@link RelationalSnapshotChangeEventSource} can resume an interrupted snapshot.
+ */
+public interface SnapshotCheckpointOffsetContext extends OffsetContext {
+
+    /**
+     * Returns the progress of the currently running snapshot as recorded in this offset.
+     *
+     * @return the snapshot checkpoint; never null, but empty if no progress has been recorded
+     */
+    SnapshotCheckpoint getSnapshotCheckpoint();
+}
@@ -171,30 +171,23 @@ else if (Strings.isNullOrEmpty(tableId.schema())) {
      */
     protected Function<Object[], Object> createKeyGenerator(Schema schema, TableId columnSetName, List<Column> columns) {
         if (schema != null) {
-            int[] recordIndexes = indexesForColumns(columns);
-            Field[] fields = fieldsForColumns(schema, columns);
-            int numFields = recordIndexes.length;
-            ValueConverter[] converters = convertersForColumns(schema, columnSetName, columns, null);
+            final RowConverter rowConverter = new RowConverter(schema, columnSetName, columns, null);
             return (row) -> {
+                rowConverter.validate(row);
                 Struct result = new Struct(schema);
-                for (int i = 0; i != numFields; ++i) {
-                    validateIncomingRowToInternalMetadata(recordIndexes, fields, converters, row, i);
-                    Object value = row[recordIndexes[i]];
-                    ValueConverter converter = converters[i];
-                    if (converter != null) {
-                        // A component of primary key must be not-null.
-                        // It is possible for some databases and values (MySQL and all-zero datetime)
-                        // to be reported as null by JDBC or streaming reader.
-                        // It thus makes sense to convert them to a sensible default replacement value.
-                        value = converter.convert(value);
-                        try {
-                            result.put(fields[i], value);
-                        }
-                        catch (DataException e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert key value for '{}.{}' of type {} for row {}:",
-                                    columnSetName, col.name(), col.typeName(), row, e);
-                        }
+                for (int i = 0; i != rowConverter.numFields; ++i) {
+                    // A component of primary key must be not-null.
+                    // It is possible for some databases and values (MySQL and all-zero datetime)
+                    // to be reported as null by JDBC or streaming reader.
+                    // It thus makes sense to convert them to a sensible default replacement value.
+                    Object value = rowConverter.converters[i].convert(row[rowConverter.recordIndexes[i]]);
+                    try {
+                        result.put(rowConverter.fields[i], value);
+                    }
+                    catch (DataException e) {
+                        Column col = rowConverter.columns[i];
+                        LOGGER.error("Failed to properly convert key value for '{}.{}' of type {} for row {}:",
+                                columnSetName, col.name(), col.typeName(), row, e);
                     }
                 }
                 return result;
@@ -203,23 +196,6 @@ protected Function<Object[], Object> createKeyGenerator(Schema schema, TableId c
         return null;
     }
 
-    private void validateIncomingRowToInternalMetadata(int[] recordIndexes, Field[] fields, ValueConverter[] converters,
-                                                       Object[] row, int position) {
-        if (position >= converters.length) {
-            LOGGER.error("Error requesting a converter, converters: {}, requested index: {}", converters.length, position);
-            throw new ConnectException(
-                    "Column indexing array is larger than number of converters, internal schema representation is probably out of sync with real database schema");
-        }
-        if (position >= fields.length) {
-            LOGGER.error("Error requesting a field, fields: {}, requested index: {}", fields.length, position);
-            throw new ConnectException("Too few schema fields, internal schema representation is probably out of sync with real database schema");
-        }
-        if (recordIndexes[position] >= row.length) {
-            LOGGER.error("Error requesting a row value, row: {}, requested index: {} at position {}", row.length, recordIndexes[position], position);
-            throw new ConnectException("Data row is smaller than a column index, internal schema representation is probably out of sync with real database schema");
-        }
-    }
-
     /**
      * Creates the function that produces a Kafka Connect value object for a row of data.
      *
@@ -238,40 +214,19 @@ protected Function<Object[], Struct> createValueGenerator(Schema schema, TableId
             List<Column> columnsThatShouldBeAdded = columns.stream()
                     .filter(column -> filter == null || filter.matches(tableId.catalog(), tableId.schema(), tableId.table(), column.name()))
                     .collect(Collectors.toList());
-            int[] recordIndexes = indexesForColumns(columnsThatShouldBeAdded);
-            Field[] fields = fieldsForColumns(schema, columnsThatShouldBeAdded);
-            int numFields = recordIndexes.length;
-            ValueConverter[] converters = convertersForColumns(schema, tableId, columnsThatShouldBeAdded, mappers);
+            final RowConverter rowConverter = new RowConverter(schema, tableId, columnsThatShouldBeAdded, mappers);
             return (row) -> {
+                rowConverter.validate(row);
                 Struct result = new Struct(schema);
-                for (int i = 0; i != numFields; ++i) {
-                    validateIncomingRowToInternalMetadata(recordIndexes, fields, converters, row, i);
-                    Object value = row[recordIndexes[i]];
-
-                    ValueConverter converter = converters[i];
-
-                    if (converter != null) {
-                        LOGGER.trace("converter for value object: *** {} ***", converter);
-                    }
-                    else {
-                        LOGGER.trace("converter is null...");
+                for (int i = 0; i != rowConverter.numFields; ++i) {
+                    try {
+                        Object value = rowConverter.converters[i].convert(row[rowConverter.recordIndexes[i]]);
+                        result.put(rowConverter.fields[i], value);
                     }
-
-                    if (converter != null) {
-                        try {
-                            value = converter.convert(value);
-                            result.put(fields[i], value);
-                        }
-                        catch (DataException | IllegalArgumentException e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
-                                    tableId, col.name(), col.typeName(), row, e);
-                        }
-                        catch (final Exception e) {
-                            Column col = columns.get(i);
-                            LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
-                                    tableId, col.name(), col.typeName(), row, e);
-                        }
+                    catch (final Exception e) {
+                        Column col = rowConverter.columns[i];
+                        LOGGER.error("Failed to properly convert data value for '{}.{}' of type {} for row {}:",
+                                tableId, col.name(), col.typeName(), row, e);
                     }
                 }
                 return result;
@@ -398,4 +353,72 @@ protected void addField(SchemaBuilder builder, Column column, ColumnMapper mappe
     protected ValueConverter createValueConverterFor(Column column, Field fieldDefn) {
         return valueConverterProvider.converter(column, fieldDefn);
     }
+
+    /**
+     * The conversion steps for the columns of a row, resolved and validated once per table schema, so that converting a row
+     * is a plain loop over the columns actually contained in the records.
+     */
+    private class RowConverter {
+
+        private final int numFields;
+        private final int[] recordIndexes;
+        private final Field[] fields;
+        private final ValueConverter[] converters;
+        private final Column[] columns;
+
+        /**
+         * The largest index of a column value within the rows, including columns without converter
+         */
+        private final int maxRecordIndex;
+
+        RowConverter(Schema schema, TableId tableId, List<Column> columns, ColumnMappers mappers) {
+            final int[] allRecordIndexes = indexesForColumns(columns);
+            final Field[] allFields = fieldsForColumns(schema, columns);
+            final ValueConverter[] allConverters = convertersForColumns(schema, tableId, columns, mappers);
+
+            if (allConverters.length != allRecordIndexes.length) {
+                LOGGER.error("Error requesting a converter, converters: {}, columns: {}", allConverters.length, allRecordIndexes.length);
+                throw new ConnectException(
+                        "Column indexing array is larger than number of converters, internal schema representation is probably out of sync with real database schema");
+            }
+            if (allFields.length != allRecordIndexes.length) {
+                LOGGER.error("Error requesting a field, fields: {}, columns: {}", allFields.length, allRecordIndexes.length);
+                throw new ConnectException("Too few schema fields, internal schema representation is probably out of sync with real database schema");
+            }
+
+            int count = 0;
+            int maxIndex = -1;
+            for (int i = 0; i < allRecordIndexes.length; i++) {
+                maxIndex = Math.max(maxIndex, allRecordIndexes[i]);
+                if (allConverters[i] != null) {
+                    count++;
+                }
+            }
+
+            this.numFields = count;
+            this.maxRecordIndex = maxIndex;
+            this.recordIndexes = new int[count];
+            this.fields = new Field[count];
+            this.converters = new ValueConverter[count];
+            this.columns = new Column[count];
+
+            int j = 0;
+            for (int i = 0; i < allRecordIndexes.length; i++) {
+                if (allConverters[i] != null) {
+                    this.recordIndexes[j] = allRecordIndexes[i];
+                    this.fields[j] = allFields[i];
+                    this.converters[j] = allConverters[i];
+                    this.columns[j] = columns.get(i);
+                    j++;
+                }
+            }
+        }
+
+        void validate(Object[] row) {
+            if (maxRecordIndex >= row.length) {
+                LOGGER.error("Error requesting a row value, row: {}, requested index: {}", row.length, maxRecordIndex);
+                throw new ConnectException("Data row is smaller than a column index, internal schema representation is probably out of sync with real database schema");
+            }
+        }
+    }
 }
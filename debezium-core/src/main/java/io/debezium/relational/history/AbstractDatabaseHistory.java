@@ -5,10 +5,13 @@
  */
 package io.debezium.relational.history;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
@@ -17,6 +20,9 @@
 import io.debezium.config.Configuration;
 import io.debezium.document.Array;
 import io.debezium.function.Predicates;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
 import io.debezium.relational.ddl.DdlParser;
 import io.debezium.relational.history.TableChanges.TableChange;
@@ -37,6 +43,8 @@ public abstract class AbstractDatabaseHistory implements DatabaseHistory {
     private Function<String, Optional<Pattern>> ddlFilter = (x -> Optional.empty());
     private DatabaseHistoryListener listener = DatabaseHistoryListener.NOOP;
     private boolean useCatalogBeforeSchema;
+    private int checkpointInterval;
+    private int changesSinceCheckpoint;
 
     protected AbstractDatabaseHistory() {
     }
@@ -51,6 +59,7 @@ public void configure(Configuration config, HistoryRecordComparator comparator,
         this.ddlFilter = (ddlFilter != null) ? Predicates.matchedBy(ddlFilter) : this.ddlFilter;
         this.listener = listener;
         this.useCatalogBeforeSchema = useCatalogBeforeSchema;
+        this.checkpointInterval = config.getInteger(DatabaseHistory.CHECKPOINT_INTERVAL);
     }
 
     @Override
@@ -70,15 +79,109 @@ public final void record(Map<String, ?> source, Map<String, ?> position, String
             throws DatabaseHistoryException {
         final HistoryRecord record = new HistoryRecord(source, position, databaseName, schemaName, ddl, changes);
         storeRecord(record);
+        changesSinceCheckpoint++;
         listener.onChangeApplied(record);
     }
 
+    @Override
+    public void checkpoint(Map<String, ?> source, Map<String, ?> position, Tables schema, Supplier<String> ddl) throws DatabaseHistoryException {
+        if (checkpointInterval <= 0 || changesSinceCheckpoint < checkpointInterval) {
+            return;
+        }
+        changesSinceCheckpoint = 0;
+
+        final TableChanges tables = new TableChanges();
+        for (TableId id : schema.tableIds()) {
+            final Table table = schema.forTable(id);
+            for (Column column : table.columns()) {
+                if (!TableChange.isSupportedDefaultValue(column.defaultValue())) {
+                    logger.warn("Not storing a checkpoint of the schema in the database history as the default value '{}' of column '{}' of table '{}' cannot be stored",
+                            column.defaultValue(), column.name(), id);
+                    return;
+                }
+            }
+            tables.create(table);
+        }
+
+        try {
+            storeRecord(HistoryRecord.checkpoint(source, position, ddl.get(), tables));
+            logger.debug("Stored a checkpoint of {} tables at offset {}", schema.size(), position);
+        }
+        catch (DatabaseHistoryException e) {
+            // e.g. when the checkpoint exceeds the maximum size of a record; the recovery uses the previous checkpoint then
+            logger.warn("Failed to store a checkpoint of the schema in the database history", e);
+        }
+    }
+
     @Override
     public final void recover(Map<String, ?> source, Map<String, ?> position, Tables schema, DdlParser ddlParser) {
         logger.debug("Recovering DDL history for source partition {} and offset {}", source, position);
         listener.recoveryStarted();
         HistoryRecord stopPoint = new HistoryRecord(source, position, null, null, null, null);
-        recoverRecords(recovered -> {
+        final Recovery recovery = new Recovery(stopPoint, schema, ddlParser);
+        recoverRecords(recovery::accept);
+        recovery.complete();
+        listener.recoveryStopped();
+    }
+
+    /**
+     * Recovers the schema in a single pass over the history. The latest checkpoint that is preceded only by records at or
+     * before the stop point is applied instead of the records before it, so the records following the latest checkpoint
+     * seen so far are buffered until it is known that no later checkpoint can be used.
+     */
+    private class Recovery {
+
+        private final HistoryRecord stopPoint;
+        private final Tables schema;
+        private final DdlParser ddlParser;
+        private final List<HistoryRecord> pending = new ArrayList<>();
+        private HistoryRecord checkpoint;
+        private boolean searchingCheckpoint = checkpointInterval > 0;
+
+        private Recovery(HistoryRecord stopPoint, Tables schema, DdlParser ddlParser) {
+            this.stopPoint = stopPoint;
+            this.schema = schema;
+            this.ddlParser = ddlParser;
+        }
+
+        private void accept(HistoryRecord recovered) {
+            if (searchingCheckpoint) {
+                if (comparator.isAtOrBefore(recovered, stopPoint)) {
+                    if (recovered.isCheckpoint()) {
+                        if (!pending.isEmpty()) {
+                            logger.debug("Skipping {} records contained in checkpoint at {}", pending.size(), recovered.position());
+                        }
+                        checkpoint = recovered;
+                        pending.clear();
+                    }
+                    else {
+                        pending.add(recovered);
+                    }
+                    return;
+                }
+                complete();
+            }
+            apply(recovered);
+        }
+
+        private void complete() {
+            if (!searchingCheckpoint) {
+                return;
+            }
+            searchingCheckpoint = false;
+            if (checkpoint != null) {
+                logger.info("Recovering the schema from the checkpoint at {} in the database history", checkpoint.position());
+                applyCheckpoint(checkpoint, schema, ddlParser);
+                checkpoint = null;
+            }
+            pending.forEach(this::apply);
+            pending.clear();
+        }
+
+        private void apply(HistoryRecord recovered) {
+            if (recovered.isCheckpoint()) {
+                return;
+            }
             listener.onChangeFromHistory(recovered);
             if (comparator.isAtOrBefore(recovered, stopPoint)) {
                 Array tableChanges = recovered.tableChanges();
@@ -109,26 +212,44 @@ else if (ddl != null && ddlParser != null) {
                         logger.info("a DDL '{}' was filtered out of processing by regular expression '{}", ddl, filteredBy.get());
                         return;
                     }
-                    try {
-                        logger.debug("Applying: {}", ddl);
-                        ddlParser.parse(ddl, schema);
-                        listener.onChangeApplied(recovered);
-                    }
-                    catch (final ParsingException e) {
-                        if (skipUnparseableDDL) {
-                            logger.warn("Ignoring unparseable statements '{}' stored in database history: {}", ddl, e);
-                        }
-                        else {
-                            throw e;
-                        }
-                    }
+                    parse(recovered, schema, ddlParser);
                 }
             }
             else {
                 logger.debug("Skipping: {}", recovered.ddl());
             }
-        });
-        listener.recoveryStopped();
+        }
+    }
+
+    private void applyCheckpoint(HistoryRecord checkpoint, Tables schema, DdlParser ddlParser) {
+        logger.debug("Applying checkpoint at {}", checkpoint.position());
+        schema.clear();
+        for (TableChange entry : TableChanges.fromArray(checkpoint.tableChanges(), useCatalogBeforeSchema)) {
+            schema.overwriteTable(entry.getTable());
+        }
+        if (checkpoint.ddl() != null && ddlParser != null) {
+            parse(checkpoint, schema, ddlParser);
+        }
+        else {
+            listener.onChangeApplied(checkpoint);
+        }
+    }
+
+    private void parse(HistoryRecord recovered, Tables schema, DdlParser ddlParser) {
+        final String ddl = recovered.ddl();
+        try {
+            logger.debug("Applying: {}", ddl);
+            ddlParser.parse(ddl, schema);
+            listener.onChangeApplied(recovered);
+        }
+        catch (final ParsingException e) {
+            if (skipUnparseableDDL) {
+                logger.warn("Ignoring unparseable statements '{}' stored in database history: {}", ddl, e);
+            }
+            else {
+                throw e;
+            }
+        }
     }
 
     protected abstract void storeRecord(HistoryRecord record) throws DatabaseHistoryException;
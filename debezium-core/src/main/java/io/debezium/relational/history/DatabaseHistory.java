@@ -6,6 +6,7 @@
 package io.debezium.relational.history;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.apache.kafka.common.config.ConfigDef.Importance;
 import org.apache.kafka.common.config.ConfigDef.Type;
@@ -55,6 +56,17 @@ public interface DatabaseHistory {
                     + "then only DDL that manipulates a monitored table will be stored.")
             .withDefault(false);
 
+    public static final Field CHECKPOINT_INTERVAL = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "checkpoint.interval")
+            .withDisplayName("Number of schema changes between checkpoints")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of schema changes after which the full schema is stored in the database history as a checkpoint, "
+                    + "so that the recovery of the schema upon restart only needs to apply the changes recorded after the latest checkpoint "
+                    + "instead of all of them. The default value of 0 disables checkpoints.")
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger);
+
     public static final Field DDL_FILTER = Field.createInternal(CONFIGURATION_FIELD_PREFIX_STRING + "ddl.filter")
             .withDisplayName("DDL filter")
             .withType(Type.STRING)
@@ -107,6 +119,21 @@ public interface DatabaseHistory {
 
     void record(Map<String, ?> source, Map<String, ?> position, String databaseName, String schemaName, String ddl, TableChanges changes) throws DatabaseHistoryException;
 
+    /**
+     * Give the history the chance to store a checkpoint of the full schema after a change was {@link #record recorded}, so
+     * that subsequent {@link #recover(Map, Map, Tables, DdlParser) recoveries} do not need to apply the changes before it.
+     * Whether a checkpoint is stored is up to the implementation; by default, none is.
+     *
+     * @param source the information about the source database; may not be null
+     * @param position the point in history of the given schema; may not be null
+     * @param schema the definitions of all tables at that point; may not be null
+     * @param ddl supplies the DDL statements that restore any state of the DDL parser beyond the table definitions, such as
+     *            default character sets; may not be null but may supply null
+     * @throws DatabaseHistoryException if the checkpoint could not be written
+     */
+    default void checkpoint(Map<String, ?> source, Map<String, ?> position, Tables schema, Supplier<String> ddl) throws DatabaseHistoryException {
+    }
+
     /**
      * Recover the {@link Tables database schema} to a known point in its history. Note that it is possible to recover the
      * database schema to a point in history that is earlier than what has been {@link #record(Map, Map, String, Tables, String)
@@ -20,6 +20,7 @@ public static final class Fields {
         public static final String SCHEMA_NAME = "schemaName";
         public static final String DDL_STATEMENTS = "ddl";
         public static final String TABLE_CHANGES = "tableChanges";
+        public static final String CHECKPOINT = "checkpoint";
     }
 
     private final Document doc;
@@ -66,6 +67,21 @@ public HistoryRecord(Map<String, ?> source, Map<String, ?> position, String data
 
     }
 
+    /**
+     * Create a record holding the full schema at the given position rather than a change to it.
+     *
+     * @param source the information about the source database; may not be null
+     * @param position the point in history of the schema; may not be null
+     * @param ddl the DDL statements restoring any state of the DDL parser beyond the table definitions; may be null
+     * @param tables the definitions of all tables at that point
+     * @return the checkpoint record
+     */
+    public static HistoryRecord checkpoint(Map<String, ?> source, Map<String, ?> position, String ddl, TableChanges tables) {
+        HistoryRecord record = new HistoryRecord(source, position, null, null, ddl, tables);
+        record.doc.setBoolean(Fields.CHECKPOINT, true);
+        return record;
+    }
+
     public Document document() {
         return this.doc;
     }
@@ -94,6 +110,10 @@ protected Array tableChanges() {
         return doc.getArray(Fields.TABLE_CHANGES);
     }
 
+    protected boolean isCheckpoint() {
+        return doc.getBoolean(Fields.CHECKPOINT, false);
+    }
+
     @Override
     public String toString() {
         return doc.toString();
@@ -5,7 +5,11 @@
  */
 package io.debezium.relational.history;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -241,6 +245,15 @@ private Document toDocument(Column column) {
             document.setBoolean("autoIncremented", column.isAutoIncremented());
             document.setBoolean("generated", column.isGenerated());
 
+            if (!column.enumValues().isEmpty()) {
+                document.setArray("enumValues", Array.create(column.enumValues()));
+            }
+
+            if (isSupportedDefaultValue(column.defaultValue())) {
+                document.setBoolean("hasDefaultValue", column.hasDefaultValue());
+                setDefaultValue(document, column.defaultValue());
+            }
+
             return document;
         }
 
@@ -280,6 +293,23 @@ private static Table fromDocument(TableId id, Document document) {
                                 .autoIncremented(v.getBoolean("autoIncremented"))
                                 .generated(v.getBoolean("generated"));
 
+                        Array enumValues = v.getArray("enumValues");
+                        if (enumValues != null) {
+                            columnEditor.enumValues(enumValues.streamValues()
+                                    .map(Value::asString)
+                                    .collect(Collectors.toList()));
+                        }
+
+                        Boolean hasDefaultValue = v.getBoolean("hasDefaultValue");
+                        if (hasDefaultValue != null) {
+                            if (hasDefaultValue) {
+                                columnEditor.defaultValue(getDefaultValue(v));
+                            }
+                            else {
+                                columnEditor.unsetDefaultValue();
+                            }
+                        }
+
                         return columnEditor.create();
                     })
                     .forEach(editor::addColumn);
@@ -291,6 +321,130 @@ private static Table fromDocument(TableId id, Document document) {
 
             return editor.create();
         }
+
+        /**
+         * Whether the given default value of a column can be stored in and restored from the document representation of
+         * a table change. Columns with other default values are stored without their default value.
+         *
+         * @param defaultValue the default value; may be null
+         * @return true if the default value is null or of one of the types of the Kafka Connect values it is converted to
+         */
+        public static boolean isSupportedDefaultValue(Object defaultValue) {
+            return defaultValue == null || defaultValueType(defaultValue) != null;
+        }
+
+        private static String defaultValueType(Object value) {
+            if (value instanceof Boolean) {
+                return "boolean";
+            }
+            if (value instanceof Byte) {
+                return "int8";
+            }
+            if (value instanceof Short) {
+                return "int16";
+            }
+            if (value instanceof Integer) {
+                return "int32";
+            }
+            if (value instanceof Long) {
+                return "int64";
+            }
+            if (value instanceof Float) {
+                return "float32";
+            }
+            if (value instanceof Double) {
+                return "float64";
+            }
+            if (value instanceof BigDecimal) {
+                return "decimal";
+            }
+            if (value instanceof String) {
+                return "string";
+            }
+            if (value instanceof byte[] || value instanceof ByteBuffer) {
+                return "bytes";
+            }
+            if (value instanceof Date) {
+                return "date";
+            }
+            return null;
+        }
+
+        private static void setDefaultValue(Document document, Object value) {
+            if (value == null) {
+                return;
+            }
+            final String type = defaultValueType(value);
+            document.setString("defaultValueType", type);
+            switch (type) {
+                case "boolean":
+                    document.setBoolean("defaultValue", (Boolean) value);
+                    break;
+                case "int8":
+                case "int16":
+                case "int32":
+                case "int64":
+                    document.setNumber("defaultValue", ((Number) value).longValue());
+                    break;
+                case "float32":
+                case "float64":
+                    document.setNumber("defaultValue", ((Number) value).doubleValue());
+                    break;
+                case "decimal":
+                    // as string, so that neither precision nor scale is lost
+                    document.setString("defaultValue", ((BigDecimal) value).toString());
+                    break;
+                case "bytes":
+                    final byte[] bytes = value instanceof ByteBuffer ? toArray((ByteBuffer) value) : (byte[]) value;
+                    document.setString("defaultValue", Base64.getEncoder().encodeToString(bytes));
+                    break;
+                case "date":
+                    document.setNumber("defaultValue", ((Date) value).getTime());
+                    break;
+                default:
+                    document.setString("defaultValue", (String) value);
+            }
+        }
+
+        private static Object getDefaultValue(Document document) {
+            final String type = document.getString("defaultValueType");
+            if (type == null) {
+                return null;
+            }
+            switch (type) {
+                case "boolean":
+                    return document.getBoolean("defaultValue");
+                case "int8":
+                    return document.getLong("defaultValue").byteValue();
+                case "int16":
+                    return document.getLong("defaultValue").shortValue();
+                case "int32":
+                    return document.getLong("defaultValue").intValue();
+                case "int64":
+                    return document.getLong("defaultValue");
+                case "float32":
+                    return document.getDouble("defaultValue").floatValue();
+                case "float64":
+                    return document.getDouble("defaultValue");
+                case "decimal":
+                    return new BigDecimal(document.getString("defaultValue"));
+                case "bytes":
+                    // the representation binary values are converted to
+                    return ByteBuffer.wrap(Base64.getDecoder().decode(document.getString("defaultValue")));
+                case "date":
+                    return new Date(document.getLong("defaultValue"));
+                case "string":
+                    return document.getString("defaultValue");
+                default:
+                    throw new IllegalArgumentException("Unknown type of default value: " + type);
+            }
+        }
+
+        private static byte[] toArray(ByteBuffer buffer) {
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return bytes;
+        }
     }
 
     public enum TableChangeType {
@@ -0,0 +1,169 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.util;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import io.debezium.annotation.Immutable;
+
+/**
+ * Estimates the heap footprint of change records. The estimate is deliberately cheap: it walks the key and value
+ * structs once, charging a fixed per-object overhead plus the payload size of each field. Schemas are not accounted
+ * for, as they are shared between all records of a given table.
+ */
+@Immutable
+public final class ApproximateStructSizeCalculator {
+
+    private static final long EMPTY_RECORD_SIZE = 56;
+    private static final long EMPTY_STRUCT_SIZE = 56;
+    private static final long EMPTY_STRING_SIZE = 56;
+    private static final long EMPTY_BYTES_SIZE = 24;
+    private static final long EMPTY_ARRAY_SIZE = 64;
+    private static final long EMPTY_MAP_SIZE = 88;
+    private static final long EMPTY_PRIMITIVE_SIZE = 16;
+    private static final long REFERENCE_SIZE = 8;
+
+    private ApproximateStructSizeCalculator() {
+    }
+
+    /**
+     * Returns the approximate number of bytes occupied on the heap by the given record, its topic name, offsets,
+     * key and value.
+     *
+     * @param record the record; may be null
+     * @return the approximate size in bytes
+     */
+    public static long getApproximateRecordSize(SourceRecord record) {
+        if (record == null) {
+            return 0;
+        }
+        long size = EMPTY_RECORD_SIZE;
+        size += getStringSize(record.topic());
+        size += getMapSize(record.sourcePartition());
+        size += getMapSize(record.sourceOffset());
+        size += getValueSize(record.keySchema(), record.key());
+        size += getValueSize(record.valueSchema(), record.value());
+        return size;
+    }
+
+    /**
+     * Returns the approximate number of bytes occupied on the heap by the given struct and all its field values.
+     *
+     * @param struct the struct; may be null
+     * @return the approximate size in bytes
+     */
+    public static long getStructSize(Struct struct) {
+        if (struct == null) {
+            return 0;
+        }
+        final List<Field> fields = struct.schema().fields();
+        long size = EMPTY_STRUCT_SIZE + fields.size() * REFERENCE_SIZE;
+        for (Field field : fields) {
+            size += getValueSize(field.schema(), struct.getWithoutDefault(field.name()));
+        }
+        return size;
+    }
+
+    private static long getValueSize(Schema schema, Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (schema == null) {
+            return getValueSize(value);
+        }
+        switch (schema.type()) {
+            case BOOLEAN:
+            case INT8:
+            case INT16:
+            case INT32:
+            case FLOAT32:
+            case INT64:
+            case FLOAT64:
+                return getPrimitiveSize(value);
+            case STRING:
+                return getStringSize(value.toString());
+            case BYTES:
+                return getBytesSize(value);
+            case ARRAY:
+                long arraySize = EMPTY_ARRAY_SIZE;
+                for (Object element : (List<?>) value) {
+                    arraySize += REFERENCE_SIZE + getValueSize(schema.valueSchema(), element);
+                }
+                return arraySize;
+            case MAP:
+                long mapSize = EMPTY_MAP_SIZE;
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    mapSize += 4 * REFERENCE_SIZE + getValueSize(schema.keySchema(), entry.getKey()) + getValueSize(schema.valueSchema(), entry.getValue());
+                }
+                return mapSize;
+            case STRUCT:
+                return getStructSize((Struct) value);
+            default:
+                return getValueSize(value);
+        }
+    }
+
+    private static long getValueSize(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Struct) {
+            return getStructSize((Struct) value);
+        }
+        if (value instanceof String) {
+            return getStringSize((String) value);
+        }
+        if (value instanceof Map) {
+            return getMapSize((Map<?, ?>) value);
+        }
+        if (value instanceof byte[] || value instanceof ByteBuffer) {
+            return getBytesSize(value);
+        }
+        return getPrimitiveSize(value);
+    }
+
+    private static long getMapSize(Map<?, ?> map) {
+        if (map == null) {
+            return 0;
+        }
+        long size = EMPTY_MAP_SIZE;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            size += 4 * REFERENCE_SIZE + getValueSize(entry.getKey()) + getValueSize(entry.getValue());
+        }
+        return size;
+    }
+
+    private static long getStringSize(String value) {
+        return value == null ? 0 : EMPTY_STRING_SIZE + value.length();
+    }
+
+    private static long getBytesSize(Object value) {
+        if (value instanceof byte[]) {
+            return EMPTY_BYTES_SIZE + ((byte[]) value).length;
+        }
+        if (value instanceof ByteBuffer) {
+            return EMPTY_BYTES_SIZE + ((ByteBuffer) value).remaining();
+        }
+        // logical types based on BYTES, e.g. Decimal
+        return getPrimitiveSize(value);
+    }
+
+    private static long getPrimitiveSize(Object value) {
+        // boxed primitives and logical types such as BigDecimal or java.util.Date
+        if (value instanceof BigDecimal) {
+            return 3 * EMPTY_PRIMITIVE_SIZE + ((BigDecimal) value).unscaledValue().bitLength() / 8;
+        }
+        return EMPTY_PRIMITIVE_SIZE;
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.util;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * A bounded {@link BlockingQueue} backed by a preallocated array, optimized for exactly one producer thread and one
+ * consumer thread, such as a connector's log reader and the Kafka Connect polling loop.
+ * <p>
+ * Adding elements is lock-free and doesn't allocate; the producer merely writes the element into the next slot and
+ * publishes the new tail index. Removing elements, in particular in batches via {@link #drainTo(Collection, int)},
+ * only requires a single index update per batch. Consumer-side operations are serialized by an (usually uncontended)
+ * lock, so that e.g. discarding the queue's contents while stopping a connector is safe even if a poll is in
+ * progress. Producer-side operations must not be invoked concurrently by more than one thread, though. Several threads
+ * may produce elements if they are serialized externally, e.g. by a lock held while adding an element, which makes the
+ * state written by one producer visible to the next; concurrent producers are detected if assertions are enabled.
+ * <p>
+ * Threads blocked in {@link #put(Object)} or {@link #take()} are parked and woken up by the opposite side; as a safety
+ * net, they re-check the queue state at least every 10 milliseconds.
+ *
+ * @param <E> the type of elements in this queue
+ */
+@ThreadSafe
+public final class SingleProducerRingBuffer<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final long MAX_PARK_NANOS = 10_000_000L;
+
+    private final Object[] buffer;
+    private final int mask;
+    private final int capacity;
+
+    /**
+     * Index of the next element to be removed; only written by the consumer
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Index of the next element to be added; only written by the producer
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The producer's last observed value of {@link #head}, avoiding to read the shared index for each element
+     */
+    private long cachedHead;
+
+    /**
+     * The thread currently adding an element; only maintained if assertions are enabled
+     */
+    private final AtomicReference<Thread> activeProducer = new AtomicReference<>();
+
+    private final ReentrantLock consumerLock = new ReentrantLock();
+    private volatile Thread waitingProducer;
+    private volatile Thread waitingConsumer;
+
+    /**
+     * Creates a new ring buffer.
+     *
+     * @param capacity the maximum number of elements held by the buffer; must be positive
+     */
+    public SingleProducerRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive but was " + capacity);
+        }
+        this.capacity = capacity;
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+
+        assert enterProducer();
+        try {
+            return tryAdd(e);
+        }
+        finally {
+            assert exitProducer();
+        }
+    }
+
+    private boolean tryAdd(E e) {
+        final long t = tail.get();
+        if (t - cachedHead >= capacity) {
+            cachedHead = head.get();
+            if (t - cachedHead >= capacity) {
+                return false;
+            }
+        }
+        buffer[index(t)] = e;
+        tail.set(t + 1);
+
+        final Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+
+        assert enterProducer();
+        try {
+            while (!tryAdd(e)) {
+                parkProducer(MAX_PARK_NANOS);
+            }
+        }
+        finally {
+            assert exitProducer();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+
+        assert enterProducer();
+        try {
+            final long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!tryAdd(e)) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                parkProducer(Math.min(remaining, MAX_PARK_NANOS));
+            }
+            return true;
+        }
+        finally {
+            assert exitProducer();
+        }
+    }
+
+    private boolean enterProducer() {
+        if (!activeProducer.compareAndSet(null, Thread.currentThread())) {
+            throw new AssertionError("Element added by " + Thread.currentThread().getName() + " while " + activeProducer.get()
+                    + " is adding an element; producers of a " + getClass().getSimpleName() + " must be serialized");
+        }
+        return true;
+    }
+
+    private boolean exitProducer() {
+        activeProducer.set(null);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        consumerLock.lock();
+        try {
+            final long h = head.get();
+            if (h >= tail.get()) {
+                return null;
+            }
+            final E e = elementAt(h);
+            buffer[index(h)] = null;
+            release(h + 1);
+            return e;
+        }
+        finally {
+            consumerLock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E e;
+        while ((e = poll()) == null) {
+            parkConsumer(MAX_PARK_NANOS);
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        E e;
+        while ((e = poll()) == null) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            parkConsumer(Math.min(remaining, MAX_PARK_NANOS));
+        }
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        consumerLock.lock();
+        try {
+            final long h = head.get();
+            return h < tail.get() ? elementAt(h) : null;
+        }
+        finally {
+            consumerLock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain a queue into itself");
+        }
+
+        consumerLock.lock();
+        try {
+            final long h = head.get();
+            final int n = (int) Math.min(maxElements, tail.get() - h);
+            if (n <= 0) {
+                return 0;
+            }
+            for (long i = h; i < h + n; i++) {
+                c.add(elementAt(i));
+                buffer[index(i)] = null;
+            }
+            release(h + n);
+            return n;
+        }
+        finally {
+            consumerLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        final long h = head.get();
+        return (int) Math.min(capacity, tail.get() - h);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements currently contained in this queue. The iterator does not
+     * support removal.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        consumerLock.lock();
+        try {
+            final long h = head.get();
+            final long t = tail.get();
+            final List<E> elements = new ArrayList<>((int) (t - h));
+            for (long i = h; i < t; i++) {
+                elements.add(elementAt(i));
+            }
+            return Collections.unmodifiableList(elements).iterator();
+        }
+        finally {
+            consumerLock.unlock();
+        }
+    }
+
+    private int index(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(long sequence) {
+        return (E) buffer[index(sequence)];
+    }
+
+    private void release(long newHead) {
+        head.set(newHead);
+
+        final Thread producer = waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+    }
+
+    private void parkProducer(long nanos) throws InterruptedException {
+        waitingProducer = Thread.currentThread();
+        try {
+            // re-check after announcing ourselves, so a concurrent release can't be missed
+            if (tail.get() - head.get() >= capacity) {
+                LockSupport.parkNanos(this, nanos);
+            }
+        }
+        finally {
+            waitingProducer = null;
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private void parkConsumer(long nanos) throws InterruptedException {
+        waitingConsumer = Thread.currentThread();
+        try {
+            // re-check after announcing ourselves, so a concurrent offer can't be missed
+            if (isEmpty()) {
+                LockSupport.parkNanos(this, nanos);
+            }
+        }
+        finally {
+            waitingConsumer = null;
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+}
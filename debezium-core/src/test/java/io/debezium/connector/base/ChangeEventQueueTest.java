@@ -0,0 +1,238 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.util.LoggingContext;
+
+public class ChangeEventQueueTest {
+
+    private static final Schema VALUE_SCHEMA = SchemaBuilder.struct()
+            .field("id", Schema.INT32_SCHEMA)
+            .field("payload", Schema.OPTIONAL_STRING_SCHEMA)
+            .build();
+
+    @Test
+    public void shouldNotTrackBytesByDefault() throws Exception {
+        ChangeEventQueue<DataChangeEvent> queue = queue(0);
+
+        queue.enqueue(event(1, 1000));
+
+        assertThat(queue.maxQueueSizeInBytes()).isEqualTo(0);
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(0);
+        assertThat(queue.poll()).hasSize(1);
+    }
+
+    @Test
+    public void shouldTrackCurrentAndPeakBytes() throws Exception {
+        ChangeEventQueue<DataChangeEvent> queue = queue(1_000_000);
+
+        DataChangeEvent first = event(1, 1000);
+        DataChangeEvent second = event(2, 2000);
+        queue.enqueue(first);
+        queue.enqueue(second);
+
+        long expected = first.objectSize() + second.objectSize();
+        assertThat(first.objectSize()).isGreaterThan(1000);
+        assertThat(second.objectSize()).isGreaterThan(first.objectSize());
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(expected);
+        assertThat(queue.peakQueueSizeInBytes()).isEqualTo(expected);
+
+        assertThat(queue.poll()).hasSize(2);
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(0);
+        assertThat(queue.peakQueueSizeInBytes()).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldBlockProducerWhenByteLimitIsReached() throws Exception {
+        final long eventSize = event(1, 1000).objectSize();
+        final ChangeEventQueue<DataChangeEvent> queue = queue(eventSize * 2);
+
+        queue.enqueue(event(1, 1000));
+        queue.enqueue(event(2, 1000));
+
+        final CountDownLatch enqueued = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.enqueue(event(3, 1000));
+                enqueued.countDown();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertThat(enqueued.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        List<DataChangeEvent> records = queue.poll();
+        assertThat(records).hasSize(2);
+        assertThat(enqueued.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(eventSize);
+        producer.join();
+    }
+
+    @Test
+    public void shouldReleaseReservedBytesWhenInterruptedWhileEnqueuing() throws Exception {
+        final ChangeEventQueue<DataChangeEvent> queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxBatchSize(100)
+                .maxQueueSize(1)
+                .maxQueueSizeInBytes(1_000_000)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+
+        final DataChangeEvent first = event(1, 1000);
+        queue.enqueue(first);
+
+        // the queue is full in terms of elements, so the producer blocks after having reserved its bytes
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.enqueue(event(2, 1000));
+            }
+            catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        producer.start();
+
+        Thread.sleep(200);
+        producer.interrupt();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        producer.join();
+
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(first.objectSize());
+        assertThat(queue.poll()).hasSize(1);
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldReleaseBytesOfPlainSourceRecords() throws Exception {
+        final ChangeEventQueue<SourceRecord> queue = new ChangeEventQueue.Builder<SourceRecord>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxBatchSize(100)
+                .maxQueueSize(1000)
+                .maxQueueSizeInBytes(1_000_000)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+
+        final SourceRecord first = event(1, 1000).getRecord();
+        final SourceRecord second = event(2, 2000).getRecord();
+        queue.enqueue(first);
+        queue.enqueue(second);
+        assertThat(queue.currentQueueSizeInBytes()).isGreaterThan(3000);
+
+        assertThat(queue.poll()).containsExactly(first, second);
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldAdmitSingleEventLargerThanLimit() throws Exception {
+        ChangeEventQueue<DataChangeEvent> queue = queue(100);
+
+        queue.enqueue(event(1, 10_000));
+
+        assertThat(queue.currentQueueSizeInBytes()).isGreaterThan(100);
+        assertThat(queue.poll()).hasSize(1);
+    }
+
+    @Test
+    public void shouldReturnAsSoonAsRecordsArriveInLowLatencyMode() throws Exception {
+        final ChangeEventQueue<DataChangeEvent> queue = lowLatencyQueue(Duration.ofSeconds(30), Duration.ofMillis(10));
+
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                queue.enqueue(event(1, 10));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        final long start = System.nanoTime();
+        List<DataChangeEvent> records = queue.poll();
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(records).hasSize(1);
+        assertThat(elapsed).isLessThan(10_000);
+        producer.join();
+    }
+
+    @Test
+    public void shouldReturnCompleteBatchWithoutLingering() throws Exception {
+        final ChangeEventQueue<DataChangeEvent> queue = lowLatencyQueue(Duration.ofSeconds(30), Duration.ofSeconds(30));
+
+        for (int i = 0; i < 100; i++) {
+            queue.enqueue(event(i, 10));
+        }
+
+        final long start = System.nanoTime();
+        assertThat(queue.poll()).hasSize(100);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(10_000);
+    }
+
+    @Test
+    public void shouldReturnIncompleteBatchAfterLingering() throws Exception {
+        final ChangeEventQueue<DataChangeEvent> queue = lowLatencyQueue(Duration.ofSeconds(30), Duration.ofMillis(50));
+
+        queue.enqueue(event(1, 10));
+        queue.enqueue(event(2, 10));
+
+        assertThat(queue.poll()).hasSize(2);
+    }
+
+    @Test
+    public void shouldReturnEmptyBatchAfterPollIntervalInLowLatencyMode() throws Exception {
+        final ChangeEventQueue<DataChangeEvent> queue = lowLatencyQueue(Duration.ofMillis(10), Duration.ofMillis(10));
+
+        assertThat(queue.poll()).isEmpty();
+    }
+
+    private ChangeEventQueue<DataChangeEvent> lowLatencyQueue(Duration pollInterval, Duration pollLinger) {
+        return new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(pollInterval)
+                .pollLinger(pollLinger)
+                .maxBatchSize(100)
+                .maxQueueSize(1000)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+    }
+
+    private ChangeEventQueue<DataChangeEvent> queue(long maxQueueSizeInBytes) {
+        return new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(10))
+                .maxBatchSize(100)
+                .maxQueueSize(1000)
+                .maxQueueSizeInBytes(maxQueueSizeInBytes)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+    }
+
+    private DataChangeEvent event(int id, int payloadLength) {
+        Struct value = new Struct(VALUE_SCHEMA)
+                .put("id", id)
+                .put("payload", String.join("", Collections.nCopies(payloadLength, "x")));
+        return new DataChangeEvent(new SourceRecord(Collections.singletonMap("server", "test"), Collections.singletonMap("pos", id),
+                "test.topic", VALUE_SCHEMA, value));
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.metrics;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.base.ChangeEventQueueMetrics;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.data.Envelope;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.TableId;
+import io.debezium.schema.DataCollectionId;
+
+public class PipelineMetricsTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PipelineMetricsTest.class);
+
+    private static final TableId TABLE1 = new TableId("db", "inventory", "orders");
+    private static final TableId TABLE2 = new TableId("db", "inventory", "customers");
+
+    private final Schema recordSchema = SchemaBuilder.struct().field("id", Schema.INT32_SCHEMA).build();
+    private final Schema sourceSchema = SchemaBuilder.struct().field("ts_ms", Schema.INT64_SCHEMA).build();
+    private final Envelope envelope = Envelope.defineSchema()
+            .withName("server.inventory.orders.Envelope")
+            .withRecord(recordSchema)
+            .withSource(sourceSchema)
+            .build();
+
+    private StreamingChangeEventSourceMetrics metrics;
+
+    @Before
+    public void beforeEach() {
+        metrics = new StreamingChangeEventSourceMetrics(
+                new CdcSourceTaskContext("test", "server", Collections::emptyList),
+                new TestQueueMetrics(),
+                new TestEventMetadataProvider(),
+                1);
+    }
+
+    @Test
+    public void shouldCountEventsPerTableUpToLimit() {
+        final long now = System.currentTimeMillis();
+        metrics.onEvent(TABLE1, null, null, envelope.create(record(1), source(now), Instant.now()));
+        metrics.onEvent(TABLE1, null, null, envelope.update(record(1), record(1), source(now), Instant.now()));
+        metrics.onEvent(TABLE1, null, null, envelope.delete(record(1), source(now), Instant.now()));
+        metrics.onEvent(TABLE2, null, null, envelope.create(record(2), source(now), Instant.now()));
+        metrics.onEventCreated(TABLE1, () -> 100);
+        metrics.onEventCreated(TABLE1, () -> 150);
+        metrics.onEventCreated(TABLE2, () -> {
+            throw new AssertionError("Size of event of untracked table must not be calculated");
+        });
+
+        assertThat(metrics.getTotalNumberOfEventsSeen()).isEqualTo(4);
+
+        final Map<String, DataCollectionMetrics> perTable = metrics.getMetricsPerTable();
+        assertThat(perTable).hasSize(1);
+
+        final DataCollectionMetrics table1 = perTable.get(TABLE1.toString());
+        assertThat(table1.getNumberOfCreateEvents()).isEqualTo(1);
+        assertThat(table1.getNumberOfUpdateEvents()).isEqualTo(1);
+        assertThat(table1.getNumberOfDeleteEvents()).isEqualTo(1);
+        assertThat(table1.getNumberOfReadEvents()).isEqualTo(0);
+        assertThat(table1.getTotalNumberOfEvents()).isEqualTo(3);
+        assertThat(table1.getTotalNumberOfBytes()).isEqualTo(250);
+        assertThat(table1.getMilliSecondsBehindSourceP50()).isGreaterThanOrEqualTo(0);
+
+        metrics.reset();
+        assertThat(metrics.getMetricsPerTable()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotExceedLimitWhenTablesAreRegisteredConcurrently() throws Exception {
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                final TableId table = new TableId("db", "inventory", "table" + i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    metrics.onEvent(table, null, null, envelope.create(record(1), source(System.currentTimeMillis()), Instant.now()));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(metrics.getMetricsPerTable()).hasSize(1);
+    }
+
+    @Test
+    public void shouldReportLagPercentilesAsBucketUpperBounds() {
+        final DataCollectionMetrics table = new DataCollectionMetrics();
+        assertThat(table.getMilliSecondsBehindSourceP50()).isEqualTo(-1);
+
+        for (int i = 0; i < 90; i++) {
+            table.onEvent(Operation.READ, 5);
+        }
+        for (int i = 0; i < 9; i++) {
+            table.onEvent(Operation.READ, 1000);
+        }
+        table.onEvent(Operation.READ, 100_000);
+        table.onEvent(null, -1);
+
+        assertThat(table.getNumberOfReadEvents()).isEqualTo(100);
+        assertThat(table.getTotalNumberOfEvents()).isEqualTo(101);
+        assertThat(table.getMilliSecondsBehindSourceP50()).isEqualTo(7);
+        assertThat(table.getMilliSecondsBehindSourceP95()).isEqualTo(1023);
+        assertThat(table.getMilliSecondsBehindSourceP99()).isEqualTo(1023);
+        assertThat(table.lagPercentile(1.0)).isEqualTo(131_071);
+    }
+
+    @Test
+    public void shouldPublishMetricsPerTableViaJmx() throws Exception {
+        metrics.register(LOGGER);
+        try {
+            metrics.onEvent(TABLE1, null, null, envelope.create(record(1), source(System.currentTimeMillis()), Instant.now()));
+
+            final TabularData perTable = (TabularData) ManagementFactory.getPlatformMBeanServer().getAttribute(
+                    new ObjectName("debezium.test:type=connector-metrics,context=streaming,server=server"), "MetricsPerTable");
+            assertThat(perTable.size()).isEqualTo(1);
+
+            final CompositeData entry = (CompositeData) perTable.values().iterator().next();
+            assertThat(entry.get("key")).isEqualTo(TABLE1.toString());
+            assertThat(((CompositeData) entry.get("value")).get("numberOfCreateEvents")).isEqualTo(1L);
+        }
+        finally {
+            metrics.unregister(LOGGER);
+        }
+    }
+
+    private Struct record(int id) {
+        return new Struct(recordSchema).put("id", id);
+    }
+
+    private Struct source(long timestamp) {
+        return new Struct(sourceSchema).put("ts_ms", timestamp);
+    }
+
+    private static class TestEventMetadataProvider implements EventMetadataProvider {
+
+        @Override
+        public Instant getEventTimestamp(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return Instant.ofEpochMilli(value.getStruct(Envelope.FieldName.SOURCE).getInt64("ts_ms"));
+        }
+
+        @Override
+        public Map<String, String> getEventSourcePosition(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String getTransactionId(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+    }
+
+    private static class TestQueueMetrics implements ChangeEventQueueMetrics {
+
+        @Override
+        public int totalCapacity() {
+            return 0;
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return 0;
+        }
+
+        @Override
+        public long maxQueueSizeInBytes() {
+            return 0;
+        }
+
+        @Override
+        public long currentQueueSizeInBytes() {
+            return 0;
+        }
+
+        @Override
+        public long peakQueueSizeInBytes() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.signal;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.SourceInfoStructMaker;
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+
+public class SignalTest {
+
+    @Test
+    public void shouldRecognizeSignalDataCollection() {
+        final Signal signal = new Signal(config("debezium.signal"));
+
+        assertThat(signal.isSignal(new TableId(null, "debezium", "signal"))).isTrue();
+        assertThat(signal.isSignal(new TableId(null, "debezium", "customers"))).isFalse();
+        assertThat(new Signal(config(null)).isSignal(new TableId(null, "debezium", "signal"))).isFalse();
+    }
+
+    @Test
+    public void shouldExecuteRegisteredActionWithParsedData() throws InterruptedException {
+        final Signal signal = new Signal(config("debezium.signal"));
+        final AtomicReference<Signal.Payload> received = new AtomicReference<>();
+        signal.registerSignalAction(ExecuteSnapshot.NAME, payload -> {
+            received.set(payload);
+            return true;
+        });
+
+        final Schema rowSchema = SchemaBuilder.struct()
+                .field("id", Schema.STRING_SCHEMA)
+                .field("type", Schema.STRING_SCHEMA)
+                .field("data", Schema.OPTIONAL_STRING_SCHEMA)
+                .build();
+        final Envelope envelope = Envelope.defineSchema()
+                .withRecord(rowSchema)
+                .withSource(Schema.OPTIONAL_STRING_SCHEMA)
+                .build();
+        final Struct row = new Struct(rowSchema)
+                .put("id", "signal-1")
+                .put("type", ExecuteSnapshot.NAME)
+                .put("data", "{\"data-collections\": [\"debezium.customers\"]}");
+
+        assertThat(signal.process(envelope.create(row, null, null), null)).isTrue();
+        assertThat(received.get().id).isEqualTo("signal-1");
+        assertThat(received.get().data.getArray(ExecuteSnapshot.FIELD_DATA_COLLECTIONS).get(0).asString()).isEqualTo("debezium.customers");
+
+        assertThat(signal.process("signal-2", "unknown", null, null)).isFalse();
+        assertThat(signal.process("signal-3", ExecuteSnapshot.NAME, "{not json", null)).isFalse();
+    }
+
+    private CommonConnectorConfig config(String signalDataCollection) {
+        Configuration.Builder config = Configuration.create();
+        if (signalDataCollection != null) {
+            config.with(CommonConnectorConfig.SIGNAL_DATA_COLLECTION, signalDataCollection);
+        }
+        return new CommonConnectorConfig(config.build(), "server", 0) {
+            @Override
+            protected SourceInfoStructMaker<?> getSourceInfoStructMaker(Version version) {
+                return null;
+            }
+
+            @Override
+            public String getContextName() {
+                return "test";
+            }
+        };
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.jdbc.JdbcConnection.StatementPreparer;
+import io.debezium.jdbc.JdbcValueConverters;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.signal.CloseIncrementalSnapshotWindow;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalDatabaseSchema;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.relational.TableSchemaBuilder;
+import io.debezium.util.Clock;
+import io.debezium.util.SchemaNameAdjuster;
+
+/**
+ * Unit test for {@link IncrementalSnapshotChangeEventSource}, running against an in-memory table with an integer primary
+ * key which is queried through mocked JDBC objects.
+ */
+public class IncrementalSnapshotChangeEventSourceTest {
+
+    private static final TableId TABLE_ID = TableId.parse("inventory.customers");
+    private static final TableId OTHER_TABLE_ID = TableId.parse("inventory.orders");
+    private static final int CHUNK_SIZE = 3;
+
+    private final TreeMap<Integer, String> rows = new TreeMap<>();
+    private final List<String> queries = new ArrayList<>();
+    private final List<String> watermarks = new ArrayList<>();
+    private final List<Integer> emitted = new ArrayList<>();
+
+    private Schema sourceSchema;
+    private TableSchema tableSchema;
+    private IncrementalSnapshotChangeEventSource source;
+
+    @Before
+    public void beforeEach() throws Exception {
+        for (int id = 1; id <= 5; id++) {
+            rows.put(id, "name" + id);
+        }
+
+        final Table table = Table.editor()
+                .tableId(TABLE_ID)
+                .addColumns(Column.editor().name("id").type("INTEGER").jdbcType(Types.INTEGER).optional(false).create(),
+                        Column.editor().name("name").type("VARCHAR").jdbcType(Types.VARCHAR).length(255).create())
+                .setPrimaryKeyNames("id")
+                .create();
+        sourceSchema = SchemaBuilder.struct().build();
+        tableSchema = new TableSchemaBuilder(new JdbcValueConverters(), SchemaNameAdjuster.create((original, replacement, conflict) -> {
+        }), sourceSchema, false)
+                .create("server", "server.inventory.customers.Envelope", table, null, null, null);
+
+        final RelationalDatabaseConnectorConfig config = mock(RelationalDatabaseConnectorConfig.class);
+        when(config.getSignalingDataCollectionId()).thenReturn("inventory.signals");
+        when(config.getIncrementalSnapshotChunkSize()).thenReturn(CHUNK_SIZE);
+
+        final RelationalDatabaseSchema schema = mock(RelationalDatabaseSchema.class);
+        when(schema.tableFor(TABLE_ID)).thenReturn(table);
+        when(schema.schemaFor(TABLE_ID)).thenReturn(tableSchema);
+
+        final PreparedStatement watermarkStatement = mock(PreparedStatement.class);
+        doAnswer(invocation -> watermarks.add(invocation.getArgument(1))).when(watermarkStatement).setString(eq(1), anyString());
+
+        final Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> query(invocation.getArgument(0)));
+
+        final JdbcConnection jdbcConnection = mock(JdbcConnection.class);
+        when(jdbcConnection.connection()).thenReturn(connection);
+        when(jdbcConnection.prepareUpdate(anyString(), any())).thenAnswer(invocation -> {
+            final StatementPreparer preparer = invocation.getArgument(1);
+            preparer.accept(watermarkStatement);
+            return jdbcConnection;
+        });
+
+        @SuppressWarnings("unchecked")
+        final EventDispatcher<TableId> dispatcher = mock(EventDispatcher.class);
+        doAnswer(invocation -> {
+            final ChangeRecordEmitter emitter = invocation.getArgument(1);
+            emitter.emitChangeRecords(tableSchema, (dataCollectionSchema, operation, key, value, offset) -> emitted.add(((Struct) key).getInt32("id")));
+            return null;
+        }).when(dispatcher).dispatchSnapshotEvent(any(), any(), any());
+
+        source = new IncrementalSnapshotChangeEventSource(config, jdbcConnection, dispatcher, schema, Clock.system());
+    }
+
+    @Test
+    public void shouldDropBufferedRecordsChangedWithinWindow() throws Exception {
+        final IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+        final OffsetContext offset = offsetContext(context);
+
+        source.addDataCollectionNamesToSnapshot(Arrays.asList(TABLE_ID.toString()), offset);
+        assertThat(watermarks).hasSize(2);
+
+        // changes received before the low watermark were read by the chunk query already
+        source.processMessage(TABLE_ID, key(1), offset);
+        source.openWindow(watermarks.get(0), offset);
+        source.processMessage(TABLE_ID, key(2), offset);
+        source.processMessage(OTHER_TABLE_ID, key(3), offset);
+        source.closeWindow(watermarks.get(1), offset);
+
+        assertThat(emitted).containsExactly(1, 3);
+        // the next chunk is read right away
+        assertThat(watermarks).hasSize(4);
+        assertThat(context.lastEventKeySent()).containsExactly("3");
+    }
+
+    @Test
+    public void shouldEmitChunksWhenWindowIsClosed() throws Exception {
+        final IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+        final OffsetContext offset = offsetContext(context);
+
+        source.addDataCollectionNamesToSnapshot(Arrays.asList(TABLE_ID.toString()), offset);
+        // records inserted after the snapshot began are captured by streaming only
+        rows.put(6, "name6");
+
+        source.openWindow(watermarks.get(0), offset);
+        source.closeWindow(UUID.randomUUID() + CloseIncrementalSnapshotWindow.SUFFIX, offset);
+        assertThat(emitted).isEmpty();
+
+        source.closeWindow(watermarks.get(1), offset);
+        assertThat(emitted).containsExactly(1, 2, 3);
+        assertThat(context.snapshotRunning()).isTrue();
+
+        source.openWindow(watermarks.get(2), offset);
+        source.closeWindow(watermarks.get(3), offset);
+        assertThat(emitted).containsExactly(1, 2, 3, 4, 5);
+
+        // only the low watermark of the empty chunk completing the snapshot is written
+        assertThat(watermarks).hasSize(5);
+        assertThat(context.snapshotRunning()).isFalse();
+    }
+
+    @Test
+    public void shouldResumeFromStoredContext() throws Exception {
+        final IncrementalSnapshotContext previous = new IncrementalSnapshotContext();
+        previous.addDataCollections(Arrays.asList(TABLE_ID));
+        previous.maximumKey(Arrays.asList("5"));
+        previous.startNewChunk();
+        previous.chunkEndKey(Arrays.asList("2"));
+        previous.chunkEmitted();
+
+        final Map<String, Object> storedOffset = new HashMap<>();
+        previous.store(storedOffset);
+        rows.put(6, "name6");
+
+        final IncrementalSnapshotContext context = IncrementalSnapshotContext.load(storedOffset);
+        final OffsetContext offset = offsetContext(context);
+        source.init(offset);
+
+        source.openWindow(watermarks.get(0), offset);
+        source.closeWindow(watermarks.get(1), offset);
+
+        assertThat(emitted).containsExactly(3, 4, 5);
+        assertThat(context.snapshotRunning()).isFalse();
+        // the maximum key recorded in the offset is used rather than the current one
+        assertThat(queries.stream().filter(query -> query.contains(" DESC")).collect(Collectors.toList())).isEmpty();
+    }
+
+    private OffsetContext offsetContext(IncrementalSnapshotContext context) {
+        final OffsetContext offset = mock(OffsetContext.class);
+        when(offset.getIncrementalSnapshotContext()).thenReturn(context);
+        when(offset.getSourceInfo()).thenReturn(new Struct(sourceSchema));
+        return offset;
+    }
+
+    private Struct key(int id) {
+        return (Struct) tableSchema.keyFromColumnData(new Object[]{ id, null });
+    }
+
+    /**
+     * Returns a statement for the given query of the maximum key or of a chunk; the key range parameters are applied to
+     * the in-memory table when the query is executed.
+     */
+    private PreparedStatement query(String sql) throws SQLException {
+        queries.add(sql);
+
+        final Map<Integer, Object> parameters = new HashMap<>();
+        final AtomicInteger maxRows = new AtomicInteger();
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        doAnswer(invocation -> parameters.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(statement).setObject(anyInt(), any(), anyInt());
+        doAnswer(invocation -> {
+            maxRows.set(invocation.getArgument(0));
+            return null;
+        }).when(statement).setMaxRows(anyInt());
+
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            final List<Object[]> result;
+            if (sql.contains(" DESC")) {
+                result = rows.descendingMap().entrySet().stream()
+                        .map(row -> new Object[]{ row.getKey(), row.getValue() })
+                        .collect(Collectors.toList());
+            }
+            else {
+                final int lowerBound = parameters.size() == 2 ? Integer.parseInt(parameters.get(1).toString()) : Integer.MIN_VALUE;
+                final int upperBound = Integer.parseInt(parameters.get(parameters.size()).toString());
+                result = rows.subMap(lowerBound, false, upperBound, true).entrySet().stream()
+                        .map(row -> new Object[]{ row.getKey(), row.getValue() })
+                        .collect(Collectors.toList());
+            }
+            return resultSet(maxRows.get() > 0 && result.size() > maxRows.get() ? result.subList(0, maxRows.get()) : result);
+        });
+
+        return statement;
+    }
+
+    private ResultSet resultSet(List<Object[]> result) throws SQLException {
+        final Iterator<Object[]> iterator = result.iterator();
+        final AtomicReference<Object[]> current = new AtomicReference<>();
+        final ResultSet rs = mock(ResultSet.class);
+
+        when(rs.next()).thenAnswer(invocation -> {
+            current.set(iterator.hasNext() ? iterator.next() : null);
+            return current.get() != null;
+        });
+        when(rs.getObject(anyInt())).thenAnswer(invocation -> current.get()[invocation.<Integer> getArgument(0) - 1]);
+        when(rs.getString(anyInt())).thenAnswer(invocation -> String.valueOf(current.get()[invocation.<Integer> getArgument(0) - 1]));
+
+        return rs;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.debezium.relational.TableId;
+
+public class IncrementalSnapshotContextTest {
+
+    @Test
+    public void shouldNotWriteAnythingIfNoSnapshotIsRunning() {
+        Map<String, Object> offset = new HashMap<>();
+        new IncrementalSnapshotContext().store(offset);
+
+        assertThat(offset).isEmpty();
+        assertThat(IncrementalSnapshotContext.load(offset).snapshotRunning()).isFalse();
+    }
+
+    @Test
+    public void shouldRestoreTablesAndKeysFromOffset() {
+        TableId customers = new TableId(null, "inventory", "customers");
+        TableId orders = new TableId(null, "inventory", "order.lines");
+
+        IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+        context.addDataCollections(Arrays.asList(customers, orders, customers));
+        context.maximumKey(Arrays.asList("1000", "it's \"quoted\""));
+        context.startNewChunk();
+        context.chunkEndKey(Arrays.asList("42", "a"));
+        context.chunkEmitted();
+
+        Map<String, Object> offset = new HashMap<>();
+        context.store(offset);
+
+        IncrementalSnapshotContext restored = IncrementalSnapshotContext.load(offset);
+        assertThat(restored.snapshotRunning()).isTrue();
+        assertThat(restored.currentDataCollectionId()).isEqualTo(customers);
+        assertThat(restored.lastEventKeySent()).containsExactly("42", "a");
+        assertThat(restored.maximumKey()).containsExactly("1000", "it's \"quoted\"");
+
+        assertThat(restored.nextDataCollection()).isEqualTo(orders);
+        assertThat(restored.lastEventKeySent()).isNull();
+        assertThat(restored.maximumKey()).isNull();
+        assertThat(restored.nextDataCollection()).isNull();
+        assertThat(restored.snapshotRunning()).isFalse();
+    }
+
+    @Test
+    public void shouldOnlyOpenWindowOfCurrentChunk() {
+        IncrementalSnapshotContext context = new IncrementalSnapshotContext();
+        context.addDataCollections(Arrays.asList(new TableId(null, "inventory", "customers")));
+
+        String previousChunkId = context.startNewChunk();
+        String chunkId = context.startNewChunk();
+
+        assertThat(context.openWindow(previousChunkId)).isFalse();
+        assertThat(context.deduplicationNeeded()).isFalse();
+        assertThat(context.openWindow(chunkId)).isTrue();
+        assertThat(context.deduplicationNeeded()).isTrue();
+        assertThat(context.isWindowOf(previousChunkId)).isFalse();
+        assertThat(context.isWindowOf(chunkId)).isTrue();
+
+        context.chunkEmitted();
+        assertThat(context.deduplicationNeeded()).isFalse();
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class RelationalSnapshotChangeEventSourceTest {
+
+    @Test
+    public void shouldCreateKeyRangePredicateForSingleColumn() {
+        assertThat(RelationalSnapshotChangeEventSource.keyRangePredicate(Collections.singletonList("\"id\""), true))
+                .isEqualTo("\"id\" > ?");
+        assertThat(RelationalSnapshotChangeEventSource.keyRangePredicate(Collections.singletonList("\"id\""), false))
+                .isEqualTo("\"id\" <= ?");
+    }
+
+    @Test
+    public void shouldCreateKeyRangePredicateForCompositeKey() {
+        assertThat(RelationalSnapshotChangeEventSource.keyRangePredicate(Arrays.asList("a", "b", "c"), true))
+                .isEqualTo("a >= ? AND (a > ? OR (b >= ? AND (b > ? OR (c > ?))))");
+        assertThat(RelationalSnapshotChangeEventSource.keyRangePredicate(Arrays.asList("a", "b"), false))
+                .isEqualTo("a <= ? AND (a < ? OR (b <= ?))");
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class SnapshotCheckpointTest {
+
+    @Test
+    public void shouldNotWriteAnythingIfEmpty() {
+        Map<String, Object> offset = new HashMap<>();
+        new SnapshotCheckpoint().writeTo(offset);
+
+        assertThat(offset).isEmpty();
+        assertThat(SnapshotCheckpoint.load(offset).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldRestoreCompletedTablesAndKeysFromOffset() {
+        TableId completed = new TableId("db", "inventory", "orders");
+        TableId inProgress = new TableId("db", "inventory", "order.lines");
+
+        SnapshotCheckpoint checkpoint = new SnapshotCheckpoint();
+        checkpoint.tableKey(completed, Collections.singletonList("42"));
+        checkpoint.tableCompleted(completed);
+        checkpoint.tableKey(inProgress, Arrays.asList("1001", "it's \"quoted\", isn't it"));
+
+        Map<String, Object> offset = new HashMap<>();
+        checkpoint.writeTo(offset);
+
+        SnapshotCheckpoint restored = SnapshotCheckpoint.load(offset);
+        assertThat(restored.isEmpty()).isFalse();
+        assertThat(restored.isTableCompleted(completed)).isTrue();
+        assertThat(restored.getTableKey(completed)).isNull();
+        assertThat(restored.isTableCompleted(inProgress)).isFalse();
+        assertThat(restored.getTableKey(inProgress)).containsExactly("1001", "it's \"quoted\", isn't it");
+    }
+}
@@ -5,7 +5,10 @@
  */
 package io.debezium.relational.history;
 
+import static org.fest.assertions.Assertions.assertThat;
+
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -42,4 +45,76 @@ protected DatabaseHistory createHistory() {
     public void shouldRecordChangesAndRecoverToVariousPoints() {
         super.shouldRecordChangesAndRecoverToVariousPoints();
     }
+
+    @Test
+    public void shouldRecoverFromCheckpoints() {
+        final AtomicInteger applied = new AtomicInteger();
+        final AtomicInteger fromHistory = new AtomicInteger();
+        history.stop();
+        history = new FileDatabaseHistory();
+        history.configure(Configuration.create()
+                .with(FileDatabaseHistory.FILE_PATH, TEST_FILE_PATH.toAbsolutePath().toString())
+                .with(DatabaseHistory.CHECKPOINT_INTERVAL, 2)
+                .build(), null, new DatabaseHistoryListener() {
+                    @Override
+                    public void started() {
+                    }
+
+                    @Override
+                    public void stopped() {
+                    }
+
+                    @Override
+                    public void recoveryStarted() {
+                        applied.set(0);
+                        fromHistory.set(0);
+                    }
+
+                    @Override
+                    public void recoveryStopped() {
+                    }
+
+                    @Override
+                    public void onChangeFromHistory(HistoryRecord record) {
+                        fromHistory.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onChangeApplied(HistoryRecord record) {
+                        applied.incrementAndGet();
+                    }
+                }, true);
+        history.start();
+
+        record(01, 0, "CREATE TABLE foo ( first VARCHAR(22) NOT NULL );", all, t3, t2, t1, t0);
+        history.checkpoint(source1, position("a.log", 01, 0), all, () -> null);
+        record(23, 1, "CREATE TABLE\\nperson ( name VARCHAR(22) NOT NULL );", all, t3, t2, t1);
+        history.checkpoint(source1, position("a.log", 23, 1), all, () -> null);
+        record(30, 2, "CREATE TABLE address\\n( street VARCHAR(22) NOT NULL );", all, t3, t2);
+        history.checkpoint(source1, position("a.log", 30, 2), all, () -> null);
+        record(32, 3, "ALTER TABLE address ADD city VARCHAR(22) NOT NULL;", all, t3);
+        history.checkpoint(source1, position("a.log", 32, 3), all, () -> null);
+
+        // before the first checkpoint
+        assertThat(recover(23, 0)).isEqualTo(t0);
+        assertThat(applied.get()).isEqualTo(1);
+        assertThat(fromHistory.get()).isEqualTo(4);
+
+        // from the first checkpoint
+        assertThat(recover(23, 1)).isEqualTo(t1);
+        assertThat(applied.get()).isEqualTo(1);
+        assertThat(fromHistory.get()).isEqualTo(2);
+        assertThat(recover(30, 2)).isEqualTo(t2);
+        assertThat(applied.get()).isEqualTo(2);
+        assertThat(fromHistory.get()).isEqualTo(2);
+
+        // from the second checkpoint
+        // the records contained in the checkpoint are not reported as changes from the history
+        assertThat(recover(32, 3)).isEqualTo(t3);
+        assertThat(applied.get()).isEqualTo(1);
+        assertThat(fromHistory.get()).isEqualTo(0);
+        assertThat(recover(1033, 4)).isEqualTo(all);
+        assertThat(applied.get()).isEqualTo(1);
+        assertThat(fromHistory.get()).isEqualTo(0);
+    }
 }
@@ -7,6 +7,7 @@
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.math.BigDecimal;
 import java.sql.Types;
 import java.util.Map;
 
@@ -69,4 +70,67 @@ public void canSerializeAndDeserializeHistoryRecord() throws Exception {
         assertThat((Object) TableChanges.fromArray(deserialized.tableChanges(), true)).isEqualTo(tableChanges);
 
     }
+
+    @Test
+    public void canSerializeAndDeserializeEnumAndDefaultValues() throws Exception {
+        Map<String, Object> source = Collect.linkMapOf("server", "abc");
+        Map<String, Object> position = Collect.linkMapOf("file", "x.log", "position", 100);
+
+        Table table = Table.editor()
+                .tableId(new TableId("db", null, "foo"))
+                .addColumn(Column.editor()
+                        .name("id")
+                        .jdbcType(Types.BIGINT)
+                        .type("BIGINT")
+                        .optional(false)
+                        .create())
+                .addColumn(Column.editor()
+                        .name("state")
+                        .jdbcType(Types.CHAR)
+                        .type("ENUM", "ENUM('new','done')")
+                        .enumValues(Collect.arrayListOf("new", "done"))
+                        .optional(false)
+                        .defaultValue("new")
+                        .create())
+                .addColumn(Column.editor()
+                        .name("amount")
+                        .jdbcType(Types.DECIMAL)
+                        .type("DECIMAL")
+                        .length(10)
+                        .scale(2)
+                        .optional(true)
+                        .defaultValue(new BigDecimal("1.50"))
+                        .create())
+                .addColumn(Column.editor()
+                        .name("count")
+                        .jdbcType(Types.INTEGER)
+                        .type("INT")
+                        .optional(true)
+                        .defaultValue(42)
+                        .create())
+                .addColumn(Column.editor()
+                        .name("remark")
+                        .jdbcType(Types.VARCHAR)
+                        .type("VARCHAR")
+                        .length(255)
+                        .optional(true)
+                        .create())
+                .setPrimaryKeyNames("id")
+                .create();
+
+        TableChanges tableChanges = new TableChanges().create(table);
+        HistoryRecord record = HistoryRecord.checkpoint(source, position, null, tableChanges);
+
+        HistoryRecord deserialized = new HistoryRecord(DocumentReader.defaultReader().read(record.toString()));
+
+        assertThat(deserialized.isCheckpoint()).isTrue();
+        Table recovered = TableChanges.fromArray(deserialized.tableChanges(), true).iterator().next().getTable();
+        assertThat(recovered.columnWithName("state").enumValues()).containsExactly("new", "done");
+        assertThat(recovered.columnWithName("state").defaultValue()).isEqualTo("new");
+        assertThat(recovered.columnWithName("amount").defaultValue()).isEqualTo(new BigDecimal("1.50"));
+        assertThat(recovered.columnWithName("count").defaultValue()).isEqualTo(42);
+        assertThat(recovered.columnWithName("id").hasDefaultValue()).isFalse();
+        assertThat(recovered.columnWithName("remark").hasDefaultValue()).isTrue();
+        assertThat((Object) recovered).isEqualTo(table);
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.util;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+public class SingleProducerRingBufferTest {
+
+    @Test
+    public void shouldRespectCapacityThatIsNotPowerOfTwo() {
+        SingleProducerRingBuffer<Integer> buffer = new SingleProducerRingBuffer<>(3);
+
+        assertThat(buffer.offer(1)).isTrue();
+        assertThat(buffer.offer(2)).isTrue();
+        assertThat(buffer.offer(3)).isTrue();
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.remainingCapacity()).isEqualTo(0);
+
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(new ArrayList<>(buffer)).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    public void shouldDrainInBatchesAcrossWrapAround() {
+        SingleProducerRingBuffer<Integer> buffer = new SingleProducerRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(i);
+            buffer.offer(100 + i);
+            assertThat(buffer.drainTo(drained, 1)).isEqualTo(1);
+            assertThat(buffer.drainTo(drained)).isEqualTo(1);
+        }
+
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.peek()).isNull();
+        assertThat(drained).hasSize(20);
+        assertThat(drained.get(18)).isEqualTo(9);
+        assertThat(drained.get(19)).isEqualTo(109);
+    }
+
+    @Test
+    public void shouldReturnNullWhenPollingEmptyBufferWithTimeout() throws Exception {
+        SingleProducerRingBuffer<Integer> buffer = new SingleProducerRingBuffer<>(4);
+
+        assertThat(buffer.poll(10, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(buffer.offer(1, 10, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(buffer.poll(10, TimeUnit.MILLISECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldHandOverAllElementsInOrderBetweenThreads() throws Exception {
+        final int count = 1_000_000;
+        final SingleProducerRingBuffer<Integer> buffer = new SingleProducerRingBuffer<>(1024);
+
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < count; i++) {
+                    buffer.put(i);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        List<Integer> batch = new ArrayList<>();
+        int expected = 0;
+        while (expected < count) {
+            batch.add(buffer.take());
+            buffer.drainTo(batch, 256);
+            for (Integer value : batch) {
+                assertThat(value).isEqualTo(expected++);
+            }
+            batch.clear();
+        }
+
+        producer.join();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldAcceptElementsOfProducersSerializedByLock() throws Exception {
+        final int producers = 4;
+        final int countPerProducer = 100_000;
+        final SingleProducerRingBuffer<Integer> buffer = new SingleProducerRingBuffer<>(64);
+        final Object lock = new Object();
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final Thread producer = new Thread(() -> {
+                try {
+                    for (int i = 0; i < countPerProducer; i++) {
+                        synchronized (lock) {
+                            buffer.put(i);
+                        }
+                    }
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads.add(producer);
+            producer.start();
+        }
+
+        final int[] counts = new int[countPerProducer];
+        final List<Integer> batch = new ArrayList<>();
+        for (int consumed = 0; consumed < producers * countPerProducer; consumed += batch.size()) {
+            batch.clear();
+            batch.add(buffer.take());
+            buffer.drainTo(batch, 256);
+            batch.forEach(value -> counts[value]++);
+        }
+
+        for (Thread producer : threads) {
+            producer.join();
+        }
+        for (int count : counts) {
+            assertThat(count).isEqualTo(producers);
+        }
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldDetectConcurrentProducersIfAssertionsAreEnabled() throws Exception {
+        boolean assertionsEnabled = false;
+        assert assertionsEnabled = true;
+        Assume.assumeTrue(assertionsEnabled);
+
+        final SingleProducerRingBuffer<Integer> buffer = new SingleProducerRingBuffer<>(1);
+        buffer.put(1);
+
+        // blocks while adding an element to the full buffer
+        final Thread producer = new Thread(() -> {
+            try {
+                buffer.put(2);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        while (producer.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+
+        try {
+            buffer.offer(3);
+            fail("Concurrent producer should have been detected");
+        }
+        catch (AssertionError e) {
+            assertThat(e.getMessage()).contains("must be serialized");
+        }
+        finally {
+            assertThat(buffer.poll()).isEqualTo(1);
+            producer.join();
+        }
+        assertThat(buffer.poll()).isEqualTo(2);
+    }
+}
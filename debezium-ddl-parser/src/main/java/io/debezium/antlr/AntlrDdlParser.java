@@ -7,16 +7,23 @@
 package io.debezium.antlr;
 
 import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
@@ -37,6 +44,13 @@
  */
 public abstract class AntlrDdlParser<L extends Lexer, P extends Parser> extends AbstractDdlParser {
 
+    /**
+     * The default maximum number of DFA states cached for each grammar.
+     */
+    public static final int DEFAULT_MAX_DFA_STATES = 20_000;
+
+    private static final ConcurrentMap<ATN, DfaCache> DFA_CACHES = new ConcurrentHashMap<>();
+
     /**
      * Flag to indicate if the errors caught during tree walk will be thrown.
      * true = errors will be thrown
@@ -67,7 +81,10 @@ public void parse(String ddlContent, Tables databaseTables) {
 
         CodePointCharStream ddlContentCharStream = CharStreams.fromString(ddlContent);
         L lexer = createNewLexerInstance(new CaseChangingCharStream(ddlContentCharStream, isGrammarInUpperCase()));
-        P parser = createNewParserInstance(new CommonTokenStream(lexer));
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        P parser = createNewParserInstance(tokens);
+        DfaCache dfaCache = dfaCache(parser.getATN());
+        dfaCache.install(parser);
 
         dataTypeResolver = initializeDataTypeResolver();
 
@@ -75,9 +92,26 @@ public void parse(String ddlContent, Tables databaseTables) {
         parser.removeErrorListener(ConsoleErrorListener.INSTANCE);
 
         ParsingErrorListener parsingErrorListener = new ParsingErrorListener(AbstractDdlParser::accumulateParsingFailure);
-        parser.addErrorListener(parsingErrorListener);
 
-        ParseTree parseTree = parseTree(parser);
+        // First try the much faster SLL prediction, which is sufficient for almost all statements; it fails on any
+        // syntax error though, so only the full LL prediction can tell whether the statement is actually invalid
+        ParseTree parseTree;
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            parseTree = parseTree(parser);
+        }
+        catch (ParseCancellationException e) {
+            tokens.seek(0);
+            parser.reset();
+            parser.addErrorListener(parsingErrorListener);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parseTree = parseTree(parser);
+        }
+        finally {
+            dfaCache.trim();
+        }
 
         if (parsingErrorListener.getErrors().isEmpty()) {
             antlrDdlParserListener = createParseTreeWalkerListener();
@@ -94,6 +128,16 @@ public void parse(String ddlContent, Tables databaseTables) {
         }
     }
 
+    /**
+     * Returns the DFA cache shared by all parsers of the grammar with the given ATN.
+     *
+     * @param atn the ATN of the grammar; may not be null
+     * @return the cache; never null
+     */
+    public static DfaCache dfaCache(ATN atn) {
+        return DFA_CACHES.computeIfAbsent(atn, a -> new DfaCache(a, DEFAULT_MAX_DFA_STATES));
+    }
+
     /**
      * Returns errors catched during tree walk.
      *
@@ -0,0 +1,121 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.antlr;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+/**
+ * The DFA built up by the adaptive prediction of ANTLR parsers of one grammar, shared by all parser instances so that it
+ * stays warm across statements, parsers and connector tasks.
+ * <p>
+ * Unlike the static DFA of a generated parser, the size of this cache is bounded: once it holds more than the maximum
+ * number of DFA states, it is {@link #trim() replaced} by an empty one together with its prediction context cache, which
+ * otherwise only ever grows. Parsers that are still using the previous DFA keep doing so until they are done. The states
+ * are counted as they are added by the parsers, so that checking the bound doesn't require walking the DFA.
+ */
+public class DfaCache {
+
+    private final ATN atn;
+    private volatile int maxStates;
+    private volatile Dfa dfa;
+
+    /**
+     * @param atn the ATN of the grammar; may not be null
+     * @param maxStates the maximum number of DFA states to keep
+     */
+    public DfaCache(ATN atn, int maxStates) {
+        this.atn = atn;
+        this.maxStates = maxStates;
+        this.dfa = new Dfa(atn);
+    }
+
+    /**
+     * Make the given parser use this cache for its adaptive prediction.
+     *
+     * @param parser the parser of the grammar of this cache; may not be null
+     */
+    public void install(Parser parser) {
+        final Dfa current = dfa;
+        parser.setInterpreter(new CountingParserATNSimulator(parser, atn, current));
+    }
+
+    /**
+     * Discard the cached DFA if it holds more than the maximum number of states.
+     *
+     * @return true if the DFA was discarded
+     */
+    public boolean trim() {
+        if (states() <= maxStates) {
+            return false;
+        }
+        synchronized (this) {
+            if (states() <= maxStates) {
+                return false;
+            }
+            dfa = new Dfa(atn);
+            return true;
+        }
+    }
+
+    /**
+     * @return the number of DFA states currently cached
+     */
+    public int states() {
+        return dfa.states.get();
+    }
+
+    public int getMaxStates() {
+        return maxStates;
+    }
+
+    public void setMaxStates(int maxStates) {
+        this.maxStates = maxStates;
+    }
+
+    private static class Dfa {
+
+        private final DFA[] decisionToDFA;
+        private final PredictionContextCache contextCache = new PredictionContextCache();
+        private final AtomicInteger states = new AtomicInteger();
+
+        private Dfa(ATN atn) {
+            decisionToDFA = new DFA[atn.getNumberOfDecisions()];
+            for (int i = 0; i < decisionToDFA.length; i++) {
+                decisionToDFA[i] = new DFA(atn.getDecisionState(i), i);
+            }
+        }
+    }
+
+    /**
+     * Counts the states added to the DFA by the adaptive prediction of a parser.
+     */
+    private static class CountingParserATNSimulator extends ParserATNSimulator {
+
+        private final AtomicInteger states;
+
+        private CountingParserATNSimulator(Parser parser, ATN atn, Dfa dfa) {
+            super(parser, atn, dfa.decisionToDFA, dfa.contextCache);
+            this.states = dfa.states;
+        }
+
+        @Override
+        protected DFAState addDFAState(DFA dfa, DFAState state) {
+            final DFAState added = super.addDFAState(dfa, state);
+            // an equal state that is already cached is returned instead of the given one
+            if (added == state && state != ERROR) {
+                states.incrementAndGet();
+            }
+            return added;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.config.CommonConnectorConfig.QueueImplementation;
+
+/**
+ * Compares the hand-over throughput of the available change event queue implementations with one producer thread
+ * (like a connector's log reader) and one consumer thread draining batches (like the Kafka Connect polling loop).
+ * The {@code produced} and {@code consumed} counters report the number of records actually handed over per second.
+ */
+public class ChangeEventQueuePerf {
+
+    @State(Scope.Group)
+    public static class QueueState {
+
+        @Param({ "linked_deque", "ring_buffer" })
+        public String implementation;
+
+        @Param({ "8192" })
+        public int maxQueueSize;
+
+        @Param({ "2048" })
+        public int maxBatchSize;
+
+        public BlockingQueue<SourceRecord> queue;
+        public SourceRecord record;
+
+        @Setup(Level.Iteration)
+        public void doSetup() {
+            queue = QueueImplementation.parse(implementation).createQueue(maxQueueSize);
+            record = new SourceRecord(Collections.singletonMap("server", "perf"), Collections.singletonMap("pos", 1L), "perf.topic",
+                    Schema.STRING_SCHEMA, "value");
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ProducerCounters {
+        public long produced;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            produced = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ConsumerCounters {
+        public long consumed;
+
+        private final List<SourceRecord> batch = new ArrayList<>();
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            consumed = 0;
+        }
+    }
+
+    @Benchmark
+    @Group("handover")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    public boolean produce(QueueState state, ProducerCounters counters) {
+        // not blocking, so that the producer can't hang once the consumer has finished its iteration
+        if (state.queue.offer(state.record)) {
+            counters.produced++;
+            return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    @Group("handover")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    public int consume(QueueState state, ConsumerCounters counters) {
+        final int drained = state.queue.drainTo(counters.batch, state.maxBatchSize);
+        counters.consumed += drained;
+        counters.batch.clear();
+        return drained;
+    }
+}
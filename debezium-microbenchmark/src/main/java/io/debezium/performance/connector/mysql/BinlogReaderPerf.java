@@ -0,0 +1,205 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.mysql;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.BinlogReader;
+import io.debezium.connector.mysql.Filters;
+import io.debezium.connector.mysql.MySqlConnectorConfig;
+import io.debezium.connector.mysql.MySqlSystemVariables;
+import io.debezium.connector.mysql.MySqlTaskContext;
+import io.debezium.relational.history.MemoryDatabaseHistory;
+
+/**
+ * Measures the binlog reader end-to-end without a MySQL server, by reading binlog files generated by
+ * {@link SyntheticBinlog} in the {@link MySqlConnectorConfig#BINLOG_FILES offline mode}: the deserialization of the
+ * events, the event handlers of {@link BinlogReader}, the conversion of the rows by the record makers and the hand-over
+ * of the records through the reader's queue to {@link BinlogReader#poll()}.
+ * <p>
+ * One operation is one changed row, so the throughput is in rows per second and, when run with {@code -prof gc}, the
+ * normalized allocation rate {@code gc.alloc.rate.norm} is in bytes per row. The percentiles of the hand-over latency,
+ * i.e. the time from enqueuing a record until it is returned by {@code poll()}, are printed after each iteration.
+ */
+public class BinlogReaderPerf {
+
+    private static final int ROWS = 20_000;
+
+    @State(Scope.Thread)
+    public static class ReaderState {
+
+        @Param({ "1", "100" })
+        public int tables;
+
+        @Param({ "8", "64" })
+        public int columns;
+
+        @Param({ "1", "1000" })
+        public int transactionSize;
+
+        @Param({ "0", "4" })
+        public int conversionThreads;
+
+        public TimedBinlogReader reader;
+
+        private SyntheticBinlog binlog;
+        private Path directory;
+        private List<Path> files;
+        private MySqlTaskContext context;
+
+        // delete events are followed by a tombstone, so there are at most two records per row
+        private final long[] enqueuedAt = new long[ROWS * 2];
+        private final long[] latencies = new long[ROWS * 2];
+        private int polled;
+
+        private long sumOfMedians;
+        private long sumOf99thPercentiles;
+        private long max99thPercentile;
+        private int invocations;
+
+        @Setup(Level.Trial)
+        public void doSetup() throws IOException {
+            binlog = new SyntheticBinlog(tables, columns, transactionSize);
+            directory = Files.createTempDirectory("binlog-perf");
+            files = binlog.write(directory, ROWS);
+        }
+
+        @TearDown(Level.Trial)
+        public void doCleanup() throws IOException {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(path);
+                }
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void startReader() {
+            final Configuration config = Configuration.create()
+                    .with(MySqlConnectorConfig.HOSTNAME, "localhost")
+                    .with(MySqlConnectorConfig.USER, "perf")
+                    .with(MySqlConnectorConfig.PASSWORD, "perf")
+                    .with(MySqlConnectorConfig.SERVER_ID, 1)
+                    .with(MySqlConnectorConfig.SERVER_NAME, "perf")
+                    .with(MySqlConnectorConfig.DATABASE_HISTORY, MemoryDatabaseHistory.class)
+                    .with(MySqlConnectorConfig.BINLOG_FILES, files.stream().map(Path::toString).collect(Collectors.joining(",")))
+                    .with(MySqlConnectorConfig.BINLOG_CONVERSION_THREADS, conversionThreads)
+                    // don't let the polling thread park for long when the queue is drained
+                    .with(CommonConnectorConfig.POLL_INTERVAL_MS, 1)
+                    .build();
+            context = new MySqlTaskContext(config, new Filters.Builder(config).build(), false, null);
+            context.dbSchema().start();
+
+            context.dbSchema().applyDdl(context.source(), SyntheticBinlog.DATABASE, "SET " + MySqlSystemVariables.CHARSET_NAME_SERVER + "=utf8mb4",
+                    null);
+            for (String ddl : binlog.ddl()) {
+                context.dbSchema().applyDdl(context.source(), SyntheticBinlog.DATABASE, ddl, null);
+            }
+
+            reader = new TimedBinlogReader(context, enqueuedAt);
+            polled = 0;
+        }
+
+        @TearDown(Level.Invocation)
+        public void stopReader() {
+            reader.stop();
+            context.shutdown();
+
+            Arrays.sort(latencies, 0, polled);
+            sumOfMedians += latencies[polled / 2];
+            final long p99 = latencies[(int) (polled * 0.99)];
+            sumOf99thPercentiles += p99;
+            max99thPercentile = Math.max(max99thPercentile, p99);
+            invocations++;
+        }
+
+        @TearDown(Level.Iteration)
+        public void reportLatencies() {
+            // JMH passes the output of the benchmark to its own output
+            // CHECKSTYLE:OFF
+            System.out.printf("%nHand-over latency over %d invocations: mean p50 %.1f us, mean p99 %.1f us, max p99 %.1f us%n",
+                    invocations, sumOfMedians / 1_000.0 / invocations, sumOf99thPercentiles / 1_000.0 / invocations, max99thPercentile / 1_000.0);
+            // CHECKSTYLE:ON
+            sumOfMedians = 0;
+            sumOf99thPercentiles = 0;
+            max99thPercentile = 0;
+            invocations = 0;
+        }
+
+        public void polled(List<SourceRecord> batch) {
+            final long now = System.nanoTime();
+            for (int i = 0; i < batch.size(); i++) {
+                latencies[polled] = now - enqueuedAt[polled];
+                polled++;
+            }
+        }
+    }
+
+    /**
+     * Records the time at which each record is enqueued. The records are enqueued by a single thread, either the binlog
+     * file reader or the emitter of the conversion pipeline, so they are polled in the same order.
+     */
+    public static class TimedBinlogReader extends BinlogReader {
+
+        private final long[] enqueuedAt;
+        private int enqueued;
+
+        public TimedBinlogReader(MySqlTaskContext context, long[] enqueuedAt) {
+            super("binlog", context, null);
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        @Override
+        protected void enqueueRecord(SourceRecord record) throws InterruptedException {
+            enqueuedAt[enqueued++] = System.nanoTime();
+            super.enqueueRecord(record);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(ROWS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    public int readBinlog(ReaderState state) throws InterruptedException {
+        state.reader.start();
+        int records = 0;
+        List<SourceRecord> batch;
+        while ((batch = state.reader.poll()) != null) {
+            state.polled(batch);
+            records += batch.size();
+        }
+        return records;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.mysql;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.connector.mysql.MySqlValueConverters;
+import io.debezium.jdbc.JdbcValueConverters.BigIntUnsignedMode;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.DecimalHandlingMode;
+import io.debezium.relational.ValueConverter;
+
+/**
+ * Measures the conversion of a single column value by the MySQL value converters. Values are of the Java types produced
+ * by the binlog row deserializers, e.g. JSON values are in MySQL's binary JSON format and strings are raw bytes.
+ */
+public class MySqlValueConvertersPerf {
+
+    /**
+     * The binary JSON representation of <code>{"id": 42, "name": "abc"}</code>: a small object with an inlined
+     * int16 value and a string value.
+     */
+    private static final byte[] BINARY_JSON = new byte[]{
+            0x00, // small object
+            0x02, 0x00, // element count
+            0x1C, 0x00, // size in bytes
+            0x12, 0x00, 0x02, 0x00, // key entry "id": offset, length
+            0x14, 0x00, 0x04, 0x00, // key entry "name": offset, length
+            0x05, 0x2A, 0x00, // value entry: inlined int16 42
+            0x0C, 0x18, 0x00, // value entry: string at offset
+            'i', 'd',
+            'n', 'a', 'm', 'e',
+            0x03, 'a', 'b', 'c'
+    };
+
+    @State(Scope.Thread)
+    public static class ConverterState {
+
+        @Param({ "INT", "BIGINT_UNSIGNED", "DECIMAL", "VARCHAR", "JSON", "ENUM", "SET", "DATE", "TIME", "DATETIME", "TIMESTAMP", "YEAR" })
+        public String columnType;
+
+        @Param({ "adaptive", "adaptive_time_microseconds", "connect" })
+        public String temporalPrecisionMode;
+
+        @Param({ "precise", "double", "string" })
+        public String decimalHandlingMode;
+
+        public ValueConverter converter;
+        public Object value;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final MySqlValueConverters converters = new MySqlValueConverters(
+                    DecimalHandlingMode.parse(decimalHandlingMode).asDecimalMode(),
+                    TemporalPrecisionMode.parse(temporalPrecisionMode),
+                    BigIntUnsignedMode.PRECISE);
+
+            final Column column;
+            switch (columnType) {
+                case "INT":
+                    column = Column.editor().name("c").type("INT").jdbcType(Types.INTEGER).create();
+                    value = 42;
+                    break;
+                case "BIGINT_UNSIGNED":
+                    column = Column.editor().name("c").type("BIGINT UNSIGNED").jdbcType(Types.BIGINT).create();
+                    value = -42L;
+                    break;
+                case "DECIMAL":
+                    column = Column.editor().name("c").type("DECIMAL").jdbcType(Types.DECIMAL).length(12).scale(4).create();
+                    value = new BigDecimal("12345678.1234");
+                    break;
+                case "VARCHAR":
+                    column = Column.editor().name("c").type("VARCHAR").jdbcType(Types.VARCHAR).length(255).charsetName("utf8mb4").create();
+                    value = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+                    break;
+                case "JSON":
+                    column = Column.editor().name("c").type("JSON").jdbcType(Types.OTHER).create();
+                    value = BINARY_JSON;
+                    break;
+                case "ENUM":
+                    column = Column.editor().name("c").type("ENUM").jdbcType(Types.CHAR).enumValues(Arrays.asList("'small'", "'medium'", "'large'"))
+                            .create();
+                    value = 2;
+                    break;
+                case "SET":
+                    column = Column.editor().name("c").type("SET").jdbcType(Types.CHAR).enumValues(Arrays.asList("'a'", "'b'", "'c'", "'d'"))
+                            .create();
+                    value = 5L;
+                    break;
+                case "DATE":
+                    column = Column.editor().name("c").type("DATE").jdbcType(Types.DATE).create();
+                    value = LocalDate.of(2020, 2, 20);
+                    break;
+                case "TIME":
+                    column = Column.editor().name("c").type("TIME").jdbcType(Types.TIME).length(6).create();
+                    value = Duration.ofHours(12).plusMinutes(34).plusSeconds(56).plusNanos(123_456_000);
+                    break;
+                case "DATETIME":
+                    column = Column.editor().name("c").type("DATETIME").jdbcType(Types.TIMESTAMP).length(6).create();
+                    value = LocalDateTime.of(2020, 2, 20, 12, 34, 56, 123_456_000);
+                    break;
+                case "TIMESTAMP":
+                    column = Column.editor().name("c").type("TIMESTAMP").jdbcType(Types.TIMESTAMP_WITH_TIMEZONE).length(6).create();
+                    value = ZonedDateTime.of(2020, 2, 20, 12, 34, 56, 123_456_000, ZoneOffset.UTC);
+                    break;
+                case "YEAR":
+                    column = Column.editor().name("c").type("YEAR").jdbcType(Types.INTEGER).create();
+                    value = Year.of(2020);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported column type " + columnType);
+            }
+
+            final SchemaBuilder schemaBuilder = converters.schemaBuilder(column).optional();
+            converter = converters.converter(column, new Field(column.name(), 0, schemaBuilder.build()));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    public Object convert(ConverterState state) {
+        return state.converter.convert(state.value);
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.mysql;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates binlog files with synthetic row changes, so that the binlog reader can be measured without a MySQL server.
+ * <p>
+ * Each transaction consists of a {@code BEGIN} query event, pairs of table map and rows events, and an XID event. The
+ * rows events are v2 write, update and delete events in a mix of 60/30/10 for randomly chosen tables, each with as many
+ * rows as fit into 8KB like with MySQL's default {@code binlog_row_event_max_size}. The tables have the given number of
+ * columns, cycling through integer, decimal, floating point, temporal and string types, with 5% null values. Events are
+ * written without checksums, and a new file is started once a file exceeds 1MB.
+ */
+public class SyntheticBinlog {
+
+    public static final String DATABASE = "perf";
+
+    private static final byte[] MAGIC_HEADER = new byte[]{ (byte) 0xfe, 'b', 'i', 'n' };
+    private static final int HEADER_LENGTH = 19;
+    private static final int MAX_ROWS_EVENT_SIZE = 8 * 1024;
+    private static final long MAX_FILE_SIZE = 1024 * 1024;
+
+    private static final int QUERY_EVENT = 2;
+    private static final int ROTATE_EVENT = 4;
+    private static final int XID_EVENT = 16;
+    private static final int TABLE_MAP_EVENT = 19;
+    private static final int WRITE_ROWS_EVENT = 30;
+    private static final int UPDATE_ROWS_EVENT = 31;
+    private static final int DELETE_ROWS_EVENT = 32;
+
+    private enum ColumnType {
+        INT("INT", 3),
+        BIGINT("BIGINT", 8),
+        VARCHAR("VARCHAR(255)", 15, 0xfc, 0x03), // maximum length of 255 characters of up to 4 bytes
+        DATETIME("DATETIME", 18, 0),
+        DECIMAL("DECIMAL(10,2)", 246, 10, 2),
+        DOUBLE("DOUBLE", 5, 8),
+        TEXT("TEXT", 252, 2);
+
+        private final String ddl;
+        private final int code;
+        private final int[] metadata;
+
+        ColumnType(String ddl, int code, int... metadata) {
+            this.ddl = ddl;
+            this.code = code;
+            this.metadata = metadata;
+        }
+    }
+
+    private final int tables;
+    private final ColumnType[] columns;
+    private final int transactionSize;
+    private final Random random = new Random(42);
+
+    private ByteArrayOutputStream file;
+    private int nextId;
+
+    /**
+     * @param tables the number of tables
+     * @param columns the number of columns of each table, including the {@code INT} primary key column
+     * @param transactionSize the number of rows changed by each transaction
+     */
+    public SyntheticBinlog(int tables, int columns, int transactionSize) {
+        this.tables = tables;
+        this.columns = new ColumnType[columns];
+        for (int i = 0; i < columns; i++) {
+            this.columns[i] = ColumnType.values()[i % ColumnType.values().length];
+        }
+        this.transactionSize = transactionSize;
+    }
+
+    /**
+     * @return the {@code CREATE TABLE} statements of the tables of the {@link #DATABASE}
+     */
+    public List<String> ddl() {
+        final List<String> statements = new ArrayList<>();
+        for (int table = 0; table < tables; table++) {
+            final StringBuilder ddl = new StringBuilder("CREATE TABLE ").append(tableName(table)).append(" (");
+            for (int i = 0; i < columns.length; i++) {
+                ddl.append("c").append(i).append(' ').append(columns[i].ddl).append(i == 0 ? " NOT NULL, " : ", ");
+            }
+            statements.add(ddl.append("PRIMARY KEY (c0))").toString());
+        }
+        return statements;
+    }
+
+    /**
+     * Write binlog files with the given number of changed rows.
+     *
+     * @param directory the directory to write the files to; may not be null
+     * @param rows the number of rows to be changed
+     * @return the files in the order in which they were written; never null
+     * @throws IOException if a file can't be written
+     */
+    public List<Path> write(Path directory, int rows) throws IOException {
+        final List<Path> files = new ArrayList<>();
+        file = startFile();
+        int remaining = rows;
+        while (remaining > 0) {
+            query("BEGIN");
+            for (int transactionRows = Math.min(transactionSize, remaining); transactionRows > 0;) {
+                final int table = random.nextInt(tables);
+                final int kind = random.nextInt(10);
+                tableMap(table);
+                final int eventRows;
+                if (kind < 6) {
+                    eventRows = rowsEvent(WRITE_ROWS_EVENT, table, transactionRows, false);
+                }
+                else if (kind < 9) {
+                    eventRows = rowsEvent(UPDATE_ROWS_EVENT, table, transactionRows, true);
+                }
+                else {
+                    eventRows = rowsEvent(DELETE_ROWS_EVENT, table, transactionRows, false);
+                }
+                transactionRows -= eventRows;
+                remaining -= eventRows;
+            }
+            xid();
+            if (file.size() > MAX_FILE_SIZE || remaining == 0) {
+                final Path path = directory.resolve(String.format("mysql-bin.%06d", files.size() + 1));
+                if (remaining > 0) {
+                    rotate(String.format("mysql-bin.%06d", files.size() + 2));
+                }
+                files.add(Files.write(path, file.toByteArray()));
+                file = startFile();
+            }
+        }
+        return files;
+    }
+
+    private static ByteArrayOutputStream startFile() {
+        final ByteArrayOutputStream file = new ByteArrayOutputStream((int) MAX_FILE_SIZE + MAX_ROWS_EVENT_SIZE * 2);
+        file.write(MAGIC_HEADER, 0, MAGIC_HEADER.length);
+        return file;
+    }
+
+    private static String tableName(int table) {
+        return "t" + table;
+    }
+
+    private void query(String sql) {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        writeInt(data, 1, 4); // thread id
+        writeInt(data, 0, 4); // execution time
+        data.write(DATABASE.length());
+        writeInt(data, 0, 2); // error code
+        writeInt(data, 0, 2); // length of the status variables
+        writeString(data, DATABASE);
+        data.write(0);
+        writeString(data, sql);
+        event(QUERY_EVENT, data);
+    }
+
+    private void xid() {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        writeInt(data, nextId, 8);
+        event(XID_EVENT, data);
+    }
+
+    private void rotate(String filename) {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        writeInt(data, MAGIC_HEADER.length, 8);
+        writeString(data, filename);
+        event(ROTATE_EVENT, data);
+    }
+
+    private void tableMap(int table) {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        writeInt(data, table + 1, 6); // table id
+        writeInt(data, 0, 2); // flags
+        data.write(DATABASE.length());
+        writeString(data, DATABASE);
+        data.write(0);
+        data.write(tableName(table).length());
+        writeString(data, tableName(table));
+        data.write(0);
+        writePackedInt(data, columns.length);
+        final ByteArrayOutputStream metadata = new ByteArrayOutputStream();
+        for (ColumnType column : columns) {
+            data.write(column.code);
+            for (int value : column.metadata) {
+                metadata.write(value);
+            }
+        }
+        writePackedInt(data, metadata.size());
+        writeBytes(data, metadata.toByteArray());
+        // all columns but the primary key are nullable
+        final byte[] nullable = new byte[(columns.length + 7) / 8];
+        for (int i = 1; i < columns.length; i++) {
+            nullable[i / 8] |= 1 << (i % 8);
+        }
+        writeBytes(data, nullable);
+        event(TABLE_MAP_EVENT, data);
+    }
+
+    /**
+     * @return the number of rows written to the event
+     */
+    private int rowsEvent(int type, int table, int maxRows, boolean beforeAndAfterImage) {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream(MAX_ROWS_EVENT_SIZE * 2);
+        writeInt(data, table + 1, 6); // table id
+        writeInt(data, 0, 2); // flags
+        writeInt(data, 2, 2); // length of the extra data, including this length
+        writePackedInt(data, columns.length);
+        final byte[] includedColumns = new byte[(columns.length + 7) / 8];
+        for (int i = 0; i < columns.length; i++) {
+            includedColumns[i / 8] |= 1 << (i % 8);
+        }
+        writeBytes(data, includedColumns);
+        if (beforeAndAfterImage) {
+            writeBytes(data, includedColumns);
+        }
+        int rows = 0;
+        while (rows < maxRows && data.size() < MAX_ROWS_EVENT_SIZE) {
+            final int id = nextId++;
+            row(data, id);
+            if (beforeAndAfterImage) {
+                row(data, id);
+            }
+            rows++;
+        }
+        event(type, data);
+        return rows;
+    }
+
+    private void row(ByteArrayOutputStream data, int id) {
+        final boolean[] nulls = new boolean[columns.length];
+        final byte[] nullBitmap = new byte[(columns.length + 7) / 8];
+        for (int i = 1; i < columns.length; i++) {
+            if (random.nextInt(20) == 0) {
+                nulls[i] = true;
+                nullBitmap[i / 8] |= 1 << (i % 8);
+            }
+        }
+        writeBytes(data, nullBitmap);
+        writeInt(data, id, 4);
+        for (int i = 1; i < columns.length; i++) {
+            if (!nulls[i]) {
+                value(data, columns[i]);
+            }
+        }
+    }
+
+    private void value(ByteArrayOutputStream data, ColumnType column) {
+        switch (column) {
+            case INT:
+                writeInt(data, random.nextInt(), 4);
+                break;
+            case BIGINT:
+                writeInt(data, random.nextLong(), 8);
+                break;
+            case VARCHAR:
+                final String string = randomString(5 + random.nextInt(45));
+                writeInt(data, string.length(), 2);
+                writeString(data, string);
+                break;
+            case DATETIME:
+                // 1 bit sign, 17 bits year * 13 + month, 5 bits day, 5 bits hour, 6 bits minute, 6 bits second
+                final long datetime = (1L << 39) | ((2020L * 13 + 1 + random.nextInt(12)) << 22) | ((1L + random.nextInt(28)) << 17)
+                        | ((long) random.nextInt(24) << 12) | ((long) random.nextInt(60) << 6) | random.nextInt(60);
+                writeBigEndianInt(data, datetime, 5);
+                break;
+            case DECIMAL:
+                // 8 integer digits in 4 bytes and 2 fractional digits in 1 byte, with the sign bit set for positive values
+                writeBigEndianInt(data, random.nextInt(100_000_000) | 0x80000000L, 4);
+                data.write(random.nextInt(100));
+                break;
+            case DOUBLE:
+                writeInt(data, Double.doubleToLongBits(random.nextDouble() * 1_000_000), 8);
+                break;
+            case TEXT:
+                final String text = randomString(20 + random.nextInt(180));
+                writeInt(data, text.length(), 2);
+                writeString(data, text);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected column type " + column);
+        }
+    }
+
+    private String randomString(int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    private void event(int type, ByteArrayOutputStream data) {
+        final int length = HEADER_LENGTH + data.size();
+        writeInt(file, 1_580_000_000 + nextId / 1000, 4); // timestamp
+        file.write(type);
+        writeInt(file, 1, 4); // server id
+        writeInt(file, length, 4);
+        writeInt(file, file.size() - 13 + length, 4); // next position
+        writeInt(file, 0, 2); // flags
+        writeBytes(file, data.toByteArray());
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, long value, int length) {
+        for (int i = 0; i < length; i++) {
+            out.write((int) (value >>> (8 * i)));
+        }
+    }
+
+    private static void writeBigEndianInt(ByteArrayOutputStream out, long value, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            out.write((int) (value >>> (8 * i)));
+        }
+    }
+
+    private static void writePackedInt(ByteArrayOutputStream out, int value) {
+        if (value < 251) {
+            out.write(value);
+        }
+        else {
+            out.write(0xfc);
+            writeInt(out, value, 2);
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, byte[] bytes) {
+        out.write(bytes, 0, bytes.length);
+    }
+}
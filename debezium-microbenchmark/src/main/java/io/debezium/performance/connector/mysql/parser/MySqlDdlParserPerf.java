@@ -26,7 +26,7 @@
 
 /**
  * A basic test to compare performance of legacy and antlr DDL parsers depending on the amount
- * of columns in the statement.
+ * of columns in the statement and on the kind of statements.
  *
  * @author Jiri Pechanec <jpechane@redhat.com>
  *
@@ -38,19 +38,50 @@ public static class ParserState {
 
         public AbstractDdlParser antlrParser;
         public Tables tables;
-        public String ddl;
+        public String[] ddls;
+        public int next;
 
         @Param({ "1", "2", "5", "10", "20", "50" })
         public int columnCount;
 
+        /**
+         * {@code create}: a CREATE TABLE statement; {@code alter}: an ALTER TABLE statement modifying all columns;
+         * {@code multi}: one parser call with several statements; {@code mixed}: different kinds of statements in turn, as
+         * when recovering the schema history.
+         */
+        @Param({ "create", "alter", "multi", "mixed" })
+        public String statements;
+
         @Setup(Level.Trial)
         public void doSetup() {
             antlrParser = new MySqlAntlrDdlParser();
             tables = new Tables();
-            ddl = testStatement();
+            antlrParser.parse(createStatement(), tables);
+            switch (statements) {
+                case "create":
+                    ddls = new String[]{ createStatement() };
+                    break;
+                case "alter":
+                    ddls = new String[]{ alterStatement() };
+                    break;
+                case "multi":
+                    ddls = new String[]{ String.join(";\n", mixedStatements()) };
+                    break;
+                case "mixed":
+                    ddls = mixedStatements();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown statements " + statements);
+            }
+        }
+
+        public String nextStatement() {
+            final String ddl = ddls[next];
+            next = (next + 1) % ddls.length;
+            return ddl;
         }
 
-        private String testStatement() {
+        private String createStatement() {
             final StringBuilder sb = new StringBuilder("CREATE TABLE t1 (id int primary key");
             for (int i = 0; i < columnCount; i++) {
                 sb.append(", v").append(i).append(" int");
@@ -58,6 +89,32 @@ private String testStatement() {
             final String statement = sb.append(")").toString();
             return statement;
         }
+
+        private String alterStatement() {
+            final StringBuilder sb = new StringBuilder("ALTER TABLE t1 MODIFY COLUMN id int NOT NULL");
+            for (int i = 0; i < columnCount; i++) {
+                sb.append(", MODIFY COLUMN v").append(i).append(" int DEFAULT ").append(i).append(" COMMENT 'column ").append(i).append("'");
+            }
+            return sb.toString();
+        }
+
+        private String[] mixedStatements() {
+            final StringBuilder create = new StringBuilder("CREATE TABLE IF NOT EXISTS `t2` (`id` bigint(20) unsigned NOT NULL AUTO_INCREMENT");
+            for (int i = 0; i < columnCount; i++) {
+                create.append(", `c").append(i).append("` ").append(i % 2 == 0 ? "varchar(255) CHARACTER SET utf8mb4 DEFAULT NULL" : "decimal(10,2) NOT NULL");
+            }
+            create.append(", PRIMARY KEY (`id`), KEY `idx_c0` (`c0`)) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4");
+            return new String[]{
+                    "SET character_set_server=utf8mb4, collation_server=utf8mb4_general_ci",
+                    create.toString(),
+                    alterStatement(),
+                    "ALTER TABLE t2 ADD COLUMN extra datetime(3) NULL AFTER c0, ADD INDEX idx_extra (extra)",
+                    "CREATE INDEX idx_v ON t1 (id)",
+                    "RENAME TABLE t2 TO t3",
+                    "DROP TABLE IF EXISTS t3",
+                    "CREATE DATABASE IF NOT EXISTS db2 DEFAULT CHARACTER SET utf8mb4"
+            };
+        }
     }
 
     @Benchmark
@@ -67,6 +124,6 @@ private String testStatement() {
     @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
     public void antlr(ParserState state) {
-        state.antlrParser.parse(state.ddl, state.tables);
+        state.antlrParser.parse(state.nextStatement(), state.tables);
     }
 }
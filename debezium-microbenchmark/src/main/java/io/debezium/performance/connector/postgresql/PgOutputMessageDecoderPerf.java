@@ -0,0 +1,174 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.postgresql;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.pgoutput.PgOutputMessageDecoder;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+
+/**
+ * Measures the decoding of the tuple data of pgoutput insert messages into replication message columns, with and without
+ * reading the values of the columns afterwards.
+ * <p>
+ * The messages are synthesized in the pgoutput protocol format for a table of integer, bigint, boolean, numeric and
+ * varchar columns, as the type registry of the connector is loaded from the database. For the same reason, the column
+ * types are built without the registry.
+ */
+public class PgOutputMessageDecoderPerf {
+
+    private static final int MESSAGE_COUNT = 1024;
+
+    // the header of an insert message: 'I', the relation id and 'N'
+    private static final int INSERT_HEADER_LENGTH = 1 + 4 + 1;
+
+    @State(Scope.Thread)
+    public static class DecoderState {
+
+        @Param({ "5", "20", "100" })
+        public int columnCount;
+
+        /**
+         * {@code none}: only the tuple data is decoded; {@code all}: the values of all columns are read as well, as when
+         * emitting a change event.
+         */
+        @Param({ "none", "all" })
+        public String access;
+
+        public Table table;
+        public PostgresType[] columnTypes;
+        public byte[][] messages;
+        public int next;
+
+        @Setup(Level.Trial)
+        public void doSetup() throws IOException {
+            final PostgresType[] types = new PostgresType[]{
+                    type("int4", PgOid.INT4, Types.INTEGER),
+                    type("int8", PgOid.INT8, Types.BIGINT),
+                    type("bool", PgOid.BOOL, Types.BIT),
+                    type("numeric", PgOid.NUMERIC, Types.NUMERIC),
+                    type("varchar", PgOid.VARCHAR, Types.VARCHAR)
+            };
+
+            final String[] typeExpressions = new String[]{ "int4", "int8", "bool", "numeric(12,3)", "character varying(255)" };
+
+            columnTypes = new PostgresType[columnCount];
+            final TableEditor editor = Table.editor().tableId(new TableId(null, "public", "t"));
+            for (int i = 0; i < columnCount; i++) {
+                final PostgresType type = types[i % types.length];
+                columnTypes[i] = type;
+                editor.addColumn(Column.editor()
+                        .name("c" + i)
+                        .type(type.getName(), typeExpressions[i % types.length])
+                        .jdbcType(type.getJdbcId())
+                        .nativeType(type.getOid())
+                        .optional(i != 0)
+                        .create());
+            }
+            table = editor.setPrimaryKeyNames("c0").create();
+
+            final Random random = new Random(42);
+            messages = new byte[MESSAGE_COUNT][];
+            for (int m = 0; m < MESSAGE_COUNT; m++) {
+                messages[m] = insertMessage(random);
+            }
+        }
+
+        private byte[] insertMessage(Random random) throws IOException {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte('I');
+            out.writeInt(16384);
+            out.writeByte('N');
+            out.writeShort(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                final String value;
+                switch (i % 5) {
+                    case 0:
+                        value = Integer.toString(random.nextInt());
+                        break;
+                    case 1:
+                        value = Long.toString(random.nextLong());
+                        break;
+                    case 2:
+                        value = random.nextBoolean() ? "t" : "f";
+                        break;
+                    case 3:
+                        value = random.nextInt(1_000_000_000) + "." + (100 + random.nextInt(900));
+                        break;
+                    default:
+                        value = "value " + random.nextInt() + " of column " + i;
+                        break;
+                }
+                final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                out.writeByte('t');
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        }
+
+        private static PostgresType type(String name, int oid, int jdbcId) {
+            return new PostgresType.Builder(null, name, oid, jdbcId, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+        }
+
+        public ByteBuffer nextMessage() {
+            final ByteBuffer buffer = ByteBuffer.wrap(messages[next]);
+            next = (next + 1) % messages.length;
+            buffer.position(INSERT_HEADER_LENGTH);
+            return buffer;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    public void decodeInsert(DecoderState state, Blackhole blackhole) {
+        final List<ReplicationMessage.Column> columns = PgOutputMessageDecoder.resolveColumnsFromStreamTupleData(state.nextMessage(), null, state.table,
+                state.columnTypes);
+        if ("all".equals(state.access)) {
+            for (ReplicationMessage.Column column : columns) {
+                blackhole.consume(column.getValue(null, false));
+            }
+        }
+        else {
+            blackhole.consume(columns);
+        }
+    }
+}
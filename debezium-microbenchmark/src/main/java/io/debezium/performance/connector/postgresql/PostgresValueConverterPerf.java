@@ -0,0 +1,171 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.postgresql;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.postgresql.util.PGInterval;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresConnectorConfig.HStoreHandlingMode;
+import io.debezium.connector.postgresql.PostgresConnectorConfig.IntervalHandlingMode;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.data.Json;
+import io.debezium.jdbc.JdbcValueConverters;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.DecimalHandlingMode;
+import io.debezium.relational.ValueConverter;
+
+/**
+ * Measures the conversion of a single column value by the Postgres value converters. Values are of the Java types
+ * produced by the logical decoding message decoders.
+ * <p>
+ * The type registry of the connector is loaded from the database, so the converters are used without one. Array and
+ * hstore values, whose converters are resolved via the type registry, are converted by the same conversion methods
+ * invoked directly.
+ */
+public class PostgresValueConverterPerf {
+
+    private static class BenchmarkValueConverter extends PostgresValueConverter {
+
+        private final HStoreHandlingMode hStoreMode;
+        private final JdbcValueConverters elementConverters;
+
+        BenchmarkValueConverter(DecimalHandlingMode decimalMode, TemporalPrecisionMode temporalPrecisionMode, HStoreHandlingMode hStoreMode,
+                                IntervalHandlingMode intervalMode) {
+            super(StandardCharsets.UTF_8, decimalMode.asDecimalMode(), temporalPrecisionMode, ZoneOffset.UTC, null, false, null, hStoreMode, intervalMode,
+                    new byte[0]);
+            this.hStoreMode = hStoreMode;
+            this.elementConverters = new JdbcValueConverters(decimalMode.asDecimalMode(), temporalPrecisionMode, ZoneOffset.UTC, null, null);
+        }
+
+        ValueConverter arrayConverter(Column column, Column elementColumn) {
+            final Field field = new Field(column.name(), 0, schemaBuilder(column).optional().build());
+            // the element types used are handled by the JDBC converters, which is what the type registry lookup resolves to
+            final ValueConverter elementConverter = elementConverters.converter(elementColumn,
+                    new Field(elementColumn.name(), 0, elementConverters.schemaBuilder(elementColumn).optional().build()));
+            return data -> convertArray(column, field, elementConverter, data);
+        }
+
+        ValueConverter hstoreConverter(Column column) {
+            final Schema schema = hStoreMode == HStoreHandlingMode.JSON ? Json.builder().optional().build()
+                    : SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.OPTIONAL_STRING_SCHEMA).optional().build();
+            final Field field = new Field(column.name(), 0, schema);
+            return data -> convertHStore(column, field, data, hStoreMode);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ConverterState {
+
+        @Param({ "NUMERIC", "NUMERIC_VARIABLE_SCALE", "MONEY", "TIMESTAMPTZ", "INTERVAL", "INTERVAL_STRING", "JSONB", "INT4_ARRAY", "TEXT_ARRAY",
+                "HSTORE", "HSTORE_JSON" })
+        public String columnType;
+
+        @Param({ "adaptive", "adaptive_time_microseconds", "connect" })
+        public String temporalPrecisionMode;
+
+        @Param({ "precise", "double", "string" })
+        public String decimalHandlingMode;
+
+        public ValueConverter converter;
+        public Object value;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final BenchmarkValueConverter converters = new BenchmarkValueConverter(
+                    DecimalHandlingMode.parse(decimalHandlingMode),
+                    TemporalPrecisionMode.parse(temporalPrecisionMode),
+                    columnType.equals("HSTORE_JSON") ? HStoreHandlingMode.JSON : HStoreHandlingMode.MAP,
+                    columnType.equals("INTERVAL_STRING") ? IntervalHandlingMode.STRING : IntervalHandlingMode.NUMERIC);
+
+            final Column column;
+            switch (columnType) {
+                case "NUMERIC":
+                    column = Column.editor().name("c").type("numeric").jdbcType(Types.NUMERIC).nativeType(PgOid.NUMERIC).length(12).scale(4).create();
+                    value = new BigDecimal("12345678.1234");
+                    break;
+                case "NUMERIC_VARIABLE_SCALE":
+                    column = Column.editor().name("c").type("numeric").jdbcType(Types.NUMERIC).nativeType(PgOid.NUMERIC).length(-1).create();
+                    value = new BigDecimal("12345678.123456789");
+                    break;
+                case "MONEY":
+                    column = Column.editor().name("c").type("money").jdbcType(Types.DOUBLE).nativeType(PgOid.MONEY).create();
+                    value = 1234.56d;
+                    break;
+                case "TIMESTAMPTZ":
+                    column = Column.editor().name("c").type("timestamptz").jdbcType(Types.TIMESTAMP_WITH_TIMEZONE).nativeType(PgOid.TIMESTAMPTZ).length(6)
+                            .create();
+                    value = OffsetDateTime.parse("2020-02-20T12:34:56.123456+02:00");
+                    break;
+                case "INTERVAL":
+                case "INTERVAL_STRING":
+                    column = Column.editor().name("c").type("interval").jdbcType(Types.OTHER).nativeType(PgOid.INTERVAL).create();
+                    value = new PGInterval(1, 2, 3, 4, 5, 6.78);
+                    break;
+                case "JSONB":
+                    column = Column.editor().name("c").type("jsonb").jdbcType(Types.OTHER).nativeType(PgOid.JSONB_OID).create();
+                    value = "{\"id\": 42, \"name\": \"abc\"}";
+                    break;
+                case "INT4_ARRAY":
+                    column = Column.editor().name("c").type("_int4").jdbcType(Types.ARRAY).nativeType(PgOid.INT4_ARRAY).create();
+                    converter = converters.arrayConverter(column,
+                            Column.editor().name("c-element").type("int4").jdbcType(Types.INTEGER).nativeType(PgOid.INT4).create());
+                    value = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+                    return;
+                case "TEXT_ARRAY":
+                    column = Column.editor().name("c").type("_text").jdbcType(Types.ARRAY).nativeType(PgOid.TEXT_ARRAY).create();
+                    converter = converters.arrayConverter(column,
+                            Column.editor().name("c-element").type("text").jdbcType(Types.VARCHAR).nativeType(PgOid.TEXT).create());
+                    value = Arrays.asList("one", "two", "three", "four", "five", "six", "seven", "eight", "nine", "ten");
+                    return;
+                case "HSTORE":
+                case "HSTORE_JSON":
+                    column = Column.editor().name("c").type("hstore").jdbcType(Types.OTHER).create();
+                    converter = converters.hstoreConverter(column);
+                    value = "\"key1\"=>\"value1\", \"key2\"=>\"value2\", \"key3\"=>NULL";
+                    return;
+                default:
+                    throw new IllegalArgumentException("Unsupported column type " + columnType);
+            }
+
+            final SchemaBuilder schemaBuilder = converters.schemaBuilder(column).optional();
+            converter = converters.converter(column, new Field(column.name(), 0, schemaBuilder.build()));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    public Object convert(ConverterState state) {
+        return state.converter.convert(state.value);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.sqlserver;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.connector.sqlserver.SqlServerValueConverters;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.DecimalHandlingMode;
+import io.debezium.relational.ValueConverter;
+
+import microsoft.sql.DateTimeOffset;
+
+/**
+ * Measures the conversion of a single column value by the SQL Server value converters. Values are of the Java types
+ * returned by the JDBC driver when reading the change tables.
+ */
+public class SqlServerValueConvertersPerf {
+
+    @State(Scope.Thread)
+    public static class ConverterState {
+
+        @Param({ "TINYINT", "INT", "DECIMAL", "MONEY", "NVARCHAR", "DATE", "TIME", "DATETIME2", "DATETIMEOFFSET" })
+        public String columnType;
+
+        @Param({ "adaptive", "adaptive_time_microseconds", "connect" })
+        public String temporalPrecisionMode;
+
+        @Param({ "precise", "double", "string" })
+        public String decimalHandlingMode;
+
+        public ValueConverter converter;
+        public Object value;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final SqlServerValueConverters converters = new SqlServerValueConverters(
+                    DecimalHandlingMode.parse(decimalHandlingMode).asDecimalMode(),
+                    TemporalPrecisionMode.parse(temporalPrecisionMode));
+
+            final Column column;
+            switch (columnType) {
+                case "TINYINT":
+                    column = Column.editor().name("c").type("tinyint").jdbcType(Types.TINYINT).create();
+                    value = (short) 200;
+                    break;
+                case "INT":
+                    column = Column.editor().name("c").type("int").jdbcType(Types.INTEGER).create();
+                    value = 42;
+                    break;
+                case "DECIMAL":
+                    column = Column.editor().name("c").type("decimal").jdbcType(Types.DECIMAL).length(12).scale(4).create();
+                    value = new BigDecimal("12345678.1234");
+                    break;
+                case "MONEY":
+                    column = Column.editor().name("c").type("money").jdbcType(microsoft.sql.Types.MONEY).length(19).scale(4).create();
+                    value = new BigDecimal("1234.5600");
+                    break;
+                case "NVARCHAR":
+                    column = Column.editor().name("c").type("nvarchar").jdbcType(Types.NVARCHAR).length(255).create();
+                    value = "The quick brown fox jumps over the lazy dog";
+                    break;
+                case "DATE":
+                    column = Column.editor().name("c").type("date").jdbcType(Types.DATE).scale(0).create();
+                    value = Date.valueOf("2020-02-20");
+                    break;
+                case "TIME":
+                    column = Column.editor().name("c").type("time").jdbcType(Types.TIME).scale(7).create();
+                    value = Time.valueOf("12:34:56");
+                    break;
+                case "DATETIME2":
+                    column = Column.editor().name("c").type("datetime2").jdbcType(Types.TIMESTAMP).scale(7).create();
+                    value = Timestamp.valueOf("2020-02-20 12:34:56.1234567");
+                    break;
+                case "DATETIMEOFFSET":
+                    column = Column.editor().name("c").type("datetimeoffset").jdbcType(microsoft.sql.Types.DATETIMEOFFSET).scale(7).create();
+                    value = DateTimeOffset.valueOf(Timestamp.valueOf("2020-02-20 12:34:56.1234567"), 120);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported column type " + columnType);
+            }
+
+            final SchemaBuilder schemaBuilder = converters.schemaBuilder(column).optional();
+            converter = converters.converter(column, new Field(column.name(), 0, schemaBuilder.build()));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    public Object convert(ConverterState state) {
+        return state.converter.convert(state.value);
+    }
+}
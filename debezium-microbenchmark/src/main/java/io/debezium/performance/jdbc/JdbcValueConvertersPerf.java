@@ -0,0 +1,129 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.jdbc.JdbcValueConverters;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.DecimalHandlingMode;
+import io.debezium.relational.ValueConverter;
+
+/**
+ * Measures the conversion of a single column value by the generic JDBC value converters, i.e. the path taken by all
+ * relational connectors for the types they don't handle themselves. Values are of the Java types returned by JDBC
+ * drivers during snapshots.
+ */
+public class JdbcValueConvertersPerf {
+
+    @State(Scope.Thread)
+    public static class ConverterState {
+
+        @Param({ "INTEGER", "BIGINT", "DECIMAL", "VARCHAR", "BOOLEAN", "BINARY", "DATE", "TIME", "TIMESTAMP", "TIMESTAMP_WITH_TIMEZONE" })
+        public String columnType;
+
+        @Param({ "adaptive", "adaptive_time_microseconds", "connect" })
+        public String temporalPrecisionMode;
+
+        @Param({ "precise", "double", "string" })
+        public String decimalHandlingMode;
+
+        public ValueConverter converter;
+        public Object value;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final JdbcValueConverters converters = new JdbcValueConverters(
+                    DecimalHandlingMode.parse(decimalHandlingMode).asDecimalMode(),
+                    TemporalPrecisionMode.parse(temporalPrecisionMode),
+                    ZoneOffset.UTC,
+                    null,
+                    null);
+
+            final Column column;
+            switch (columnType) {
+                case "INTEGER":
+                    column = Column.editor().name("c").type("INTEGER").jdbcType(Types.INTEGER).create();
+                    value = 42;
+                    break;
+                case "BIGINT":
+                    column = Column.editor().name("c").type("BIGINT").jdbcType(Types.BIGINT).create();
+                    value = 1_234_567_890_123L;
+                    break;
+                case "DECIMAL":
+                    column = Column.editor().name("c").type("DECIMAL").jdbcType(Types.DECIMAL).length(12).scale(4).create();
+                    value = new BigDecimal("12345678.1234");
+                    break;
+                case "VARCHAR":
+                    column = Column.editor().name("c").type("VARCHAR").jdbcType(Types.VARCHAR).length(255).create();
+                    value = "The quick brown fox jumps over the lazy dog";
+                    break;
+                case "BOOLEAN":
+                    column = Column.editor().name("c").type("BOOLEAN").jdbcType(Types.BOOLEAN).create();
+                    value = Boolean.TRUE;
+                    break;
+                case "BINARY":
+                    column = Column.editor().name("c").type("BINARY").jdbcType(Types.BINARY).length(16).create();
+                    value = new byte[]{ 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15 };
+                    break;
+                case "DATE":
+                    column = Column.editor().name("c").type("DATE").jdbcType(Types.DATE).create();
+                    value = Date.valueOf("2020-02-20");
+                    break;
+                case "TIME":
+                    column = Column.editor().name("c").type("TIME").jdbcType(Types.TIME).length(6).create();
+                    value = Time.valueOf("12:34:56");
+                    break;
+                case "TIMESTAMP":
+                    column = Column.editor().name("c").type("TIMESTAMP").jdbcType(Types.TIMESTAMP).length(6).create();
+                    value = Timestamp.valueOf("2020-02-20 12:34:56.123456");
+                    break;
+                case "TIMESTAMP_WITH_TIMEZONE":
+                    column = Column.editor().name("c").type("TIMESTAMP WITH TIME ZONE").jdbcType(Types.TIMESTAMP_WITH_TIMEZONE).create();
+                    value = OffsetDateTime.parse("2020-02-20T12:34:56.123456+02:00");
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported column type " + columnType);
+            }
+
+            final SchemaBuilder schemaBuilder = converters.schemaBuilder(column).optional();
+            converter = converters.converter(column, new Field(column.name(), 0, schemaBuilder.build()));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    public Object convert(ConverterState state) {
+        return state.converter.convert(state.value);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.relational;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.jdbc.JdbcValueConverters;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.DecimalHandlingMode;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.relational.TableSchemaBuilder;
+import io.debezium.util.SchemaNameAdjuster;
+
+/**
+ * Measures the conversion of table rows into Kafka Connect key and value structs depending on the number of columns
+ * of the table and the temporal precision and decimal handling modes. The columns cycle through integer, string, decimal
+ * and timestamp types, every fourth value is null.
+ */
+public class TableSchemaPerf {
+
+    private static class ColumnValue {
+        private final Column column;
+        private final Object value;
+
+        ColumnValue(Column column, Object value) {
+            this.column = column;
+            this.value = value;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TableSchemaState {
+
+        @Param({ "10", "50", "200" })
+        public int columnCount;
+
+        @Param({ "adaptive", "adaptive_time_microseconds", "connect" })
+        public String temporalPrecisionMode;
+
+        @Param({ "precise", "double", "string" })
+        public String decimalHandlingMode;
+
+        public TableSchema tableSchema;
+        public Object[] row;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final TableEditor editor = Table.editor().tableId(new TableId("db", "inventory", "perf"));
+            row = new Object[columnCount];
+
+            editor.addColumn(Column.editor().name("id").type("INTEGER").jdbcType(Types.INTEGER).optional(false).create());
+            row[0] = 42;
+            for (int i = 1; i < columnCount; i++) {
+                final ColumnValue columnValue = column(i);
+                editor.addColumn(columnValue.column);
+                row[i] = i % 4 == 0 ? null : columnValue.value;
+            }
+            editor.setPrimaryKeyNames("id");
+
+            final JdbcValueConverters converters = new JdbcValueConverters(
+                    DecimalHandlingMode.parse(decimalHandlingMode).asDecimalMode(),
+                    TemporalPrecisionMode.parse(temporalPrecisionMode),
+                    ZoneOffset.UTC,
+                    null,
+                    null);
+
+            tableSchema = new TableSchemaBuilder(converters, SchemaNameAdjuster.create((original, replacement, conflict) -> {
+            }), SchemaBuilder.struct().build(), false)
+                    .create("perf", "perf.Envelope", editor.create(), null, null, null);
+        }
+
+        private ColumnValue column(int i) {
+            final String name = "c" + i;
+            switch (i % 4) {
+                case 1:
+                    return new ColumnValue(Column.editor().name(name).type("INTEGER").jdbcType(Types.INTEGER).create(), i);
+                case 2:
+                    return new ColumnValue(Column.editor().name(name).type("VARCHAR").jdbcType(Types.VARCHAR).length(255).create(),
+                            "value of column " + i);
+                case 3:
+                    return new ColumnValue(Column.editor().name(name).type("DECIMAL").jdbcType(Types.DECIMAL).length(10).scale(2).create(),
+                            new BigDecimal("1234.56"));
+                default:
+                    return new ColumnValue(Column.editor().name(name).type("TIMESTAMP").jdbcType(Types.TIMESTAMP).create(),
+                            new Timestamp(1_600_000_000_000L));
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    public Struct value(TableSchemaState state) {
+        return state.tableSchema.valueFromColumnData(state.row);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+    public Object key(TableSchemaState state) {
+        return state.tableSchema.keyFromColumnData(state.row);
+    }
+}